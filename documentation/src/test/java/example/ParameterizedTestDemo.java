@@ -19,14 +19,18 @@ import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType.INT;
+import static org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType.STRING;
 import static org.junit.jupiter.params.provider.EnumSource.Mode.EXCLUDE;
 import static org.junit.jupiter.params.provider.EnumSource.Mode.MATCH_ALL;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
@@ -43,6 +47,7 @@ import example.domain.Person.Gender;
 import example.util.StringUtils;
 
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -63,6 +68,8 @@ import org.junit.jupiter.params.converter.TypedArgumentConverter;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.BinaryFileSource;
+import org.junit.jupiter.params.provider.BinaryFileSourceWriter;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EmptySource;
@@ -347,6 +354,23 @@ class ParameterizedTestDemo {
 	}
 	// end::CsvFileSource_example[]
 
+	// tag::BinaryFileSourceWriter_example[]
+	@BeforeAll
+	static void convertCsvFile() throws IOException {
+		BinaryFileSourceWriter.convertCsv(Paths.get("src/test/resources/countries.csv"), 1,
+			Paths.get("build/countries.bin"), STRING, INT);
+	}
+	// end::BinaryFileSourceWriter_example[]
+
+	// tag::BinaryFileSource_example[]
+	@ParameterizedTest
+	@BinaryFileSource(files = "build/countries.bin")
+	void testWithBinaryFileSource(String country, int reference) {
+		assertNotNull(country);
+		assertNotEquals(0, reference);
+	}
+	// end::BinaryFileSource_example[]
+
 	// tag::ArgumentsSource_example[]
 	@ParameterizedTest
 	@ArgumentsSource(MyArgumentsProvider.class)
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import java.lang.annotation.Documented;
@@ -71,6 +72,16 @@ import org.junit.platform.commons.annotation.Testable;
  * test class or test interface with {@link TestMethodOrder @TestMethodOrder}
  * and specify the desired {@link MethodOrderer} implementation.
  *
+ * <h2>Parallel Execution</h2>
+ *
+ * <p>When dynamic tests are executed concurrently, the number of dynamic
+ * tests and containers returned by a test factory that may be queued or
+ * executing at the same time can be limited via {@link #prefetch()} or the
+ * {@value #DEFAULT_PREFETCH_PROPERTY_NAME} configuration parameter. The
+ * returned {@code Stream} is then consumed no faster than its dynamic tests
+ * are executed, while enough of them are queued to keep all worker threads
+ * busy.
+ *
  * @since 5.0
  * @see Test
  * @see DynamicNode
@@ -83,4 +94,38 @@ import org.junit.platform.commons.annotation.Testable;
 @API(status = MAINTAINED, since = "5.3")
 @Testable
 public @interface TestFactory {
+
+	/**
+	 * Property name used to set the default maximum number of dynamic tests
+	 * and containers returned by a test factory that may be queued or
+	 * executing at the same time: {@value}
+	 *
+	 * <p>The value of this property will be used unless overridden by the
+	 * {@link #prefetch()} attribute of a {@code @TestFactory} annotation. It
+	 * must not be negative. If it is not set or set to {@code 0}, the number
+	 * of queued dynamic tests is determined by the executor service used for
+	 * parallel execution.
+	 *
+	 * @since 5.13
+	 */
+	@API(status = EXPERIMENTAL, since = "5.13")
+	String DEFAULT_PREFETCH_PROPERTY_NAME = "junit.jupiter.execution.dynamic.prefetch.default";
+
+	/**
+	 * The maximum number of dynamic tests and containers returned by this
+	 * test factory that may be queued or executing at the same time.
+	 *
+	 * <p>Once this number has been reached, the returned {@code Stream} is
+	 * not consumed any further until one of them has finished. This only
+	 * has an effect if the dynamic tests are executed concurrently.
+	 *
+	 * <p>Defaults to {@code 0} which means that the value of the
+	 * {@value #DEFAULT_PREFETCH_PROPERTY_NAME} configuration parameter is
+	 * used.
+	 *
+	 * @since 5.13
+	 */
+	@API(status = EXPERIMENTAL, since = "5.13")
+	int prefetch() default 0;
+
 }
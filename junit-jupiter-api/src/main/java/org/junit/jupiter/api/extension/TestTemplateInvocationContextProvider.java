@@ -46,6 +46,11 @@ import org.apiguardian.api.API;
  * {@link #provideTestTemplateInvocationContexts} method if it overrides
  * {@link #mayReturnZeroTestTemplateInvocationContexts} to return {@code true}.
  *
+ * <p>An active provider that may provide a large number of invocation
+ * contexts may override {@link #summarizesTestTemplateInvocations} to return
+ * {@code true} so that the report and file entries of successful invocations
+ * are discarded and all invocations are summarized as counts.
+ *
  * <h2>Constructor Requirements</h2>
  *
  * <p>Consult the documentation in {@link Extension} for details on
@@ -114,4 +119,38 @@ public interface TestTemplateInvocationContextProvider extends Extension {
 		return false;
 	}
 
+	/**
+	 * Signal that the invocations of the test template method represented by
+	 * the supplied {@code context} for the {@linkplain
+	 * TestTemplateInvocationContext invocation contexts} provided by this
+	 * provider should be summarized.
+	 *
+	 * <p>If this method returns {@code true}, each invocation is still
+	 * registered, started, and finished as usual, but its report and file
+	 * entries are held back until it has finished. They are then reported for
+	 * failed and aborted invocations and discarded for successful ones. Once
+	 * all invocations have finished, the numbers of successful, skipped,
+	 * aborted, and failed invocations are published as a report entry for the
+	 * test template method.
+	 *
+	 * <p>Summarizing invocations does not affect the memory consumed by the
+	 * {@code TestPlan} of the {@code Launcher}, which retains every invocation
+	 * unless the {@code junit.platform.execution.dynamicTests.pruning.enabled}
+	 * configuration parameter is set to {@code true}.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @param context the extension context for the test template method about
+	 * to be invoked; never {@code null}
+	 * @return {@code true} to summarize the invocations and only report the
+	 * entries of unsuccessful ones, {@code false} to report the entries of
+	 * all invocations
+	 *
+	 * @since 5.13
+	 */
+	@API(status = EXPERIMENTAL, since = "5.13")
+	default boolean summarizesTestTemplateInvocations(ExtensionContext context) {
+		return false;
+	}
+
 }
@@ -227,6 +227,31 @@ public final class Constants {
 	@API(status = STABLE, since = "5.10")
 	public static final String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to select the executor service that is used for
+	 * parallel test execution: {@value}
+	 *
+	 * <p>Potential values: {@code fork_join_pool} (default) or
+	 * {@code virtual_threads}. The latter requires Java 21 or later; on
+	 * earlier versions, the {@code fork_join_pool} executor will be used
+	 * instead.
+	 *
+	 * @since 5.13
+	 */
+	@API(status = EXPERIMENTAL, since = "5.13")
+	public static final String PARALLEL_EXECUTOR_PROPERTY_NAME = JupiterConfiguration.PARALLEL_EXECUTOR_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the default maximum number of dynamic tests
+	 * and containers returned by a {@link TestFactory @TestFactory} method
+	 * that may be queued or executing at the same time: {@value}
+	 *
+	 * @since 5.13
+	 * @see TestFactory#DEFAULT_PREFETCH_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.13")
+	public static final String DEFAULT_DYNAMIC_TEST_PREFETCH_PROPERTY_NAME = TestFactory.DEFAULT_PREFETCH_PROPERTY_NAME;
+
 	static final String PARALLEL_CONFIG_PREFIX = "junit.jupiter.execution.parallel.config.";
 
 	/**
@@ -69,6 +69,12 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.isParallelExecutionEnabled());
 	}
 
+	@Override
+	public ParallelExecutorType getParallelExecutorType() {
+		return (ParallelExecutorType) cache.computeIfAbsent(PARALLEL_EXECUTOR_PROPERTY_NAME,
+			__ -> delegate.getParallelExecutorType());
+	}
+
 	@Override
 	public boolean isExtensionAutoDetectionEnabled() {
 		return (boolean) cache.computeIfAbsent(EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME,
@@ -93,6 +99,12 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.getDefaultClassesExecutionMode());
 	}
 
+	@Override
+	public int getDefaultDynamicTestPrefetch() {
+		return (int) cache.computeIfAbsent(DEFAULT_DYNAMIC_TEST_PREFETCH_PROPERTY_NAME,
+			__ -> delegate.getDefaultDynamicTestPrefetch());
+	}
+
 	@Override
 	public TestInstance.Lifecycle getDefaultTestInstanceLifecycle() {
 		return (TestInstance.Lifecycle) cache.computeIfAbsent(DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
@@ -47,6 +47,9 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 	private static final EnumConfigurationParameterConverter<ExecutionMode> executionModeConverter = //
 		new EnumConfigurationParameterConverter<>(ExecutionMode.class, "parallel execution mode");
 
+	private static final EnumConfigurationParameterConverter<ParallelExecutorType> parallelExecutorTypeConverter = //
+		new EnumConfigurationParameterConverter<>(ParallelExecutorType.class, "parallel executor type");
+
 	private static final EnumConfigurationParameterConverter<Lifecycle> lifecycleConverter = //
 		new EnumConfigurationParameterConverter<>(Lifecycle.class, "test instance lifecycle mode");
 
@@ -112,6 +115,12 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return configurationParameters.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
+	@Override
+	public ParallelExecutorType getParallelExecutorType() {
+		return parallelExecutorTypeConverter.get(configurationParameters, PARALLEL_EXECUTOR_PROPERTY_NAME,
+			ParallelExecutorType.FORK_JOIN_POOL);
+	}
+
 	@Override
 	public boolean isExtensionAutoDetectionEnabled() {
 		return configurationParameters.getBoolean(EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME).orElse(false);
@@ -134,6 +143,16 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 			getDefaultExecutionMode());
 	}
 
+	@Override
+	public int getDefaultDynamicTestPrefetch() {
+		int prefetch = configurationParameters.get(DEFAULT_DYNAMIC_TEST_PREFETCH_PROPERTY_NAME, Integer::valueOf) //
+				.orElse(0);
+		Preconditions.condition(prefetch >= 0,
+			() -> "Configuration parameter '" + DEFAULT_DYNAMIC_TEST_PREFETCH_PROPERTY_NAME
+					+ "' must not be negative: " + prefetch);
+		return prefetch;
+	}
+
 	@Override
 	public Lifecycle getDefaultTestInstanceLifecycle() {
 		return lifecycleConverter.get(configurationParameters, DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
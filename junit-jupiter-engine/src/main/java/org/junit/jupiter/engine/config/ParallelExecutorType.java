@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.config;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Types of executor services that may be used for parallel test execution.
+ *
+ * @since 5.13
+ * @see JupiterConfiguration#PARALLEL_EXECUTOR_PROPERTY_NAME
+ */
+@API(status = INTERNAL, since = "5.13")
+public enum ParallelExecutorType {
+
+	/**
+	 * Execute tests using a {@link java.util.concurrent.ForkJoinPool} with
+	 * the configured parallelism.
+	 */
+	FORK_JOIN_POOL,
+
+	/**
+	 * Execute each concurrent test in its own virtual thread.
+	 *
+	 * <p>Requires Java 21 or later.
+	 */
+	VIRTUAL_THREADS
+
+}
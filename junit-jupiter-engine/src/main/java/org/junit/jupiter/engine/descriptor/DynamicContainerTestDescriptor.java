@@ -51,6 +51,11 @@ class DynamicContainerTestDescriptor extends DynamicNodeTestDescriptor {
 		return Type.CONTAINER;
 	}
 
+	@Override
+	public int getDynamicTestPrefetch() {
+		return getParent().map(parent -> ((JupiterTestDescriptor) parent).getDynamicTestPrefetch()).orElse(0);
+	}
+
 	@Override
 	public JupiterEngineExecutionContext execute(JupiterEngineExecutionContext context,
 			DynamicTestExecutor dynamicTestExecutor) throws Exception {
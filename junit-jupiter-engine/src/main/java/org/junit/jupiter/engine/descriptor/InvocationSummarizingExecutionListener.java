@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * {@link EngineExecutionListener} for the invocations of a
+ * {@link TestTemplateTestDescriptor} that only reports the report and file
+ * entries of unsuccessful invocations and counts all invocations.
+ *
+ * <p>Registration, start, skipping, and completion of test descriptors that
+ * are registered via this listener are forwarded to the delegate immediately
+ * so that output capturing and timing work as usual. Their report and file
+ * entries are held back until they have finished and are then forwarded for
+ * failed and aborted test descriptors and discarded for successful ones.
+ * Events of all other test descriptors are forwarded unchanged.
+ *
+ * @since 5.13
+ * @see org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider#summarizesTestTemplateInvocations
+ */
+class InvocationSummarizingExecutionListener implements EngineExecutionListener {
+
+	static final String SUCCESSFUL_KEY = "invocations.successful";
+	static final String SKIPPED_KEY = "invocations.skipped";
+	static final String ABORTED_KEY = "invocations.aborted";
+	static final String FAILED_KEY = "invocations.failed";
+
+	private final EngineExecutionListener delegate;
+	private final Map<UniqueId, List<Consumer<EngineExecutionListener>>> heldBackEntries = new ConcurrentHashMap<>();
+	private final LongAdder successful = new LongAdder();
+	private final LongAdder skipped = new LongAdder();
+	private final LongAdder aborted = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+
+	InvocationSummarizingExecutionListener(EngineExecutionListener delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		this.heldBackEntries.put(testDescriptor.getUniqueId(), Collections.synchronizedList(new ArrayList<>()));
+		this.delegate.dynamicTestRegistered(testDescriptor);
+	}
+
+	@Override
+	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		if (this.heldBackEntries.remove(testDescriptor.getUniqueId()) != null) {
+			this.skipped.increment();
+		}
+		this.delegate.executionSkipped(testDescriptor, reason);
+	}
+
+	@Override
+	public void executionStarted(TestDescriptor testDescriptor) {
+		this.delegate.executionStarted(testDescriptor);
+	}
+
+	@Override
+	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		List<Consumer<EngineExecutionListener>> entries = this.heldBackEntries.remove(testDescriptor.getUniqueId());
+		if (entries != null) {
+			switch (testExecutionResult.getStatus()) {
+				case SUCCESSFUL:
+					this.successful.increment();
+					break;
+				case ABORTED:
+					this.aborted.increment();
+					entries.forEach(entry -> entry.accept(this.delegate));
+					break;
+				default:
+					this.failed.increment();
+					entries.forEach(entry -> entry.accept(this.delegate));
+					break;
+			}
+		}
+		this.delegate.executionFinished(testDescriptor, testExecutionResult);
+	}
+
+	@Override
+	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		holdBackOrForward(testDescriptor, listener -> listener.reportingEntryPublished(testDescriptor, entry));
+	}
+
+	@Override
+	public void fileEntryPublished(TestDescriptor testDescriptor, FileEntry file) {
+		holdBackOrForward(testDescriptor, listener -> listener.fileEntryPublished(testDescriptor, file));
+	}
+
+	/**
+	 * Publish the number of successful, skipped, aborted, and failed test
+	 * descriptors that were registered via this listener as a report entry
+	 * for the supplied test descriptor.
+	 *
+	 * <p>Nothing is published if no test descriptors have been registered.
+	 */
+	void publishSummary(TestDescriptor testDescriptor) {
+		Map<String, String> summary = new LinkedHashMap<>();
+		summary.put(SUCCESSFUL_KEY, String.valueOf(this.successful.sum()));
+		summary.put(SKIPPED_KEY, String.valueOf(this.skipped.sum()));
+		summary.put(ABORTED_KEY, String.valueOf(this.aborted.sum()));
+		summary.put(FAILED_KEY, String.valueOf(this.failed.sum()));
+		if (summary.values().stream().anyMatch(count -> !"0".equals(count))) {
+			this.delegate.reportingEntryPublished(testDescriptor, ReportEntry.from(summary));
+		}
+	}
+
+	private void holdBackOrForward(TestDescriptor testDescriptor, Consumer<EngineExecutionListener> entry) {
+		List<Consumer<EngineExecutionListener>> entries = this.heldBackEntries.get(testDescriptor.getUniqueId());
+		if (entries == null) {
+			entry.accept(this.delegate);
+		}
+		else {
+			entries.add(entry);
+		}
+	}
+
+}
@@ -12,6 +12,7 @@ package org.junit.jupiter.engine.descriptor;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.jupiter.engine.descriptor.MethodSourceSupport.METHOD_SCHEME;
+import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
 import static org.junit.platform.engine.support.descriptor.ClassSource.CLASS_SCHEME;
 import static org.junit.platform.engine.support.descriptor.ClasspathResourceSource.CLASSPATH_SCHEME;
 
@@ -27,6 +28,7 @@ import org.apiguardian.api.API;
 import org.junit.jupiter.api.DynamicContainer;
 import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
@@ -89,6 +91,15 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 
 	// --- Node ----------------------------------------------------------------
 
+	@Override
+	public int getDynamicTestPrefetch() {
+		int prefetch = findAnnotation(getTestMethod(), TestFactory.class).map(TestFactory::prefetch).orElse(0);
+		Preconditions.condition(prefetch >= 0,
+			() -> String.format("@TestFactory method [%s] must not declare a negative prefetch: %d",
+				getTestMethod().toGenericString(), prefetch));
+		return prefetch > 0 ? prefetch : configuration.getDefaultDynamicTestPrefetch();
+	}
+
 	@Override
 	protected void invokeTestMethod(JupiterEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
 		ExtensionContext extensionContext = context.getExtensionContext();
@@ -23,6 +23,7 @@ import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.execution.InterceptingExecutableInvoker.ReflectiveInterceptorCall;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
+import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
@@ -42,13 +43,27 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 
 	private TestTemplateInvocationContext invocationContext;
 	private final int index;
+	private final EngineExecutionListener executionListener;
 
 	TestTemplateInvocationTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method templateMethod,
 			TestTemplateInvocationContext invocationContext, int index, JupiterConfiguration configuration) {
+		this(uniqueId, testClass, templateMethod, invocationContext, index, configuration, null);
+	}
+
+	/**
+	 * @param executionListener the listener this invocation has been
+	 * registered with and its report and file entries should be published
+	 * to; {@code null} to use the listener of the enclosing context
+	 * @since 5.13
+	 */
+	TestTemplateInvocationTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method templateMethod,
+			TestTemplateInvocationContext invocationContext, int index, JupiterConfiguration configuration,
+			EngineExecutionListener executionListener) {
 		super(uniqueId, invocationContext.getDisplayName(index), testClass, templateMethod, configuration,
 			interceptorCall);
 		this.invocationContext = invocationContext;
 		this.index = index;
+		this.executionListener = executionListener;
 	}
 
 	@Override
@@ -62,6 +77,14 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 		return super.getLegacyReportingName() + "[" + index + "]";
 	}
 
+	@Override
+	public JupiterEngineExecutionContext prepare(JupiterEngineExecutionContext context) {
+		if (this.executionListener != null) {
+			context = context.extend().withExecutionListener(this.executionListener).build();
+		}
+		return super.prepare(context);
+	}
+
 	@Override
 	protected MutableExtensionRegistry populateNewExtensionRegistry(JupiterEngineExecutionContext context) {
 		MutableExtensionRegistry registry = super.populateNewExtensionRegistry(context);
@@ -31,6 +31,7 @@ import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 
@@ -99,20 +100,43 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 		List<TestTemplateInvocationContextProvider> providers = validateProviders(extensionContext,
 			context.getExtensionRegistry());
 		AtomicInteger invocationIndex = new AtomicInteger();
+		InvocationSummarizingExecutionListener summarizingListener = null;
 		for (TestTemplateInvocationContextProvider provider : providers) {
-			executeForProvider(provider, invocationIndex, dynamicTestExecutor, extensionContext);
+			EngineExecutionListener executionListener = null;
+			if (provider.summarizesTestTemplateInvocations(extensionContext)) {
+				if (summarizingListener == null) {
+					summarizingListener = new InvocationSummarizingExecutionListener(context.getExecutionListener());
+				}
+				executionListener = summarizingListener;
+			}
+			executeForProvider(provider, invocationIndex, dynamicTestExecutor, executionListener, extensionContext);
+		}
+		if (summarizingListener != null) {
+			// Make the listener available to after() to publish its summary
+			return context.extend().withExecutionListener(summarizingListener).build();
 		}
 		return context;
 	}
 
+	@Override
+	public void after(JupiterEngineExecutionContext context) throws Exception {
+		EngineExecutionListener executionListener = context.getExecutionListener();
+		if (executionListener instanceof InvocationSummarizingExecutionListener) {
+			((InvocationSummarizingExecutionListener) executionListener).publishSummary(this);
+		}
+	}
+
 	private void executeForProvider(TestTemplateInvocationContextProvider provider, AtomicInteger invocationIndex,
-			DynamicTestExecutor dynamicTestExecutor, ExtensionContext extensionContext) {
+			DynamicTestExecutor dynamicTestExecutor, EngineExecutionListener executionListener,
+			ExtensionContext extensionContext) {
 
 		int initialValue = invocationIndex.get();
 
 		try (Stream<TestTemplateInvocationContext> stream = invocationContexts(provider, extensionContext)) {
-			stream.forEach(invocationContext -> toTestDescriptor(invocationContext, invocationIndex.incrementAndGet()) //
-					.ifPresent(testDescriptor -> execute(dynamicTestExecutor, testDescriptor)));
+			stream.forEach(invocationContext -> toTestDescriptor(invocationContext, invocationIndex.incrementAndGet(),
+				executionListener) //
+					.ifPresent(
+						testDescriptor -> execute(dynamicTestExecutor, executionListener, testDescriptor)));
 		}
 
 		Preconditions.condition(
@@ -143,17 +167,24 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 				TestTemplateInvocationContextProvider.class.getSimpleName(), getTestMethod()));
 	}
 
-	private Optional<TestDescriptor> toTestDescriptor(TestTemplateInvocationContext invocationContext, int index) {
+	private Optional<TestDescriptor> toTestDescriptor(TestTemplateInvocationContext invocationContext, int index,
+			EngineExecutionListener executionListener) {
 		UniqueId uniqueId = getUniqueId().append(TestTemplateInvocationTestDescriptor.SEGMENT_TYPE, "#" + index);
 		if (getDynamicDescendantFilter().test(uniqueId, index - 1)) {
 			return Optional.of(new TestTemplateInvocationTestDescriptor(uniqueId, getTestClass(), getTestMethod(),
-				invocationContext, index, configuration));
+				invocationContext, index, configuration, executionListener));
 		}
 		return Optional.empty();
 	}
 
-	private void execute(DynamicTestExecutor dynamicTestExecutor, TestDescriptor testDescriptor) {
+	private void execute(DynamicTestExecutor dynamicTestExecutor, EngineExecutionListener executionListener,
+			TestDescriptor testDescriptor) {
 		testDescriptor.setParent(this);
-		dynamicTestExecutor.execute(testDescriptor);
+		if (executionListener == null) {
+			dynamicTestExecutor.execute(testDescriptor);
+		}
+		else {
+			dynamicTestExecutor.execute(testDescriptor, executionListener);
+		}
 	}
 }
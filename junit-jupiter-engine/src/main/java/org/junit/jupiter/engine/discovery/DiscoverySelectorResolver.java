@@ -10,11 +10,14 @@
 
 package org.junit.jupiter.engine.discovery;
 
+import static java.util.Arrays.asList;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import org.apiguardian.api.API;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
 import org.junit.jupiter.engine.discovery.predicates.IsTestClassWithTests;
+import org.junit.platform.commons.annotation.Testable;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver;
@@ -35,12 +38,13 @@ public class DiscoverySelectorResolver {
 
 	// @formatter:off
 	private static final EngineDiscoveryRequestResolver<JupiterEngineDescriptor> resolver = EngineDiscoveryRequestResolver.<JupiterEngineDescriptor>builder()
-			.addClassContainerSelectorResolver(new IsTestClassWithTests())
+			.addClassContainerSelectorResolver(new IsTestClassWithTests(), asList(Testable.class, Nested.class))
 			.addSelectorResolver(context -> new ClassSelectorResolver(context.getClassNameFilter(), context.getEngineDescriptor().getConfiguration()))
 			.addSelectorResolver(context -> new MethodSelectorResolver(context.getEngineDescriptor().getConfiguration()))
 			.addTestDescriptorVisitor(context -> new ClassOrderingVisitor(context.getEngineDescriptor().getConfiguration()))
 			.addTestDescriptorVisitor(context -> new MethodOrderingVisitor(context.getEngineDescriptor().getConfiguration()))
 			.addTestDescriptorVisitor(context -> TestDescriptor::prune)
+			.allowParallelResolution()
 			.build();
 	// @formatter:on
 
@@ -117,7 +117,7 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 
 	private static final class State implements Cloneable {
 
-		final EngineExecutionListener executionListener;
+		EngineExecutionListener executionListener;
 		final JupiterConfiguration configuration;
 		TestInstancesProvider testInstancesProvider;
 		MutableExtensionRegistry extensionRegistry;
@@ -150,6 +150,14 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 			this.originalState = originalState;
 		}
 
+		/**
+		 * @since 5.13
+		 */
+		public Builder withExecutionListener(EngineExecutionListener executionListener) {
+			newState().executionListener = executionListener;
+			return this;
+		}
+
 		public Builder withTestInstancesProvider(TestInstancesProvider testInstancesProvider) {
 			newState().testInstancesProvider = testInstancesProvider;
 			return this;
@@ -10,8 +10,6 @@
 
 package org.junit.jupiter.engine.extension;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.emptySet;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.lang.reflect.Field;
@@ -27,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -148,24 +147,42 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		return registry;
 	}
 
-	private final Set<Class<? extends Extension>> registeredExtensionTypes;
-	private final List<Entry> registeredExtensions;
 	private final Map<Class<?>, LateInitExtensions> lateInitExtensions;
 
+	// The following are shared with the parent registry and copied before
+	// the first modification if this registry is created without pending
+	// late-init extensions in its parent.
+	private Set<Class<? extends Extension>> registeredExtensionTypes;
+	private List<Entry> registeredExtensions;
+	private Map<Class<?>, List<Extension>> extensionsByType;
+	private boolean shared;
+
 	private MutableExtensionRegistry() {
-		this(emptySet(), emptyList());
+		this.registeredExtensionTypes = new LinkedHashSet<>();
+		this.registeredExtensions = new ArrayList<>();
+		this.extensionsByType = new ConcurrentHashMap<>();
+		this.lateInitExtensions = new LinkedHashMap<>();
 	}
 
 	private MutableExtensionRegistry(MutableExtensionRegistry parent) {
-		this(parent.registeredExtensionTypes, parent.registeredExtensions);
+		this.lateInitExtensions = new LinkedHashMap<>();
+		if (parent.lateInitExtensions.isEmpty()) {
+			this.registeredExtensionTypes = parent.registeredExtensionTypes;
+			this.registeredExtensions = parent.registeredExtensions;
+			this.extensionsByType = parent.extensionsByType;
+			this.shared = true;
+			parent.shared = true;
+		}
+		else {
+			copyFrom(parent);
+		}
 	}
 
-	private MutableExtensionRegistry(Set<Class<? extends Extension>> registeredExtensionTypes,
-			List<Entry> registeredExtensions) {
-		this.registeredExtensionTypes = new LinkedHashSet<>(registeredExtensionTypes);
-		this.registeredExtensions = new ArrayList<>(registeredExtensions.size());
-		this.lateInitExtensions = new LinkedHashMap<>();
-		registeredExtensions.forEach(entry -> {
+	private void copyFrom(MutableExtensionRegistry parent) {
+		this.registeredExtensionTypes = new LinkedHashSet<>(parent.registeredExtensionTypes);
+		this.registeredExtensions = new ArrayList<>(parent.registeredExtensions.size());
+		this.extensionsByType = new ConcurrentHashMap<>();
+		parent.registeredExtensions.forEach(entry -> {
 			Entry newEntry = entry;
 			if (entry instanceof LateInitEntry) {
 				LateInitEntry lateInitEntry = (LateInitEntry) entry;
@@ -177,12 +194,33 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		});
 	}
 
+	/**
+	 * Copy the registered extensions and the index of extensions by type if
+	 * they are shared with another registry.
+	 */
+	private void copyIfShared() {
+		if (this.shared) {
+			this.registeredExtensionTypes = new LinkedHashSet<>(this.registeredExtensionTypes);
+			this.registeredExtensions = new ArrayList<>(this.registeredExtensions);
+			Map<Class<?>, List<Extension>> extensionsByType = new ConcurrentHashMap<>();
+			this.extensionsByType.forEach(
+				(type, extensions) -> extensionsByType.put(type, new ArrayList<>(extensions)));
+			this.extensionsByType = extensionsByType;
+			this.shared = false;
+		}
+	}
+
 	@Override
+	@SuppressWarnings("unchecked")
 	public <E extends Extension> Stream<E> stream(Class<E> extensionType) {
+		return (Stream<E>) this.extensionsByType.computeIfAbsent(extensionType, this::findExtensions).stream();
+	}
+
+	private List<Extension> findExtensions(Class<?> extensionType) {
 		return this.registeredExtensions.stream() //
 				.map(p -> p.getExtension().orElse(null)) //
 				.filter(extensionType::isInstance) //
-				.map(extensionType::cast);
+				.collect(Collectors.toCollection(ArrayList::new));
 	}
 
 	@Override
@@ -221,6 +259,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		logger.trace(() -> String.format("Registering local extension (late-init) for [%s]%s",
 			source.getType().getName(), buildSourceInfo(source)));
 
+		copyIfShared();
 		LateInitEntry entry = getLateInitExtensions(testClass) //
 				.add(new LateInitEntry(testClass, initializer));
 		this.registeredExtensions.add(entry);
@@ -234,6 +273,8 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		LateInitExtensions extensions = lateInitExtensions.remove(testClass);
 		if (extensions != null) {
 			extensions.initialize(testInstance);
+			// Initialized extensions must be inserted at their registration position
+			this.extensionsByType.clear();
 		}
 	}
 
@@ -264,8 +305,14 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		logger.trace(
 			() -> String.format("Registering %s extension [%s]%s", category, extension, buildSourceInfo(source)));
 
+		copyIfShared();
 		this.registeredExtensions.add(Entry.of(extension));
 		this.registeredExtensionTypes.add(extension.getClass());
+		this.extensionsByType.forEach((type, extensions) -> {
+			if (type.isInstance(extension)) {
+				extensions.add(extension);
+			}
+		});
 	}
 
 	private String buildSourceInfo(Object source) {
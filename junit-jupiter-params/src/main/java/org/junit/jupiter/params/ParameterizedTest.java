@@ -323,4 +323,29 @@ public @interface ParameterizedTest {
 	 */
 	@API(status = EXPERIMENTAL, since = "5.12")
 	ArgumentCountValidationMode argumentCountValidation() default ArgumentCountValidationMode.DEFAULT;
+
+	/**
+	 * Configure whether the invocations of this parameterized test should be
+	 * summarized.
+	 *
+	 * <p>Set this attribute to {@code true} for parameterized tests whose
+	 * {@link ArgumentsSource} streams a huge number of arguments. Invocations
+	 * are still registered, started, and finished as usual, but the report and
+	 * file entries of successful invocations are discarded. Once all
+	 * invocations have finished, the numbers of successful, skipped, aborted,
+	 * and failed invocations are published as a report entry for the
+	 * parameterized test.
+	 *
+	 * <p>In order to also discard finished invocations from the
+	 * {@code TestPlan} of the {@code Launcher}, set the
+	 * {@code junit.platform.execution.dynamicTests.pruning.enabled}
+	 * configuration parameter to {@code true}.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 5.13
+	 * @see org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider#summarizesTestTemplateInvocations
+	 */
+	@API(status = EXPERIMENTAL, since = "5.13")
+	boolean summarizeInvocations() default false;
 }
@@ -103,6 +103,12 @@ class ParameterizedTestExtension implements TestTemplateInvocationContextProvide
 		return methodContext.annotation.allowZeroInvocations();
 	}
 
+	@Override
+	public boolean summarizesTestTemplateInvocations(ExtensionContext extensionContext) {
+		ParameterizedTestMethodContext methodContext = getMethodContext(extensionContext);
+		return methodContext.annotation.summarizeInvocations();
+	}
+
 	private ParameterizedTestMethodContext getMethodContext(ExtensionContext extensionContext) {
 		return getStore(extensionContext)//
 				.get(METHOD_CONTEXT_KEY, ParameterizedTestMethodContext.class);
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * @since 5.13
+ * @see BinaryFileSourceWriter
+ */
+class BinaryFileArgumentsProvider extends AnnotationBasedArgumentsProvider<BinaryFileSource> {
+
+	@Override
+	protected Stream<? extends Arguments> provideArguments(ExtensionContext context,
+			BinaryFileSource binaryFileSource) {
+
+		Stream<Source> resources = Arrays.stream(binaryFileSource.resources()) //
+				.map(path -> new Source("Classpath resource", path, __ -> openClasspathResource(context, path)));
+		Stream<Source> files = Arrays.stream(binaryFileSource.files()) //
+				.map(path -> new Source("File", path, BinaryFileArgumentsProvider::openFile));
+		List<Source> sources = Stream.concat(resources, files).collect(toList());
+		Preconditions.condition(binaryFileSource.numRowsToSkip() >= 0,
+			() -> "numRowsToSkip must not be negative in " + binaryFileSource);
+
+		// @formatter:off
+		return Preconditions.notEmpty(sources, "Resources or files must not be empty")
+				.stream()
+				.flatMap(source -> toStream(source, binaryFileSource));
+		// @formatter:on
+	}
+
+	private static Stream<Arguments> toStream(Source source, BinaryFileSource binaryFileSource) {
+		RowIterator iterator = new RowIterator(source);
+		return stream(spliteratorUnknownSize(iterator, Spliterator.ORDERED), false) //
+				.skip(binaryFileSource.numRowsToSkip()) //
+				.map(Arguments::of) //
+				.onClose(iterator::close);
+	}
+
+	private static InputStream openClasspathResource(ExtensionContext context, String path) {
+		Preconditions.notBlank(path, () -> "Classpath resource [" + path + "] must not be null or blank");
+		InputStream inputStream = context.getRequiredTestClass().getResourceAsStream(path);
+		return Preconditions.notNull(inputStream, () -> "Classpath resource [" + path + "] does not exist");
+	}
+
+	private static InputStream openFile(String path) {
+		Preconditions.notBlank(path, () -> "File [" + path + "] must not be null or blank");
+		try {
+			return Files.newInputStream(Paths.get(path));
+		}
+		catch (IOException e) {
+			throw new JUnitException("File [" + path + "] could not be read", e);
+		}
+	}
+
+	private static class Source {
+
+		private final String kind;
+		private final String path;
+		private final Function<String, InputStream> opener;
+
+		Source(String kind, String path, Function<String, InputStream> opener) {
+			this.kind = kind;
+			this.path = path;
+			this.opener = opener;
+		}
+
+		InputStream open() {
+			return this.opener.apply(this.path);
+		}
+
+		@Override
+		public String toString() {
+			return this.kind + " [" + this.path + "]";
+		}
+
+	}
+
+	private static class RowIterator implements Iterator<Object[]> {
+
+		private final Source source;
+		private final DataInputStream in;
+		private final ColumnType[] columnTypes;
+		private long rowNumber;
+
+		RowIterator(Source source) {
+			this.source = source;
+			this.in = new DataInputStream(new BufferedInputStream(source.open()));
+			try {
+				this.columnTypes = readHeader();
+			}
+			catch (Throwable throwable) {
+				close();
+				throw throwable;
+			}
+		}
+
+		private ColumnType[] readHeader() {
+			try {
+				byte[] magic = new byte[BinaryFileSourceWriter.MAGIC.length];
+				this.in.readFully(magic);
+				Preconditions.condition(Arrays.equals(magic, BinaryFileSourceWriter.MAGIC),
+					() -> this.source + " is not a binary fixture file");
+				int version = this.in.readUnsignedByte();
+				Preconditions.condition(version == BinaryFileSourceWriter.VERSION,
+					() -> this.source + " has unsupported binary fixture file version " + version);
+				ColumnType[] columnTypes = new ColumnType[this.in.readUnsignedShort()];
+				Preconditions.condition(columnTypes.length > 0, () -> this.source + " does not declare any columns");
+				ColumnType[] allColumnTypes = ColumnType.values();
+				for (int i = 0; i < columnTypes.length; i++) {
+					int ordinal = this.in.readUnsignedByte();
+					Preconditions.condition(ordinal < allColumnTypes.length,
+						() -> this.source + " contains unsupported column type " + ordinal);
+					columnTypes[i] = allColumnTypes[ordinal];
+				}
+				return columnTypes;
+			}
+			catch (IOException e) {
+				throw new JUnitException("Failed to read header of " + this.source, e);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			try {
+				this.in.mark(1);
+				boolean hasNext = this.in.read() != -1;
+				this.in.reset();
+				return hasNext;
+			}
+			catch (IOException e) {
+				throw new JUnitException("Failed to read " + this.source, e);
+			}
+		}
+
+		@Override
+		public Object[] next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			this.rowNumber++;
+			Object[] row = new Object[this.columnTypes.length];
+			try {
+				for (int i = 0; i < row.length; i++) {
+					row[i] = this.columnTypes[i].read(this.in);
+				}
+			}
+			catch (IOException e) {
+				throw new JUnitException("Failed to read row " + this.rowNumber + " of " + this.source, e);
+			}
+			return row;
+		}
+
+		void close() {
+			try {
+				this.in.close();
+			}
+			catch (IOException e) {
+				throw new JUnitException("Failed to close " + this.source, e);
+			}
+		}
+
+	}
+
+}
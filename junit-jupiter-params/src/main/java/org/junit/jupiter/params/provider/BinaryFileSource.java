@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code @BinaryFileSource} is a {@linkplain Repeatable repeatable}
+ * {@link ArgumentsSource} which is used to load typed, binary fixture files
+ * from one or more classpath {@link #resources} or {@link #files}.
+ *
+ * <p>Each row read from these resources and files will be provided as
+ * arguments to the annotated {@code @ParameterizedTest} method. In contrast to
+ * {@link CsvFileSource @CsvFileSource}, the values of each column are stored
+ * with their type, e.g. as {@code int}, {@code double}, or {@link String}, and
+ * are supplied as instances of the corresponding wrapper type. Thus, no
+ * {@link org.junit.jupiter.params.converter.ArgumentConverter ArgumentConverter}
+ * has to parse them from strings when they are passed to parameters of
+ * matching type.
+ *
+ * <p>Binary fixture files can be written or converted from CSV files via
+ * {@link BinaryFileSourceWriter}, which also describes the file format.
+ *
+ * @since 5.13
+ * @see BinaryFileSourceWriter
+ * @see CsvFileSource
+ * @see org.junit.jupiter.params.provider.ArgumentsSource
+ * @see org.junit.jupiter.params.ParameterizedTest
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Repeatable(BinaryFileSources.class)
+@API(status = EXPERIMENTAL, since = "5.13")
+@ArgumentsSource(BinaryFileArgumentsProvider.class)
+@SuppressWarnings("exports")
+public @interface BinaryFileSource {
+
+	/**
+	 * The binary fixture classpath resources to use as the sources of
+	 * arguments; must not be empty unless {@link #files} is non-empty.
+	 */
+	String[] resources() default {};
+
+	/**
+	 * The binary fixture files to use as the sources of arguments; must not be
+	 * empty unless {@link #resources} is non-empty.
+	 */
+	String[] files() default {};
+
+	/**
+	 * The number of rows to skip when reading the binary fixture files.
+	 *
+	 * <p>Defaults to {@code 0}.
+	 */
+	int numRowsToSkip() default 0;
+
+}
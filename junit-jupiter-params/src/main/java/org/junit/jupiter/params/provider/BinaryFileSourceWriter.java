@@ -0,0 +1,441 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import com.univocity.parsers.csv.CsvParser;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * {@code BinaryFileSourceWriter} writes binary fixture files that can be
+ * used as sources of arguments via {@link BinaryFileSource @BinaryFileSource}.
+ *
+ * <p>Rows can either be written individually via {@link #writeRow(Object...)}
+ * or converted from CSV input via
+ * {@link #convertCsv(Reader, int, OutputStream, ColumnType...)} and
+ * {@link #convertCsv(Path, int, Path, ColumnType...)}.
+ *
+ * <h2>File Format</h2>
+ *
+ * <p>A binary fixture file starts with the four bytes {@code JUBF}, followed
+ * by a version byte, the number of columns as an unsigned 16-bit integer, and
+ * one byte per column identifying its {@link ColumnType}. The header is
+ * followed by the rows. Each row consists of one value per column which are
+ * encoded as specified by {@link DataOutput}: {@code boolean}, {@code byte},
+ * {@code short}, {@code char}, {@code int}, {@code long}, {@code float}, and
+ * {@code double} values in big-endian byte order and {@link String} values as
+ * a 32-bit length followed by the string's UTF-8 encoded bytes or a length of
+ * {@code -1} for {@code null}.
+ *
+ * @since 5.13
+ * @see BinaryFileSource
+ */
+@API(status = EXPERIMENTAL, since = "5.13")
+public class BinaryFileSourceWriter implements Closeable {
+
+	static final byte[] MAGIC = { 'J', 'U', 'B', 'F' };
+	static final int VERSION = 1;
+
+	/**
+	 * Convert the CSV input read from the supplied {@code csvFile} to a binary
+	 * fixture file with the supplied column types.
+	 *
+	 * @param csvFile the CSV file to read; never {@code null}
+	 * @param numLinesToSkip the number of lines to skip at the beginning of the
+	 * CSV file, e.g. to skip a header line
+	 * @param binaryFile the binary fixture file to write; never {@code null}
+	 * @param columnTypes the types of the columns; never {@code null} or empty
+	 * @return the number of rows that were written
+	 * @see #convertCsv(Reader, int, OutputStream, ColumnType...)
+	 */
+	public static long convertCsv(Path csvFile, int numLinesToSkip, Path binaryFile, ColumnType... columnTypes)
+			throws IOException {
+		Preconditions.notNull(csvFile, "csvFile must not be null");
+		Preconditions.condition(numLinesToSkip >= 0, "numLinesToSkip must not be negative");
+		Preconditions.notNull(binaryFile, "binaryFile must not be null");
+		validateColumnTypes(columnTypes);
+
+		try (Reader reader = Files.newBufferedReader(csvFile, UTF_8);
+				OutputStream out = Files.newOutputStream(binaryFile)) {
+			return convertCsv(reader, numLinesToSkip, out, columnTypes);
+		}
+	}
+
+	/**
+	 * Convert the CSV input read from the supplied {@link Reader} to a binary
+	 * fixture file with the supplied column types and write it to the supplied
+	 * {@link OutputStream}.
+	 *
+	 * <p>The CSV input is parsed using the defaults of
+	 * {@link CsvFileSource @CsvFileSource}: values are separated by commas,
+	 * {@code "} is used as quote character, lines beginning with {@code #} are
+	 * ignored, and leading and trailing whitespace of unquoted values is
+	 * trimmed. Each value is parsed according to the type of its column; an
+	 * entirely <em>empty</em> value is written as {@code null} to
+	 * {@link ColumnType#STRING STRING} columns and rejected for all other
+	 * columns.
+	 *
+	 * <p>The supplied {@code Reader} is not closed by this method whereas the
+	 * supplied {@code OutputStream} is always closed.
+	 *
+	 * @param csvReader the reader for the CSV input; never {@code null}
+	 * @param numLinesToSkip the number of lines to skip at the beginning of the
+	 * CSV input, e.g. to skip a header line
+	 * @param outputStream the stream to write the binary fixture file to; never
+	 * {@code null}
+	 * @param columnTypes the types of the columns; never {@code null} or empty
+	 * @return the number of rows that were written
+	 */
+	public static long convertCsv(Reader csvReader, int numLinesToSkip, OutputStream outputStream,
+			ColumnType... columnTypes) throws IOException {
+		Preconditions.notNull(csvReader, "csvReader must not be null");
+		Preconditions.condition(numLinesToSkip >= 0, "numLinesToSkip must not be negative");
+		Preconditions.notNull(outputStream, "outputStream must not be null");
+		validateColumnTypes(columnTypes);
+
+		try (OutputStream out = outputStream;
+				BinaryFileSourceWriter writer = new BinaryFileSourceWriter(out, columnTypes)) {
+			CsvParser csvParser = CsvParserFactory.createParserForConversion();
+			csvParser.beginParsing(csvReader);
+			long recordNumber = 0;
+			long rows = 0;
+			String[] csvRecord;
+			while ((csvRecord = csvParser.parseNext()) != null) {
+				if (recordNumber++ < numLinesToSkip) {
+					continue;
+				}
+				writer.writeCsvRecord(csvRecord, recordNumber);
+				rows++;
+			}
+			csvParser.stopParsing();
+			return rows;
+		}
+	}
+
+	private final DataOutputStream out;
+	private final ColumnType[] columnTypes;
+
+	/**
+	 * Create a new writer that writes a binary fixture file with the supplied
+	 * column types to the supplied {@link OutputStream}.
+	 *
+	 * <p>The header of the file is written immediately.
+	 *
+	 * @param outputStream the stream to write to; never {@code null}
+	 * @param columnTypes the types of the columns; never {@code null} or empty
+	 */
+	public BinaryFileSourceWriter(OutputStream outputStream, ColumnType... columnTypes) throws IOException {
+		Preconditions.notNull(outputStream, "outputStream must not be null");
+		validateColumnTypes(columnTypes);
+		this.out = new DataOutputStream(new BufferedOutputStream(outputStream));
+		this.columnTypes = columnTypes.clone();
+
+		this.out.write(MAGIC);
+		this.out.writeByte(VERSION);
+		this.out.writeShort(columnTypes.length);
+		for (ColumnType columnType : columnTypes) {
+			this.out.writeByte(columnType.ordinal());
+		}
+	}
+
+	private static void validateColumnTypes(ColumnType[] columnTypes) {
+		Preconditions.notEmpty(columnTypes, "columnTypes must not be null or empty");
+		Preconditions.containsNoNullElements(columnTypes, "columnTypes must not contain null elements");
+		Preconditions.condition(columnTypes.length <= 0xFFFF, "columnTypes must not contain more than 65535 elements");
+	}
+
+	/**
+	 * Write a row with the supplied values.
+	 *
+	 * <p>Each value must be an instance of the
+	 * {@linkplain ColumnType#getJavaType() Java type} of its column;
+	 * {@code null} values are only supported for {@link ColumnType#STRING
+	 * STRING} columns.
+	 *
+	 * @param values the values of the row; never {@code null} and exactly one
+	 * per column
+	 * @return this writer for method chaining
+	 */
+	public BinaryFileSourceWriter writeRow(Object... values) throws IOException {
+		Preconditions.notNull(values, "values must not be null");
+		Preconditions.condition(values.length == this.columnTypes.length,
+			() -> String.format("The number of values (%d) does not match the number of columns (%d): %s",
+				values.length, this.columnTypes.length, Arrays.toString(values)));
+		for (int i = 0; i < values.length; i++) {
+			ColumnType columnType = this.columnTypes[i];
+			Object value = values[i];
+			Preconditions.condition(value == null ? columnType == ColumnType.STRING : columnType.isInstance(value),
+				() -> String.format("Value [%s] is not supported for column of type %s", value, columnType));
+		}
+		for (int i = 0; i < values.length; i++) {
+			this.columnTypes[i].write(this.out, values[i]);
+		}
+		return this;
+	}
+
+	private void writeCsvRecord(String[] csvRecord, long recordNumber) throws IOException {
+		Preconditions.condition(csvRecord.length == this.columnTypes.length,
+			() -> String.format("The number of values (%d) does not match the number of columns (%d) in CSV record %d",
+				csvRecord.length, this.columnTypes.length, recordNumber));
+		Object[] values = new Object[csvRecord.length];
+		for (int i = 0; i < csvRecord.length; i++) {
+			String value = csvRecord[i];
+			ColumnType columnType = this.columnTypes[i];
+			Preconditions.condition(value != null || columnType == ColumnType.STRING,
+				() -> String.format("Value [null] is not supported for column of type %s in CSV record %d", columnType,
+					recordNumber));
+			try {
+				values[i] = value == null ? null : columnType.parse(value);
+			}
+			catch (IllegalArgumentException ex) {
+				throw new JUnitException(
+					String.format("Failed to parse value [%s] as %s in CSV record %d", value, columnType, recordNumber),
+					ex);
+			}
+		}
+		writeRow(values);
+	}
+
+	/**
+	 * Flush and close the underlying {@link OutputStream}.
+	 */
+	@Override
+	public void close() throws IOException {
+		this.out.close();
+	}
+
+	/**
+	 * Types of columns supported by binary fixture files.
+	 *
+	 * <p>The {@linkplain #ordinal() ordinal} of each constant is used to
+	 * identify it in the header of binary fixture files. New constants must
+	 * therefore only be appended.
+	 *
+	 * @since 5.13
+	 */
+	@API(status = EXPERIMENTAL, since = "5.13")
+	public enum ColumnType {
+
+		BOOLEAN(Boolean.class) {
+			@Override
+			Object parse(String value) {
+				if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+					return Boolean.valueOf(value);
+				}
+				throw new IllegalArgumentException("Not a boolean: " + value);
+			}
+
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeBoolean((Boolean) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readBoolean();
+			}
+		},
+
+		BYTE(Byte.class) {
+			@Override
+			Object parse(String value) {
+				return Byte.valueOf(value);
+			}
+
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeByte((Byte) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readByte();
+			}
+		},
+
+		SHORT(Short.class) {
+			@Override
+			Object parse(String value) {
+				return Short.valueOf(value);
+			}
+
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeShort((Short) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readShort();
+			}
+		},
+
+		CHAR(Character.class) {
+			@Override
+			Object parse(String value) {
+				if (value.length() != 1) {
+					throw new IllegalArgumentException("Not a single character: " + value);
+				}
+				return value.charAt(0);
+			}
+
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeChar((Character) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readChar();
+			}
+		},
+
+		INT(Integer.class) {
+			@Override
+			Object parse(String value) {
+				return Integer.valueOf(value);
+			}
+
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeInt((Integer) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readInt();
+			}
+		},
+
+		LONG(Long.class) {
+			@Override
+			Object parse(String value) {
+				return Long.valueOf(value);
+			}
+
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeLong((Long) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readLong();
+			}
+		},
+
+		FLOAT(Float.class) {
+			@Override
+			Object parse(String value) {
+				return Float.valueOf(value);
+			}
+
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeFloat((Float) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readFloat();
+			}
+		},
+
+		DOUBLE(Double.class) {
+			@Override
+			Object parse(String value) {
+				return Double.valueOf(value);
+			}
+
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				out.writeDouble((Double) value);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				return in.readDouble();
+			}
+		},
+
+		STRING(String.class) {
+			@Override
+			Object parse(String value) {
+				return value;
+			}
+
+			@Override
+			void write(DataOutput out, Object value) throws IOException {
+				if (value == null) {
+					out.writeInt(-1);
+					return;
+				}
+				byte[] bytes = ((String) value).getBytes(UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+
+			@Override
+			Object read(DataInput in) throws IOException {
+				int length = in.readInt();
+				if (length < 0) {
+					return null;
+				}
+				byte[] bytes = new byte[length];
+				in.readFully(bytes);
+				return new String(bytes, UTF_8);
+			}
+		};
+
+		private final Class<?> javaType;
+
+		ColumnType(Class<?> javaType) {
+			this.javaType = javaType;
+		}
+
+		/**
+		 * Get the type of the values of this column type as they are supplied
+		 * to parameterized tests.
+		 */
+		public Class<?> getJavaType() {
+			return this.javaType;
+		}
+
+		boolean isInstance(Object value) {
+			return this.javaType.isInstance(value);
+		}
+
+		abstract Object parse(String value);
+
+		abstract void write(DataOutput out, Object value) throws IOException;
+
+		abstract Object read(DataInput in) throws IOException;
+
+	}
+
+}
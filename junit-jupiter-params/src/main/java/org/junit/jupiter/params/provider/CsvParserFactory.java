@@ -42,6 +42,18 @@ class CsvParserFactory {
 			annotation.useHeadersInDisplayName(), annotation.ignoreLeadingAndTrailingWhitespace());
 	}
 
+	/**
+	 * Create a parser that uses the defaults of {@link CsvFileSource} and
+	 * does not limit the number of characters per column.
+	 *
+	 * @since 5.13
+	 * @see BinaryFileSourceWriter#convertCsv(java.io.Reader, int, java.io.OutputStream, BinaryFileSourceWriter.ColumnType...)
+	 */
+	static CsvParser createParserForConversion() {
+		return createParser(DEFAULT_DELIMITER, LINE_SEPARATOR, '"', "", -1, COMMENT_PROCESSING_FOR_CSV_FILE_SOURCE,
+			false, true);
+	}
+
 	private static String selectDelimiter(Annotation annotation, char delimiter, String delimiterString) {
 		Preconditions.condition(delimiter == EMPTY_CHAR || delimiterString.isEmpty(),
 			() -> "The delimiter and delimiterString attributes cannot be set simultaneously in " + annotation);
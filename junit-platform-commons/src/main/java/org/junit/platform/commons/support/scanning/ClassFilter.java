@@ -10,8 +10,14 @@
 
 package org.junit.platform.commons.support.scanning;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -43,15 +49,47 @@ public class ClassFilter {
 	 * @return an instance of {@code ClassFilter}; never {@code null}
 	 */
 	public static ClassFilter of(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
-		return new ClassFilter(namePredicate, classPredicate);
+		return new ClassFilter(namePredicate, classPredicate, emptySet());
 	}
 
 	private final Predicate<String> namePredicate;
 	private final Predicate<Class<?>> classPredicate;
+	private final Set<String> markerAnnotationNames;
 
-	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
+	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate,
+			Set<String> markerAnnotationNames) {
 		this.namePredicate = Preconditions.notNull(namePredicate, "name predicate must not be null");
 		this.classPredicate = Preconditions.notNull(classPredicate, "class predicate must not be null");
+		this.markerAnnotationNames = markerAnnotationNames;
+	}
+
+	/**
+	 * Create a copy of this {@link ClassFilter} that additionally declares
+	 * that only classes using at least one of the supplied marker annotations
+	 * can match its class predicate.
+	 *
+	 * <p>A class uses a marker annotation if it, one of its superclasses,
+	 * interfaces, or nested classes is annotated or has members that are
+	 * annotated with the marker annotation or with an annotation that is
+	 * meta-annotated with it.
+	 *
+	 * <p>Classpath scanning may use this information to avoid loading classes
+	 * that cannot match by inspecting their class files. Since this is an
+	 * optimization that may not always be applied, the class predicate must
+	 * not rely on it.
+	 *
+	 * @param markerAnnotations the marker annotations; never {@code null} or
+	 * containing {@code null} elements
+	 * @return a new instance of {@code ClassFilter}; never {@code null}
+	 * @since 1.13
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public ClassFilter withMarkerAnnotations(Collection<Class<? extends Annotation>> markerAnnotations) {
+		Preconditions.notNull(markerAnnotations, "marker annotations must not be null");
+		Preconditions.containsNoNullElements(markerAnnotations, "marker annotations must not contain null elements");
+		Set<String> markerAnnotationNames = new LinkedHashSet<>(this.markerAnnotationNames);
+		markerAnnotations.forEach(annotationType -> markerAnnotationNames.add(annotationType.getName()));
+		return new ClassFilter(this.namePredicate, this.classPredicate, unmodifiableSet(markerAnnotationNames));
 	}
 
 	/**
@@ -76,4 +114,13 @@ public class ClassFilter {
 		return classPredicate.test(type);
 	}
 
+	/**
+	 * {@return the fully qualified names of the marker annotations}
+	 *
+	 * @see #withMarkerAnnotations(Collection)
+	 */
+	Set<String> getMarkerAnnotationNames() {
+		return markerAnnotationNames;
+	}
+
 }
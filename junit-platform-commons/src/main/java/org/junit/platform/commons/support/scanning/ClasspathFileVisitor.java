@@ -33,6 +33,7 @@ class ClasspathFileVisitor extends SimpleFileVisitor<Path> {
 	private final Path basePath;
 	private final BiConsumer<Path, Path> consumer;
 	private final Predicate<Path> filter;
+	private boolean errors;
 
 	ClasspathFileVisitor(Path basePath, Predicate<Path> filter, BiConsumer<Path, Path> consumer) {
 		this.basePath = basePath;
@@ -50,6 +51,7 @@ class ClasspathFileVisitor extends SimpleFileVisitor<Path> {
 
 	@Override
 	public FileVisitResult visitFileFailed(Path file, IOException ex) {
+		errors = true;
 		logger.warn(ex, () -> "I/O error visiting file: " + file);
 		return CONTINUE;
 	}
@@ -57,9 +59,17 @@ class ClasspathFileVisitor extends SimpleFileVisitor<Path> {
 	@Override
 	public FileVisitResult postVisitDirectory(Path dir, IOException ex) {
 		if (ex != null) {
+			errors = true;
 			logger.warn(ex, () -> "I/O error visiting directory: " + dir);
 		}
 		return CONTINUE;
 	}
 
+	/**
+	 * {@return whether any I/O errors occurred while visiting files}
+	 */
+	boolean hasErrors() {
+		return errors;
+	}
+
 }
@@ -0,0 +1,448 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.StringUtils;
+
+/**
+ * Persistent index of the names of the classes found in classpath roots.
+ *
+ * <p>Each entry is keyed by the scanned base URI and package name and
+ * stores a fingerprint of the scanned root: the size and modification time
+ * of archives and the modification times of all directories for directory
+ * roots. Since adding, removing, or renaming a class file changes the
+ * modification time of its parent directory, an entry can be reused as long
+ * as the fingerprint is unchanged. The relative paths of all directories are
+ * stored along with the fingerprint so that validating an entry only needs to
+ * read the attributes of these directories instead of walking the entire
+ * root. Roots that were modified very recently are not indexed to account for
+ * coarse-grained file system timestamps.
+ *
+ * @since 1.13
+ * @see #INDEX_FILE_PROPERTY_NAME
+ */
+class ClasspathScanIndex {
+
+	/**
+	 * Property name used to enable the index by setting the path of the file
+	 * it should be stored in: {@value}
+	 *
+	 * <p>The value is read from a JVM system property since classpath scanning
+	 * does not have access to configuration parameters.
+	 */
+	static final String INDEX_FILE_PROPERTY_NAME = "junit.platform.classpath.scanning.index.file";
+
+	static final ClasspathScanIndex DISABLED = new ClasspathScanIndex(null);
+
+	private static final Logger logger = LoggerFactory.getLogger(ClasspathScanIndex.class);
+
+	private static final int FORMAT_VERSION = 2;
+	private static final long MODIFICATION_TIME_GRANULARITY_MILLIS = 2_000;
+	private static final String JAR_URI_SCHEME = "jar";
+	private static final String FILE_URI_SCHEME = "file";
+	private static final String JAR_URI_SEPARATOR = "!/";
+	private static final String JAR_FILE_EXTENSION = ".jar";
+
+	static ClasspathScanIndex fromSystemProperties() {
+		String indexFile = System.getProperty(INDEX_FILE_PROPERTY_NAME);
+		if (StringUtils.isBlank(indexFile)) {
+			return DISABLED;
+		}
+		return new ClasspathScanIndex(Paths.get(indexFile.trim()));
+	}
+
+	private final Path indexFile;
+	private volatile Map<String, Entry> entries;
+	private volatile boolean dirty;
+
+	ClasspathScanIndex(Path indexFile) {
+		this.indexFile = indexFile;
+	}
+
+	boolean isEnabled() {
+		return this.indexFile != null;
+	}
+
+	/**
+	 * Get the names of all classes in the supplied base URI, either from the
+	 * index or by delegating to the supplied {@code scanner}.
+	 *
+	 * <p>The result of the scanner is only added to the index if it reports
+	 * that scanning completed without errors.
+	 */
+	List<String> getClassNames(URI baseUri, String basePackageName, ClassNameScanner scanner) {
+		String key = basePackageName + ' ' + baseUri;
+		if (isEnabled()) {
+			Entry entry = getEntries().get(key);
+			if (entry != null && isUnchanged(baseUri, entry.fingerprint)) {
+				logger.trace(() -> "Using indexed class names for " + baseUri);
+				return entry.classNames;
+			}
+		}
+		Optional<Fingerprint> fingerprint = isEnabled() ? computeFingerprint(baseUri) : Optional.empty();
+		List<String> classNames = new ArrayList<>();
+		boolean completed = scanner.scan(baseUri, basePackageName, classNames::add);
+		if (completed && fingerprint.isPresent()) {
+			getEntries().put(key, new Entry(fingerprint.get(), unmodifiableList(classNames)));
+			this.dirty = true;
+		}
+		return classNames;
+	}
+
+	/**
+	 * Write the index to disk if it has been modified since it was last read
+	 * or written.
+	 */
+	synchronized void flush() {
+		if (!this.dirty) {
+			return;
+		}
+		this.dirty = false;
+		try {
+			Path parent = this.indexFile.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path tempFile = Files.createTempFile(parent, this.indexFile.getFileName().toString(), ".tmp");
+			try {
+				write(tempFile);
+				moveReplacing(tempFile, this.indexFile);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> "Failed to write classpath scan index to " + this.indexFile.toAbsolutePath());
+		}
+	}
+
+	private Map<String, Entry> getEntries() {
+		Map<String, Entry> entries = this.entries;
+		if (entries == null) {
+			synchronized (this) {
+				entries = this.entries;
+				if (entries == null) {
+					entries = new ConcurrentHashMap<>(read());
+					this.entries = entries;
+				}
+			}
+		}
+		return entries;
+	}
+
+	private Map<String, Entry> read() {
+		if (!Files.isRegularFile(this.indexFile)) {
+			return new HashMap<>();
+		}
+		try (DataInputStream in = new DataInputStream(
+			new BufferedInputStream(Files.newInputStream(this.indexFile)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				logger.debug(() -> "Ignoring classpath scan index with unsupported format in "
+						+ this.indexFile.toAbsolutePath());
+				return new HashMap<>();
+			}
+			int entryCount = in.readInt();
+			Map<String, Entry> entries = new HashMap<>(entryCount * 2);
+			for (int i = 0; i < entryCount; i++) {
+				String key = in.readUTF();
+				String fingerprintValue = in.readUTF();
+				int directoryCount = in.readInt();
+				List<String> directories = new ArrayList<>(directoryCount);
+				for (int j = 0; j < directoryCount; j++) {
+					directories.add(in.readUTF());
+				}
+				Fingerprint fingerprint = new Fingerprint(fingerprintValue, unmodifiableList(directories));
+				int classNameCount = in.readInt();
+				List<String> classNames = new ArrayList<>(classNameCount);
+				for (int j = 0; j < classNameCount; j++) {
+					classNames.add(in.readUTF());
+				}
+				entries.put(key, new Entry(fingerprint, unmodifiableList(classNames)));
+			}
+			return entries;
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> "Failed to read classpath scan index from " + this.indexFile.toAbsolutePath());
+			return new HashMap<>();
+		}
+	}
+
+	private void write(Path file) throws IOException {
+		Map<String, Entry> entries = getEntries();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+			out.writeInt(FORMAT_VERSION);
+			List<Map.Entry<String, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+			out.writeInt(snapshot.size());
+			for (Map.Entry<String, Entry> mapEntry : snapshot) {
+				out.writeUTF(mapEntry.getKey());
+				Fingerprint fingerprint = mapEntry.getValue().fingerprint;
+				out.writeUTF(fingerprint.value);
+				out.writeInt(fingerprint.directories.size());
+				for (String directory : fingerprint.directories) {
+					out.writeUTF(directory);
+				}
+				out.writeInt(mapEntry.getValue().classNames.size());
+				for (String className : mapEntry.getValue().classNames) {
+					out.writeUTF(className);
+				}
+			}
+		}
+	}
+
+	private static void moveReplacing(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+		}
+		catch (AtomicMoveNotSupportedException ex) {
+			Files.move(source, target, REPLACE_EXISTING);
+		}
+	}
+
+	private static Optional<Fingerprint> computeFingerprint(URI baseUri) {
+		try {
+			Optional<Path> archive = toArchivePath(baseUri);
+			if (archive.isPresent()) {
+				return computeArchiveFingerprint(archive.get());
+			}
+			if (FILE_URI_SCHEME.equals(baseUri.getScheme())) {
+				Path directory = Paths.get(baseUri);
+				if (Files.isDirectory(directory)) {
+					return computeDirectoryFingerprint(directory);
+				}
+			}
+		}
+		catch (Exception ex) {
+			logger.debug(ex, () -> "Failed to compute fingerprint for " + baseUri);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Determine whether the supplied fingerprint of the supplied base URI is
+	 * still valid by only reading the attributes of the archive or of the
+	 * directories recorded in the fingerprint.
+	 */
+	private static boolean isUnchanged(URI baseUri, Fingerprint fingerprint) {
+		try {
+			Optional<Path> archive = toArchivePath(baseUri);
+			if (archive.isPresent()) {
+				return computeArchiveFingerprint(archive.get()).filter(fingerprint::equals).isPresent();
+			}
+			if (FILE_URI_SCHEME.equals(baseUri.getScheme()) && !fingerprint.directories.isEmpty()) {
+				Path baseDirectory = Paths.get(baseUri);
+				DirectoryHash hash = new DirectoryHash();
+				for (String directory : fingerprint.directories) {
+					BasicFileAttributes attributes = Files.readAttributes(baseDirectory.resolve(directory),
+						BasicFileAttributes.class);
+					if (!attributes.isDirectory()) {
+						return false;
+					}
+					hash.add(directory, attributes.lastModifiedTime().toMillis());
+				}
+				return !isRecent(hash.maxLastModified) && hash.toFingerprintValue().equals(fingerprint.value);
+			}
+		}
+		catch (Exception ex) {
+			logger.debug(ex, () -> "Failed to validate fingerprint for " + baseUri);
+		}
+		return false;
+	}
+
+	private static Optional<Path> toArchivePath(URI uri) {
+		if (JAR_URI_SCHEME.equals(uri.getScheme())) {
+			// Parsing: jar:<url>!/[<entry>], see java.net.JarURLConnection
+			String uriString = uri.toString();
+			int lastJarUriSeparator = uriString.lastIndexOf(JAR_URI_SEPARATOR);
+			URI archiveUri = URI.create(uriString.substring(JAR_URI_SCHEME.length() + 1, lastJarUriSeparator));
+			if (FILE_URI_SCHEME.equals(archiveUri.getScheme())) {
+				return Optional.of(Paths.get(archiveUri));
+			}
+			return Optional.empty();
+		}
+		if (FILE_URI_SCHEME.equals(uri.getScheme()) && uri.getPath().endsWith(JAR_FILE_EXTENSION)) {
+			return Optional.of(Paths.get(uri));
+		}
+		return Optional.empty();
+	}
+
+	private static Optional<Fingerprint> computeArchiveFingerprint(Path archive) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		if (isRecent(lastModified)) {
+			return Optional.empty();
+		}
+		return Optional.of(new Fingerprint("archive:" + attributes.size() + ":" + lastModified, emptyList()));
+	}
+
+	private static Optional<Fingerprint> computeDirectoryFingerprint(Path directory) throws IOException {
+		DirectoryFingerprintVisitor visitor = new DirectoryFingerprintVisitor(directory);
+		Files.walkFileTree(directory, visitor);
+		if (visitor.failed || isRecent(visitor.hash.maxLastModified)) {
+			return Optional.empty();
+		}
+		return Optional.of(
+			new Fingerprint(visitor.hash.toFingerprintValue(), unmodifiableList(visitor.relativePaths)));
+	}
+
+	private static boolean isRecent(long lastModified) {
+		return System.currentTimeMillis() - lastModified < MODIFICATION_TIME_GRANULARITY_MILLIS;
+	}
+
+	/**
+	 * Scans a base URI for class names.
+	 */
+	@FunctionalInterface
+	interface ClassNameScanner {
+
+		/**
+		 * Pass the names of all classes in the supplied base URI to the
+		 * supplied consumer.
+		 *
+		 * @return {@code true} if scanning completed without errors
+		 */
+		boolean scan(URI baseUri, String basePackageName, Consumer<String> classNameConsumer);
+
+	}
+
+	private static class Entry {
+
+		private final Fingerprint fingerprint;
+		private final List<String> classNames;
+
+		Entry(Fingerprint fingerprint, List<String> classNames) {
+			this.fingerprint = fingerprint;
+			this.classNames = classNames;
+		}
+
+	}
+
+	/**
+	 * Fingerprint of a classpath root along with the relative paths of the
+	 * directories it was computed from, if any.
+	 */
+	private static class Fingerprint {
+
+		private final String value;
+		private final List<String> directories;
+
+		Fingerprint(String value, List<String> directories) {
+			this.value = value;
+			this.directories = directories;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Fingerprint && this.value.equals(((Fingerprint) obj).value);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.value.hashCode();
+		}
+
+	}
+
+	/**
+	 * Combines relative paths and modification times of directories into an
+	 * order-independent hash.
+	 */
+	private static class DirectoryHash {
+
+		private long hash;
+		private long count;
+		private long maxLastModified;
+
+		void add(String relativePath, long lastModified) {
+			this.hash += mix(relativePath.hashCode() * 0x9E3779B97F4A7C15L ^ lastModified);
+			this.count++;
+			this.maxLastModified = Math.max(this.maxLastModified, lastModified);
+		}
+
+		String toFingerprintValue() {
+			return "directories:" + this.count + ":" + Long.toHexString(this.hash);
+		}
+
+		private static long mix(long value) {
+			value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+			value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+			return value ^ (value >>> 33);
+		}
+
+	}
+
+	/**
+	 * Collects the relative paths and modification times of all directories
+	 * below a base directory.
+	 */
+	private static class DirectoryFingerprintVisitor extends SimpleFileVisitor<Path> {
+
+		private final Path baseDirectory;
+		private final DirectoryHash hash = new DirectoryHash();
+		private final List<String> relativePaths = new ArrayList<>();
+		private boolean failed;
+
+		DirectoryFingerprintVisitor(Path baseDirectory) {
+			this.baseDirectory = baseDirectory;
+		}
+
+		@Override
+		public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+			String relativePath = this.baseDirectory.relativize(directory).toString();
+			this.hash.add(relativePath, attributes.lastModifiedTime().toMillis());
+			this.relativePaths.add(relativePath);
+			return CONTINUE;
+		}
+
+		@Override
+		public FileVisitResult visitFileFailed(Path file, IOException ex) {
+			this.failed = true;
+			return CONTINUE;
+		}
+
+		@Override
+		public FileVisitResult postVisitDirectory(Path directory, IOException ex) {
+			if (ex != null) {
+				this.failed = true;
+			}
+			return CONTINUE;
+		}
+
+	}
+
+}
@@ -45,6 +45,7 @@ import org.junit.platform.commons.support.DefaultResource;
 import org.junit.platform.commons.support.Resource;
 import org.junit.platform.commons.util.PackageUtils;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.StringUtils;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 
 /**
@@ -72,15 +73,40 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 	 */
 	private static final String MALFORMED_CLASS_NAME_ERROR_MESSAGE = "Malformed class name";
 
+	/**
+	 * Property name used to enable scanning classpath roots and the
+	 * directories within them concurrently: {@value}
+	 *
+	 * <p>Since scanning happens outside the scope of any engine, the value is
+	 * read from a JVM system property. Results are returned in the same order
+	 * as when scanning sequentially.
+	 *
+	 * @since 1.13
+	 */
+	static final String PARALLEL_SCANNING_PROPERTY_NAME = "junit.platform.classpath.scanning.parallel.enabled";
+
 	private final Supplier<ClassLoader> classLoaderSupplier;
 
 	private final BiFunction<String, ClassLoader, Try<Class<?>>> loadClass;
 
+	private final ClasspathScanIndex index;
+
+	private final boolean parallel;
+
 	public DefaultClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
 			BiFunction<String, ClassLoader, Try<Class<?>>> loadClass) {
 
+		this(classLoaderSupplier, loadClass, ClasspathScanIndex.fromSystemProperties(),
+			isParallelScanningEnabled());
+	}
+
+	DefaultClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Try<Class<?>>> loadClass, ClasspathScanIndex index, boolean parallel) {
+
 		this.classLoaderSupplier = classLoaderSupplier;
 		this.loadClass = loadClass;
+		this.index = index;
+		this.parallel = parallel;
 	}
 
 	@Override
@@ -91,8 +117,12 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		Preconditions.notNull(classFilter, "classFilter must not be null");
 		basePackageName = basePackageName.trim();
 
-		List<URI> roots = getRootUrisForPackageNameOnClassPathAndModulePath(basePackageName);
-		return findClassesForUris(roots, basePackageName, classFilter);
+		ClassLoader classLoader = getClassLoader();
+		List<URI> roots = getRootUrisForPackageNameOnClassPathAndModulePath(basePackageName, classLoader);
+		List<Class<?>> classes = findClassesForUris(roots, basePackageName,
+			withMarkerAnnotationFilter(classFilter, classLoader), classLoader);
+		this.index.flush();
+		return classes;
 	}
 
 	@Override
@@ -100,7 +130,11 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		Preconditions.notNull(root, "root must not be null");
 		Preconditions.notNull(classFilter, "classFilter must not be null");
 
-		return findClassesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME, classFilter);
+		ClassLoader classLoader = getClassLoader();
+		List<Class<?>> classes = findClassesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME,
+			withMarkerAnnotationFilter(classFilter, classLoader), classLoader);
+		this.index.flush();
+		return classes;
 	}
 
 	@Override
@@ -111,7 +145,7 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		Preconditions.notNull(resourceFilter, "resourceFilter must not be null");
 		basePackageName = basePackageName.trim();
 
-		List<URI> roots = getRootUrisForPackageNameOnClassPathAndModulePath(basePackageName);
+		List<URI> roots = getRootUrisForPackageNameOnClassPathAndModulePath(basePackageName, getClassLoader());
 		return findResourcesForUris(roots, basePackageName, resourceFilter);
 	}
 
@@ -123,36 +157,70 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		return findResourcesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME, resourceFilter);
 	}
 
+	/**
+	 * Avoid loading classes that do not use any of the marker annotations of
+	 * the supplied filter by checking their class files after their names.
+	 *
+	 * @see ClassFilter#withMarkerAnnotations
+	 */
+	private static ClassFilter withMarkerAnnotationFilter(ClassFilter classFilter, ClassLoader classLoader) {
+		Predicate<String> markerAnnotationFilter = MarkerAnnotationFilter.create(classFilter, classLoader);
+		return ClassFilter.of(name -> classFilter.match(name) && markerAnnotationFilter.test(name),
+			type -> classFilter.match(type));
+	}
+
 	/**
 	 * Recursively scan for classes in all the supplied source directories.
 	 */
-	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter) {
+	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter,
+			ClassLoader classLoader) {
 		// @formatter:off
-		return baseUris.stream()
-				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter))
+		return stream(baseUris)
+				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter, classLoader))
 				.flatMap(Collection::stream)
 				.distinct()
 				.collect(toList());
 		// @formatter:on
 	}
 
-	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
+	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter,
+			ClassLoader classLoader) {
 		List<Class<?>> classes = new ArrayList<>();
+		if (this.index.isEnabled()) {
+			List<String> classNames = this.index.getClassNames(baseUri, basePackageName, this::findClassNamesForUri);
+			// @formatter:off
+			this.<String, Class<?>> processInOrder(classNames,
+					(className, classConsumer) ->
+							processClassSafely(className, className, classFilter, classLoader, classConsumer),
+					classes::add);
+			// @formatter:on
+			return classes;
+		}
 		// @formatter:off
-		walkFilesForUri(baseUri, ClasspathFilters.classFiles(),
-				(baseDir, file) ->
-						processClassFileSafely(baseDir, basePackageName, classFilter, file, classes::add));
+		this.<Class<?>> walkFilesForUri(baseUri, ClasspathFilters.classFiles(),
+				(baseDir, file, classConsumer) ->
+						processClassFileSafely(baseDir, basePackageName, classFilter, classLoader, file, classConsumer),
+				classes::add);
 		// @formatter:on
 		return classes;
 	}
 
+	private boolean findClassNamesForUri(URI baseUri, String basePackageName, Consumer<String> classNameConsumer) {
+		// @formatter:off
+		return walkFilesForUri(baseUri, ClasspathFilters.classFiles(),
+				(baseDir, file, consumer) ->
+						processClassFileNameSafely(baseDir, basePackageName, file, consumer),
+				classNameConsumer);
+		// @formatter:on
+	}
+
 	/**
 	 * Recursively scan for resources in all the supplied source directories.
 	 */
 	private List<Resource> findResourcesForUris(List<URI> baseUris, String basePackageName,
 			Predicate<Resource> resourceFilter) {
 		// @formatter:off
-		return baseUris.stream()
+		return stream(baseUris)
 				.map(baseUri -> findResourcesForUri(baseUri, basePackageName, resourceFilter))
 				.flatMap(Collection::stream)
 				.distinct()
@@ -164,19 +232,37 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 			Predicate<Resource> resourceFilter) {
 		List<Resource> resources = new ArrayList<>();
 		// @formatter:off
-		walkFilesForUri(baseUri, ClasspathFilters.resourceFiles(),
-				(baseDir, file) ->
-						processResourceFileSafely(baseDir, basePackageName, resourceFilter, file, resources::add));
+		this.<Resource> walkFilesForUri(baseUri, ClasspathFilters.resourceFiles(),
+				(baseDir, file, resourceConsumer) ->
+						processResourceFileSafely(baseDir, basePackageName, resourceFilter, file, resourceConsumer),
+				resources::add);
 		// @formatter:on
 		return resources;
 	}
 
-	private static void walkFilesForUri(URI baseUri, Predicate<Path> filter, BiConsumer<Path, Path> consumer) {
+	/**
+	 * Walk all files in the supplied base URI that match the supplied filter
+	 * and pass the results of processing them to the supplied consumer in the
+	 * order in which {@link Files#walkFileTree} visits them.
+	 *
+	 * @return {@code true} if all files were walked without errors
+	 */
+	private <T> boolean walkFilesForUri(URI baseUri, Predicate<Path> filter, FileProcessor<T> processor,
+			Consumer<T> consumer) {
 		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
 			Path baseDir = closeablePath.getPath();
 			Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
+			if (this.parallel) {
+				ParallelClasspathFileWalker walker = new ParallelClasspathFileWalker(filter);
+				processInOrder(walker.walk(baseDir), (file, fileConsumer) -> processor.process(baseDir, file,
+					fileConsumer), consumer);
+				return !walker.hasErrors();
+			}
 			try {
-				Files.walkFileTree(baseDir, new ClasspathFileVisitor(baseDir, filter, consumer));
+				ClasspathFileVisitor visitor = new ClasspathFileVisitor(baseDir, filter,
+					(dir, file) -> processor.process(dir, file, consumer));
+				Files.walkFileTree(baseDir, visitor);
+				return !visitor.hasErrors();
 			}
 			catch (IOException ex) {
 				logger.warn(ex, () -> "I/O error scanning files in " + baseDir);
@@ -188,28 +274,80 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		catch (Exception ex) {
 			logger.warn(ex, () -> "Error scanning files for URI " + baseUri);
 		}
+		return false;
 	}
 
-	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter, Path classFile,
-			Consumer<Class<?>> classConsumer) {
+	/**
+	 * Process the supplied sources, concurrently if parallel scanning is
+	 * enabled, and pass the results to the supplied consumer in the order of
+	 * the sources.
+	 */
+	private <S, T> void processInOrder(List<S> sources, BiConsumer<S, Consumer<T>> processor, Consumer<T> consumer) {
+		if (!this.parallel) {
+			sources.forEach(source -> processor.accept(source, consumer));
+			return;
+		}
+		// @formatter:off
+		sources.parallelStream()
+				.map(source -> {
+					List<T> results = new ArrayList<>(1);
+					processor.accept(source, results::add);
+					return results;
+				})
+				.collect(toList())
+				.forEach(results -> results.forEach(consumer));
+		// @formatter:on
+	}
+
+	private <T> Stream<T> stream(List<T> list) {
+		return this.parallel ? list.parallelStream() : list.stream();
+	}
+
+	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter,
+			ClassLoader classLoader, Path classFile, Consumer<Class<?>> classConsumer) {
 		try {
 			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
+			processClassSafely(fullyQualifiedClassName, classFile.toAbsolutePath(), classFilter, classLoader,
+				classConsumer);
+		}
+		catch (Throwable throwable) {
+			handleThrowable(classFile.toAbsolutePath(), throwable);
+		}
+	}
+
+	private void processClassFileNameSafely(Path baseDir, String basePackageName, Path classFile,
+			Consumer<String> classNameConsumer) {
+		try {
+			classNameConsumer.accept(determineFullyQualifiedClassName(baseDir, basePackageName, classFile));
+		}
+		catch (Throwable throwable) {
+			handleThrowable(classFile.toAbsolutePath(), throwable);
+		}
+	}
+
+	/**
+	 * @param source the class file or, if it was looked up in the index, the
+	 * fully qualified class name; only used for logging
+	 */
+	private void processClassSafely(String fullyQualifiedClassName, Object source, ClassFilter classFilter,
+			ClassLoader classLoader, Consumer<Class<?>> classConsumer) {
+		try {
 			if (classFilter.match(fullyQualifiedClassName)) {
 				try {
 					// @formatter:off
-					loadClass.apply(fullyQualifiedClassName, getClassLoader())
+					loadClass.apply(fullyQualifiedClassName, classLoader)
 							.toOptional()
 							.filter(classFilter::match)
 							.ifPresent(classConsumer);
 					// @formatter:on
 				}
 				catch (InternalError internalError) {
-					handleInternalError(classFile, fullyQualifiedClassName, internalError);
+					handleInternalError(source, fullyQualifiedClassName, internalError);
 				}
 			}
 		}
 		catch (Throwable throwable) {
-			handleThrowable(classFile, throwable);
+			handleThrowable(source, throwable);
 		}
 	}
 
@@ -225,7 +363,7 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 			// @formatter:on
 		}
 		catch (Throwable throwable) {
-			handleThrowable(resourceFile, throwable);
+			handleThrowable(resourceFile.toAbsolutePath(), throwable);
 		}
 	}
 
@@ -280,45 +418,45 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		return subpackageName;
 	}
 
-	private void handleInternalError(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void handleInternalError(Object source, String fullyQualifiedClassName, InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
-			logMalformedClassName(classFile, fullyQualifiedClassName, ex);
+			logMalformedClassName(source, fullyQualifiedClassName, ex);
 		}
 		else {
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(source, ex);
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(Object source, Throwable throwable) {
 		UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
-		logGenericFileProcessingException(classFile, throwable);
+		logGenericFileProcessingException(source, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void logMalformedClassName(Object source, String fullyQualifiedClassName, InternalError ex) {
 		try {
 			logger.debug(ex, () -> format("The java.lang.Class loaded from path [%s] has a malformed class name [%s].",
-				classFile.toAbsolutePath(), fullyQualifiedClassName));
+				source, fullyQualifiedClassName));
 		}
 		catch (Throwable t) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
 			ex.addSuppressed(t);
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(source, ex);
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classpathFile, Throwable throwable) {
-		logger.debug(throwable,
-			() -> format("Failed to load [%s] during classpath scanning.", classpathFile.toAbsolutePath()));
+	private void logGenericFileProcessingException(Object source, Throwable throwable) {
+		logger.debug(throwable, () -> format("Failed to load [%s] during classpath scanning.", source));
 	}
 
 	private ClassLoader getClassLoader() {
 		return this.classLoaderSupplier.get();
 	}
 
-	private List<URI> getRootUrisForPackageNameOnClassPathAndModulePath(String basePackageName) {
-		Set<URI> uriSet = new LinkedHashSet<>(getRootUrisForPackage(basePackageName));
+	private List<URI> getRootUrisForPackageNameOnClassPathAndModulePath(String basePackageName,
+			ClassLoader classLoader) {
+		Set<URI> uriSet = new LinkedHashSet<>(getRootUrisForPackage(basePackageName, classLoader));
 		if (!basePackageName.isEmpty() && !basePackageName.endsWith(PACKAGE_SEPARATOR_STRING)) {
-			getRootUrisForPackage(basePackageName + PACKAGE_SEPARATOR_STRING).stream() //
+			getRootUrisForPackage(basePackageName + PACKAGE_SEPARATOR_STRING, classLoader).stream() //
 					.map(DefaultClasspathScanner::removeTrailingClasspathResourcePathSeparator) //
 					.forEach(uriSet::add);
 		}
@@ -340,9 +478,9 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		return packageName.replace(PACKAGE_SEPARATOR_CHAR, CLASSPATH_RESOURCE_PATH_SEPARATOR);
 	}
 
-	private List<URI> getRootUrisForPackage(String basePackageName) {
+	private List<URI> getRootUrisForPackage(String basePackageName, ClassLoader classLoader) {
 		try {
-			Enumeration<URL> resources = getClassLoader().getResources(packagePath(basePackageName));
+			Enumeration<URL> resources = classLoader.getResources(packagePath(basePackageName));
 			List<URI> uris = new ArrayList<>();
 			while (resources.hasMoreElements()) {
 				URL resource = resources.nextElement();
@@ -356,4 +494,26 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		}
 	}
 
+	private static boolean isParallelScanningEnabled() {
+		String rawValue = System.getProperty(PARALLEL_SCANNING_PROPERTY_NAME);
+		if (StringUtils.isBlank(rawValue)) {
+			return false;
+		}
+		String value = rawValue.trim().toLowerCase();
+		boolean isTrue = "true".equals(value);
+		Preconditions.condition(isTrue || "false".equals(value), () -> PARALLEL_SCANNING_PROPERTY_NAME
+				+ " property must be 'true' or 'false' (ignoring case): " + rawValue);
+		return isTrue;
+	}
+
+	/**
+	 * Processes a file found in a base directory.
+	 */
+	@FunctionalInterface
+	private interface FileProcessor<T> {
+
+		void process(Path baseDir, Path file, Consumer<T> consumer);
+
+	}
+
 }
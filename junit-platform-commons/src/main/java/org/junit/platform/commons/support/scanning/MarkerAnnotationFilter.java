@@ -0,0 +1,302 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.StringUtils;
+
+/**
+ * Predicate for fully qualified class names that reads class files in order
+ * to determine whether the corresponding classes use one of the
+ * {@linkplain ClassFilter#withMarkerAnnotations marker annotations} of a
+ * {@link ClassFilter} without loading them.
+ *
+ * <p>Only the constant pool and the names of the superclass and interfaces
+ * are read. A class is considered to use a marker annotation if its constant
+ * pool references the marker annotation or an annotation that is
+ * meta-annotated with it, or if its superclass, one of its interfaces, or one
+ * of its nested classes uses a marker annotation. Classes whose class files
+ * cannot be found or read are always considered to use a marker annotation.
+ *
+ * <p>Results are cached per instance which should therefore only be used for
+ * a single classpath scan.
+ *
+ * @since 1.13
+ */
+class MarkerAnnotationFilter implements Predicate<String> {
+
+	/**
+	 * Property name used to disable reading class files in order to skip
+	 * loading classes that do not use any of the marker annotations of a
+	 * {@link ClassFilter}: {@value}
+	 *
+	 * <p>Class files are read unless this JVM system property is set to
+	 * {@code false}.
+	 */
+	static final String ENABLED_PROPERTY_NAME = "junit.platform.classpath.scanning.markerAnnotations.enabled";
+
+	private static final Logger logger = LoggerFactory.getLogger(MarkerAnnotationFilter.class);
+
+	private static final int MAGIC = 0xCAFEBABE;
+	private static final int ACC_ANNOTATION = 0x2000;
+	private static final String CLASS_FILE_SUFFIX = ".class";
+	private static final String JAVA_PACKAGE_PREFIX = "java/";
+
+	static Predicate<String> create(ClassFilter classFilter, ClassLoader classLoader) {
+		Set<String> markerAnnotationNames = classFilter.getMarkerAnnotationNames();
+		if (markerAnnotationNames.isEmpty() || !isEnabled()) {
+			return className -> true;
+		}
+		return new MarkerAnnotationFilter(markerAnnotationNames, classLoader);
+	}
+
+	private static boolean isEnabled() {
+		String value = System.getProperty(ENABLED_PROPERTY_NAME);
+		return StringUtils.isBlank(value) || !"false".equalsIgnoreCase(value.trim());
+	}
+
+	private final Set<String> markerDescriptors = new HashSet<>();
+	private final ClassLoader classLoader;
+	private final Map<String, Boolean> usesMarkerAnnotation = new ConcurrentHashMap<>();
+	private final Map<String, Boolean> isMarkerAnnotation = new ConcurrentHashMap<>();
+
+	MarkerAnnotationFilter(Set<String> markerAnnotationNames, ClassLoader classLoader) {
+		markerAnnotationNames.forEach(name -> this.markerDescriptors.add('L' + toInternalName(name) + ';'));
+		this.classLoader = classLoader;
+	}
+
+	@Override
+	public boolean test(String className) {
+		return usesMarkerAnnotation(toInternalName(className), new HashSet<>());
+	}
+
+	/**
+	 * @param visited the names of the classes currently being inspected by
+	 * the calling thread; encountering one of them again conservatively yields
+	 * {@code true} since results are cached and shared between threads
+	 */
+	private boolean usesMarkerAnnotation(String internalName, Set<String> visited) {
+		if (internalName.startsWith(JAVA_PACKAGE_PREFIX)) {
+			return false;
+		}
+		Boolean cachedResult = this.usesMarkerAnnotation.get(internalName);
+		if (cachedResult != null) {
+			return cachedResult;
+		}
+		if (!visited.add(internalName)) {
+			return true;
+		}
+		ClassFileInfo classFile = read(internalName);
+		boolean result = classFile == null || referencesMarkerAnnotation(classFile, visited)
+				|| classFile.superTypeNames.stream().anyMatch(name -> usesMarkerAnnotation(name, visited))
+				|| classFile.nestedClassNames.stream().anyMatch(name -> usesMarkerAnnotation(name, visited));
+		this.usesMarkerAnnotation.put(internalName, result);
+		visited.remove(internalName);
+		return result;
+	}
+
+	private boolean isMarkerAnnotation(String descriptor, Set<String> visited) {
+		if (this.markerDescriptors.contains(descriptor)) {
+			return true;
+		}
+		String internalName = descriptor.substring(1, descriptor.length() - 1);
+		if (internalName.startsWith(JAVA_PACKAGE_PREFIX)) {
+			return false;
+		}
+		Boolean cachedResult = this.isMarkerAnnotation.get(internalName);
+		if (cachedResult != null) {
+			return cachedResult;
+		}
+		if (!visited.add(descriptor)) {
+			return true;
+		}
+		ClassFileInfo classFile = read(internalName);
+		boolean result = classFile == null
+				|| ((classFile.accessFlags & ACC_ANNOTATION) != 0 && referencesMarkerAnnotation(classFile, visited));
+		this.isMarkerAnnotation.put(internalName, result);
+		visited.remove(descriptor);
+		return result;
+	}
+
+	private boolean referencesMarkerAnnotation(ClassFileInfo classFile, Set<String> visited) {
+		return classFile.typeDescriptors.stream().anyMatch(descriptor -> isMarkerAnnotation(descriptor, visited));
+	}
+
+	/**
+	 * @return the class file info or {@code null} if the class file could not
+	 * be read
+	 */
+	private ClassFileInfo read(String internalName) {
+		try (InputStream inputStream = this.classLoader.getResourceAsStream(internalName + CLASS_FILE_SUFFIX)) {
+			if (inputStream == null) {
+				logger.trace(() -> "Failed to find class file of " + internalName);
+				return null;
+			}
+			return ClassFileInfo.read(internalName, new DataInputStream(new BufferedInputStream(inputStream)));
+		}
+		catch (Exception ex) {
+			logger.trace(ex, () -> "Failed to read class file of " + internalName);
+			return null;
+		}
+	}
+
+	private static String toInternalName(String className) {
+		return className.replace('.', '/');
+	}
+
+	/**
+	 * Type references found in a class file.
+	 */
+	private static class ClassFileInfo {
+
+		private static final int CONSTANT_UTF8 = 1;
+		private static final int CONSTANT_INTEGER = 3;
+		private static final int CONSTANT_FLOAT = 4;
+		private static final int CONSTANT_LONG = 5;
+		private static final int CONSTANT_DOUBLE = 6;
+		private static final int CONSTANT_CLASS = 7;
+		private static final int CONSTANT_STRING = 8;
+		private static final int CONSTANT_FIELD_REF = 9;
+		private static final int CONSTANT_METHOD_REF = 10;
+		private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+		private static final int CONSTANT_NAME_AND_TYPE = 12;
+		private static final int CONSTANT_METHOD_HANDLE = 15;
+		private static final int CONSTANT_METHOD_TYPE = 16;
+		private static final int CONSTANT_DYNAMIC = 17;
+		private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+		private static final int CONSTANT_MODULE = 19;
+		private static final int CONSTANT_PACKAGE = 20;
+
+		static ClassFileInfo read(String internalName, DataInputStream in) throws IOException {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Invalid magic number");
+			}
+			in.readUnsignedShort(); // minor version
+			in.readUnsignedShort(); // major version
+			int constantPoolCount = in.readUnsignedShort();
+			String[] utf8Entries = new String[constantPoolCount];
+			int[] classEntries = new int[constantPoolCount];
+			for (int i = 1; i < constantPoolCount; i++) {
+				int tag = in.readUnsignedByte();
+				switch (tag) {
+					case CONSTANT_UTF8:
+						utf8Entries[i] = in.readUTF();
+						break;
+					case CONSTANT_CLASS:
+						classEntries[i] = in.readUnsignedShort();
+						break;
+					case CONSTANT_STRING:
+					case CONSTANT_METHOD_TYPE:
+					case CONSTANT_MODULE:
+					case CONSTANT_PACKAGE:
+						skip(in, 2);
+						break;
+					case CONSTANT_METHOD_HANDLE:
+						skip(in, 3);
+						break;
+					case CONSTANT_INTEGER:
+					case CONSTANT_FLOAT:
+					case CONSTANT_FIELD_REF:
+					case CONSTANT_METHOD_REF:
+					case CONSTANT_INTERFACE_METHOD_REF:
+					case CONSTANT_NAME_AND_TYPE:
+					case CONSTANT_DYNAMIC:
+					case CONSTANT_INVOKE_DYNAMIC:
+						skip(in, 4);
+						break;
+					case CONSTANT_LONG:
+					case CONSTANT_DOUBLE:
+						skip(in, 8);
+						i++; // occupies two entries
+						break;
+					default:
+						throw new IOException("Unknown constant pool tag: " + tag);
+				}
+			}
+			int accessFlags = in.readUnsignedShort();
+			in.readUnsignedShort(); // this class
+			List<String> superTypeNames = new ArrayList<>();
+			int superClass = in.readUnsignedShort();
+			if (superClass != 0) {
+				superTypeNames.add(utf8Entries[classEntries[superClass]]);
+			}
+			int interfacesCount = in.readUnsignedShort();
+			for (int i = 0; i < interfacesCount; i++) {
+				superTypeNames.add(utf8Entries[classEntries[in.readUnsignedShort()]]);
+			}
+
+			String nestedClassPrefix = internalName + '$';
+			List<String> nestedClassNames = new ArrayList<>();
+			List<String> typeDescriptors = new ArrayList<>();
+			for (int i = 1; i < constantPoolCount; i++) {
+				if (classEntries[i] != 0) {
+					String className = utf8Entries[classEntries[i]];
+					if (className.startsWith(nestedClassPrefix)) {
+						nestedClassNames.add(className);
+					}
+				}
+				else if (isTypeDescriptor(utf8Entries[i])) {
+					typeDescriptors.add(utf8Entries[i]);
+				}
+			}
+			return new ClassFileInfo(accessFlags, superTypeNames, nestedClassNames, typeDescriptors);
+		}
+
+		private static void skip(DataInputStream in, int bytes) throws IOException {
+			in.readFully(new byte[bytes]);
+		}
+
+		/**
+		 * Annotations are referenced by UTF-8 entries containing field
+		 * descriptors of the form {@code Lbinary/Name;}.
+		 */
+		private static boolean isTypeDescriptor(String value) {
+			if (value == null || value.length() < 3 || value.charAt(0) != 'L'
+					|| value.charAt(value.length() - 1) != ';') {
+				return false;
+			}
+			for (int i = 1; i < value.length() - 1; i++) {
+				char c = value.charAt(i);
+				if (c == ';' || c == '<' || c == '(' || c == '[') {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		final int accessFlags;
+		final List<String> superTypeNames;
+		final List<String> nestedClassNames;
+		final List<String> typeDescriptors;
+
+		private ClassFileInfo(int accessFlags, List<String> superTypeNames, List<String> nestedClassNames,
+				List<String> typeDescriptors) {
+			this.accessFlags = accessFlags;
+			this.superTypeNames = superTypeNames;
+			this.nestedClassNames = nestedClassNames;
+			this.typeDescriptors = typeDescriptors;
+		}
+	}
+
+}
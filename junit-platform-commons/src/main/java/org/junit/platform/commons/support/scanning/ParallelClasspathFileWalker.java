@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Walks a file tree by visiting subdirectories concurrently in the
+ * {@link java.util.concurrent.ForkJoinPool} of the calling thread or the
+ * common pool.
+ *
+ * <p>The matching files are returned in the same order in which
+ * {@link Files#walkFileTree} would have visited them. Like
+ * {@link ClasspathFileVisitor}, symbolic links are not followed and I/O
+ * errors are logged and skipped.
+ *
+ * @since 1.13
+ * @see ClasspathFileVisitor
+ */
+class ParallelClasspathFileWalker {
+
+	private static final Logger logger = LoggerFactory.getLogger(ParallelClasspathFileWalker.class);
+
+	private final Predicate<Path> filter;
+	private volatile boolean errors;
+
+	ParallelClasspathFileWalker(Predicate<Path> filter) {
+		this.filter = filter;
+	}
+
+	List<Path> walk(Path start) {
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(start, BasicFileAttributes.class, NOFOLLOW_LINKS);
+		}
+		catch (IOException ex) {
+			visitFileFailed(start, ex);
+			return emptyList();
+		}
+		if (!attributes.isDirectory()) {
+			return this.filter.test(start) ? singletonList(start) : emptyList();
+		}
+		return new DirectoryTask(start).invoke();
+	}
+
+	/**
+	 * {@return whether any I/O errors occurred while walking files}
+	 */
+	boolean hasErrors() {
+		return this.errors;
+	}
+
+	private void visitFileFailed(Path file, IOException ex) {
+		this.errors = true;
+		logger.warn(ex, () -> "I/O error visiting file: " + file);
+	}
+
+	private void visitDirectoryFailed(Path dir, IOException ex) {
+		this.errors = true;
+		logger.warn(ex, () -> "I/O error visiting directory: " + dir);
+	}
+
+	@SuppressWarnings("serial")
+	private class DirectoryTask extends RecursiveTask<List<Path>> {
+
+		private final Path directory;
+
+		DirectoryTask(Path directory) {
+			this.directory = directory;
+		}
+
+		@Override
+		protected List<Path> compute() {
+			// Matching files and forked subdirectory tasks in the order of the
+			// directory listing which is the order used by Files.walkFileTree()
+			List<Object> entries = new ArrayList<>();
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory)) {
+				for (Path entry : stream) {
+					visit(entry, entries);
+				}
+			}
+			catch (DirectoryIteratorException ex) {
+				visitDirectoryFailed(this.directory, ex.getCause());
+			}
+			catch (IOException ex) {
+				visitFileFailed(this.directory, ex);
+			}
+			List<Path> files = new ArrayList<>(entries.size());
+			for (Object entry : entries) {
+				if (entry instanceof DirectoryTask) {
+					files.addAll(((DirectoryTask) entry).join());
+				}
+				else {
+					files.add((Path) entry);
+				}
+			}
+			return files;
+		}
+
+		private void visit(Path entry, List<Object> entries) {
+			BasicFileAttributes attributes;
+			try {
+				attributes = Files.readAttributes(entry, BasicFileAttributes.class, NOFOLLOW_LINKS);
+			}
+			catch (IOException ex) {
+				visitFileFailed(entry, ex);
+				return;
+			}
+			if (attributes.isDirectory()) {
+				DirectoryTask task = new DirectoryTask(entry);
+				task.fork();
+				entries.add(task);
+			}
+			else if (filter.test(entry)) {
+				entries.add(entry);
+			}
+		}
+	}
+
+}
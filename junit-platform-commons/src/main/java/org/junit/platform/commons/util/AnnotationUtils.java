@@ -22,6 +22,7 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
@@ -31,9 +32,11 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -67,6 +70,24 @@ public final class AnnotationUtils {
 	private static final ConcurrentHashMap<Class<? extends Annotation>, Boolean> repeatableAnnotationContainerCache = //
 		new ConcurrentHashMap<>(16);
 
+	/**
+	 * Cache for the results of {@link #findAnnotation(AnnotatedElement, Class)}
+	 * for classes and their members, including absent annotations.
+	 * <p>Since cached annotations and elements reference their classes, a
+	 * {@link ClassValue} keyed by the declaring class is used so that the cache
+	 * does not prevent classes from being unloaded. Results are only cached if
+	 * the annotation type is loaded by the class loader of the declaring class
+	 * or one of its ancestors, since the cache would otherwise prevent the
+	 * class loader of the annotation type from being garbage collected.
+	 * @since 1.13
+	 * @see #findCachedAnnotation(Class, AnnotatedElement, Class)
+	 */
+	private static final AnnotationCache annotationCache = new AnnotationCache();
+
+	private static final LongAdder annotationCacheHits = new LongAdder();
+
+	private static final LongAdder annotationCacheMisses = new LongAdder();
+
 	/**
 	 * Determine if an annotation of {@code annotationType} is either
 	 * <em>present</em> or <em>meta-present</em> on the supplied optional
@@ -133,10 +154,100 @@ public final class AnnotationUtils {
 	 */
 	public static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType) {
 		Preconditions.notNull(annotationType, "annotationType must not be null");
+		Class<?> declaringClass = getCacheKeyClass(element);
+		if (declaringClass == null || !isLoadedByAncestorClassLoader(annotationType, declaringClass)) {
+			return findAnnotationUncached(element, annotationType);
+		}
+		return findCachedAnnotation(declaringClass, element, annotationType);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <A extends Annotation> Optional<A> findCachedAnnotation(Class<?> declaringClass,
+			AnnotatedElement element, Class<A> annotationType) {
+
+		Map<Class<? extends Annotation>, Optional<?>> annotations = annotationCache.get(declaringClass) //
+				.computeIfAbsent(element, key -> new ConcurrentHashMap<>(4));
+		Optional<A> cachedAnnotation = (Optional<A>) annotations.get(annotationType);
+		if (cachedAnnotation != null) {
+			annotationCacheHits.increment();
+			return cachedAnnotation;
+		}
+		annotationCacheMisses.increment();
+		Optional<A> annotation = findAnnotationUncached(element, annotationType);
+		Optional<A> previousAnnotation = (Optional<A>) annotations.putIfAbsent(annotationType, annotation);
+		return previousAnnotation != null ? previousAnnotation : annotation;
+	}
+
+	private static <A extends Annotation> Optional<A> findAnnotationUncached(AnnotatedElement element,
+			Class<A> annotationType) {
+
 		boolean inherited = annotationType.isAnnotationPresent(Inherited.class);
 		return findAnnotation(element, annotationType, inherited, new HashSet<>());
 	}
 
+	/**
+	 * Get the class whose {@linkplain #annotationCache cache} holds the results
+	 * for the supplied element.
+	 *
+	 * @return the class or {@code null} if results for the supplied element
+	 * must not be cached, e.g. since it's not a class, member, or parameter
+	 */
+	private static Class<?> getCacheKeyClass(AnnotatedElement element) {
+		if (element instanceof Class) {
+			return (Class<?>) element;
+		}
+		if (element instanceof Member) {
+			return ((Member) element).getDeclaringClass();
+		}
+		if (element instanceof Parameter) {
+			return ((Parameter) element).getDeclaringExecutable().getDeclaringClass();
+		}
+		return null;
+	}
+
+	/**
+	 * Determine whether the supplied annotation type is loaded by the class
+	 * loader of the supplied declaring class or one of its ancestors.
+	 */
+	private static boolean isLoadedByAncestorClassLoader(Class<? extends Annotation> annotationType,
+			Class<?> declaringClass) {
+
+		ClassLoader annotationClassLoader = annotationType.getClassLoader();
+		if (annotationClassLoader == null) {
+			return true;
+		}
+		ClassLoader classLoader = declaringClass.getClassLoader();
+		while (classLoader != null) {
+			if (classLoader == annotationClassLoader) {
+				return true;
+			}
+			classLoader = classLoader.getParent();
+		}
+		return false;
+	}
+
+	/**
+	 * Get the number of invocations of {@link #findAnnotation(AnnotatedElement, Class)}
+	 * whose result was found in the cache.
+	 *
+	 * @since 1.13
+	 * @see #getAnnotationCacheMisses()
+	 */
+	public static long getAnnotationCacheHits() {
+		return annotationCacheHits.sum();
+	}
+
+	/**
+	 * Get the number of invocations of {@link #findAnnotation(AnnotatedElement, Class)}
+	 * whose result had to be computed and was then added to the cache.
+	 *
+	 * @since 1.13
+	 * @see #getAnnotationCacheHits()
+	 */
+	public static long getAnnotationCacheMisses() {
+		return annotationCacheMisses.sum();
+	}
+
 	private static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType,
 			boolean inherited, Set<Annotation> visited) {
 
@@ -503,4 +614,17 @@ public final class AnnotationUtils {
 		return (annotationType != null && annotationType.getName().startsWith("java.lang.annotation"));
 	}
 
+	/**
+	 * @since 1.13
+	 * @see #annotationCache
+	 */
+	private static class AnnotationCache
+			extends ClassValue<Map<AnnotatedElement, Map<Class<? extends Annotation>, Optional<?>>>> {
+
+		@Override
+		protected Map<AnnotatedElement, Map<Class<? extends Annotation>, Optional<?>>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	}
+
 }
@@ -12,6 +12,7 @@ package org.junit.platform.commons.util;
 
 import static java.lang.String.format;
 import static java.util.Collections.synchronizedMap;
+import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
@@ -52,6 +53,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -145,6 +147,16 @@ public final class ReflectionUtils {
 	 */
 	private static final Map<Method, Method> interfaceMethodCache = synchronizedMap(new LruCache<>(255));
 
+	/**
+	 * Cache for sorted members and resolved member hierarchies of classes.
+	 * <p>Since cached members reference their declaring classes, a
+	 * {@link ClassValue} is used instead of a map with weak keys so that the
+	 * cache does not prevent classes from being unloaded.
+	 * @since 1.13
+	 * @see #getCachedMembers(Class, MemberCacheKey, Function)
+	 */
+	private static final MemberCache memberCache = new MemberCache();
+
 	/**
 	 * Set of fully qualified class names for which no cycles have been detected
 	 * in inner class hierarchies.
@@ -1396,6 +1408,15 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		if (useLegacySearchSemantics) {
+			return computeAllFieldsInHierarchy(clazz, traversalMode);
+		}
+		MemberCacheKey cacheKey = traversalMode == TOP_DOWN ? MemberCacheKey.FIELDS_IN_HIERARCHY_TOP_DOWN
+				: MemberCacheKey.FIELDS_IN_HIERARCHY_BOTTOM_UP;
+		return getCachedMembers(clazz, cacheKey, type -> computeAllFieldsInHierarchy(type, traversalMode));
+	}
+
+	private static List<Field> computeAllFieldsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		List<Field> localFields = getDeclaredFields(clazz).stream()
 				.filter(field -> !field.isSynthetic())
@@ -1687,6 +1708,15 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		if (useLegacySearchSemantics) {
+			return computeAllMethodsInHierarchy(clazz, traversalMode);
+		}
+		MemberCacheKey cacheKey = traversalMode == TOP_DOWN ? MemberCacheKey.METHODS_IN_HIERARCHY_TOP_DOWN
+				: MemberCacheKey.METHODS_IN_HIERARCHY_BOTTOM_UP;
+		return getCachedMembers(clazz, cacheKey, type -> computeAllMethodsInHierarchy(type, traversalMode));
+	}
+
+	private static List<Method> computeAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		List<Method> localMethods = getDeclaredMethods(clazz, traversalMode).stream()
 				.filter(method -> !method.isSynthetic())
@@ -1712,39 +1742,71 @@ public final class ReflectionUtils {
 		return methods;
 	}
 
+	/**
+	 * Get the cached, unmodifiable list of members for the supplied class and
+	 * key or compute and cache it using the supplied function.
+	 *
+	 * <p>The function may look up other cached members but must not be
+	 * called concurrently with itself for the same class and key; in case of
+	 * a race, the list computed first is retained.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> getCachedMembers(Class<?> clazz, MemberCacheKey key,
+			Function<Class<?>, List<T>> function) {
+		Map<MemberCacheKey, List<?>> members = memberCache.get(clazz);
+		List<T> cachedMembers = (List<T>) members.get(key);
+		if (cachedMembers == null) {
+			// Not using computeIfAbsent() since the function may recursively
+			// look up other members of the same class.
+			List<T> computedMembers = unmodifiableList(function.apply(clazz));
+			cachedMembers = (List<T>) members.putIfAbsent(key, computedMembers);
+			if (cachedMembers == null) {
+				cachedMembers = computedMembers;
+			}
+		}
+		return cachedMembers;
+	}
+
 	/**
 	 * Custom alternative to {@link Class#getFields()} that sorts the fields
-	 * and converts them to a mutable list.
+	 * and caches them in an unmodifiable list.
 	 */
 	private static List<Field> getFields(Class<?> clazz) {
-		return toSortedMutableList(clazz.getFields());
+		return getCachedMembers(clazz, MemberCacheKey.FIELDS, type -> toSortedMutableList(type.getFields()));
 	}
 
 	/**
 	 * Custom alternative to {@link Class#getDeclaredFields()} that sorts the
-	 * fields and converts them to a mutable list.
+	 * fields and caches them in an unmodifiable list.
 	 */
 	private static List<Field> getDeclaredFields(Class<?> clazz) {
-		return toSortedMutableList(clazz.getDeclaredFields());
+		return getCachedMembers(clazz, MemberCacheKey.DECLARED_FIELDS,
+			type -> toSortedMutableList(type.getDeclaredFields()));
 	}
 
 	/**
 	 * Custom alternative to {@link Class#getMethods()} that sorts the methods
-	 * and converts them to a mutable list.
+	 * and caches them in an unmodifiable list.
 	 */
 	private static List<Method> getMethods(Class<?> clazz) {
-		return toSortedMutableList(clazz.getMethods());
+		return getCachedMembers(clazz, MemberCacheKey.METHODS, type -> toSortedMutableList(type.getMethods()));
 	}
 
 	/**
 	 * Custom alternative to {@link Class#getDeclaredMethods()} that sorts the
-	 * methods and converts them to a mutable list.
+	 * methods and caches them in an unmodifiable list.
 	 *
 	 * <p>In addition, the list returned by this method includes interface
 	 * default methods which are either prepended or appended to the list of
 	 * declared methods depending on the supplied traversal mode.
 	 */
 	private static List<Method> getDeclaredMethods(Class<?> clazz, HierarchyTraversalMode traversalMode) {
+		MemberCacheKey cacheKey = traversalMode == TOP_DOWN ? MemberCacheKey.DECLARED_METHODS_TOP_DOWN
+				: MemberCacheKey.DECLARED_METHODS_BOTTOM_UP;
+		return getCachedMembers(clazz, cacheKey, type -> computeDeclaredMethods(type, traversalMode));
+	}
+
+	private static List<Method> computeDeclaredMethods(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// Note: getDefaultMethods() already sorts the methods,
 		List<Method> defaultMethods = getDefaultMethods(clazz);
 		List<Method> declaredMethods = toSortedMutableList(clazz.getDeclaredMethods());
@@ -2051,6 +2113,28 @@ public final class ReflectionUtils {
 		return t;
 	}
 
+	/**
+	 * @since 1.13
+	 * @see #memberCache
+	 */
+	private static class MemberCache extends ClassValue<Map<MemberCacheKey, List<?>>> {
+
+		@Override
+		protected Map<MemberCacheKey, List<?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	}
+
+	/**
+	 * Keys of the {@linkplain #memberCache member cache}.
+	 * @since 1.13
+	 */
+	private enum MemberCacheKey {
+		FIELDS, DECLARED_FIELDS, METHODS, DECLARED_METHODS_TOP_DOWN, DECLARED_METHODS_BOTTOM_UP,
+		FIELDS_IN_HIERARCHY_TOP_DOWN, FIELDS_IN_HIERARCHY_BOTTOM_UP, METHODS_IN_HIERARCHY_TOP_DOWN,
+		METHODS_IN_HIERARCHY_BOTTOM_UP
+	}
+
 	private static boolean getLegacySearchSemanticsFlag() {
 		String rawValue = System.getProperty(USE_LEGACY_SEARCH_SEMANTICS_PROPERTY_NAME);
 		if (StringUtils.isBlank(rawValue)) {
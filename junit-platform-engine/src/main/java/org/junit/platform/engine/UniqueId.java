@@ -10,19 +10,25 @@
 
 package org.junit.platform.engine;
 
-import static java.util.Collections.singletonList;
+import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedMap;
 import static java.util.Collections.unmodifiableList;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.LruCache;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ToStringBuilder;
 
@@ -32,6 +38,10 @@ import org.junit.platform.commons.util.ToStringBuilder;
  *
  * <p>Instances of this class have value semantics and are immutable.
  *
+ * @implNote Each {@code UniqueId} only stores its last {@link Segment} and a
+ * reference to the {@code UniqueId} of its parent so that unique IDs created
+ * by {@linkplain #append appending} segments share their common prefix.
+ *
  * @since 1.0
  */
 @API(status = STABLE, since = "1.0")
@@ -39,8 +49,21 @@ public class UniqueId implements Cloneable, Serializable {
 
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * The fields {@code UniqueId} had prior to 1.13.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("uniqueIdFormat", UniqueIdFormat.class),
+			new ObjectStreamField("segments", List.class) };
+
 	private static final String ENGINE_SEGMENT_TYPE = "engine";
 
+	/**
+	 * Recently parsed unique IDs since the same string representations are
+	 * often parsed repeatedly, e.g. when looking up test identifiers.
+	 */
+	private static final Map<String, UniqueId> parsedUniqueIds = synchronizedMap(new LruCache<>(1023));
+
 	/**
 	 * Parse a {@code UniqueId} from the supplied string representation using the
 	 * default format.
@@ -51,7 +74,12 @@ public class UniqueId implements Cloneable, Serializable {
 	 */
 	public static UniqueId parse(String uniqueId) throws JUnitException {
 		Preconditions.notBlank(uniqueId, "Unique ID string must not be null or blank");
-		return UniqueIdFormat.getDefault().parse(uniqueId);
+		UniqueId result = parsedUniqueIds.get(uniqueId);
+		if (result == null) {
+			result = UniqueIdFormat.getDefault().parse(uniqueId);
+			parsedUniqueIds.put(uniqueId, result);
+		}
+		return result;
 	}
 
 	/**
@@ -81,35 +109,43 @@ public class UniqueId implements Cloneable, Serializable {
 		return new UniqueId(UniqueIdFormat.getDefault(), new Segment(segmentType, value));
 	}
 
-	private final UniqueIdFormat uniqueIdFormat;
-
-	@SuppressWarnings({ "serial", "RedundantSuppression" }) // always used with serializable implementation (singletonList() or ArrayList)
-	private final List<Segment> segments;
+	// These are effectively final but not technically due to late initialization when deserializing
+	private /* final */ UniqueIdFormat uniqueIdFormat;
+	private /* final */ UniqueId parent;
+	private /* final */ Segment lastSegment;
+	private /* final */ int size;
 
 	// lazily computed
 	private transient int hashCode;
 
 	// lazily computed
-	private transient SoftReference<String> toString;
+	private transient String toString;
 
-	private UniqueId(UniqueIdFormat uniqueIdFormat, Segment segment) {
-		this(uniqueIdFormat, singletonList(segment));
+	UniqueId(UniqueIdFormat uniqueIdFormat, Segment segment) {
+		this(uniqueIdFormat, null, segment);
 	}
 
-	/**
-	 * Initialize a {@code UniqueId} instance.
-	 *
-	 * @implNote A defensive copy of the segment list is <b>not</b> created by
-	 * this implementation. All callers should immediately drop the reference
-	 * to the list instance that they pass into this constructor.
-	 */
-	UniqueId(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
+	private UniqueId(UniqueIdFormat uniqueIdFormat, UniqueId parent, Segment lastSegment) {
 		this.uniqueIdFormat = uniqueIdFormat;
-		this.segments = segments;
+		this.parent = parent;
+		this.lastSegment = lastSegment;
+		this.size = parent == null ? 1 : parent.size + 1;
+	}
+
+	private static UniqueId createParent(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
+		UniqueId parent = null;
+		for (int i = 0; i < segments.size() - 1; i++) {
+			parent = new UniqueId(uniqueIdFormat, parent, segments.get(i));
+		}
+		return parent;
 	}
 
 	final Optional<Segment> getRoot() {
-		return this.segments.isEmpty() ? Optional.empty() : Optional.of(this.segments.get(0));
+		UniqueId root = this;
+		while (root.parent != null) {
+			root = root.parent;
+		}
+		return Optional.of(root.lastSegment);
 	}
 
 	/**
@@ -126,7 +162,13 @@ public class UniqueId implements Cloneable, Serializable {
 	 * {@code UniqueId}.
 	 */
 	public final List<Segment> getSegments() {
-		return unmodifiableList(this.segments);
+		Segment[] segments = new Segment[this.size];
+		UniqueId current = this;
+		for (int i = this.size - 1; i >= 0; i--) {
+			segments[i] = current.lastSegment;
+			current = current.parent;
+		}
+		return unmodifiableList(asList(segments));
 	}
 
 	/**
@@ -160,10 +202,7 @@ public class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public final UniqueId append(Segment segment) {
 		Preconditions.notNull(segment, "segment must not be null");
-		List<Segment> baseSegments = new ArrayList<>(this.segments.size() + 1);
-		baseSegments.addAll(this.segments);
-		baseSegments.add(segment);
-		return new UniqueId(this.uniqueIdFormat, baseSegments);
+		return new UniqueId(this.uniqueIdFormat, this, segment);
 	}
 
 	/**
@@ -195,9 +234,14 @@ public class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public boolean hasPrefix(UniqueId potentialPrefix) {
 		Preconditions.notNull(potentialPrefix, "potentialPrefix must not be null");
-		int size = this.segments.size();
-		int prefixSize = potentialPrefix.segments.size();
-		return size >= prefixSize && this.segments.subList(0, prefixSize).equals(potentialPrefix.segments);
+		if (this.size < potentialPrefix.size) {
+			return false;
+		}
+		UniqueId candidate = this;
+		while (candidate.size > potentialPrefix.size) {
+			candidate = candidate.parent;
+		}
+		return candidate.equals(potentialPrefix);
 	}
 
 	/**
@@ -213,8 +257,8 @@ public class UniqueId implements Cloneable, Serializable {
 	 */
 	@API(status = STABLE, since = "1.5")
 	public UniqueId removeLastSegment() {
-		Preconditions.condition(this.segments.size() > 1, "Cannot remove last remaining segment");
-		return new UniqueId(uniqueIdFormat, new ArrayList<>(this.segments.subList(0, this.segments.size() - 1)));
+		Preconditions.condition(this.size > 1, "Cannot remove last remaining segment");
+		return this.parent;
 	}
 
 	/**
@@ -225,7 +269,7 @@ public class UniqueId implements Cloneable, Serializable {
 	 */
 	@API(status = STABLE, since = "1.5")
 	public Segment getLastSegment() {
-		return this.segments.get(this.segments.size() - 1);
+		return this.lastSegment;
 	}
 
 	@Override
@@ -243,14 +287,27 @@ public class UniqueId implements Cloneable, Serializable {
 		}
 
 		UniqueId that = (UniqueId) o;
-		return this.segments.equals(that.segments);
+		if (this.size != that.size) {
+			return false;
+		}
+		UniqueId left = this;
+		UniqueId right = that;
+		// unique IDs created by appending to the same parent share their prefix
+		while (left != right) {
+			if (!left.lastSegment.equals(right.lastSegment)) {
+				return false;
+			}
+			left = left.parent;
+			right = right.parent;
+		}
+		return true;
 	}
 
 	@Override
 	public int hashCode() {
 		int value = this.hashCode;
 		if (value == 0) {
-			value = this.segments.hashCode();
+			value = 31 * (this.parent == null ? 1 : this.parent.hashCode()) + this.lastSegment.hashCode();
 			if (value == 0) {
 				// handle the edge case of the computed hashCode being 0
 				value = 1;
@@ -273,10 +330,12 @@ public class UniqueId implements Cloneable, Serializable {
 	 */
 	@Override
 	public String toString() {
-		SoftReference<String> s = this.toString;
-		String value = s == null ? null : s.get();
+		String value = this.toString;
 		if (value == null) {
-			value = this.uniqueIdFormat.format(this);
+			String formattedParent = this.parent == null ? null : this.parent.toString;
+			value = formattedParent == null //
+					? this.uniqueIdFormat.format(this) //
+					: this.uniqueIdFormat.format(formattedParent, this.lastSegment);
 			// this is a benign race like String#hash
 			// we potentially read and write values from multiple threads
 			// without a happens-before relationship
@@ -284,11 +343,38 @@ public class UniqueId implements Cloneable, Serializable {
 			// that were valid at one point, either null or the toString value
 			// so we might end up not seeing a value that a different thread
 			// has computed or multiple threads writing the same value
-			this.toString = new SoftReference<>(value);
+			this.toString = value;
 		}
 		return value;
 	}
 
+	/**
+	 * Cache the supplied string representation which must be equal to the
+	 * one that would be computed by {@link #toString()}.
+	 */
+	void cacheToString(String value) {
+		this.toString = value;
+	}
+
+	private void writeObject(ObjectOutputStream s) throws IOException {
+		ObjectOutputStream.PutField fields = s.putFields();
+		fields.put("uniqueIdFormat", this.uniqueIdFormat);
+		fields.put("segments", new ArrayList<>(getSegments()));
+		s.writeFields();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream s) throws ClassNotFoundException, IOException {
+		ObjectInputStream.GetField fields = s.readFields();
+		UniqueIdFormat uniqueIdFormat = (UniqueIdFormat) fields.get("uniqueIdFormat", null);
+		List<Segment> segments = (List<Segment>) fields.get("segments", null);
+		Preconditions.notEmpty(segments, "segments must not be null or empty");
+		this.uniqueIdFormat = uniqueIdFormat;
+		this.parent = createParent(uniqueIdFormat, segments);
+		this.lastSegment = segments.get(segments.size() - 1);
+		this.size = segments.size();
+	}
+
 	/**
 	 * A segment of a {@link UniqueId} comprises a <em>type</em> and a
 	 * <em>value</em>.
@@ -298,6 +384,27 @@ public class UniqueId implements Cloneable, Serializable {
 
 		private static final long serialVersionUID = 1L;
 
+		/**
+		 * Upper bound for the number of interned segment types which are
+		 * usually limited to a handful like {@code "class"} and
+		 * {@code "method"}.
+		 */
+		private static final int MAX_INTERNED_TYPES = 1024;
+
+		private static final Map<String, String> internedTypes = new ConcurrentHashMap<>();
+
+		private static String intern(String type) {
+			String internedType = internedTypes.get(type);
+			if (internedType != null) {
+				return internedType;
+			}
+			if (internedTypes.size() >= MAX_INTERNED_TYPES) {
+				return type;
+			}
+			internedType = internedTypes.putIfAbsent(type, type);
+			return internedType == null ? type : internedType;
+		}
+
 		private final String type;
 		private final String value;
 
@@ -311,7 +418,7 @@ public class UniqueId implements Cloneable, Serializable {
 		Segment(String type, String value) {
 			Preconditions.notBlank(type, "type must not be null or blank");
 			Preconditions.notBlank(value, "value must not be null or blank");
-			this.type = type;
+			this.type = intern(type);
 			this.value = value;
 		}
 
@@ -331,7 +438,8 @@ public class UniqueId implements Cloneable, Serializable {
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(this.type, this.value);
+			// same as Objects.hash(this.type, this.value) without allocating an array
+			return 31 * (31 + this.type.hashCode()) + this.value.hashCode();
 		}
 
 		@Override
@@ -344,7 +452,11 @@ public class UniqueId implements Cloneable, Serializable {
 			}
 
 			Segment that = (Segment) o;
-			return Objects.equals(this.type, that.type) && Objects.equals(this.value, that.value);
+			return this.type.equals(that.type) && this.value.equals(that.value);
+		}
+
+		private Object readResolve() {
+			return new Segment(this.type, this.value);
 		}
 
 		@Override
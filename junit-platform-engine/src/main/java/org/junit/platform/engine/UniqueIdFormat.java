@@ -10,18 +10,13 @@
 
 package org.junit.platform.engine;
 
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
-
 import java.io.Serializable;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.junit.platform.commons.JUnitException;
@@ -61,6 +56,7 @@ class UniqueIdFormat implements Serializable {
 	private final char closeSegment;
 	private final char segmentDelimiter;
 	private final char typeValueSeparator;
+	// no longer used for parsing but retained for serialization compatibility
 	private final Pattern segmentPattern;
 	private final HashMap<Character, String> encodedCharacterMap = new HashMap<>();
 
@@ -91,18 +87,43 @@ class UniqueIdFormat implements Serializable {
 	 * @throws JUnitException if the string cannot be parsed
 	 */
 	UniqueId parse(String source) throws JUnitException {
-		String[] parts = source.split(String.valueOf(this.segmentDelimiter));
-		List<Segment> segments = Arrays.stream(parts).map(this::createSegment).collect(toList());
-		return new UniqueId(this, segments);
+		// Like String.split(), trailing delimiters are ignored
+		int end = source.length();
+		while (end > 0 && source.charAt(end - 1) == this.segmentDelimiter) {
+			end--;
+		}
+		UniqueId uniqueId = null;
+		int start = 0;
+		do {
+			int delimiterIndex = source.indexOf(this.segmentDelimiter, start);
+			int segmentEnd = delimiterIndex < 0 || delimiterIndex > end ? end : delimiterIndex;
+			Segment segment = createSegment(source, start, segmentEnd);
+			uniqueId = uniqueId == null ? new UniqueId(this, segment) : uniqueId.append(segment);
+			start = segmentEnd + 1;
+		} while (start < end);
+		if (end == source.length() && source.indexOf('%') < 0 && source.indexOf('+') < 0) {
+			// nothing was decoded so formatting would yield the same string
+			uniqueId.cacheToString(source);
+		}
+		return uniqueId;
 	}
 
-	private Segment createSegment(String segmentString) throws JUnitException {
-		Matcher segmentMatcher = this.segmentPattern.matcher(segmentString);
-		if (!segmentMatcher.matches()) {
-			throw new JUnitException(String.format("'%s' is not a well-formed UniqueId segment", segmentString));
+	/**
+	 * Create a segment from the characters between {@code start} (inclusive)
+	 * and {@code end} (exclusive) of the supplied source.
+	 *
+	 * <p>Equivalent to matching {@code [(.+):(.+)]} where the type is the
+	 * longest possible match.
+	 */
+	private Segment createSegment(String source, int start, int end) throws JUnitException {
+		int separatorIndex = end - start < 5 ? -1 : source.lastIndexOf(this.typeValueSeparator, end - 3);
+		if (separatorIndex < start + 2 || source.charAt(start) != this.openSegment
+				|| source.charAt(end - 1) != this.closeSegment) {
+			throw new JUnitException(
+				String.format("'%s' is not a well-formed UniqueId segment", source.substring(start, end)));
 		}
-		String type = decode(checkAllowed(segmentMatcher.group(1)));
-		String value = decode(checkAllowed(segmentMatcher.group(2)));
+		String type = decode(checkAllowed(source.substring(start + 1, separatorIndex)));
+		String value = decode(checkAllowed(source.substring(separatorIndex + 1, end - 1)));
 		return new Segment(type, value);
 	}
 
@@ -123,33 +144,72 @@ class UniqueIdFormat implements Serializable {
 	 * Format and return the string representation of the supplied {@code UniqueId}.
 	 */
 	String format(UniqueId uniqueId) {
-		// @formatter:off
-		return uniqueId.getSegments().stream()
-			.map(this::describe)
-			.collect(joining(String.valueOf(this.segmentDelimiter)));
-		// @formatter:on
+		List<Segment> segments = uniqueId.getSegments();
+		StringBuilder builder = new StringBuilder(estimateLength(segments));
+		for (int i = 0; i < segments.size(); i++) {
+			if (i > 0) {
+				builder.append(this.segmentDelimiter);
+			}
+			describe(segments.get(i), builder);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Format and return the string representation of a {@code UniqueId}
+	 * consisting of the parent with the supplied, already formatted string
+	 * representation and the supplied last segment.
+	 */
+	String format(String formattedParent, Segment lastSegment) {
+		StringBuilder builder = new StringBuilder(
+			formattedParent.length() + 1 + estimateLength(lastSegment.getType(), lastSegment.getValue()));
+		builder.append(formattedParent).append(this.segmentDelimiter);
+		describe(lastSegment, builder);
+		return builder.toString();
+	}
+
+	private static int estimateLength(List<Segment> segments) {
+		int length = segments.size() - 1;
+		for (Segment segment : segments) {
+			length += estimateLength(segment.getType(), segment.getValue());
+		}
+		return length;
+	}
+
+	private static int estimateLength(String type, String value) {
+		// brackets and separator; encoded characters may need more
+		return type.length() + value.length() + 3;
 	}
 
-	private String describe(Segment segment) {
-		String body = encode(segment.getType()) + typeValueSeparator + encode(segment.getValue());
-		return openSegment + body + closeSegment;
+	private void describe(Segment segment, StringBuilder builder) {
+		builder.append(this.openSegment);
+		encode(segment.getType(), builder);
+		builder.append(this.typeValueSeparator);
+		encode(segment.getValue(), builder);
+		builder.append(this.closeSegment);
 	}
 
-	private String encode(String s) {
-		StringBuilder builder = new StringBuilder(s.length());
+	private void encode(String s, StringBuilder builder) {
 		for (int i = 0; i < s.length(); i++) {
 			char c = s.charAt(i);
-			String value = encodedCharacterMap.get(c);
-			if (value == null) {
+			if (isEncoded(c)) {
+				builder.append(this.encodedCharacterMap.get(c));
+			}
+			else {
 				builder.append(c);
-				continue;
 			}
-			builder.append(value);
 		}
-		return builder.toString();
+	}
+
+	private boolean isEncoded(char c) {
+		return c == '%' || c == '+' || c == this.openSegment || c == this.typeValueSeparator
+				|| c == this.closeSegment || c == this.segmentDelimiter;
 	}
 
 	private static String decode(String s) {
+		if (s.indexOf('%') < 0 && s.indexOf('+') < 0) {
+			return s;
+		}
 		try {
 			return URLDecoder.decode(s, StandardCharsets.UTF_8.name());
 		}
@@ -11,15 +11,18 @@
 package org.junit.platform.engine.support.discovery;
 
 import static java.util.stream.Collectors.toSet;
-import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInClasspathRoot;
-import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInModule;
-import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInPackage;
+import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInClasspathRoot;
+import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInModule;
+import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInPackage;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.selectors;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.unresolved;
 
+import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
+import org.junit.platform.commons.support.scanning.ClassFilter;
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.discovery.ModuleSelector;
@@ -30,27 +33,26 @@ import org.junit.platform.engine.discovery.PackageSelector;
  */
 class ClassContainerSelectorResolver implements SelectorResolver {
 
-	private final Predicate<Class<?>> classFilter;
-	private final Predicate<String> classNameFilter;
+	private final ClassFilter classFilter;
 
-	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Predicate<String> classNameFilter) {
-		this.classFilter = classFilter;
-		this.classNameFilter = classNameFilter;
+	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Predicate<String> classNameFilter,
+			Collection<Class<? extends Annotation>> markerAnnotations) {
+		this.classFilter = ClassFilter.of(classNameFilter, classFilter).withMarkerAnnotations(markerAnnotations);
 	}
 
 	@Override
 	public Resolution resolve(ClasspathRootSelector selector, Context context) {
-		return classSelectors(findAllClassesInClasspathRoot(selector.getClasspathRoot(), classFilter, classNameFilter));
+		return classSelectors(findAllClassesInClasspathRoot(selector.getClasspathRoot(), classFilter));
 	}
 
 	@Override
 	public Resolution resolve(ModuleSelector selector, Context context) {
-		return classSelectors(findAllClassesInModule(selector.getModuleName(), classFilter, classNameFilter));
+		return classSelectors(findAllClassesInModule(selector.getModuleName(), classFilter));
 	}
 
 	@Override
 	public Resolution resolve(PackageSelector selector, Context context) {
-		return classSelectors(findAllClassesInPackage(selector.getPackageName(), classFilter, classNameFilter));
+		return classSelectors(findAllClassesInPackage(selector.getPackageName(), classFilter));
 	}
 
 	private Resolution classSelectors(List<Class<?>> classes) {
@@ -10,23 +10,28 @@
 
 package org.junit.platform.engine.support.discovery;
 
+import static java.util.Comparator.comparingLong;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.SelectorResolutionResult.failed;
 import static org.junit.platform.engine.SelectorResolutionResult.resolved;
 import static org.junit.platform.engine.SelectorResolutionResult.unresolved;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayDeque;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
@@ -62,25 +67,37 @@ class EngineDiscoveryRequestResolution {
 	private final List<SelectorResolver> resolvers;
 	private final List<TestDescriptor.Visitor> visitors;
 	private final TestDescriptor engineDescriptor;
-	private final Map<DiscoverySelector, Resolution> resolvedSelectors = new LinkedHashMap<>();
-	private final Map<UniqueId, Match> resolvedUniqueIds = new LinkedHashMap<>();
+	private final Map<DiscoverySelector, Resolution> resolvedSelectors = new ConcurrentHashMap<>();
+	private final Map<UniqueId, Match> resolvedUniqueIds = new ConcurrentHashMap<>();
 	private final Queue<DiscoverySelector> remainingSelectors = new ArrayDeque<>();
-	private final Map<DiscoverySelector, Context> contextBySelector = new HashMap<>();
+	private final Map<DiscoverySelector, Context> contextBySelector = new ConcurrentHashMap<>();
+	private final ParallelResolution parallelResolution;
 
 	EngineDiscoveryRequestResolution(EngineDiscoveryRequest request, TestDescriptor engineDescriptor,
 			List<SelectorResolver> resolvers, List<TestDescriptor.Visitor> visitors) {
+		this(request, engineDescriptor, resolvers, visitors, false);
+	}
+
+	EngineDiscoveryRequestResolution(EngineDiscoveryRequest request, TestDescriptor engineDescriptor,
+			List<SelectorResolver> resolvers, List<TestDescriptor.Visitor> visitors, boolean parallel) {
 		this.request = request;
 		this.engineDescriptor = engineDescriptor;
 		this.resolvers = resolvers;
 		this.visitors = visitors;
 		this.defaultContext = new DefaultContext(null);
 		this.resolvedUniqueIds.put(engineDescriptor.getUniqueId(), Match.exact(engineDescriptor));
+		this.parallelResolution = parallel ? new ParallelResolution() : null;
 	}
 
 	void run() {
 		remainingSelectors.addAll(request.getSelectorsByType(DiscoverySelector.class));
 		while (!remainingSelectors.isEmpty()) {
-			resolveCompletely(remainingSelectors.poll());
+			if (parallelResolution != null) {
+				parallelResolution.resolveRemainingSelectors();
+			}
+			else {
+				resolveCompletely(remainingSelectors.poll());
+			}
 		}
 		visitors.forEach(engineDescriptor::accept);
 	}
@@ -106,19 +123,25 @@ class EngineDiscoveryRequestResolution {
 
 	private void enqueueAdditionalSelectors(Resolution resolution) {
 		remainingSelectors.addAll(resolution.getSelectors());
-		resolution.getMatches().stream().filter(Match::isExact).forEach(match -> {
-			Set<? extends DiscoverySelector> childSelectors = match.expand();
-			if (!childSelectors.isEmpty()) {
-				remainingSelectors.addAll(childSelectors);
-				DefaultContext context = new DefaultContext(match.getTestDescriptor());
-				childSelectors.forEach(selector -> contextBySelector.put(selector, context));
-			}
-		});
+		resolution.getMatches().stream().filter(Match::isExact).forEach(
+			match -> enqueueChildSelectors(match, match.expand()));
+	}
+
+	private void enqueueChildSelectors(Match match, Set<? extends DiscoverySelector> childSelectors) {
+		if (!childSelectors.isEmpty()) {
+			remainingSelectors.addAll(childSelectors);
+			DefaultContext context = new DefaultContext(match.getTestDescriptor());
+			childSelectors.forEach(selector -> contextBySelector.put(selector, context));
+		}
 	}
 
 	private Optional<Resolution> resolve(DiscoverySelector selector) {
-		if (resolvedSelectors.containsKey(selector)) {
-			return Optional.of(resolvedSelectors.get(selector));
+		Resolution resolvedSelector = resolvedSelectors.get(selector);
+		if (resolvedSelector != null) {
+			if (parallelResolution != null) {
+				resolvedSelector.getMatches().forEach(match -> parallelResolution.touch(match.getTestDescriptor()));
+			}
+			return Optional.of(resolvedSelector);
 		}
 		if (selector instanceof UniqueIdSelector) {
 			return resolveUniqueId((UniqueIdSelector) selector);
@@ -167,8 +190,12 @@ class EngineDiscoveryRequestResolution {
 
 	private Optional<Resolution> resolveUniqueId(UniqueIdSelector selector) {
 		UniqueId uniqueId = selector.getUniqueId();
-		if (resolvedUniqueIds.containsKey(uniqueId)) {
-			return Optional.of(Resolution.match(resolvedUniqueIds.get(uniqueId)));
+		Match resolvedUniqueId = resolvedUniqueIds.get(uniqueId);
+		if (resolvedUniqueId != null) {
+			if (parallelResolution != null) {
+				parallelResolution.touch(resolvedUniqueId.getTestDescriptor());
+			}
+			return Optional.of(Resolution.match(resolvedUniqueId));
 		}
 		if (!uniqueId.hasPrefix(engineDescriptor.getUniqueId())) {
 			return Optional.empty();
@@ -250,8 +277,15 @@ class EngineDiscoveryRequestResolution {
 			Optional<T> child = creator.apply(parent);
 			if (child.isPresent()) {
 				UniqueId uniqueId = child.get().getUniqueId();
-				if (resolvedUniqueIds.containsKey(uniqueId)) {
-					return Optional.of((T) resolvedUniqueIds.get(uniqueId).getTestDescriptor());
+				Match resolvedUniqueId = resolvedUniqueIds.get(uniqueId);
+				if (resolvedUniqueId != null) {
+					if (parallelResolution != null) {
+						parallelResolution.touch(resolvedUniqueId.getTestDescriptor());
+					}
+					return Optional.of((T) resolvedUniqueId.getTestDescriptor());
+				}
+				if (parallelResolution != null) {
+					return Optional.of((T) parallelResolution.addChild(parent, child.get()));
 				}
 				parent.addChild(child.get());
 			}
@@ -260,4 +294,146 @@ class EngineDiscoveryRequestResolution {
 
 	}
 
+	/**
+	 * Resolves all remaining selectors concurrently and processes their
+	 * results in order.
+	 *
+	 * <p>Since the selectors enqueued while processing the results are
+	 * appended to the queue, this is equivalent to resolving them one after
+	 * another. To ensure the resulting tree of test descriptors does not
+	 * depend on the order in which they were actually resolved, the children
+	 * added to each parent while resolving the current selectors are
+	 * reordered according to the position of the first selector that created
+	 * or used them.
+	 */
+	private class ParallelResolution {
+
+		private final ThreadLocal<long[]> currentPosition = new ThreadLocal<>();
+		private final Map<UniqueId, TestDescriptor> addedDescriptors = new ConcurrentHashMap<>();
+		private final Map<UniqueId, Long> positions = new ConcurrentHashMap<>();
+		private final Map<TestDescriptor, Queue<TestDescriptor>> addedChildren = new ConcurrentHashMap<>();
+
+		void resolveRemainingSelectors() {
+			List<DiscoverySelector> selectors = new ArrayList<>(remainingSelectors);
+			remainingSelectors.clear();
+			ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+			// @formatter:off
+			List<Result> results = IntStream.range(0, selectors.size())
+					.parallel()
+					.mapToObj(index -> resolveCompletely(selectors.get(index), index, contextClassLoader))
+					.collect(toList());
+			// @formatter:on
+			reorderAddedChildren();
+			for (int i = 0; i < selectors.size(); i++) {
+				processResult(selectors.get(i), results.get(i));
+			}
+		}
+
+		private Result resolveCompletely(DiscoverySelector selector, int index, ClassLoader contextClassLoader) {
+			Thread thread = Thread.currentThread();
+			ClassLoader originalClassLoader = thread.getContextClassLoader();
+			thread.setContextClassLoader(contextClassLoader);
+			currentPosition.set(new long[] { ((long) index) << 32 });
+			Result result = new Result();
+			try {
+				result.resolution = resolve(selector);
+				if (result.resolution.isPresent()) {
+					for (Match match : result.resolution.get().getMatches()) {
+						if (match.isExact()) {
+							result.expandedMatches.add(new SimpleImmutableEntry<>(match, match.expand()));
+						}
+					}
+				}
+			}
+			catch (Throwable t) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+				result.failure = t;
+			}
+			finally {
+				currentPosition.remove();
+				thread.setContextClassLoader(originalClassLoader);
+			}
+			return result;
+		}
+
+		/**
+		 * Notify the discovery listener and enqueue additional selectors like
+		 * {@link EngineDiscoveryRequestResolution#resolveCompletely} does.
+		 */
+		private void processResult(DiscoverySelector selector, Result result) {
+			EngineDiscoveryListener discoveryListener = request.getDiscoveryListener();
+			UniqueId engineId = engineDescriptor.getUniqueId();
+			if (result.resolution == null) {
+				discoveryListener.selectorProcessed(engineId, selector, failed(result.failure));
+			}
+			else if (result.resolution.isPresent()) {
+				discoveryListener.selectorProcessed(engineId, selector, resolved());
+				remainingSelectors.addAll(result.resolution.get().getSelectors());
+				result.expandedMatches.forEach(entry -> enqueueChildSelectors(entry.getKey(), entry.getValue()));
+				if (result.failure != null) {
+					discoveryListener.selectorProcessed(engineId, selector, failed(result.failure));
+				}
+			}
+			else {
+				discoveryListener.selectorProcessed(engineId, selector, unresolved());
+			}
+		}
+
+		TestDescriptor addChild(TestDescriptor parent, TestDescriptor child) {
+			TestDescriptor existingChild = addedDescriptors.putIfAbsent(child.getUniqueId(), child);
+			if (existingChild != null) {
+				touch(existingChild);
+				return existingChild;
+			}
+			synchronized (parent) {
+				parent.addChild(child);
+			}
+			addedChildren.computeIfAbsent(parent, __ -> new ConcurrentLinkedQueue<>()).add(child);
+			touch(child);
+			return child;
+		}
+
+		/**
+		 * Record that the current selector created or used the supplied test
+		 * descriptor and, implicitly, its ancestors.
+		 */
+		void touch(TestDescriptor testDescriptor) {
+			long[] position = currentPosition.get();
+			if (position == null) {
+				return;
+			}
+			long value = position[0]++;
+			TestDescriptor current = testDescriptor;
+			while (current != null) {
+				positions.merge(current.getUniqueId(), value, Math::min);
+				current = current.getParent().orElse(null);
+			}
+		}
+
+		private void reorderAddedChildren() {
+			addedChildren.forEach((parent, children) -> {
+				List<TestDescriptor> sortedChildren = new ArrayList<>(children);
+				sortedChildren.sort(comparingLong(this::getPosition));
+				if (!sortedChildren.equals(new ArrayList<>(children))) {
+					sortedChildren.forEach(parent::removeChild);
+					sortedChildren.forEach(parent::addChild);
+				}
+			});
+			addedChildren.clear();
+			positions.clear();
+		}
+
+		private long getPosition(TestDescriptor testDescriptor) {
+			return positions.getOrDefault(testDescriptor.getUniqueId(), Long.MAX_VALUE);
+		}
+
+		private class Result {
+
+			private Optional<Resolution> resolution;
+			private final List<Map.Entry<Match, Set<? extends DiscoverySelector>>> expandedMatches = new ArrayList<>();
+			private Throwable failure;
+
+		}
+	}
+
 }
@@ -10,17 +10,21 @@
 
 package org.junit.platform.engine.support.discovery;
 
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toCollection;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.support.Resource;
+import org.junit.platform.commons.support.scanning.ClassFilter;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.EngineDiscoveryRequest;
@@ -54,13 +58,38 @@ import org.junit.platform.engine.support.discovery.SelectorResolver.Resolution;
 @API(status = STABLE, since = "1.10")
 public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 
+	/**
+	 * Property name used to enable concurrent resolution of selectors:
+	 * {@value}
+	 *
+	 * <p>Only has an effect if the engine has declared its resolvers to be
+	 * thread-safe via {@link Builder#allowParallelResolution()}. In that case,
+	 * all selectors that are currently enqueued are resolved concurrently in
+	 * the {@link java.util.concurrent.ForkJoinPool ForkJoinPool} of the
+	 * calling thread or the common pool. The results are processed in the
+	 * order of the selectors so that the resulting tree of test descriptors
+	 * and the notifications of
+	 * {@link org.junit.platform.engine.EngineDiscoveryListener
+	 * EngineDiscoveryListeners} are the same as when resolving them one after
+	 * another.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 1.13
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public static final String PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME = "junit.platform.discovery.parallel.enabled";
+
 	private final List<Function<InitializationContext<T>, SelectorResolver>> resolverCreators;
 	private final List<Function<InitializationContext<T>, TestDescriptor.Visitor>> visitorCreators;
+	private final boolean parallelResolutionAllowed;
 
 	private EngineDiscoveryRequestResolver(List<Function<InitializationContext<T>, SelectorResolver>> resolverCreators,
-			List<Function<InitializationContext<T>, TestDescriptor.Visitor>> visitorCreators) {
+			List<Function<InitializationContext<T>, TestDescriptor.Visitor>> visitorCreators,
+			boolean parallelResolutionAllowed) {
 		this.resolverCreators = new ArrayList<>(resolverCreators);
 		this.visitorCreators = new ArrayList<>(visitorCreators);
+		this.parallelResolutionAllowed = parallelResolutionAllowed;
 	}
 
 	/**
@@ -95,6 +124,12 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 	 *         </ol>
 	 *     </li>
 	 *     <li>
+	 *         If {@linkplain #PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME
+	 *         parallel resolution} is enabled, the previous step is applied
+	 *         to all enqueued selectors concurrently and the results are
+	 *         processed in the order in which the selectors were enqueued.
+	 *     </li>
+	 *     <li>
 	 *         Iterate over all registered {@linkplain TestDescriptor.Visitor
 	 *         visitors} and let the engine test descriptor {@linkplain
 	 *         TestDescriptor#accept(TestDescriptor.Visitor) accept} them.
@@ -113,7 +148,12 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 		InitializationContext<T> initializationContext = new DefaultInitializationContext<>(request, engineDescriptor);
 		List<SelectorResolver> resolvers = instantiate(resolverCreators, initializationContext);
 		List<TestDescriptor.Visitor> visitors = instantiate(visitorCreators, initializationContext);
-		new EngineDiscoveryRequestResolution(request, engineDescriptor, resolvers, visitors).run();
+		boolean parallel = parallelResolutionAllowed && isParallelResolutionEnabled(request);
+		new EngineDiscoveryRequestResolution(request, engineDescriptor, resolvers, visitors, parallel).run();
+	}
+
+	private static boolean isParallelResolutionEnabled(EngineDiscoveryRequest request) {
+		return request.getConfigurationParameters().getBoolean(PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
 	private <R> List<R> instantiate(List<Function<InitializationContext<T>, R>> creators,
@@ -142,6 +182,7 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 
 		private final List<Function<InitializationContext<T>, SelectorResolver>> resolverCreators = new ArrayList<>();
 		private final List<Function<InitializationContext<T>, TestDescriptor.Visitor>> visitorCreators = new ArrayList<>();
+		private boolean parallelResolutionAllowed;
 
 		private Builder() {
 		}
@@ -158,9 +199,35 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 		 * @return this builder for method chaining
 		 */
 		public Builder<T> addClassContainerSelectorResolver(Predicate<Class<?>> classFilter) {
+			return addClassContainerSelectorResolver(classFilter, emptySet());
+		}
+
+		/**
+		 * Add a predefined resolver that resolves {@link ClasspathRootSelector
+		 * ClasspathRootSelectors}, {@link ModuleSelector ModuleSelectors}, and
+		 * {@link PackageSelector PackageSelectors} into {@link ClassSelector
+		 * ClassSelectors} by scanning for classes that satisfy the supplied
+		 * predicate in the respective class containers to this builder.
+		 *
+		 * <p>In contrast to {@link #addClassContainerSelectorResolver(Predicate)},
+		 * the supplied marker annotations allow classpath scanning to skip
+		 * loading classes that do not use any of them. Please refer to
+		 * {@link ClassFilter#withMarkerAnnotations(Collection)} for details.
+		 *
+		 * @param classFilter predicate the resolved classes must satisfy; never
+		 * {@code null}
+		 * @param markerAnnotations annotations that all classes satisfying the
+		 * supplied predicate use; never {@code null}
+		 * @return this builder for method chaining
+		 * @since 1.13
+		 */
+		@API(status = EXPERIMENTAL, since = "1.13")
+		public Builder<T> addClassContainerSelectorResolver(Predicate<Class<?>> classFilter,
+				Collection<Class<? extends Annotation>> markerAnnotations) {
 			Preconditions.notNull(classFilter, "classFilter must not be null");
-			return addSelectorResolver(
-				context -> new ClassContainerSelectorResolver(classFilter, context.getClassNameFilter()));
+			Preconditions.notNull(markerAnnotations, "markerAnnotations must not be null");
+			return addSelectorResolver(context -> new ClassContainerSelectorResolver(classFilter,
+				context.getClassNameFilter(), markerAnnotations));
 		}
 
 		/**
@@ -221,12 +288,33 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 			return this;
 		}
 
+		/**
+		 * Declare that all {@link SelectorResolver SelectorResolvers} added to
+		 * this builder are thread-safe so that selectors may be resolved
+		 * concurrently if the
+		 * {@value EngineDiscoveryRequestResolver#PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME}
+		 * configuration parameter is set to {@code true}.
+		 *
+		 * <p>Thread-safe resolvers must not depend on the order in which
+		 * selectors are resolved and must only add children to test
+		 * descriptors via {@link SelectorResolver.Context#addToParent}.
+		 *
+		 * @return this builder for method chaining
+		 * @since 1.13
+		 * @see EngineDiscoveryRequestResolver#PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME
+		 */
+		@API(status = EXPERIMENTAL, since = "1.13")
+		public Builder<T> allowParallelResolution() {
+			this.parallelResolutionAllowed = true;
+			return this;
+		}
+
 		/**
 		 * Build the {@link EngineDiscoveryRequestResolver} that has been
 		 * configured via this builder.
 		 */
 		public EngineDiscoveryRequestResolver<T> build() {
-			return new EngineDiscoveryRequestResolver<>(resolverCreators, visitorCreators);
+			return new EngineDiscoveryRequestResolver<>(resolverCreators, visitorCreators, parallelResolutionAllowed);
 		}
 
 	}
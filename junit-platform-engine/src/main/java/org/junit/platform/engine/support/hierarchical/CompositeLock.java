@@ -14,6 +14,7 @@ import static java.util.Collections.unmodifiableList;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
 
@@ -57,7 +58,9 @@ class CompositeLock implements ResourceLock {
 		List<Lock> acquiredLocks = new ArrayList<>(this.locks.size());
 		try {
 			for (Lock lock : this.locks) {
-				lock.lockInterruptibly();
+				if (!lock.tryLock()) {
+					lock.lockInterruptibly();
+				}
 				acquiredLocks.add(lock);
 			}
 		}
@@ -67,6 +70,26 @@ class CompositeLock implements ResourceLock {
 		}
 	}
 
+	/**
+	 * Try to acquire all locks in order without blocking.
+	 *
+	 * <p>If one of the locks cannot be acquired, all locks that have already
+	 * been acquired are released again.
+	 *
+	 * @return the first resource that could not be acquired; empty if all
+	 * locks were acquired
+	 * @since 1.13
+	 */
+	Optional<ExclusiveResource> tryAcquire() {
+		for (int i = 0; i < this.locks.size(); i++) {
+			if (!this.locks.get(i).tryLock()) {
+				release(this.locks.subList(0, i));
+				return Optional.of(this.resources.get(i));
+			}
+		}
+		return Optional.empty();
+	}
+
 	@Override
 	public void release() {
 		release(this.locks);
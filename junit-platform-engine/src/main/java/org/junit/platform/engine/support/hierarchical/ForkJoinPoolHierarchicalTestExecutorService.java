@@ -13,6 +13,7 @@ package org.junit.platform.engine.support.hierarchical;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
 
@@ -21,8 +22,10 @@ import java.lang.reflect.Constructor;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ForkJoinPool;
@@ -31,6 +34,7 @@ import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -40,12 +44,20 @@ import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
 
 /**
  * A {@link ForkJoinPool}-based
  * {@linkplain HierarchicalTestExecutorService executor service} that executes
  * {@linkplain TestTask test tasks} with the configured parallelism.
  *
+ * <p>Before executing a task, a worker thread tries to acquire the task's
+ * {@linkplain TestTask#getResourceLock() resource lock} without blocking. If
+ * the lock is currently held by another task, the task is parked in a wait
+ * queue for the unavailable resource and the worker thread continues with
+ * other work. Parked tasks are resubmitted as soon as the resource is
+ * released.
+ *
  * @since 1.3
  * @see ForkJoinPool
  * @see DefaultParallelExecutionConfigurationStrategy
@@ -59,6 +71,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	private final TaskEventListener taskEventListener;
 	private final int parallelism;
 	private final ThreadLocal<ThreadLock> threadLocks = ThreadLocal.withInitial(ThreadLock::new);
+	private final WaitQueues waitQueues = new WaitQueues();
 
 	/**
 	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} based on
@@ -149,6 +162,14 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		return completedFuture(null);
 	}
 
+	@Override
+	public Future<Void> submitUnthrottled(TestTask testTask) {
+		if (isAlreadyRunningInForkJoinPool() && testTask.getExecutionMode() == CONCURRENT) {
+			return new ExclusiveTask(testTask).fork();
+		}
+		return submit(testTask);
+	}
+
 	private boolean isAlreadyRunningInForkJoinPool() {
 		return ForkJoinTask.getPool() == forkJoinPool;
 	}
@@ -213,6 +234,36 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		deferredTasks.clear();
 	}
 
+	private void resubmit(ExclusiveTask task) {
+		if (isAlreadyRunningInForkJoinPool()) {
+			task.fork();
+		}
+		else {
+			forkJoinPool.execute(task);
+		}
+	}
+
+	/**
+	 * Try to acquire the supplied lock without blocking.
+	 *
+	 * @return the first resource that could not be acquired; empty if the
+	 * lock was acquired
+	 */
+	private static Optional<ExclusiveResource> tryAcquire(ResourceLock resourceLock) {
+		if (resourceLock instanceof SingleLock) {
+			return ((SingleLock) resourceLock).tryAcquire();
+		}
+		if (resourceLock instanceof CompositeLock) {
+			return ((CompositeLock) resourceLock).tryAcquire();
+		}
+		return Optional.empty();
+	}
+
+	private static boolean supportsTryAcquire(ResourceLock resourceLock) {
+		return resourceLock instanceof SingleLock || resourceLock instanceof CompositeLock
+				|| resourceLock instanceof NopLock;
+	}
+
 	@Override
 	public void close() {
 		forkJoinPool.shutdownNow();
@@ -244,39 +295,79 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		}
 
 		void execSync() {
-			boolean completed = exec();
+			boolean completed = exec(false);
 			if (!completed) {
 				throw new IllegalStateException(
 					"Task was deferred but should have been executed synchronously: " + testTask);
 			}
 		}
 
-		@SuppressWarnings("try")
 		@Override
 		public boolean exec() {
+			return exec(true);
+		}
+
+		@SuppressWarnings("try")
+		private boolean exec(boolean async) {
 			// Check if this task is compatible with the current resource lock, if there is any.
-			// If not, we put this task in the thread local as a deferred task
-			// and let the worker thread fork it once it is done with the current task.
+			// If not, we defer this task until it can be executed and let the worker thread
+			// continue with other work.
 			ResourceLock resourceLock = testTask.getResourceLock();
 			ThreadLock threadLock = threadLocks.get();
 			if (!threadLock.areAllHeldLocksCompatibleWith(resourceLock)) {
-				threadLock.addDeferredTask(this);
-				taskEventListener.deferred(testTask);
+				defer(threadLock, resourceLock, async);
 				// Return false to indicate that this task is not done yet
 				// this means that .join() will wait.
 				return false;
 			}
+			try {
+				if (async) {
+					if (!waitQueues.tryAcquireOrPark(this, resourceLock)) {
+						// The task will be resubmitted once the resource is released
+						return false;
+					}
+				}
+				else {
+					resourceLock.acquire();
+				}
+			}
+			catch (InterruptedException e) {
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
 			try ( //
-					ResourceLock lock = resourceLock.acquire(); //
 					@SuppressWarnings("unused")
-					ThreadLock.NestedResourceLock nested = threadLock.withNesting(lock) //
+					ThreadLock.NestedResourceLock nested = threadLock.withNesting(resourceLock) //
 			) {
 				testTask.execute();
 				return true;
 			}
-			catch (InterruptedException e) {
-				throw ExceptionUtils.throwAsUncheckedException(e);
+			finally {
+				release(resourceLock);
+			}
+		}
+
+		private void defer(ThreadLock threadLock, ResourceLock resourceLock, boolean async) {
+			taskEventListener.deferred(testTask);
+			// If the lock is currently unavailable, the task is parked until the resource
+			// is released rather than being forked by this worker thread once it is done
+			// with the current task which would likely cause it to be deferred again.
+			if (async && supportsTryAcquire(resourceLock)) {
+				try {
+					if (!waitQueues.tryAcquireOrPark(this, resourceLock)) {
+						return;
+					}
+				}
+				catch (InterruptedException e) {
+					throw ExceptionUtils.throwAsUncheckedException(e);
+				}
+				release(resourceLock);
 			}
+			threadLock.addDeferredTask(this);
+		}
+
+		private void release(ResourceLock resourceLock) {
+			resourceLock.release();
+			waitQueues.wakeUp(resourceLock);
 		}
 
 		@Override
@@ -305,6 +396,115 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	}
 
+	/**
+	 * Tasks waiting for resources to become available, keyed by resource key.
+	 *
+	 * <p>Tasks are parked and woken up while holding the monitor of this
+	 * object so that a release of a resource cannot be missed by a task that
+	 * is about to be parked.
+	 */
+	class WaitQueues {
+
+		private final Map<String, Deque<ParkedTask>> parkedTasksByKey = new HashMap<>();
+		private final AtomicInteger parkedTasks = new AtomicInteger();
+
+		/**
+		 * Try to acquire the supplied lock without blocking or park the
+		 * supplied task in the wait queue of the first unavailable resource.
+		 *
+		 * <p>Resource locks that do not support non-blocking acquisition are
+		 * acquired in a blocking fashion.
+		 *
+		 * @return {@code true} if the lock was acquired; {@code false} if the
+		 * task has been parked
+		 */
+		boolean tryAcquireOrPark(ExclusiveTask task, ResourceLock resourceLock) throws InterruptedException {
+			if (!supportsTryAcquire(resourceLock)) {
+				resourceLock.acquire();
+				return true;
+			}
+			// Announce intention to park before trying to acquire the lock so that
+			// threads releasing a resource know they have to check the wait queues
+			this.parkedTasks.incrementAndGet();
+			Optional<ExclusiveResource> unavailableResource = tryAcquire(resourceLock);
+			if (unavailableResource.isPresent()) {
+				// Locks acquired before the unavailable one have been released again
+				List<ExclusiveResource> resources = resourceLock.getResources();
+				wakeUp(resources.subList(0, resources.indexOf(unavailableResource.get())));
+				synchronized (this) {
+					unavailableResource = tryAcquire(resourceLock);
+					if (unavailableResource.isPresent()) {
+						ExclusiveResource resource = unavailableResource.get();
+						this.parkedTasksByKey.computeIfAbsent(resource.getKey(), __ -> new ArrayDeque<>()) //
+								.add(new ParkedTask(task, resource.getLockMode()));
+						taskEventListener.parked(task.testTask);
+						return false;
+					}
+				}
+			}
+			this.parkedTasks.decrementAndGet();
+			return true;
+		}
+
+		/**
+		 * Resubmit tasks that are waiting for one of the resources of the
+		 * supplied, already released lock.
+		 *
+		 * <p>For each resource, either the first task waiting for read-write
+		 * access or all tasks at the head of the queue that are waiting for
+		 * read access are resubmitted; the remaining tasks are resubmitted
+		 * when the resource is released the next time.
+		 */
+		void wakeUp(ResourceLock releasedLock) {
+			wakeUp(releasedLock.getResources());
+		}
+
+		private void wakeUp(List<ExclusiveResource> releasedResources) {
+			if (releasedResources.isEmpty() || this.parkedTasks.get() == 0) {
+				return;
+			}
+			List<ExclusiveTask> wokenUpTasks = new ArrayList<>();
+			synchronized (this) {
+				for (ExclusiveResource resource : releasedResources) {
+					Deque<ParkedTask> queue = this.parkedTasksByKey.get(resource.getKey());
+					if (queue != null) {
+						pollRunnableTasks(queue, wokenUpTasks);
+						if (queue.isEmpty()) {
+							this.parkedTasksByKey.remove(resource.getKey());
+						}
+					}
+				}
+			}
+			if (!wokenUpTasks.isEmpty()) {
+				this.parkedTasks.addAndGet(-wokenUpTasks.size());
+				wokenUpTasks.forEach(ForkJoinPoolHierarchicalTestExecutorService.this::resubmit);
+			}
+		}
+
+		private void pollRunnableTasks(Deque<ParkedTask> queue, List<ExclusiveTask> wokenUpTasks) {
+			ParkedTask first = queue.poll();
+			wokenUpTasks.add(first.task);
+			if (first.lockMode == READ) {
+				while (!queue.isEmpty() && queue.peek().lockMode == READ) {
+					wokenUpTasks.add(queue.poll().task);
+				}
+			}
+		}
+
+	}
+
+	private static class ParkedTask {
+
+		private final ExclusiveTask task;
+		private final LockMode lockMode;
+
+		ParkedTask(ExclusiveTask task, LockMode lockMode) {
+			this.task = task;
+			this.lockMode = lockMode;
+		}
+
+	}
+
 	static class ThreadLock {
 		private final Deque<ResourceLock> locks = new ArrayDeque<>(2);
 		private final List<ExclusiveTask> deferredTasks = new ArrayList<>();
@@ -334,6 +534,9 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		};
 
 		void deferred(TestTask testTask);
+
+		default void parked(TestTask testTask) {
+		}
 	}
 
 }
@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -29,6 +30,50 @@ import org.junit.platform.engine.TestEngine;
 @API(status = MAINTAINED, since = "1.0")
 public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> implements TestEngine {
 
+	/**
+	 * Property name used to configure the type of locks used to synchronize
+	 * access to {@linkplain ExclusiveResource exclusive resources}: {@value}
+	 *
+	 * <h4>Supported Values</h4>
+	 * <ul>
+	 * <li>{@code reentrant}: use a
+	 * {@link java.util.concurrent.locks.ReentrantReadWriteLock ReentrantReadWriteLock}
+	 * per resource</li>
+	 * <li>{@code stamped}: use a
+	 * {@link java.util.concurrent.locks.StampedLock StampedLock} per resource
+	 * which is cheaper to acquire in {@linkplain ExclusiveResource.LockMode#READ
+	 * read} mode</li>
+	 * </ul>
+	 *
+	 * <p>If not specified, the default is {@code reentrant}.
+	 *
+	 * @since 1.13
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public static final String RESOURCE_LOCK_TYPE_PROPERTY_NAME = "junit.platform.execution.resourceLocks.type";
+
+	/**
+	 * Property name used to configure the path to a file containing the
+	 * durations of tests and containers recorded during a previous execution:
+	 * {@value}
+	 *
+	 * <p>If set, {@linkplain Node.ExecutionMode#CONCURRENT concurrent}
+	 * children of each container are submitted for execution in descending
+	 * order of their previous duration so that long-running tests or
+	 * containers are started first. Children without a recorded duration are
+	 * submitted before all others.
+	 *
+	 * <p>The file is a properties file that maps
+	 * {@linkplain org.junit.platform.engine.UniqueId unique IDs} to durations
+	 * in milliseconds as written by the {@code DurationTrackingListener} of
+	 * the JUnit Platform Launcher. If the file does not exist, the default
+	 * execution order is used.
+	 *
+	 * @since 1.13
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public static final String DURATIONS_FILE_PROPERTY_NAME = "junit.platform.execution.scheduling.durations.file";
+
 	public HierarchicalTestEngine() {
 	}
 
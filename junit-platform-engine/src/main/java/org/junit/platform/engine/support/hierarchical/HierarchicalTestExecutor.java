@@ -10,12 +10,14 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import java.nio.file.Paths;
 import java.util.concurrent.Future;
 
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.support.hierarchical.LockManager.LockType;
 
 /**
  * Implementation core of all {@link TestEngine TestEngines} that wish to
@@ -49,12 +51,23 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	Future<Void> execute() {
 		TestDescriptor rootTestDescriptor = this.request.getRootTestDescriptor();
 		EngineExecutionListener executionListener = this.request.getEngineExecutionListener();
-		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker().walk(rootTestDescriptor);
+		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker(createLockManager()).walk(rootTestDescriptor);
 		NodeTestTaskContext taskContext = new NodeTestTaskContext(executionListener, this.executorService,
-			this.throwableCollectorFactory, executionAdvisor);
+			this.throwableCollectorFactory, executionAdvisor, loadHistoricalDurations());
 		NodeTestTask<C> rootTestTask = new NodeTestTask<>(taskContext, rootTestDescriptor);
 		rootTestTask.setParentContext(this.rootContext);
 		return this.executorService.submit(rootTestTask);
 	}
 
+	private LockManager createLockManager() {
+		return new LockManager(LockType.from(this.request.getConfigurationParameters()));
+	}
+
+	private HistoricalDurations loadHistoricalDurations() {
+		return this.request.getConfigurationParameters() //
+				.get(HierarchicalTestEngine.DURATIONS_FILE_PROPERTY_NAME, Paths::get) //
+				.map(HistoricalDurations::load) //
+				.orElse(HistoricalDurations.NONE);
+	}
+
 }
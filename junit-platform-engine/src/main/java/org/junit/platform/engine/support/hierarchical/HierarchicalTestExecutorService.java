@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.List;
@@ -26,6 +27,7 @@ import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
  * @see HierarchicalTestEngine#createExecutorService(ExecutionRequest)
  * @see SameThreadHierarchicalTestExecutorService
  * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @see VirtualThreadHierarchicalTestExecutorService
  */
 @API(status = STABLE, since = "1.10")
 public interface HierarchicalTestExecutorService extends AutoCloseable {
@@ -51,6 +53,29 @@ public interface HierarchicalTestExecutorService extends AutoCloseable {
 	 */
 	Future<Void> submit(TestTask testTask);
 
+	/**
+	 * Submit the supplied {@linkplain TestTask test task} to be executed by
+	 * this service without limiting the number of tasks that are queued.
+	 *
+	 * <p>In contrast to {@link #submit(TestTask)}, implementations should
+	 * not execute {@linkplain ExecutionMode#CONCURRENT concurrent} tasks in
+	 * the calling thread in order to throttle the caller. Callers are
+	 * expected to limit the number of unfinished tasks themselves, for
+	 * example, by waiting for previously submitted tasks to finish.
+	 *
+	 * <p>The default implementation delegates to {@link #submit(TestTask)}.
+	 *
+	 * @param testTask the test task to be executed
+	 * @return a future that the caller can use to wait for the task's execution
+	 * to be finished
+	 * @since 1.13
+	 * @see Node#getDynamicTestPrefetch()
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	default Future<Void> submitUnthrottled(TestTask testTask) {
+		return submit(testTask);
+	}
+
 	/**
 	 * Invoke all supplied {@linkplain TestTask test tasks} and block until
 	 * their execution has finished.
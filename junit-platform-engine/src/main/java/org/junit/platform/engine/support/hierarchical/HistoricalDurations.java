@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Durations of tests and containers recorded during a previous execution.
+ *
+ * <p>Durations are read from a properties file that maps the
+ * {@linkplain UniqueId#toString() string representation} of unique IDs to
+ * durations in milliseconds.
+ *
+ * @since 1.13
+ * @see HierarchicalTestEngine#DURATIONS_FILE_PROPERTY_NAME
+ */
+class HistoricalDurations {
+
+	private static final Logger logger = LoggerFactory.getLogger(HistoricalDurations.class);
+
+	static final HistoricalDurations NONE = new HistoricalDurations(emptyMap());
+
+	static HistoricalDurations load(Path file) {
+		if (!Files.isRegularFile(file)) {
+			logger.debug(() -> "No historical durations found at " + file.toAbsolutePath());
+			return NONE;
+		}
+		Properties properties = new Properties();
+		try (InputStream inputStream = Files.newInputStream(file)) {
+			properties.load(inputStream);
+		}
+		catch (IOException e) {
+			logger.warn(e, () -> "Failed to read historical durations from " + file.toAbsolutePath());
+			return NONE;
+		}
+		Map<String, Long> durations = new HashMap<>(properties.size());
+		for (String uniqueId : properties.stringPropertyNames()) {
+			String value = properties.getProperty(uniqueId);
+			try {
+				durations.put(uniqueId, Long.parseLong(value.trim()));
+			}
+			catch (NumberFormatException e) {
+				logger.warn(() -> String.format("Ignoring invalid historical duration '%s' for unique ID '%s' in %s",
+					value, uniqueId, file.toAbsolutePath()));
+			}
+		}
+		logger.config(() -> String.format("Loaded %d historical durations from %s", durations.size(),
+			file.toAbsolutePath()));
+		return new HistoricalDurations(unmodifiableMap(durations));
+	}
+
+	private final Map<String, Long> durationsByUniqueId;
+
+	HistoricalDurations(Map<String, Long> durationsByUniqueId) {
+		this.durationsByUniqueId = durationsByUniqueId;
+	}
+
+	/**
+	 * Reorder the {@linkplain Node.ExecutionMode#CONCURRENT concurrent} tasks
+	 * in the supplied list so that those that took the longest during the
+	 * previous execution come first.
+	 *
+	 * <p>Tasks with other execution modes keep their position in the list.
+	 * Tasks without historical duration are considered to be longer than all
+	 * others and keep their relative order.
+	 */
+	<T extends NodeTestTask<?>> void sortConcurrentTasksLongestFirst(List<T> tasks) {
+		if (this.durationsByUniqueId.isEmpty() || tasks.size() < 2) {
+			return;
+		}
+		List<Integer> positions = new ArrayList<>(tasks.size());
+		List<T> concurrentTasks = new ArrayList<>(tasks.size());
+		for (int i = 0; i < tasks.size(); i++) {
+			T task = tasks.get(i);
+			if (task.getExecutionMode() == CONCURRENT) {
+				positions.add(i);
+				concurrentTasks.add(task);
+			}
+		}
+		if (concurrentTasks.size() < 2) {
+			return;
+		}
+		concurrentTasks.sort(Comparator.comparingLong(this::getDuration).reversed());
+		for (int i = 0; i < positions.size(); i++) {
+			tasks.set(positions.get(i), concurrentTasks.get(i));
+		}
+	}
+
+	private long getDuration(NodeTestTask<?> task) {
+		String uniqueId = task.getTestDescriptor().getUniqueId().toString();
+		return this.durationsByUniqueId.getOrDefault(uniqueId, Long.MAX_VALUE);
+	}
+
+}
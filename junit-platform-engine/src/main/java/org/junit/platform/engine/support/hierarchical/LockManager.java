@@ -12,35 +12,54 @@ package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.unmodifiableList;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.commons.util.CollectionUtils.toUnmodifiableList;
-import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ;
-import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
 
 /**
+ * Creates and caches {@link ResourceLock ResourceLocks} for sets of
+ * {@link ExclusiveResource ExclusiveResources}.
+ *
+ * <p>Identical sets of resources are mapped to the same {@code ResourceLock}
+ * instance so that the locks for the potentially large number of nodes in a
+ * test tree only need to be computed once per distinct set of resources.
+ *
  * @since 1.3
  */
 class LockManager {
 
+	private static final Logger logger = LoggerFactory.getLogger(LockManager.class);
+
 	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
-	private final SingleLock globalReadLock;
-	private final SingleLock globalReadWriteLock;
+	private final Map<List<ExclusiveResource>, ResourceLock> resourceLocks = new ConcurrentHashMap<>();
+	private final LockType lockType;
 
 	public LockManager() {
-		globalReadLock = new SingleLock(GLOBAL_READ, toLock(GLOBAL_READ));
-		globalReadWriteLock = new SingleLock(GLOBAL_READ_WRITE, toLock(GLOBAL_READ_WRITE));
+		this(LockType.REENTRANT);
+	}
+
+	LockManager(LockType lockType) {
+		this.lockType = Preconditions.notNull(lockType, "lockType must not be null");
 	}
 
 	ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
@@ -58,37 +77,33 @@ class LockManager {
 		if (resources.size() == 1) {
 			return singletonList(getOnlyElement(resources));
 		}
-		// @formatter:off
-		Map<String, List<ExclusiveResource>> resourcesByKey = resources.stream()
-				.sorted(ExclusiveResource.COMPARATOR)
-				.distinct()
-				.collect(groupingBy(ExclusiveResource::getKey, LinkedHashMap::new, toList()));
-
-		return resourcesByKey.values().stream()
-				.map(resourcesWithSameKey -> resourcesWithSameKey.get(0))
-				.collect(toUnmodifiableList());
-		// @formatter:on
+		ExclusiveResource[] sortedResources = resources.toArray(new ExclusiveResource[0]);
+		Arrays.sort(sortedResources, ExclusiveResource.COMPARATOR);
+		// Since READ_WRITE is sorted before READ, the first resource of each key wins
+		List<ExclusiveResource> distinctResources = new ArrayList<>(sortedResources.length);
+		ExclusiveResource previous = null;
+		for (ExclusiveResource resource : sortedResources) {
+			if (previous == null || !previous.getKey().equals(resource.getKey())) {
+				distinctResources.add(resource);
+			}
+			previous = resource;
+		}
+		return unmodifiableList(distinctResources);
 	}
 
 	private ResourceLock toResourceLock(List<ExclusiveResource> resources) {
-		switch (resources.size()) {
-			case 0:
-				return NopLock.INSTANCE;
-			case 1:
-				return toSingleLock(getOnlyElement(resources));
-			default:
-				return new CompositeLock(resources, toLocks(resources));
+		if (resources.isEmpty()) {
+			return NopLock.INSTANCE;
 		}
+		return this.resourceLocks.computeIfAbsent(resources, this::createResourceLock);
 	}
 
-	private SingleLock toSingleLock(ExclusiveResource resource) {
-		if (GLOBAL_READ.equals(resource)) {
-			return globalReadLock;
-		}
-		if (GLOBAL_READ_WRITE.equals(resource)) {
-			return globalReadWriteLock;
+	private ResourceLock createResourceLock(List<ExclusiveResource> resources) {
+		if (resources.size() == 1) {
+			ExclusiveResource resource = getOnlyElement(resources);
+			return new SingleLock(resource, toLock(resource));
 		}
-		return new SingleLock(resource, toLock(resource));
+		return new CompositeLock(resources, toLocks(resources));
 	}
 
 	private List<Lock> toLocks(List<ExclusiveResource> resources) {
@@ -96,8 +111,75 @@ class LockManager {
 	}
 
 	private Lock toLock(ExclusiveResource resource) {
-		ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(), key -> new ReentrantReadWriteLock());
+		ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(), key -> lockType.createLock());
 		return resource.getLockMode() == READ ? lock.readLock() : lock.writeLock();
 	}
 
+	/**
+	 * Type of the underlying locks created by a {@link LockManager}.
+	 *
+	 * @since 1.13
+	 * @see HierarchicalTestEngine#RESOURCE_LOCK_TYPE_PROPERTY_NAME
+	 */
+	enum LockType {
+
+		/**
+		 * Use a {@link ReentrantReadWriteLock} per resource key.
+		 */
+		REENTRANT(ReentrantReadWriteLock::new),
+
+		/**
+		 * Use a {@link StampedLock} per resource key.
+		 *
+		 * <p>In contrast to {@link ReentrantReadWriteLock}, read locks of a
+		 * {@code StampedLock} don't keep track of their owning threads which
+		 * makes acquiring them cheaper. Since they are not reentrant, read
+		 * locks are always optimistically acquired without queuing first; this
+		 * succeeds unless the resource is currently locked in write mode which
+		 * is impossible if the current thread already holds its read lock.
+		 */
+		STAMPED(() -> new StampedLock().asReadWriteLock());
+
+		private final Supplier<ReadWriteLock> lockFactory;
+
+		LockType(Supplier<ReadWriteLock> lockFactory) {
+			this.lockFactory = lockFactory;
+		}
+
+		ReadWriteLock createLock() {
+			return lockFactory.get();
+		}
+
+		static LockType parse(String value) {
+			return valueOf(value.trim().toUpperCase(Locale.ROOT));
+		}
+
+		/**
+		 * Get the lock type configured via the
+		 * {@value HierarchicalTestEngine#RESOURCE_LOCK_TYPE_PROPERTY_NAME}
+		 * configuration parameter, falling back to {@link #REENTRANT} if it is
+		 * not set or invalid.
+		 */
+		static LockType from(ConfigurationParameters configurationParameters) {
+			String key = HierarchicalTestEngine.RESOURCE_LOCK_TYPE_PROPERTY_NAME;
+			Optional<String> value = configurationParameters.get(key);
+			if (value.isPresent()) {
+				try {
+					LockType result = parse(value.get());
+					logger.config(() -> String.format("Using lock type '%s' set via the '%s' configuration parameter.",
+						result, key));
+					return result;
+				}
+				catch (IllegalArgumentException ex) {
+					logger.warn(() -> String.format(
+						"Invalid lock type '%s' set via the '%s' configuration parameter. "
+								+ "Falling back to the %s default value.",
+						value.get(), key, REENTRANT.name()));
+				}
+			}
+			return REENTRANT;
+		}
+
+	}
+
 }
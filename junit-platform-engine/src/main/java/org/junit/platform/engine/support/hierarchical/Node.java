@@ -11,6 +11,7 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Collections.emptySet;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -196,6 +197,32 @@ public interface Node<C extends EngineExecutionContext> {
 		return ExecutionMode.CONCURRENT;
 	}
 
+	/**
+	 * Get the maximum number of dynamic tests and containers registered by
+	 * this node via its {@link DynamicTestExecutor} that may be queued or
+	 * executing at the same time.
+	 *
+	 * <p>If the returned value is positive,
+	 * {@linkplain ExecutionMode#CONCURRENT concurrent} dynamic tests are
+	 * {@linkplain HierarchicalTestExecutorService#submitUnthrottled submitted}
+	 * without being throttled by the executor service, and
+	 * {@link DynamicTestExecutor#execute(TestDescriptor)} waits for one of
+	 * the unfinished dynamic tests to finish once the limit has been reached.
+	 * Thus, a lazily generated sequence of dynamic tests is consumed no faster
+	 * than it is executed while all worker threads are kept busy.
+	 *
+	 * <p>The default implementation returns {@code 0} to let the executor
+	 * service decide how many dynamic tests are queued.
+	 *
+	 * @return the maximum number of unfinished dynamic tests; {@code 0} or
+	 * negative if not limited by this node
+	 * @since 1.13
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	default int getDynamicTestPrefetch() {
+		return 0;
+	}
+
 	/**
 	 * The result of determining whether the execution of a given {@code context}
 	 * should be <em>skipped</em>.
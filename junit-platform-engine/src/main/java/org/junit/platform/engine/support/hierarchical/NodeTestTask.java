@@ -21,7 +21,12 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
@@ -69,6 +74,10 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		this.finalizer = finalizer;
 	}
 
+	TestDescriptor getTestDescriptor() {
+		return testDescriptor;
+	}
+
 	@Override
 	public ResourceLock getResourceLock() {
 		return taskContext.getExecutionAdvisor().getResourceLock(testDescriptor);
@@ -157,6 +166,7 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 					if (!children.isEmpty()) {
 						children.forEach(child -> child.setParentContext(context));
+						taskContext.getHistoricalDurations().sortConcurrentTasksLongestFirst(children);
 						taskContext.getExecutorService().invokeAll(children);
 					}
 
@@ -203,6 +213,8 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 	private class DefaultDynamicTestExecutor implements DynamicTestExecutor {
 		private final Map<UniqueId, DynamicTaskState> unfinishedTasks = new ConcurrentHashMap<>();
+		private final int prefetch = node.getDynamicTestPrefetch();
+		private final Semaphore prefetchPermits = new Semaphore(Math.max(prefetch, 0));
 
 		@Override
 		public void execute(TestDescriptor testDescriptor) {
@@ -224,29 +236,144 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			}
 			else {
 				UniqueId uniqueId = testDescriptor.getUniqueId();
+				Runnable prefetchPermit = prefetch > 0 ? acquirePrefetchPermit() : NOOP;
 				NodeTestTask<C> nodeTestTask = new NodeTestTask<>(taskContext.withListener(executionListener),
-					testDescriptor, () -> unfinishedTasks.remove(uniqueId));
+					testDescriptor, () -> {
+						unfinishedTasks.remove(uniqueId);
+						prefetchPermit.run();
+					});
 				nodeTestTask.setParentContext(context);
 				unfinishedTasks.put(uniqueId, DynamicTaskState.unscheduled());
-				Future<Void> future = taskContext.getExecutorService().submit(nodeTestTask);
+				if (prefetch <= 0) {
+					Future<Void> future = taskContext.getExecutorService().submit(nodeTestTask);
+					unfinishedTasks.computeIfPresent(uniqueId, (__, state) -> DynamicTaskState.scheduled(future));
+					return future;
+				}
+				Future<Void> future;
+				try {
+					future = taskContext.getExecutorService().submitUnthrottled(nodeTestTask);
+				}
+				catch (Throwable throwable) {
+					unfinishedTasks.remove(uniqueId);
+					prefetchPermit.run();
+					throw throwable;
+				}
 				unfinishedTasks.computeIfPresent(uniqueId, (__, state) -> DynamicTaskState.scheduled(future));
-				return future;
+				return new PrefetchedTaskFuture(future, prefetchPermit);
+			}
+		}
+
+		/**
+		 * Wait until fewer than {@link #prefetch} dynamic tasks are unfinished.
+		 *
+		 * <p>Waiting is done via {@link ForkJoinPool#managedBlock} so that a
+		 * {@link ForkJoinPool} may compensate for the blocked worker thread
+		 * whose local queue may contain the dynamic tasks it is waiting for.
+		 *
+		 * @return a callback that releases the acquired permit; calling it
+		 * more than once has no effect
+		 */
+		private Runnable acquirePrefetchPermit() {
+			try {
+				ForkJoinPool.managedBlock(new PrefetchPermitManagedBlocker(prefetchPermits));
+			}
+			catch (InterruptedException e) {
+				throw ExceptionUtils.throwAsUncheckedException(e);
 			}
+			AtomicBoolean released = new AtomicBoolean();
+			return () -> {
+				if (released.compareAndSet(false, true)) {
+					prefetchPermits.release();
+				}
+			};
 		}
 
 		@Override
 		public void awaitFinished() throws InterruptedException {
 			for (DynamicTaskState state : unfinishedTasks.values()) {
-				try {
-					state.awaitFinished();
-				}
-				catch (CancellationException ignore) {
-					// Futures returned by execute() may have been cancelled
-				}
-				catch (ExecutionException e) {
-					throw ExceptionUtils.throwAsUncheckedException(e.getCause());
-				}
+				awaitFinished(state);
+			}
+		}
+
+		private void awaitFinished(DynamicTaskState state) throws InterruptedException {
+			try {
+				state.awaitFinished();
+			}
+			catch (CancellationException ignore) {
+				// Futures returned by execute() may have been cancelled
+			}
+			catch (ExecutionException e) {
+				throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+			}
+		}
+	}
+
+	private static class PrefetchPermitManagedBlocker implements ForkJoinPool.ManagedBlocker {
+
+		private final Semaphore permits;
+		private volatile boolean acquired;
+
+		PrefetchPermitManagedBlocker(Semaphore permits) {
+			this.permits = permits;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			if (!this.acquired) {
+				this.permits.acquire();
+				this.acquired = true;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.acquired || (this.acquired = this.permits.tryAcquire());
+		}
+
+	}
+
+	/**
+	 * Releases the prefetch permit of a dynamic task if it is cancelled
+	 * before being executed, in which case its finalizer is never called.
+	 */
+	private static class PrefetchedTaskFuture implements Future<Void> {
+
+		private final Future<Void> delegate;
+		private final Runnable prefetchPermit;
+
+		PrefetchedTaskFuture(Future<Void> delegate, Runnable prefetchPermit) {
+			this.delegate = delegate;
+			this.prefetchPermit = prefetchPermit;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = delegate.cancel(mayInterruptIfRunning);
+			if (cancelled) {
+				prefetchPermit.run();
 			}
+			return cancelled;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return delegate.isCancelled();
+		}
+
+		@Override
+		public boolean isDone() {
+			return delegate.isDone();
+		}
+
+		@Override
+		public Void get() throws InterruptedException, ExecutionException {
+			return delegate.get();
+		}
+
+		@Override
+		public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+			return delegate.get(timeout, unit);
 		}
 	}
 
@@ -21,20 +21,29 @@ class NodeTestTaskContext {
 	private final HierarchicalTestExecutorService executorService;
 	private final ThrowableCollector.Factory throwableCollectorFactory;
 	private final NodeExecutionAdvisor executionAdvisor;
+	private final HistoricalDurations historicalDurations;
 
 	public NodeTestTaskContext(EngineExecutionListener listener, HierarchicalTestExecutorService executorService,
 			ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor) {
+		this(listener, executorService, throwableCollectorFactory, executionAdvisor, HistoricalDurations.NONE);
+	}
+
+	NodeTestTaskContext(EngineExecutionListener listener, HierarchicalTestExecutorService executorService,
+			ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor,
+			HistoricalDurations historicalDurations) {
 		this.listener = listener;
 		this.executorService = executorService;
 		this.throwableCollectorFactory = throwableCollectorFactory;
 		this.executionAdvisor = executionAdvisor;
+		this.historicalDurations = historicalDurations;
 	}
 
 	NodeTestTaskContext withListener(EngineExecutionListener listener) {
 		if (this.listener == listener) {
 			return this;
 		}
-		return new NodeTestTaskContext(listener, executorService, throwableCollectorFactory, executionAdvisor);
+		return new NodeTestTaskContext(listener, executorService, throwableCollectorFactory, executionAdvisor,
+			historicalDurations);
 	}
 
 	EngineExecutionListener getListener() {
@@ -52,4 +61,8 @@ class NodeTestTaskContext {
 	NodeExecutionAdvisor getExecutionAdvisor() {
 		return executionAdvisor;
 	}
+
+	HistoricalDurations getHistoricalDurations() {
+		return historicalDurations;
+	}
 }
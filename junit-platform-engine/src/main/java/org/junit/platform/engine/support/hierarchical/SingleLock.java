@@ -14,6 +14,7 @@ import static java.util.Collections.singletonList;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
 
@@ -48,6 +49,17 @@ class SingleLock implements ResourceLock {
 		return this;
 	}
 
+	/**
+	 * Try to acquire this lock without blocking.
+	 *
+	 * @return the resource if it could not be acquired; empty if the lock was
+	 * acquired
+	 * @since 1.13
+	 */
+	Optional<ExclusiveResource> tryAcquire() {
+		return this.lock.tryLock() ? Optional.empty() : Optional.of(this.resources.get(0));
+	}
+
 	@Override
 	public void release() {
 		this.lock.unlock();
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.function.Try;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+
+/**
+ * A {@linkplain HierarchicalTestExecutorService executor service} that
+ * executes each {@linkplain Node.ExecutionMode#CONCURRENT concurrent}
+ * {@linkplain TestTask test task} in its own virtual thread.
+ *
+ * <p>In contrast to {@link ForkJoinPoolHierarchicalTestExecutorService}, the
+ * number of concurrently executing tasks is not limited by a configured
+ * parallelism. Tasks that block, for example on I/O, park their virtual
+ * thread and release the underlying carrier thread so that other tasks may
+ * continue. Each task still acquires its
+ * {@linkplain TestTask#getResourceLock() resource lock} prior to execution;
+ * tasks that require the {@linkplain ExclusiveResource#GLOBAL_KEY global}
+ * resource lock in read-write mode are executed after all of their siblings
+ * have finished.
+ *
+ * <p>Virtual threads are only available on Java 21 or later. Use
+ * {@link #isSupported()} to check whether the current JVM supports them
+ * before creating an instance of this class.
+ *
+ * @since 1.13
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ */
+@API(status = EXPERIMENTAL, since = "1.13")
+public class VirtualThreadHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	private static final String THREAD_NAME_PREFIX = "junit-virtual-worker-";
+
+	private final ThreadFactory threadFactory;
+	private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+	// package-private for testing
+	final Set<Thread> runningThreads = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Create a new {@code VirtualThreadHierarchicalTestExecutorService}.
+	 *
+	 * @throws JUnitException if the current JVM does not support virtual
+	 * threads
+	 * @see #isSupported()
+	 */
+	public VirtualThreadHierarchicalTestExecutorService() {
+		this.threadFactory = tryToCreateVirtualThreadFactory().getOrThrow(
+			cause -> new JUnitException("Virtual threads are not supported by the current JVM", cause));
+		LoggerFactory.getLogger(getClass()).config(() -> "Using virtual threads for concurrent test execution");
+	}
+
+	/**
+	 * {@return whether the current JVM supports virtual threads}
+	 */
+	public static boolean isSupported() {
+		return tryToCreateVirtualThreadFactory().toOptional().isPresent();
+	}
+
+	private static Try<ThreadFactory> tryToCreateVirtualThreadFactory() {
+		// Use reflection since virtual threads are only available on Java 21+
+		return Try.call(() -> {
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+			return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+		});
+	}
+
+	@Override
+	public Future<Void> submit(TestTask testTask) {
+		if (testTask.getExecutionMode() == CONCURRENT) {
+			return fork(testTask);
+		}
+		executeWithResourceLock(testTask);
+		return completedFuture(null);
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> testTasks) {
+		List<TestTask> isolatedTasks = new ArrayList<>();
+		List<TestTask> sameThreadTasks = new ArrayList<>();
+		List<Future<Void>> concurrentTasks = new ArrayList<>();
+		for (TestTask testTask : testTasks) {
+			if (requiresGlobalReadWriteLock(testTask)) {
+				isolatedTasks.add(testTask);
+			}
+			else if (testTask.getExecutionMode() == SAME_THREAD) {
+				sameThreadTasks.add(testTask);
+			}
+			else {
+				concurrentTasks.add(fork(testTask));
+			}
+		}
+		sameThreadTasks.forEach(this::executeWithResourceLock);
+		awaitAll(concurrentTasks);
+		isolatedTasks.forEach(this::executeWithResourceLock);
+	}
+
+	private static boolean requiresGlobalReadWriteLock(TestTask testTask) {
+		return testTask.getResourceLock().getResources().contains(GLOBAL_READ_WRITE);
+	}
+
+	private Future<Void> fork(TestTask testTask) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		Thread thread = threadFactory.newThread(() -> {
+			try {
+				executeWithResourceLock(testTask);
+				future.complete(null);
+			}
+			catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+			finally {
+				runningThreads.remove(Thread.currentThread());
+			}
+		});
+		thread.setContextClassLoader(contextClassLoader);
+		runningThreads.add(thread);
+		thread.start();
+		return future;
+	}
+
+	@SuppressWarnings("try")
+	private void executeWithResourceLock(TestTask testTask) {
+		try (ResourceLock lock = testTask.getResourceLock().acquire()) {
+			testTask.execute();
+		}
+		catch (InterruptedException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
+	private static void awaitAll(List<Future<Void>> futures) {
+		Throwable failure = null;
+		for (Future<Void> future : futures) {
+			try {
+				future.get();
+			}
+			catch (ExecutionException e) {
+				failure = addFailure(failure, e.getCause());
+			}
+			catch (InterruptedException e) {
+				throw ExceptionUtils.throwAsUncheckedException(addFailure(failure, e));
+			}
+		}
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+	}
+
+	private static Throwable addFailure(Throwable failure, Throwable newFailure) {
+		if (failure == null) {
+			return newFailure;
+		}
+		failure.addSuppressed(newFailure);
+		return failure;
+	}
+
+	@Override
+	public void close() {
+		runningThreads.forEach(Thread::interrupt);
+	}
+
+}
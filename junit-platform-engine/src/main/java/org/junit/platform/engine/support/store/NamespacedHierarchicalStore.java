@@ -20,6 +20,7 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -37,6 +38,9 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
  * {@link #NamespacedHierarchicalStore(NamespacedHierarchicalStore, CloseAction)}
  * constructor.
  *
+ * <p>Stores only allocate memory for their values once a value is stored in
+ * them. Closing a store that never stored a value is therefore cheap.
+ *
  * <p>This class is thread-safe. Please note, however, that thread safety is
  * not guaranteed while the {@link #close()} method is being invoked.
  *
@@ -46,9 +50,17 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 @API(status = EXPERIMENTAL, since = "1.10")
 public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
-	private final AtomicInteger insertOrderSequence = new AtomicInteger();
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<NamespacedHierarchicalStore, StoredValues> STORED_VALUES = //
+		AtomicReferenceFieldUpdater.newUpdater(NamespacedHierarchicalStore.class, StoredValues.class, "storedValues");
 
-	private final ConcurrentMap<CompositeKey<N>, StoredValue> storedValues = new ConcurrentHashMap<>(4);
+	/**
+	 * The values stored in this store; {@code null} until the first value is
+	 * stored.
+	 *
+	 * @see #getOrCreateStoredValues()
+	 */
+	private volatile StoredValues<N> storedValues;
 
 	private final NamespacedHierarchicalStore<N> parentStore;
 
@@ -112,9 +124,10 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	public void close() {
 		if (!this.closed) {
 			try {
-				if (this.closeAction != null) {
+				StoredValues<N> storedValues = this.storedValues;
+				if (this.closeAction != null && storedValues != null && !storedValues.values.isEmpty()) {
 					ThrowableCollector throwableCollector = new ThrowableCollector(__ -> false);
-					this.storedValues.entrySet().stream() //
+					storedValues.values.entrySet().stream() //
 							.map(e -> e.getValue().evaluateSafely(e.getKey())) //
 							.filter(it -> it != null && it.value != null) //
 							.sorted(EvaluatedValue.REVERSE_INSERT_ORDER) //
@@ -176,8 +189,9 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		CompositeKey<N> compositeKey = new CompositeKey<>(namespace, key);
 		StoredValue storedValue = getStoredValue(compositeKey);
 		if (storedValue == null) {
-			storedValue = this.storedValues.computeIfAbsent(compositeKey,
-				__ -> storedValue(new MemoizingSupplier(() -> {
+			StoredValues<N> storedValues = getOrCreateStoredValues();
+			storedValue = storedValues.values.computeIfAbsent(compositeKey,
+				__ -> storedValues.newStoredValue(new MemoizingSupplier(() -> {
 					rejectIfClosed();
 					return defaultCreator.apply(key);
 				})));
@@ -222,7 +236,9 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public Object put(N namespace, Object key, Object value) throws NamespacedHierarchicalStoreException {
 		rejectIfClosed();
-		StoredValue oldValue = this.storedValues.put(new CompositeKey<>(namespace, key), storedValue(() -> value));
+		StoredValues<N> storedValues = getOrCreateStoredValues();
+		StoredValue oldValue = storedValues.values.put(new CompositeKey<>(namespace, key),
+			storedValues.newStoredValue(() -> value));
 		return StoredValue.evaluateIfNotNull(oldValue);
 	}
 
@@ -241,7 +257,12 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public Object remove(N namespace, Object key) {
 		rejectIfClosed();
-		StoredValue previous = this.storedValues.remove(new CompositeKey<>(namespace, key));
+		CompositeKey<N> compositeKey = new CompositeKey<>(namespace, key);
+		StoredValues<N> storedValues = this.storedValues;
+		if (storedValues == null) {
+			return null;
+		}
+		StoredValue previous = storedValues.values.remove(compositeKey);
 		return StoredValue.evaluateIfNotNull(previous);
 	}
 
@@ -265,14 +286,25 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		return castToRequiredType(key, value, requiredType);
 	}
 
-	private StoredValue storedValue(Supplier<Object> value) {
-		return new StoredValue(this.insertOrderSequence.getAndIncrement(), value);
+	@SuppressWarnings("unchecked")
+	private StoredValues<N> getOrCreateStoredValues() {
+		StoredValues<N> storedValues = this.storedValues;
+		if (storedValues == null) {
+			storedValues = new StoredValues<>();
+			if (!STORED_VALUES.compareAndSet(this, null, storedValues)) {
+				storedValues = this.storedValues;
+			}
+		}
+		return storedValues;
 	}
 
 	private StoredValue getStoredValue(CompositeKey<N> compositeKey) {
-		StoredValue storedValue = this.storedValues.get(compositeKey);
-		if (storedValue != null) {
-			return storedValue;
+		StoredValues<N> storedValues = this.storedValues;
+		if (storedValues != null) {
+			StoredValue storedValue = storedValues.values.get(compositeKey);
+			if (storedValue != null) {
+				return storedValue;
+			}
 		}
 		if (this.parentStore != null) {
 			return this.parentStore.getStoredValue(compositeKey);
@@ -334,6 +366,17 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
 	}
 
+	private static class StoredValues<N> {
+
+		private final ConcurrentMap<CompositeKey<N>, StoredValue> values = new ConcurrentHashMap<>(4);
+		private final AtomicInteger insertOrderSequence = new AtomicInteger();
+
+		private StoredValue newStoredValue(Supplier<Object> value) {
+			return new StoredValue(this.insertOrderSequence.getAndIncrement(), value);
+		}
+
+	}
+
 	private static class StoredValue {
 
 		private final int order;
@@ -79,6 +79,33 @@ public class LauncherConstants {
 	 */
 	public static final int CAPTURE_MAX_BUFFER_DEFAULT = 4 * 1024 * 1024;
 
+	/**
+	 * Property name used to configure how output is captured if output
+	 * capturing is enabled: {@value}
+	 *
+	 * <h4>Supported Values</h4>
+	 * <ul>
+	 * <li>{@code shared}: all threads write through a single synchronized
+	 * stream; output of threads that are not executing a test or container is
+	 * attributed to the most recently active one; if the
+	 * {@linkplain #CAPTURE_MAX_BUFFER_PROPERTY_NAME maximum} is exceeded, the
+	 * beginning of the output is kept</li>
+	 * <li>{@code per_thread}: each thread writes to its own unsynchronized
+	 * buffer so that threads printing concurrently do not contend on a shared
+	 * lock; only output of the thread executing a test or container is
+	 * captured; if the {@linkplain #CAPTURE_MAX_BUFFER_PROPERTY_NAME maximum}
+	 * is exceeded, the end of the output is kept</li>
+	 * </ul>
+	 *
+	 * <p>Values are case-insensitive; defaults to {@code shared}.
+	 *
+	 * @since 1.13
+	 * @see #CAPTURE_STDOUT_PROPERTY_NAME
+	 * @see #CAPTURE_STDERR_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public static final String CAPTURE_MODE_PROPERTY_NAME = "junit.platform.output.capture.mode";
+
 	/**
 	 * Key used to publish captured output to {@link System#out} as part of a
 	 * {@link ReportEntry}: {@value}
@@ -148,6 +175,65 @@ public class LauncherConstants {
 	 */
 	public static final String DEACTIVATE_ALL_LISTENERS_PATTERN = ClassNamePatternFilterUtils.ALL_PATTERN;
 
+	/**
+	 * Property name used to provide patterns for notifying registered
+	 * listeners asynchronously: {@value}
+	 *
+	 * <p>Each matching listener is wrapped in an
+	 * {@link org.junit.platform.launcher.listeners.AsynchronousTestExecutionListener
+	 * AsynchronousTestExecutionListener} that notifies it on a dedicated thread
+	 * so that listeners performing I/O, e.g. those generating reports, do not
+	 * add latency to the threads that execute tests.
+	 *
+	 * <p>The property value is interpreted in the same way as the value of
+	 * {@link #DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME}. Thus, {@code *}
+	 * matches all listeners and {@code org.junit.platform.reporting.*} matches
+	 * the reporting listeners provided by the JUnit Platform. By default, no
+	 * listeners are notified asynchronously.
+	 *
+	 * <p>Only listeners registered via the {@code ServiceLoader} mechanism can
+	 * be notified asynchronously using this configuration parameter, and it can
+	 * only be supplied as a JVM system property or via the JUnit Platform
+	 * configuration file.
+	 *
+	 * @since 1.13
+	 * @see #ASYNC_LISTENERS_BUFFER_SIZE_PROPERTY_NAME
+	 * @see #ASYNC_LISTENERS_BACKPRESSURE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public static final String ASYNC_LISTENERS_PATTERN_PROPERTY_NAME = "junit.platform.execution.listeners.async";
+
+	/**
+	 * Property name used to configure the maximum number of events buffered
+	 * for each listener that is notified asynchronously: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to
+	 * {@value org.junit.platform.launcher.listeners.AsynchronousTestExecutionListener#DEFAULT_BUFFER_SIZE}.
+	 * If the value is invalid, a warning is logged and the default is used.
+	 *
+	 * @since 1.13
+	 * @see #ASYNC_LISTENERS_PATTERN_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public static final String ASYNC_LISTENERS_BUFFER_SIZE_PROPERTY_NAME = //
+		"junit.platform.execution.listeners.async.bufferSize";
+
+	/**
+	 * Property name used to configure what happens when the buffer of a
+	 * listener that is notified asynchronously is full: {@value}
+	 *
+	 * <p>Value must be either {@code block} or {@code discard}; defaults to
+	 * {@code block}. If the value is invalid, a warning is logged and the
+	 * default is used.
+	 *
+	 * @since 1.13
+	 * @see #ASYNC_LISTENERS_PATTERN_PROPERTY_NAME
+	 * @see org.junit.platform.launcher.listeners.AsynchronousTestExecutionListener.Backpressure
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public static final String ASYNC_LISTENERS_BACKPRESSURE_PROPERTY_NAME = //
+		"junit.platform.execution.listeners.async.backpressure";
+
 	/**
 	 * Property name used to enable support for
 	 * {@link LauncherInterceptor} instances to be registered via the
@@ -181,6 +267,40 @@ public class LauncherConstants {
 	@API(status = EXPERIMENTAL, since = "1.10")
 	public static final String DRY_RUN_PROPERTY_NAME = "junit.platform.execution.dryRun.enabled";
 
+	/**
+	 * Property name used to enable pruning of finished dynamic tests and
+	 * containers from the {@link TestPlan}: {@value}
+	 *
+	 * <p>When enabled, each dynamic test or container is removed from the
+	 * {@code TestPlan} once all registered
+	 * {@link TestExecutionListener TestExecutionListeners} have been notified
+	 * that it has been skipped or finished. Memory consumption thus no longer
+	 * grows with the number of dynamic tests that were executed, e.g. when a
+	 * {@code @TestFactory} method returns an unbounded stream. Listeners that
+	 * only keep aggregate counts, such as the
+	 * {@link org.junit.platform.launcher.listeners.SummaryGeneratingListener
+	 * SummaryGeneratingListener}, are unaffected. However, listeners that look
+	 * up dynamic tests in the {@code TestPlan} after they have finished, e.g.
+	 * to generate a report once all tests have been executed, will no longer
+	 * find them.
+	 *
+	 * <p>Pruning is not supported in combination with listeners that are
+	 * notified {@linkplain #ASYNC_LISTENERS_PATTERN_PROPERTY_NAME asynchronously}
+	 * since such listeners might only process an event after the corresponding
+	 * test has already been removed from the {@code TestPlan}. If any
+	 * registered listener is an
+	 * {@link org.junit.platform.launcher.listeners.AsynchronousTestExecutionListener
+	 * AsynchronousTestExecutionListener}, this configuration parameter is
+	 * ignored and a warning is logged.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to {@code false}.
+	 *
+	 * @since 1.13
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public static final String DYNAMIC_TESTS_PRUNING_ENABLED_PROPERTY_NAME = //
+		"junit.platform.execution.dynamicTests.pruning.enabled";
+
 	/**
 	 * Property name used to enable or disable stack trace pruning.
 	 *
@@ -147,6 +147,30 @@ public class TestPlan {
 		directChildren.add(testIdentifier);
 	}
 
+	/**
+	 * Remove the supplied {@link TestIdentifier} from this test plan.
+	 *
+	 * <p>Used by the launcher to discard dynamic tests and containers after
+	 * their execution has finished. The identifier's children are expected to
+	 * have been removed already.
+	 *
+	 * @param testIdentifier the identifier to remove; never {@code null}
+	 * @since 1.13
+	 */
+	@API(status = INTERNAL, since = "1.13")
+	public void removeInternal(TestIdentifier testIdentifier) {
+		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
+		UniqueId uniqueId = testIdentifier.getUniqueIdObject();
+		if (allIdentifiers.remove(uniqueId) == null) {
+			return;
+		}
+		children.remove(uniqueId);
+		Set<TestIdentifier> siblings = testIdentifier.getParentIdObject().map(children::get).orElse(null);
+		if (siblings == null || !siblings.remove(testIdentifier)) {
+			roots.remove(testIdentifier);
+		}
+	}
+
 	/**
 	 * Get the root {@link TestIdentifier TestIdentifiers} for this test plan.
 	 *
@@ -26,6 +26,7 @@ import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.AsynchronousTestExecutionListener;
 
 class CompositeTestExecutionListener implements TestExecutionListener {
 
@@ -42,6 +43,21 @@ class CompositeTestExecutionListener implements TestExecutionListener {
 				.collect(toList());
 	}
 
+	/**
+	 * Determine if the supplied listener is an
+	 * {@link AsynchronousTestExecutionListener} or a composite listener that
+	 * contains one.
+	 *
+	 * @since 1.13
+	 */
+	static boolean containsAsynchronousListener(TestExecutionListener listener) {
+		if (listener instanceof CompositeTestExecutionListener) {
+			return ((CompositeTestExecutionListener) listener).testExecutionListeners.stream() //
+					.anyMatch(CompositeTestExecutionListener::containsAsynchronousListener);
+		}
+		return listener instanceof AsynchronousTestExecutionListener;
+	}
+
 	@Override
 	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
 		notifyEach(testExecutionListeners, IterationOrder.ORIGINAL,
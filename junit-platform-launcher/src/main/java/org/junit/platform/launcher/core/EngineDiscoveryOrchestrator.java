@@ -27,6 +27,7 @@ import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.AnnotationUtils;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.Filter;
@@ -129,8 +130,16 @@ public class EngineDiscoveryOrchestrator {
 			logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
 				testEngine.getId()));
 
+			long annotationCacheHits = AnnotationUtils.getAnnotationCacheHits();
+			long annotationCacheMisses = AnnotationUtils.getAnnotationCacheMisses();
+
 			TestDescriptor rootDescriptor = discoverEngineRoot(testEngine, request, listener, uniqueIdCreator);
 			testEngineDescriptors.put(testEngine, rootDescriptor);
+
+			logger.debug(() -> String.format(
+				"Annotation lookups during Launcher %s phase in engine '%s': %d cache hits, %d cache misses.", phase,
+				testEngine.getId(), AnnotationUtils.getAnnotationCacheHits() - annotationCacheHits,
+				AnnotationUtils.getAnnotationCacheMisses() - annotationCacheMisses));
 		}
 
 		engineFilterer.performSanityChecks();
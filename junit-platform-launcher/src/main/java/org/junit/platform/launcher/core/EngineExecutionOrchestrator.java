@@ -12,6 +12,7 @@ package org.junit.platform.launcher.core;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.DYNAMIC_TESTS_PRUNING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STACKTRACE_PRUNING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.ListenerRegistry.forEngineExecutionListeners;
 
@@ -20,6 +21,8 @@ import java.util.function.Consumer;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -41,6 +44,8 @@ import org.junit.platform.launcher.TestPlan;
 @API(status = INTERNAL, since = "1.7", consumers = { "org.junit.platform.testkit", "org.junit.platform.suite.engine" })
 public class EngineExecutionOrchestrator {
 
+	private static final Logger logger = LoggerFactory.getLogger(EngineExecutionOrchestrator.class);
+
 	private final ListenerRegistry<TestExecutionListener> listenerRegistry;
 
 	public EngineExecutionOrchestrator() {
@@ -126,7 +131,18 @@ public class EngineExecutionOrchestrator {
 			EngineExecutionListener parentEngineExecutionListener, TestExecutionListener testExecutionListener,
 			TestPlan testPlan) {
 		ListenerRegistry<EngineExecutionListener> engineExecutionListenerRegistry = forEngineExecutionListeners();
-		engineExecutionListenerRegistry.add(new ExecutionListenerAdapter(testPlan, testExecutionListener));
+		boolean pruneDynamicTests = testPlan.getConfigurationParameters() //
+				.getBoolean(DYNAMIC_TESTS_PRUNING_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+		if (pruneDynamicTests && CompositeTestExecutionListener.containsAsynchronousListener(testExecutionListener)) {
+			// Asynchronous listeners might look up tests after they have been removed
+			logger.warn(() -> String.format(
+				"Ignoring '%s' since it is not supported in combination with asynchronously notified listeners.",
+				DYNAMIC_TESTS_PRUNING_ENABLED_PROPERTY_NAME));
+			pruneDynamicTests = false;
+		}
+		engineExecutionListenerRegistry.add(
+			new ExecutionListenerAdapter(testPlan, testExecutionListener, pruneDynamicTests));
 		engineExecutionListenerRegistry.add(parentEngineExecutionListener);
 		return engineExecutionListenerRegistry.getCompositeListener();
 	}
@@ -10,9 +10,13 @@
 
 package org.junit.platform.launcher.core;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.FileEntry;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestExecutionListener;
@@ -29,16 +33,32 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 
 	private final TestPlan testPlan;
 	private final TestExecutionListener testExecutionListener;
+	private final Set<UniqueId> unfinishedDynamicTests;
 
 	ExecutionListenerAdapter(TestPlan testPlan, TestExecutionListener testExecutionListener) {
+		this(testPlan, testExecutionListener, false);
+	}
+
+	/**
+	 * @param pruneDynamicTests whether dynamic tests and containers should be
+	 * removed from the {@code TestPlan} once all listeners have been notified
+	 * that they have been skipped or finished
+	 * @since 1.13
+	 */
+	ExecutionListenerAdapter(TestPlan testPlan, TestExecutionListener testExecutionListener,
+			boolean pruneDynamicTests) {
 		this.testPlan = testPlan;
 		this.testExecutionListener = testExecutionListener;
+		this.unfinishedDynamicTests = pruneDynamicTests ? ConcurrentHashMap.newKeySet() : null;
 	}
 
 	@Override
 	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
 		TestIdentifier testIdentifier = TestIdentifier.from(testDescriptor);
 		this.testPlan.addInternal(testIdentifier);
+		if (this.unfinishedDynamicTests != null) {
+			this.unfinishedDynamicTests.add(testIdentifier.getUniqueIdObject());
+		}
 		this.testExecutionListener.dynamicTestRegistered(testIdentifier);
 	}
 
@@ -49,12 +69,16 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 
 	@Override
 	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
-		this.testExecutionListener.executionSkipped(getTestIdentifier(testDescriptor), reason);
+		TestIdentifier testIdentifier = getTestIdentifier(testDescriptor);
+		this.testExecutionListener.executionSkipped(testIdentifier, reason);
+		pruneIfDynamic(testIdentifier);
 	}
 
 	@Override
 	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
-		this.testExecutionListener.executionFinished(getTestIdentifier(testDescriptor), testExecutionResult);
+		TestIdentifier testIdentifier = getTestIdentifier(testDescriptor);
+		this.testExecutionListener.executionFinished(testIdentifier, testExecutionResult);
+		pruneIfDynamic(testIdentifier);
 	}
 
 	@Override
@@ -67,6 +91,13 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 		this.testExecutionListener.fileEntryPublished(getTestIdentifier(testDescriptor), file);
 	}
 
+	private void pruneIfDynamic(TestIdentifier testIdentifier) {
+		if (this.unfinishedDynamicTests != null
+				&& this.unfinishedDynamicTests.remove(testIdentifier.getUniqueIdObject())) {
+			this.testPlan.removeInternal(testIdentifier);
+		}
+	}
+
 	private TestIdentifier getTestIdentifier(TestDescriptor testDescriptor) {
 		return this.testPlan.getTestIdentifier(testDescriptor.getUniqueId());
 	}
@@ -66,6 +66,11 @@ class InternalTestPlan extends TestPlan {
 		delegate.addInternal(testIdentifier);
 	}
 
+	@Override
+	public void removeInternal(TestIdentifier testIdentifier) {
+		delegate.removeInternal(testIdentifier);
+	}
+
 	@Override
 	public Set<TestIdentifier> getRoots() {
 		return delegate.getRoots();
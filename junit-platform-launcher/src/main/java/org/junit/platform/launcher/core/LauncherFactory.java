@@ -11,17 +11,25 @@
 package org.junit.platform.launcher.core;
 
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_BACKPRESSURE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_BUFFER_SIZE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.ENABLE_LAUNCHER_INTERCEPTORS;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ClassNamePatternFilterUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -33,6 +41,8 @@ import org.junit.platform.launcher.LauncherSession;
 import org.junit.platform.launcher.LauncherSessionListener;
 import org.junit.platform.launcher.PostDiscoveryFilter;
 import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.listeners.AsynchronousTestExecutionListener;
+import org.junit.platform.launcher.listeners.AsynchronousTestExecutionListener.Backpressure;
 
 /**
  * Factory for creating {@link Launcher} instances by invoking {@link #create()}
@@ -63,6 +73,8 @@ import org.junit.platform.launcher.TestExecutionListener;
 @API(status = STABLE, since = "1.0")
 public class LauncherFactory {
 
+	private static final Logger logger = LoggerFactory.getLogger(LauncherFactory.class);
+
 	private LauncherFactory() {
 		/* no-op */
 	}
@@ -190,8 +202,10 @@ public class LauncherFactory {
 	private static void registerTestExecutionListeners(LauncherConfig config, Launcher launcher,
 			LauncherConfigurationParameters configurationParameters) {
 		if (config.isTestExecutionListenerAutoRegistrationEnabled()) {
+			UnaryOperator<TestExecutionListener> asynchronousListenerFactory = createAsynchronousListenerFactory(
+				configurationParameters);
 			loadAndFilterTestExecutionListeners(configurationParameters).forEach(
-				launcher::registerTestExecutionListeners);
+				listener -> launcher.registerTestExecutionListeners(asynchronousListenerFactory.apply(listener)));
 		}
 		config.getAdditionalTestExecutionListeners().forEach(launcher::registerTestExecutionListeners);
 	}
@@ -204,4 +218,57 @@ public class LauncherFactory {
 		return ServiceLoaderRegistry.load(TestExecutionListener.class, classNameFilter);
 	}
 
+	private static UnaryOperator<TestExecutionListener> createAsynchronousListenerFactory(
+			ConfigurationParameters configurationParameters) {
+		Optional<Predicate<TestExecutionListener>> filter = configurationParameters.get(
+			ASYNC_LISTENERS_PATTERN_PROPERTY_NAME).map(ClassNamePatternFilterUtils::includeMatchingClasses);
+		if (!filter.isPresent()) {
+			return UnaryOperator.identity();
+		}
+		int bufferSize = getAsynchronousListenerBufferSize(configurationParameters);
+		Backpressure backpressure = getAsynchronousListenerBackpressure(configurationParameters);
+		return listener -> filter.get().test(listener) //
+				? new AsynchronousTestExecutionListener(listener, bufferSize, backpressure) //
+				: listener;
+	}
+
+	private static int getAsynchronousListenerBufferSize(ConfigurationParameters configurationParameters) {
+		String key = ASYNC_LISTENERS_BUFFER_SIZE_PROPERTY_NAME;
+		int defaultValue = AsynchronousTestExecutionListener.DEFAULT_BUFFER_SIZE;
+		Optional<String> value = configurationParameters.get(key);
+		if (value.isPresent()) {
+			try {
+				int result = Integer.parseInt(value.get().trim());
+				if (result > 0) {
+					return result;
+				}
+			}
+			catch (NumberFormatException ignore) {
+				// fall through
+			}
+			logger.warn(() -> String.format(
+				"Invalid buffer size '%s' set via the '%s' configuration parameter: must be an integer greater "
+						+ "than zero. Falling back to the default value %d.",
+				value.get(), key, defaultValue));
+		}
+		return defaultValue;
+	}
+
+	private static Backpressure getAsynchronousListenerBackpressure(ConfigurationParameters configurationParameters) {
+		String key = ASYNC_LISTENERS_BACKPRESSURE_PROPERTY_NAME;
+		Optional<String> value = configurationParameters.get(key);
+		if (value.isPresent()) {
+			try {
+				return Backpressure.valueOf(value.get().trim().toUpperCase(Locale.ROOT));
+			}
+			catch (IllegalArgumentException ex) {
+				logger.warn(() -> String.format(
+					"Invalid backpressure '%s' set via the '%s' configuration parameter. "
+							+ "Falling back to the %s default value.",
+					value.get(), key, Backpressure.BLOCK.name()));
+			}
+		}
+		return Backpressure.BLOCK;
+	}
+
 }
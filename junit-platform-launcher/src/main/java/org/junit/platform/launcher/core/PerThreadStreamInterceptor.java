@@ -0,0 +1,350 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * {@link StreamInterceptor} that lets each thread print to its own
+ * {@link PrintStream} and captures output in a per-thread ring buffer.
+ *
+ * <p>Characters are encoded and captured without holding a lock that is
+ * shared with other threads; only the encoded bytes are forwarded to the
+ * original stream. Output of threads that are not capturing is forwarded
+ * without being recorded. If more than the maximum number of bytes are
+ * written while capturing, the oldest bytes are discarded so that the end of
+ * the output is retained.
+ *
+ * @since 1.13
+ * @see StreamInterceptor.CaptureMode#PER_THREAD
+ */
+class PerThreadStreamInterceptor extends StreamInterceptor {
+
+	private final ThreadLocal<ThreadOutput> output;
+
+	PerThreadStreamInterceptor(PrintStream originalStream, Consumer<PrintStream> unregisterAction,
+			int maxNumberOfBytesPerThread) {
+		super(originalStream, unregisterAction, maxNumberOfBytesPerThread);
+		Charset charset = Charset.defaultCharset();
+		this.output = ThreadLocal.withInitial(
+			() -> new ThreadOutput(originalStream, new RingBuffer(maxNumberOfBytesPerThread, charset)));
+	}
+
+	@Override
+	void capture() {
+		output.get().buffer.mark();
+	}
+
+	@Override
+	String consume() {
+		return output.get().buffer.rewind();
+	}
+
+	private PrintStream stream() {
+		return output.get().printStream;
+	}
+
+	@Override
+	public void write(int b) {
+		stream().write(b);
+	}
+
+	@Override
+	public void write(byte[] buf, int off, int len) {
+		stream().write(buf, off, len);
+	}
+
+	@Override
+	public void flush() {
+		stream().flush();
+	}
+
+	@Override
+	public boolean checkError() {
+		return stream().checkError() || super.checkError();
+	}
+
+	@Override
+	public void print(boolean b) {
+		stream().print(b);
+	}
+
+	@Override
+	public void print(char c) {
+		stream().print(c);
+	}
+
+	@Override
+	public void print(int i) {
+		stream().print(i);
+	}
+
+	@Override
+	public void print(long l) {
+		stream().print(l);
+	}
+
+	@Override
+	public void print(float f) {
+		stream().print(f);
+	}
+
+	@Override
+	public void print(double d) {
+		stream().print(d);
+	}
+
+	@Override
+	public void print(char[] s) {
+		stream().print(s);
+	}
+
+	@Override
+	public void print(String s) {
+		stream().print(s);
+	}
+
+	@Override
+	public void print(Object obj) {
+		stream().print(obj);
+	}
+
+	@Override
+	public void println() {
+		stream().println();
+	}
+
+	@Override
+	public void println(boolean x) {
+		stream().println(x);
+	}
+
+	@Override
+	public void println(char x) {
+		stream().println(x);
+	}
+
+	@Override
+	public void println(int x) {
+		stream().println(x);
+	}
+
+	@Override
+	public void println(long x) {
+		stream().println(x);
+	}
+
+	@Override
+	public void println(float x) {
+		stream().println(x);
+	}
+
+	@Override
+	public void println(double x) {
+		stream().println(x);
+	}
+
+	@Override
+	public void println(char[] x) {
+		stream().println(x);
+	}
+
+	@Override
+	public void println(String x) {
+		stream().println(x);
+	}
+
+	@Override
+	public void println(Object x) {
+		stream().println(x);
+	}
+
+	@Override
+	public PrintStream format(String format, Object... args) {
+		stream().format(format, args);
+		return this;
+	}
+
+	@Override
+	public PrintStream format(Locale l, String format, Object... args) {
+		stream().format(l, format, args);
+		return this;
+	}
+
+	/**
+	 * Thread-confined target of a thread's {@link PrintStream} that records
+	 * output in its {@link RingBuffer} while capturing and forwards it to the
+	 * original stream.
+	 */
+	private static class ThreadOutput extends OutputStream {
+
+		private final PrintStream originalStream;
+		private final RingBuffer buffer;
+		private final PrintStream printStream;
+
+		ThreadOutput(PrintStream originalStream, RingBuffer buffer) {
+			this.originalStream = originalStream;
+			this.buffer = buffer;
+			this.printStream = new PrintStream(this);
+		}
+
+		@Override
+		public void write(int b) {
+			if (buffer.isMarked()) {
+				buffer.write(b);
+			}
+			originalStream.write(b);
+		}
+
+		@Override
+		public void write(byte[] buf, int off, int len) {
+			if (buffer.isMarked()) {
+				buffer.write(buf, off, len);
+			}
+			originalStream.write(buf, off, len);
+		}
+
+		@Override
+		public void flush() {
+			originalStream.flush();
+		}
+	}
+
+	/**
+	 * Unsynchronized buffer that retains the last {@code maxCapacity} bytes
+	 * written to it and supports nested captures like
+	 * {@link StreamInterceptor.RewindableByteArrayOutputStream}.
+	 *
+	 * <p>Positions are counted from the first byte ever written; the buffer
+	 * grows on demand up to {@code maxCapacity} bytes.
+	 */
+	static class RingBuffer {
+
+		private static final int INITIAL_CAPACITY = 256;
+
+		private final int maxCapacity;
+		private final Charset charset;
+		private final Deque<Long> markedPositions = new ArrayDeque<>();
+
+		private byte[] buf = new byte[0];
+
+		/** Position of the oldest retained byte. */
+		private long start;
+
+		/** Position after the most recently written byte. */
+		private long end;
+
+		RingBuffer(int maxCapacity, Charset charset) {
+			this.maxCapacity = Math.max(0, maxCapacity);
+			this.charset = charset;
+		}
+
+		boolean isMarked() {
+			return !markedPositions.isEmpty();
+		}
+
+		void mark() {
+			markedPositions.addFirst(end);
+		}
+
+		void write(int b) {
+			if (maxCapacity == 0) {
+				end++;
+				start = end;
+				return;
+			}
+			ensureCapacity(end + 1 - start);
+			buf[index(end)] = (byte) b;
+			end++;
+			start = Math.max(start, end - buf.length);
+		}
+
+		void write(byte[] b, int off, int len) {
+			if (len > maxCapacity) {
+				// Only the last maxCapacity bytes could be retained anyway
+				int skipped = len - maxCapacity;
+				end += skipped;
+				start = end;
+				off += skipped;
+				len = maxCapacity;
+			}
+			if (len == 0) {
+				return;
+			}
+			ensureCapacity(end + len - start);
+			int index = index(end);
+			int firstLength = Math.min(len, buf.length - index);
+			System.arraycopy(b, off, buf, index, firstLength);
+			System.arraycopy(b, off + firstLength, buf, 0, len - firstLength);
+			end += len;
+			start = Math.max(start, end - buf.length);
+		}
+
+		String rewind() {
+			Long mark = markedPositions.pollFirst();
+			if (mark == null || mark == end) {
+				return "";
+			}
+			long from = Math.max(start, mark);
+			String result = from == end ? "" : decode(from, end, from > mark);
+			end = mark;
+			start = Math.min(start, end);
+			return result;
+		}
+
+		private String decode(long from, long to, boolean truncated) {
+			int length = (int) (to - from);
+			int index = index(from);
+			if (truncated && UTF_8.equals(charset)) {
+				// Skip the remainder of a partially discarded character
+				while (length > 0 && (buf[index] & 0xC0) == 0x80) {
+					index = (index + 1) % buf.length;
+					length--;
+				}
+			}
+			if (index + length <= buf.length) {
+				// Decode directly from the buffer if the bytes are not wrapped around
+				return new String(buf, index, length, charset);
+			}
+			byte[] bytes = new byte[length];
+			int firstLength = buf.length - index;
+			System.arraycopy(buf, index, bytes, 0, firstLength);
+			System.arraycopy(buf, 0, bytes, firstLength, length - firstLength);
+			return new String(bytes, charset);
+		}
+
+		private void ensureCapacity(long required) {
+			if (required <= buf.length || buf.length == maxCapacity) {
+				return;
+			}
+			int newCapacity = (int) Math.min(maxCapacity,
+				Math.max(required, Math.max(INITIAL_CAPACITY, 2L * buf.length)));
+			byte[] newBuf = new byte[newCapacity];
+			for (long position = start; position < end; position++) {
+				newBuf[(int) (position % newCapacity)] = buf[index(position)];
+			}
+			buf = newBuf;
+		}
+
+		private int index(long position) {
+			return (int) (position % buf.length);
+		}
+	}
+
+}
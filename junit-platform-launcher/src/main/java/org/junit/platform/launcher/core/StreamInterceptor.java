@@ -32,25 +32,32 @@ class StreamInterceptor extends PrintStream {
 	private final ThreadLocal<RewindableByteArrayOutputStream> output = ThreadLocal.withInitial(
 		RewindableByteArrayOutputStream::new);
 
-	static Optional<StreamInterceptor> registerStdout(int maxNumberOfBytesPerThread) {
-		return register(System.out, System::setOut, maxNumberOfBytesPerThread);
+	static Optional<StreamInterceptor> registerStdout(int maxNumberOfBytesPerThread, CaptureMode mode) {
+		return register(System.out, System::setOut, maxNumberOfBytesPerThread, mode);
 	}
 
-	static Optional<StreamInterceptor> registerStderr(int maxNumberOfBytesPerThread) {
-		return register(System.err, System::setErr, maxNumberOfBytesPerThread);
+	static Optional<StreamInterceptor> registerStderr(int maxNumberOfBytesPerThread, CaptureMode mode) {
+		return register(System.err, System::setErr, maxNumberOfBytesPerThread, mode);
 	}
 
 	static Optional<StreamInterceptor> register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
 			int maxNumberOfBytesPerThread) {
+		return register(originalStream, streamSetter, maxNumberOfBytesPerThread, CaptureMode.SHARED);
+	}
+
+	static Optional<StreamInterceptor> register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
+			int maxNumberOfBytesPerThread, CaptureMode mode) {
 		if (originalStream instanceof StreamInterceptor) {
 			return Optional.empty();
 		}
-		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread);
+		StreamInterceptor interceptor = mode == CaptureMode.PER_THREAD
+				? new PerThreadStreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread)
+				: new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread);
 		streamSetter.accept(interceptor);
 		return Optional.of(interceptor);
 	}
 
-	private StreamInterceptor(PrintStream originalStream, Consumer<PrintStream> unregisterAction,
+	StreamInterceptor(PrintStream originalStream, Consumer<PrintStream> unregisterAction,
 			int maxNumberOfBytesPerThread) {
 		super(originalStream);
 		this.originalStream = originalStream;
@@ -117,6 +124,16 @@ class StreamInterceptor extends PrintStream {
 		return out.isMarked() ? out : mostRecentOutputs.peek();
 	}
 
+	/**
+	 * @since 1.13
+	 * @see org.junit.platform.launcher.LauncherConstants#CAPTURE_MODE_PROPERTY_NAME
+	 */
+	enum CaptureMode {
+
+		SHARED, PER_THREAD
+
+	}
+
 	static class RewindableByteArrayOutputStream extends ByteArrayOutputStream {
 
 		private final Deque<Integer> markedPositions = new ArrayDeque<>();
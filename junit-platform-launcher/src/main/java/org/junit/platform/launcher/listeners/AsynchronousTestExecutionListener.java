@@ -0,0 +1,358 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code AsynchronousTestExecutionListener} is a {@link TestExecutionListener}
+ * that notifies a delegate listener on a dedicated thread instead of the
+ * threads that execute tests.
+ *
+ * <p>Events are passed to the dedicated thread via a bounded buffer and
+ * delivered to the delegate in batches in the order in which they were
+ * received. Thus, the delegate is never called concurrently. This is
+ * beneficial for listeners that perform I/O for each event, e.g. those that
+ * generate reports, since it prevents them from adding latency to every test,
+ * especially when executing tests in parallel.
+ *
+ * <p>The dedicated thread is started when execution of a {@link TestPlan}
+ * {@linkplain #testPlanExecutionStarted(TestPlan) starts}. When execution of
+ * the {@code TestPlan} {@linkplain #testPlanExecutionFinished(TestPlan)
+ * finishes}, the calling thread waits until all events have been delivered to
+ * the delegate. If the buffer is full, the supplied {@link Backpressure}
+ * strategy determines how the threads that execute tests react.
+ *
+ * <p>Exceptions thrown by the delegate are logged and do not prevent
+ * subsequent events from being delivered. If the delegate throws an
+ * unrecoverable exception or the dedicated thread is interrupted, delivery
+ * stops, all subsequent events are discarded, and the unrecoverable exception
+ * is rethrown when execution of the {@code TestPlan} finishes.
+ *
+ * @since 1.13
+ * @see org.junit.platform.launcher.LauncherConstants#ASYNC_LISTENERS_PATTERN_PROPERTY_NAME
+ */
+@API(status = EXPERIMENTAL, since = "1.13")
+public class AsynchronousTestExecutionListener implements TestExecutionListener {
+
+	/**
+	 * Default number of events that can be buffered: {@value}
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+	private static final Logger logger = LoggerFactory.getLogger(AsynchronousTestExecutionListener.class);
+
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	private static final Event END_OF_EVENTS = new Event(listener -> {
+	}, () -> "end of events");
+
+	private final TestExecutionListener delegate;
+	private final int bufferSize;
+	private final Backpressure backpressure;
+	private final AtomicLong discardedEvents = new AtomicLong();
+
+	private volatile Delivery delivery;
+
+	/**
+	 * Create a new {@code AsynchronousTestExecutionListener} for the supplied
+	 * delegate using the {@linkplain #DEFAULT_BUFFER_SIZE default buffer size}
+	 * and {@link Backpressure#BLOCK}.
+	 *
+	 * @param delegate the listener to notify; never {@code null}
+	 */
+	public AsynchronousTestExecutionListener(TestExecutionListener delegate) {
+		this(delegate, DEFAULT_BUFFER_SIZE, Backpressure.BLOCK);
+	}
+
+	/**
+	 * Create a new {@code AsynchronousTestExecutionListener} for the supplied
+	 * delegate, buffer size, and backpressure strategy.
+	 *
+	 * @param delegate the listener to notify; never {@code null}
+	 * @param bufferSize the maximum number of buffered events; must be
+	 * greater than zero
+	 * @param backpressure the strategy to apply when the buffer is full;
+	 * never {@code null}
+	 */
+	public AsynchronousTestExecutionListener(TestExecutionListener delegate, int bufferSize,
+			Backpressure backpressure) {
+		this.delegate = Preconditions.notNull(delegate, "delegate must not be null");
+		Preconditions.condition(bufferSize > 0, "bufferSize must be greater than zero");
+		this.bufferSize = bufferSize;
+		this.backpressure = Preconditions.notNull(backpressure, "backpressure must not be null");
+	}
+
+	/**
+	 * {@return the listener notified by this listener}
+	 */
+	public TestExecutionListener getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * {@return the number of events discarded due to a full buffer during the
+	 * current or most recent execution of a {@link TestPlan}}
+	 *
+	 * <p>Events are only discarded when using {@link Backpressure#DISCARD} or
+	 * if delivery stopped due to an unrecoverable exception or interruption.
+	 */
+	public long getDiscardedEventCount() {
+		return this.discardedEvents.get();
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.discardedEvents.set(0);
+		Delivery delivery = new Delivery(new ArrayBlockingQueue<>(this.bufferSize));
+		delivery.thread.start();
+		this.delivery = delivery;
+		put(delivery, new Event(listener -> listener.testPlanExecutionStarted(testPlan),
+			() -> "testPlanExecutionStarted(" + testPlan + ")"));
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		Delivery delivery = this.delivery;
+		Event event = new Event(listener -> listener.testPlanExecutionFinished(testPlan),
+			() -> "testPlanExecutionFinished(" + testPlan + ")");
+		if (delivery == null) {
+			event.deliverTo(this.delegate);
+			return;
+		}
+		put(delivery, event);
+		put(delivery, END_OF_EVENTS);
+		awaitDelivery(delivery.thread);
+		this.delivery = null;
+		long discardedEvents = this.discardedEvents.get();
+		if (discardedEvents > 0) {
+			logger.warn(() -> String.format("Discarded %d events for TestExecutionListener [%s]", discardedEvents,
+				this.delegate.getClass().getName()));
+		}
+		if (delivery.failure != null) {
+			ExceptionUtils.throwAsUncheckedException(delivery.failure);
+		}
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		notifyDelegate(listener -> listener.dynamicTestRegistered(testIdentifier),
+			() -> "dynamicTestRegistered(" + testIdentifier + ")");
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		notifyDelegate(listener -> listener.executionSkipped(testIdentifier, reason),
+			() -> "executionSkipped(" + testIdentifier + ", " + reason + ")");
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		notifyDelegate(listener -> listener.executionStarted(testIdentifier),
+			() -> "executionStarted(" + testIdentifier + ")");
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		notifyDelegate(listener -> listener.executionFinished(testIdentifier, testExecutionResult),
+			() -> "executionFinished(" + testIdentifier + ", " + testExecutionResult + ")");
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		notifyDelegate(listener -> listener.reportingEntryPublished(testIdentifier, entry),
+			() -> "reportingEntryPublished(" + testIdentifier + ", " + entry + ")");
+	}
+
+	@Override
+	public void fileEntryPublished(TestIdentifier testIdentifier, FileEntry file) {
+		notifyDelegate(listener -> listener.fileEntryPublished(testIdentifier, file),
+			() -> "fileEntryPublished(" + testIdentifier + ", " + file + ")");
+	}
+
+	private void notifyDelegate(Consumer<TestExecutionListener> action, Supplier<String> description) {
+		Event event = new Event(action, description);
+		Delivery delivery = this.delivery;
+		if (delivery == null) {
+			event.deliverTo(this.delegate);
+		}
+		else if (this.backpressure == Backpressure.BLOCK) {
+			put(delivery, event);
+		}
+		else if (!delivery.thread.isAlive() || !delivery.buffer.offer(event)) {
+			this.discardedEvents.incrementAndGet();
+		}
+	}
+
+	private void deliverEvents(Delivery delivery) {
+		List<Event> batch = new ArrayList<>();
+		while (true) {
+			try {
+				batch.add(delivery.buffer.take());
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				logger.warn(() -> String.format(
+					"Delivery of events to TestExecutionListener [%s] was interrupted; discarding remaining events",
+					this.delegate.getClass().getName()));
+				return;
+			}
+			delivery.buffer.drainTo(batch, this.bufferSize);
+			for (Event event : batch) {
+				if (event == END_OF_EVENTS) {
+					return;
+				}
+				try {
+					event.deliverTo(this.delegate);
+				}
+				catch (Throwable throwable) {
+					delivery.failure = throwable;
+					return;
+				}
+			}
+			batch.clear();
+		}
+	}
+
+	private static void awaitDelivery(Thread deliveryThread) {
+		boolean interrupted = false;
+		while (deliveryThread.isAlive()) {
+			try {
+				deliveryThread.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Put the supplied event into the buffer of the supplied delivery, waiting
+	 * for room in the buffer as long as the delivery thread is alive.
+	 */
+	private void put(Delivery delivery, Event event) {
+		boolean interrupted = false;
+		boolean added = false;
+		while (!added && delivery.thread.isAlive()) {
+			try {
+				added = delivery.buffer.offer(event, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (!added && event != END_OF_EVENTS) {
+			this.discardedEvents.incrementAndGet();
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Strategy applied by an {@link AsynchronousTestExecutionListener} when
+	 * its buffer is full.
+	 *
+	 * @since 1.13
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public enum Backpressure {
+
+		/**
+		 * Block the calling thread until there is room in the buffer.
+		 *
+		 * <p>This is the default strategy. All events are delivered to the
+		 * delegate.
+		 */
+		BLOCK,
+
+		/**
+		 * Discard events that do not fit into the buffer so that calling
+		 * threads are never blocked.
+		 *
+		 * <p>Events notifying the delegate that execution of the
+		 * {@link TestPlan} has started or finished are never discarded. Since
+		 * all other events may be discarded, the delegate must be able to
+		 * cope with missing events, e.g. a finished test that was never
+		 * reported as started.
+		 */
+		DISCARD
+
+	}
+
+	/**
+	 * State of the delivery of events during execution of a single
+	 * {@link TestPlan}.
+	 */
+	private class Delivery {
+
+		private final BlockingQueue<Event> buffer;
+		private final Thread thread;
+		private volatile Throwable failure;
+
+		Delivery(BlockingQueue<Event> buffer) {
+			this.buffer = buffer;
+			this.thread = new Thread(() -> deliverEvents(this),
+				"junit-async-listener-" + AsynchronousTestExecutionListener.this.delegate.getClass().getName());
+			this.thread.setDaemon(true);
+		}
+
+	}
+
+	private static class Event {
+
+		private final Consumer<TestExecutionListener> action;
+		private final Supplier<String> description;
+
+		Event(Consumer<TestExecutionListener> action, Supplier<String> description) {
+			this.action = action;
+			this.description = description;
+		}
+
+		void deliverTo(TestExecutionListener listener) {
+			try {
+				this.action.accept(listener);
+			}
+			catch (Throwable throwable) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+				logger.warn(throwable, () -> String.format("TestExecutionListener [%s] threw exception for method: %s",
+					listener.getClass().getName(), this.description.get()));
+			}
+		}
+
+	}
+
+}
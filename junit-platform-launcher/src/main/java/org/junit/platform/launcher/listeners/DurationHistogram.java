@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds with a bounded relative
+ * error.
+ *
+ * <p>Values below {@value #SUB_BUCKET_COUNT} are counted exactly. Larger
+ * values are counted in buckets whose width is a power of two; each range
+ * between two consecutive powers of two is split into
+ * {@value #SUB_BUCKET_COUNT} buckets so that the relative error of reported
+ * values is at most {@code 1/}{@value #SUB_BUCKET_COUNT}. The buckets of such
+ * a range are only allocated once a value falls into it.
+ *
+ * <p>Values may be recorded concurrently by any number of threads; reading
+ * percentiles while values are being recorded yields a consistent but
+ * possibly slightly outdated result.
+ *
+ * @since 1.13
+ */
+final class DurationHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int RANGE_COUNT = Long.SIZE - SUB_BUCKET_BITS;
+
+	private final AtomicReferenceArray<AtomicLongArray> ranges = new AtomicReferenceArray<>(RANGE_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	void record(long nanos) {
+		long value = Math.max(0, nanos);
+		int range = range(value);
+		counts(range).incrementAndGet(subBucket(value, range));
+		this.count.increment();
+		this.sum.add(value);
+		long currentMax = this.max.get();
+		while (value > currentMax && !this.max.compareAndSet(currentMax, value)) {
+			currentMax = this.max.get();
+		}
+	}
+
+	long getCount() {
+		return this.count.sum();
+	}
+
+	long getMax() {
+		return this.max.get();
+	}
+
+	double getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : (double) this.sum.sum() / count;
+	}
+
+	/**
+	 * {@return the highest value that is equivalent to the value below which
+	 * the supplied percentage of all recorded values fall}
+	 *
+	 * @param percentile the percentile between {@code 0} and {@code 100}
+	 */
+	long getValueAtPercentile(double percentile) {
+		long[][] counts = new long[RANGE_COUNT][];
+		long total = 0;
+		for (int range = 0; range < RANGE_COUNT; range++) {
+			AtomicLongArray rangeCounts = this.ranges.get(range);
+			if (rangeCounts != null) {
+				counts[range] = new long[SUB_BUCKET_COUNT];
+				for (int subBucket = 0; subBucket < SUB_BUCKET_COUNT; subBucket++) {
+					counts[range][subBucket] = rangeCounts.get(subBucket);
+					total += counts[range][subBucket];
+				}
+			}
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+		long seen = 0;
+		for (int range = 0; range < RANGE_COUNT; range++) {
+			if (counts[range] != null) {
+				for (int subBucket = 0; subBucket < SUB_BUCKET_COUNT; subBucket++) {
+					seen += counts[range][subBucket];
+					if (seen >= rank) {
+						return Math.min(highestEquivalentValue(range, subBucket), getMax());
+					}
+				}
+			}
+		}
+		return getMax();
+	}
+
+	private AtomicLongArray counts(int range) {
+		AtomicLongArray counts = this.ranges.get(range);
+		if (counts == null) {
+			this.ranges.compareAndSet(range, null, new AtomicLongArray(SUB_BUCKET_COUNT));
+			counts = this.ranges.get(range);
+		}
+		return counts;
+	}
+
+	private static int range(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return 0;
+		}
+		int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		return highestBit - SUB_BUCKET_BITS + 1;
+	}
+
+	private static int subBucket(long value, int range) {
+		return range == 0 ? (int) value : (int) (value >>> (range - 1)) - SUB_BUCKET_COUNT;
+	}
+
+	private static long highestEquivalentValue(int range, int subBucket) {
+		if (range == 0) {
+			return subBucket;
+		}
+		long lowestValue = (long) (SUB_BUCKET_COUNT + subBucket) << (range - 1);
+		return lowestValue + (1L << (range - 1)) - 1;
+	}
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code DurationHistogramListener} records the durations of all tests and
+ * containers in histograms and writes a summary of their percentiles to a
+ * file.
+ *
+ * <p>When registered as a {@link LauncherSessionListener}, e.g. via
+ * {@link org.junit.platform.launcher.core.LauncherConfig.Builder#addLauncherSessionListeners
+ * LauncherConfig.Builder} or Java's {@link java.util.ServiceLoader} mechanism,
+ * the listener registers itself as {@link TestExecutionListener} with the
+ * launcher of each {@link LauncherSession} and writes the summary once the
+ * session has been {@linkplain #launcherSessionClosed(LauncherSession) closed}.
+ * When registered as a {@code TestExecutionListener} only, it writes the
+ * summary once execution of each {@link TestPlan} has
+ * {@linkplain #testPlanExecutionFinished(TestPlan) finished}. Recorded
+ * durations are discarded once a summary has been written so that each
+ * summary only covers a single session or test plan.
+ *
+ * <p>Durations are recorded per engine for tests and for containers
+ * representing classes, and per class for the tests it contains. Durations
+ * are recorded in lock-free histograms so that the listener adds next to no
+ * overhead when tests are executed in parallel.
+ *
+ * <p>Each line of the output file contains the number of recorded
+ * durations, their mean, 50th, 90th, and 99th percentile, and their maximum
+ * in milliseconds followed by the name of the histogram. Percentiles have a
+ * relative error of at most 6.25%.
+ *
+ * <h2>Configuration and Defaults</h2>
+ *
+ * <p>The path of the output file can be set via the
+ * {@link #OUTPUT_FILE_PROPERTY_NAME} configuration property. Otherwise, a file
+ * named {@link #DEFAULT_OUTPUT_FILE_NAME} is written to the same default output
+ * directory used by {@link UniqueIdTrackingListener}. If multiple test plans
+ * are executed during a session, the configuration parameters of the last
+ * one are used.
+ *
+ * <p>Configuration properties can be set via JVM system properties, via a
+ * {@code junit-platform.properties} file in the root of the classpath, or as
+ * JUnit Platform {@linkplain ConfigurationParameters configuration parameters}.
+ *
+ * @since 1.13
+ * @see SummaryGeneratingListener
+ */
+@API(status = EXPERIMENTAL, since = "1.13")
+public class DurationHistogramListener implements LauncherSessionListener, TestExecutionListener {
+
+	/**
+	 * Property name used to set the path to the file generated by the
+	 * {@code DurationHistogramListener}: {@value}
+	 *
+	 * <p>For details on the default output file, see the
+	 * {@linkplain DurationHistogramListener class-level Javadoc}.
+	 */
+	public static final String OUTPUT_FILE_PROPERTY_NAME = //
+		"junit.platform.listeners.durations.histogram.output.file";
+
+	/**
+	 * The default name of the file generated by the
+	 * {@code DurationHistogramListener}: {@value}
+	 *
+	 * @see #OUTPUT_FILE_PROPERTY_NAME
+	 */
+	public static final String DEFAULT_OUTPUT_FILE_NAME = "junit-platform-duration-histograms.txt";
+
+	private static final String HEADER_FORMAT = "%10s %10s %10s %10s %10s %10s  %s%n";
+	private static final String LINE_FORMAT = "%10d %10.3f %10.3f %10.3f %10.3f %10.3f  %s%n";
+
+	private final Logger logger = LoggerFactory.getLogger(DurationHistogramListener.class);
+
+	private final Map<UniqueId, Long> startTimes = new ConcurrentHashMap<>();
+	private final Map<String, DurationHistogram> engineTestHistograms = new ConcurrentHashMap<>();
+	private final Map<String, DurationHistogram> engineClassHistograms = new ConcurrentHashMap<>();
+	private final Map<String, DurationHistogram> classTestHistograms = new ConcurrentHashMap<>();
+	private final Map<UniqueId, Optional<DurationHistogram>> classTestHistogramsByParentId = new ConcurrentHashMap<>();
+
+	private volatile boolean sessionOpened;
+	private volatile TestPlan testPlan;
+	private volatile ConfigurationParameters configurationParameters;
+
+	public DurationHistogramListener() {
+		// to avoid missing-explicit-ctor warning
+	}
+
+	@Override
+	public void launcherSessionOpened(LauncherSession session) {
+		this.sessionOpened = true;
+		session.getLauncher().registerTestExecutionListeners(this);
+	}
+
+	@Override
+	public void launcherSessionClosed(LauncherSession session) {
+		writeSummary();
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.configurationParameters = testPlan.getConfigurationParameters();
+		this.testPlan = testPlan;
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		this.testPlan = null;
+		this.startTimes.clear();
+		this.classTestHistogramsByParentId.clear();
+		if (!this.sessionOpened) {
+			writeSummary();
+		}
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (this.testPlan != null) {
+			this.startTimes.put(testIdentifier.getUniqueIdObject(), System.nanoTime());
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		TestPlan testPlan = this.testPlan;
+		if (testPlan == null) {
+			return;
+		}
+		Long startTime = this.startTimes.remove(testIdentifier.getUniqueIdObject());
+		if (startTime == null) {
+			return;
+		}
+		long duration = System.nanoTime() - startTime;
+		String engineId = testIdentifier.getUniqueIdObject().getEngineId().orElse("");
+		if (testIdentifier.isTest()) {
+			histogram(this.engineTestHistograms, engineId).record(duration);
+			classTestHistogram(testPlan, testIdentifier).ifPresent(histogram -> histogram.record(duration));
+		}
+		else if (isClass(testIdentifier)) {
+			histogram(this.engineClassHistograms, engineId).record(duration);
+		}
+	}
+
+	private void writeSummary() {
+		ConfigurationParameters configurationParameters = this.configurationParameters;
+		if (configurationParameters != null
+				&& !(this.engineTestHistograms.isEmpty() && this.engineClassHistograms.isEmpty())) {
+			writeSummary(configurationParameters);
+		}
+		// Start over so that the next summary does not include these durations
+		this.engineTestHistograms.clear();
+		this.engineClassHistograms.clear();
+		this.classTestHistograms.clear();
+	}
+
+	private void writeSummary(ConfigurationParameters configurationParameters) {
+		Path outputFile;
+		try {
+			outputFile = getOutputFile(configurationParameters);
+		}
+		catch (Exception ex) {
+			logger.error(ex, () -> "Failed to create output file");
+			// Abort since we cannot generate the file.
+			return;
+		}
+
+		logger.debug(() -> "Writing duration histograms to output file " + outputFile.toAbsolutePath());
+		try {
+			writeHistograms(outputFile);
+		}
+		catch (IOException ex) {
+			logger.error(ex, () -> "Failed to write duration histograms to output file " + outputFile.toAbsolutePath());
+		}
+	}
+
+	private Optional<DurationHistogram> classTestHistogram(TestPlan testPlan, TestIdentifier testIdentifier) {
+		Optional<UniqueId> parentId = testIdentifier.getParentIdObject();
+		if (!parentId.isPresent()) {
+			return Optional.empty();
+		}
+		Optional<DurationHistogram> histogram = this.classTestHistogramsByParentId.get(parentId.get());
+		if (histogram == null) {
+			histogram = findClassName(testPlan, testPlan.getTestIdentifier(parentId.get())) //
+					.map(className -> histogram(this.classTestHistograms, className));
+			this.classTestHistogramsByParentId.put(parentId.get(), histogram);
+		}
+		return histogram;
+	}
+
+	private static Optional<String> findClassName(TestPlan testPlan, TestIdentifier testIdentifier) {
+		TestIdentifier current = testIdentifier;
+		while (current != null) {
+			TestSource source = current.getSource().orElse(null);
+			if (source instanceof ClassSource) {
+				return Optional.of(((ClassSource) source).getClassName());
+			}
+			current = testPlan.getParent(current).orElse(null);
+		}
+		return Optional.empty();
+	}
+
+	private static boolean isClass(TestIdentifier testIdentifier) {
+		return testIdentifier.getSource().filter(ClassSource.class::isInstance).isPresent();
+	}
+
+	private static DurationHistogram histogram(Map<String, DurationHistogram> histograms, String key) {
+		DurationHistogram histogram = histograms.get(key);
+		return histogram != null ? histogram : histograms.computeIfAbsent(key, __ -> new DurationHistogram());
+	}
+
+	private Path getOutputFile(ConfigurationParameters configurationParameters) throws IOException {
+		Optional<Path> customOutputFile = configurationParameters.get(OUTPUT_FILE_PROPERTY_NAME, Paths::get);
+		if (customOutputFile.isPresent()) {
+			Path outputFile = customOutputFile.get().toAbsolutePath();
+			Files.createDirectories(outputFile.getParent());
+			return outputFile;
+		}
+		return OutputDir.create(Optional.empty()).toPath().resolve(DEFAULT_OUTPUT_FILE_NAME);
+	}
+
+	private void writeHistograms(Path outputFile) throws IOException {
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(outputFile, UTF_8))) {
+			writer.printf(Locale.ROOT, HEADER_FORMAT, "count", "mean", "p50", "p90", "p99", "max", "histogram");
+			writeHistograms(writer, this.engineTestHistograms, engineId -> "engine " + engineId + ": tests");
+			writeHistograms(writer, this.engineClassHistograms, engineId -> "engine " + engineId + ": classes");
+			writeHistograms(writer, this.classTestHistograms, className -> "class " + className + ": tests");
+			if (writer.checkError()) {
+				throw new IOException("Failed to write to " + outputFile);
+			}
+		}
+	}
+
+	private static void writeHistograms(PrintWriter writer, Map<String, DurationHistogram> histograms,
+			Function<String, String> nameFunction) {
+		new TreeMap<>(histograms).forEach((key, histogram) -> writer.printf(Locale.ROOT, LINE_FORMAT,
+			histogram.getCount(), toMillis(histogram.getMean()), toMillis(histogram.getValueAtPercentile(50)),
+			toMillis(histogram.getValueAtPercentile(90)), toMillis(histogram.getValueAtPercentile(99)),
+			toMillis(histogram.getMax()), nameFunction.apply(key)));
+	}
+
+	private static double toMillis(double nanos) {
+		return nanos / 1_000_000;
+	}
+
+}
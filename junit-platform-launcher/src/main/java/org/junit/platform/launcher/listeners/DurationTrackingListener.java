@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code DurationTrackingListener} is a {@link TestExecutionListener} that
+ * tracks the durations of all tests and containers that were
+ * {@linkplain #executionFinished executed} during the execution of the
+ * {@link TestPlan} and writes them to a file once execution of the
+ * {@code TestPlan} has {@linkplain #testPlanExecutionFinished(TestPlan)
+ * finished}.
+ *
+ * <p>The output file is a properties file, encoded using ISO 8859-1, that
+ * maps {@linkplain TestIdentifier#getUniqueId() unique IDs} to durations in
+ * milliseconds. If the file already exists, its entries are updated and
+ * entries of tests and containers that were not executed are retained so
+ * that executing a subset of all tests does not discard previously recorded
+ * durations.
+ *
+ * <p>The output file can be passed to engines based on
+ * {@link HierarchicalTestEngine} via the
+ * {@value HierarchicalTestEngine#DURATIONS_FILE_PROPERTY_NAME} configuration
+ * parameter in order to start long-running tests first during subsequent
+ * parallel executions.
+ *
+ * <h2>Configuration and Defaults</h2>
+ *
+ * <p>The path of the output file can be set via the
+ * {@link #OUTPUT_FILE_PROPERTY_NAME} configuration property. Otherwise, a file
+ * named {@link #DEFAULT_OUTPUT_FILE_NAME} is written to the same default output
+ * directory used by {@link UniqueIdTrackingListener}.
+ *
+ * <p>Configuration properties can be set via JVM system properties, via a
+ * {@code junit-platform.properties} file in the root of the classpath, or as
+ * JUnit Platform {@linkplain ConfigurationParameters configuration parameters}.
+ *
+ * @since 1.13
+ */
+@API(status = EXPERIMENTAL, since = "1.13")
+public class DurationTrackingListener implements TestExecutionListener {
+
+	/**
+	 * Property name used to enable the {@code DurationTrackingListener}:
+	 * {@value}
+	 *
+	 * <p>The {@code DurationTrackingListener} is registered automatically via
+	 * Java's {@link java.util.ServiceLoader} mechanism but disabled by default.
+	 *
+	 * <p>Set the value of this property to {@code true} to enable this listener.
+	 */
+	public static final String LISTENER_ENABLED_PROPERTY_NAME = "junit.platform.listeners.durations.tracking.enabled";
+
+	/**
+	 * Property name used to set the path to the file generated by the
+	 * {@code DurationTrackingListener}: {@value}
+	 *
+	 * <p>For details on the default output file, see the
+	 * {@linkplain DurationTrackingListener class-level Javadoc}.
+	 */
+	public static final String OUTPUT_FILE_PROPERTY_NAME = "junit.platform.listeners.durations.tracking.output.file";
+
+	/**
+	 * The default name of the file generated by the
+	 * {@code DurationTrackingListener}: {@value}
+	 *
+	 * @see #OUTPUT_FILE_PROPERTY_NAME
+	 */
+	public static final String DEFAULT_OUTPUT_FILE_NAME = "junit-platform-durations.properties";
+
+	private final Logger logger = LoggerFactory.getLogger(DurationTrackingListener.class);
+
+	private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+	private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+	private boolean enabled;
+
+	public DurationTrackingListener() {
+		// to avoid missing-explicit-ctor warning
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.enabled = testPlan.getConfigurationParameters().getBoolean(LISTENER_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (this.enabled) {
+			this.startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		if (this.enabled) {
+			Long startTime = this.startTimes.remove(testIdentifier.getUniqueId());
+			if (startTime != null) {
+				long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+				this.durations.put(testIdentifier.getUniqueId(), duration);
+			}
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		if (this.enabled) {
+			Path outputFile;
+			try {
+				outputFile = getOutputFile(testPlan.getConfigurationParameters());
+			}
+			catch (Exception ex) {
+				logger.error(ex, () -> "Failed to create output file");
+				// Abort since we cannot generate the file.
+				return;
+			}
+
+			logger.debug(() -> "Writing durations to output file " + outputFile.toAbsolutePath());
+			try {
+				writeDurations(outputFile);
+			}
+			catch (IOException ex) {
+				logger.error(ex, () -> "Failed to write durations to output file " + outputFile.toAbsolutePath());
+			}
+		}
+		this.startTimes.clear();
+		this.durations.clear();
+	}
+
+	private Path getOutputFile(ConfigurationParameters configurationParameters) throws IOException {
+		Optional<Path> customOutputFile = configurationParameters.get(OUTPUT_FILE_PROPERTY_NAME, Paths::get);
+		if (customOutputFile.isPresent()) {
+			Path outputFile = customOutputFile.get().toAbsolutePath();
+			Files.createDirectories(outputFile.getParent());
+			return outputFile;
+		}
+		return OutputDir.create(Optional.empty()).toPath().resolve(DEFAULT_OUTPUT_FILE_NAME);
+	}
+
+	private void writeDurations(Path outputFile) throws IOException {
+		Properties properties = new Properties();
+		if (Files.isRegularFile(outputFile)) {
+			try (InputStream inputStream = Files.newInputStream(outputFile)) {
+				properties.load(inputStream);
+			}
+		}
+		this.durations.forEach((uniqueId, duration) -> properties.setProperty(uniqueId, String.valueOf(duration)));
+		try (OutputStream outputStream = Files.newOutputStream(outputFile)) {
+			properties.store(outputStream, "Durations of tests and containers in milliseconds");
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.binary;
+
+/**
+ * Constants of the binary event log format.
+ *
+ * <p>A log starts with {@link #MAGIC} and {@link #VERSION} followed by
+ * records. Each record consists of its length as an unsigned variable-length
+ * integer, its type, and its payload. Since interned strings and test
+ * identifiers are defined once and referenced by subsequent records, records
+ * are not self-contained; readers therefore reject records of unknown types
+ * instead of skipping them.
+ *
+ * <p>Integers are encoded as unsigned variable-length integers using seven
+ * bits per byte, least significant group first. Strings are encoded as the
+ * number of UTF-8 bytes plus one followed by the bytes; zero represents
+ * {@code null}. Interned strings and test identifiers are encoded as
+ * references: zero represents {@code null}, one is followed by a new
+ * definition, and any other value refers to the definition with index
+ * {@code value - 2}.
+ *
+ * <p>Every record except {@link #TEST_PLAN_EXECUTION_STARTED} starts with the
+ * number of microseconds elapsed since the previous record.
+ *
+ * <p>Test sources are encoded as their type followed by their fields, e.g.
+ * class and method names; file positions are encoded as the line plus one
+ * followed by the column plus one, where zero represents an absent value.
+ * Throwables are encoded as a presence flag followed by their class name,
+ * message, stack trace, cause, and suppressed throwables. Neither is encoded
+ * using Java serialization so that reading a log never instantiates
+ * arbitrary classes.
+ *
+ * @since 1.13
+ */
+final class BinaryEventLogFormat {
+
+	private BinaryEventLogFormat() {
+	}
+
+	static final int MAGIC = 0x4A554C47; // "JULG"
+
+	static final int VERSION = 1;
+
+	static final byte TEST_PLAN_EXECUTION_STARTED = 1;
+	static final byte TEST_PLAN_EXECUTION_FINISHED = 2;
+	static final byte DYNAMIC_TEST_REGISTERED = 3;
+	static final byte EXECUTION_SKIPPED = 4;
+	static final byte EXECUTION_STARTED = 5;
+	static final byte EXECUTION_FINISHED = 6;
+	static final byte REPORTING_ENTRY_PUBLISHED = 7;
+	static final byte FILE_ENTRY_PUBLISHED = 8;
+
+	static final int NULL_REFERENCE = 0;
+	static final int NEW_DEFINITION = 1;
+	static final int FIRST_INDEX = 2;
+
+	static final byte FULL_UNIQUE_ID = 0;
+	static final byte APPENDED_SEGMENT = 1;
+
+	static final byte NO_SOURCE = 0;
+	static final byte CLASS_SOURCE = 1;
+	static final byte METHOD_SOURCE = 2;
+	static final byte PACKAGE_SOURCE = 3;
+	static final byte CLASSPATH_RESOURCE_SOURCE = 4;
+	static final byte FILE_SOURCE = 5;
+	static final byte DIRECTORY_SOURCE = 6;
+	static final byte URI_SOURCE = 7;
+	static final byte COMPOSITE_SOURCE = 8;
+
+	static final byte NO_THROWABLE = 0;
+	static final byte THROWABLE = 1;
+
+}
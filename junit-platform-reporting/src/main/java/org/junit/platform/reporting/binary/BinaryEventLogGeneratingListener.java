@@ -0,0 +1,289 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.binary;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.APPENDED_SEGMENT;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.EXECUTION_FINISHED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.EXECUTION_SKIPPED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.EXECUTION_STARTED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.FILE_ENTRY_PUBLISHED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.FIRST_INDEX;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.FULL_UNIQUE_ID;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NEW_DEFINITION;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NULL_REFERENCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.TEST_PLAN_EXECUTION_FINISHED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.TEST_PLAN_EXECUTION_STARTED;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code BinaryEventLogGeneratingListener} is a {@link TestExecutionListener}
+ * that writes all events of a test run to a compact binary log file which can
+ * be replayed into any other {@code TestExecutionListener} using a
+ * {@link BinaryEventLogReader}, e.g. to generate reports later without
+ * executing the tests again.
+ *
+ * <p>Each {@link TestIdentifier} is written once and referenced by index
+ * afterwards. Unique IDs are written relative to the unique ID of their
+ * parent and the types of their segments are interned. Instead of absolute
+ * timestamps, the number of microseconds elapsed since the previous event is
+ * written as a variable-length integer.
+ *
+ * <p>The configuration parameters of the {@link TestPlan}, test sources, and
+ * throwables of failed tests are included in the log as well. Throwables are
+ * written as their class name, message, stack trace, cause, and suppressed
+ * throwables. Test sources are written as their type and fields; sources of
+ * custom types are written as their URI if they are a
+ * {@link org.junit.platform.engine.support.descriptor.UriSource UriSource}
+ * and omitted otherwise.
+ *
+ * <p>A new log file is written each time execution of a {@code TestPlan}
+ * starts; an existing file is overwritten.
+ *
+ * @since 1.13
+ * @see BinaryEventLogReader
+ */
+@API(status = EXPERIMENTAL, since = "1.13")
+public class BinaryEventLogGeneratingListener implements TestExecutionListener {
+
+	private final Path logFile;
+
+	private BinaryEventLogOutput output;
+	private TestPlan testPlan;
+	private Map<UniqueId, Integer> identifierIndexes;
+	private long lastMicros;
+
+	/**
+	 * Create a new {@code BinaryEventLogGeneratingListener} that writes to the
+	 * supplied file.
+	 *
+	 * @param logFile the file to write to; never {@code null}; its parent
+	 * directories are created if necessary
+	 */
+	public BinaryEventLogGeneratingListener(Path logFile) {
+		this.logFile = Preconditions.notNull(logFile, "logFile must not be null");
+	}
+
+	@Override
+	public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+		try {
+			Path parentDir = this.logFile.toAbsolutePath().getParent();
+			if (parentDir != null) {
+				Files.createDirectories(parentDir);
+			}
+			this.output = new BinaryEventLogOutput(new BufferedOutputStream(Files.newOutputStream(this.logFile)));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to create binary event log: " + this.logFile, e);
+		}
+		this.testPlan = testPlan;
+		this.identifierIndexes = new HashMap<>();
+		this.lastMicros = currentMicros();
+
+		this.output.startRecord(TEST_PLAN_EXECUTION_STARTED);
+		Instant now = Instant.now();
+		this.output.writeVarLong(TimeUnit.SECONDS.toMicros(now.getEpochSecond())
+				+ TimeUnit.NANOSECONDS.toMicros(now.getNano()));
+		this.output.writeByte(testPlan.containsTests() ? 1 : 0);
+		ConfigurationParameters configurationParameters = testPlan.getConfigurationParameters();
+		Set<String> keys = configurationParameters.keySet();
+		this.output.writeVarLong(keys.size());
+		keys.forEach(key -> {
+			this.output.writeInternedString(key);
+			this.output.writeString(configurationParameters.get(key).orElse(null));
+		});
+		// Identifiers are visited depth-first so that parents are written first
+		this.output.writeVarLong(testPlan.countTestIdentifiers(testIdentifier -> true));
+		testPlan.accept(new TestPlan.Visitor() {
+			@Override
+			public void visit(TestIdentifier testIdentifier) {
+				writeTestIdentifierDefinition(testIdentifier);
+			}
+		});
+		endRecord();
+	}
+
+	@Override
+	public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+		if (startRecord(TEST_PLAN_EXECUTION_FINISHED)) {
+			endRecord();
+			try {
+				this.output.close();
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException("Failed to close binary event log: " + this.logFile, e);
+			}
+			finally {
+				this.output = null;
+				this.testPlan = null;
+				this.identifierIndexes = null;
+			}
+		}
+	}
+
+	@Override
+	public synchronized void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		if (startRecord(DYNAMIC_TEST_REGISTERED)) {
+			writeTestIdentifier(testIdentifier);
+			endRecord();
+		}
+	}
+
+	@Override
+	public synchronized void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		if (startRecord(EXECUTION_SKIPPED)) {
+			writeTestIdentifier(testIdentifier);
+			this.output.writeString(reason);
+			endRecord();
+		}
+	}
+
+	@Override
+	public synchronized void executionStarted(TestIdentifier testIdentifier) {
+		if (startRecord(EXECUTION_STARTED)) {
+			writeTestIdentifier(testIdentifier);
+			endRecord();
+		}
+	}
+
+	@Override
+	public synchronized void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		if (startRecord(EXECUTION_FINISHED)) {
+			writeTestIdentifier(testIdentifier);
+			this.output.writeByte(testExecutionResult.getStatus().ordinal());
+			this.output.writeThrowable(testExecutionResult.getThrowable().orElse(null));
+			endRecord();
+		}
+	}
+
+	@Override
+	public synchronized void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		if (startRecord(REPORTING_ENTRY_PUBLISHED)) {
+			writeTestIdentifier(testIdentifier);
+			Map<String, String> keyValuePairs = entry.getKeyValuePairs();
+			this.output.writeVarLong(keyValuePairs.size());
+			keyValuePairs.forEach((key, value) -> {
+				this.output.writeInternedString(key);
+				this.output.writeString(value);
+			});
+			endRecord();
+		}
+	}
+
+	@Override
+	public synchronized void fileEntryPublished(TestIdentifier testIdentifier, FileEntry file) {
+		if (startRecord(FILE_ENTRY_PUBLISHED)) {
+			writeTestIdentifier(testIdentifier);
+			this.output.writeString(file.getPath().toString());
+			this.output.writeInternedString(file.getMediaType().orElse(null));
+			endRecord();
+		}
+	}
+
+	private boolean startRecord(byte type) {
+		if (this.output == null) {
+			return false;
+		}
+		long micros = currentMicros();
+		this.output.startRecord(type);
+		this.output.writeVarLong(Math.max(0, micros - this.lastMicros));
+		this.lastMicros = Math.max(micros, this.lastMicros);
+		return true;
+	}
+
+	private void endRecord() {
+		try {
+			this.output.endRecord();
+		}
+		catch (IOException e) {
+			try {
+				this.output.close();
+			}
+			catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+			this.output = null;
+			throw new UncheckedIOException("Failed to write binary event log: " + this.logFile, e);
+		}
+	}
+
+	private void writeTestIdentifier(TestIdentifier testIdentifier) {
+		if (testIdentifier == null) {
+			this.output.writeVarLong(NULL_REFERENCE);
+			return;
+		}
+		Integer index = this.identifierIndexes.get(testIdentifier.getUniqueIdObject());
+		if (index != null) {
+			this.output.writeVarLong(FIRST_INDEX + (long) index);
+			return;
+		}
+		this.output.writeVarLong(NEW_DEFINITION);
+		writeTestIdentifierDefinition(testIdentifier);
+	}
+
+	private void writeTestIdentifierDefinition(TestIdentifier testIdentifier) {
+		TestIdentifier parent = this.testPlan.getParent(testIdentifier).orElse(null);
+		writeTestIdentifier(parent);
+		UniqueId uniqueId = testIdentifier.getUniqueIdObject();
+		List<UniqueId.Segment> segments = uniqueId.getSegments();
+		if (parent != null && segments.size() > 1
+				&& uniqueId.removeLastSegment().equals(parent.getUniqueIdObject())) {
+			UniqueId.Segment lastSegment = segments.get(segments.size() - 1);
+			this.output.writeByte(APPENDED_SEGMENT);
+			this.output.writeInternedString(lastSegment.getType());
+			this.output.writeString(lastSegment.getValue());
+		}
+		else {
+			this.output.writeByte(FULL_UNIQUE_ID);
+			this.output.writeString(uniqueId.toString());
+		}
+		String displayName = testIdentifier.getDisplayName();
+		String legacyReportingName = testIdentifier.getLegacyReportingName();
+		this.output.writeString(displayName);
+		this.output.writeString(displayName.equals(legacyReportingName) ? null : legacyReportingName);
+		this.output.writeByte(testIdentifier.getType().ordinal());
+		Set<TestTag> tags = testIdentifier.getTags();
+		this.output.writeVarLong(tags.size());
+		tags.forEach(tag -> this.output.writeInternedString(tag.getName()));
+		this.output.writeTestSource(testIdentifier.getSource().orElse(null));
+		this.identifierIndexes.put(uniqueId, this.identifierIndexes.size());
+	}
+
+	private static long currentMicros() {
+		return TimeUnit.NANOSECONDS.toMicros(System.nanoTime());
+	}
+
+}
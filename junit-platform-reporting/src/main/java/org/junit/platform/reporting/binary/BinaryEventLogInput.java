@@ -0,0 +1,321 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.binary;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.CLASSPATH_RESOURCE_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.CLASS_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.COMPOSITE_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.DIRECTORY_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.FILE_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.FIRST_INDEX;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.MAGIC;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.METHOD_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NEW_DEFINITION;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NO_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NO_THROWABLE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NULL_REFERENCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.PACKAGE_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.THROWABLE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.URI_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.VERSION;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.CompositeTestSource;
+import org.junit.platform.engine.support.descriptor.DirectorySource;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.descriptor.PackageSource;
+import org.junit.platform.engine.support.descriptor.UriSource;
+
+/**
+ * Reads records of the {@linkplain BinaryEventLogFormat binary event log
+ * format} from an {@link InputStream}.
+ *
+ * <p>Not thread-safe.
+ *
+ * @since 1.13
+ */
+class BinaryEventLogInput implements AutoCloseable {
+
+	private final InputStream in;
+	private final List<String> internedStrings = new ArrayList<>();
+
+	private byte[] record = new byte[256];
+	private int recordLength;
+	private int position;
+	private long streamOffset;
+	private long recordOffset;
+
+	BinaryEventLogInput(InputStream in) throws IOException {
+		this.in = in;
+		int magic = 0;
+		for (int i = 0; i < 4; i++) {
+			int b = in.read();
+			if (b < 0) {
+				throw new JUnitException("Not a binary event log: file is too short");
+			}
+			magic = (magic << 8) | b;
+		}
+		if (magic != MAGIC) {
+			throw new JUnitException("Not a binary event log: unexpected magic number " + Integer.toHexString(magic));
+		}
+		this.streamOffset = 4;
+		long version = readStreamVarLong();
+		if (version != VERSION) {
+			throw new JUnitException("Unsupported binary event log version: " + version);
+		}
+	}
+
+	/**
+	 * Read the next record.
+	 *
+	 * @return the type of the record or {@code -1} if there are no more
+	 * complete records
+	 */
+	int nextRecord() throws IOException {
+		long lengthOffset = this.streamOffset;
+		long length;
+		try {
+			length = readStreamVarLong();
+		}
+		catch (EOFException e) {
+			return -1;
+		}
+		if (length <= 0 || length > Integer.MAX_VALUE) {
+			throw corrupt(lengthOffset, "invalid record length " + length);
+		}
+		if (length > this.record.length) {
+			this.record = new byte[Math.max((int) length, this.record.length * 2)];
+		}
+		int read = 0;
+		while (read < length) {
+			int count = this.in.read(this.record, read, (int) length - read);
+			if (count < 0) {
+				// Incomplete trailing record, e.g. of a process that was killed
+				return -1;
+			}
+			read += count;
+		}
+		this.recordLength = (int) length;
+		this.position = 1;
+		this.recordOffset = this.streamOffset;
+		this.streamOffset += length;
+		return this.record[0] & 0xFF;
+	}
+
+	/**
+	 * {@return the offset of the current record in the file}
+	 */
+	long getRecordOffset() {
+		return this.recordOffset;
+	}
+
+	/**
+	 * {@return the offset of the next byte of the current record in the file}
+	 */
+	long getOffset() {
+		return this.recordOffset + this.position;
+	}
+
+	int readByte() {
+		checkRemaining(1);
+		return this.record[this.position++] & 0xFF;
+	}
+
+	long readVarLong() {
+		long offset = getOffset();
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw corrupt(offset, "variable-length integer is too long");
+	}
+
+	int readVarInt() {
+		long offset = getOffset();
+		long value = readVarLong();
+		if (value > Integer.MAX_VALUE) {
+			throw corrupt(offset, "integer is too large: " + value);
+		}
+		return (int) value;
+	}
+
+	String readString() {
+		int length = readVarInt();
+		if (length == 0) {
+			return null;
+		}
+		checkRemaining(length - 1);
+		String value = new String(this.record, this.position, length - 1, UTF_8);
+		this.position += length - 1;
+		return value;
+	}
+
+	String readInternedString() {
+		long offset = getOffset();
+		int reference = readVarInt();
+		if (reference == NULL_REFERENCE) {
+			return null;
+		}
+		if (reference == NEW_DEFINITION) {
+			String value = readString();
+			this.internedStrings.add(value);
+			return value;
+		}
+		int index = reference - FIRST_INDEX;
+		if (index >= this.internedStrings.size()) {
+			throw corrupt(offset, "unknown string reference " + reference);
+		}
+		return this.internedStrings.get(index);
+	}
+
+	TestSource readTestSource() {
+		long offset = getOffset();
+		int type = readByte();
+		switch (type) {
+			case NO_SOURCE:
+				return null;
+			case CLASS_SOURCE:
+				return ClassSource.from(readInternedString(), readFilePosition());
+			case METHOD_SOURCE:
+				return MethodSource.from(readInternedString(), readString(), readString());
+			case PACKAGE_SOURCE:
+				return PackageSource.from(readInternedString());
+			case CLASSPATH_RESOURCE_SOURCE:
+				return ClasspathResourceSource.from(readString(), readFilePosition());
+			case FILE_SOURCE:
+				return FileSource.from(new File(readString()), readFilePosition());
+			case DIRECTORY_SOURCE:
+				return DirectorySource.from(new File(readString()));
+			case URI_SOURCE:
+				return UriSource.from(URI.create(readString()));
+			case COMPOSITE_SOURCE:
+				int count = readVarInt();
+				List<TestSource> sources = new ArrayList<>(Math.min(count, 16));
+				for (int i = 0; i < count; i++) {
+					TestSource source = readTestSource();
+					if (source != null) {
+						sources.add(source);
+					}
+				}
+				return sources.isEmpty() ? null : CompositeTestSource.from(sources);
+			default:
+				throw corrupt(offset, "unknown test source type " + type);
+		}
+	}
+
+	private FilePosition readFilePosition() {
+		int line = readVarInt();
+		if (line == 0) {
+			return null;
+		}
+		int column = readVarInt();
+		return column == 0 ? FilePosition.from(line - 1) : FilePosition.from(line - 1, column - 1);
+	}
+
+	/**
+	 * Read a throwable.
+	 *
+	 * <p>Since the recorded classes might not be available or must not be
+	 * instantiated, the returned throwable is a {@link ReplayedThrowable} that
+	 * reports the recorded class name, message, and stack trace.
+	 */
+	Throwable readThrowable() {
+		long offset = getOffset();
+		int presence = readByte();
+		if (presence == NO_THROWABLE) {
+			return null;
+		}
+		if (presence != THROWABLE) {
+			throw corrupt(offset, "unknown throwable marker " + presence);
+		}
+		String className = readInternedString();
+		String message = readString();
+		int stackTraceLength = readVarInt();
+		checkRemaining(stackTraceLength);
+		StackTraceElement[] stackTrace = new StackTraceElement[stackTraceLength];
+		for (int i = 0; i < stackTraceLength; i++) {
+			String declaringClass = readInternedString();
+			String methodName = readInternedString();
+			String fileName = readInternedString();
+			int lineNumber = readVarInt() - 2;
+			stackTrace[i] = new StackTraceElement(declaringClass, methodName, fileName, lineNumber);
+		}
+		ReplayedThrowable throwable = new ReplayedThrowable(className, message);
+		throwable.setStackTrace(stackTrace);
+		Throwable cause = readThrowable();
+		if (cause != null) {
+			throwable.initCause(cause);
+		}
+		int suppressedCount = readVarInt();
+		for (int i = 0; i < suppressedCount; i++) {
+			Throwable suppressed = readThrowable();
+			if (suppressed != null) {
+				throwable.addSuppressed(suppressed);
+			}
+		}
+		return throwable;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.in.close();
+	}
+
+	/**
+	 * Create an exception that reports that the log is corrupt at the
+	 * supplied offset.
+	 */
+	static JUnitException corrupt(long offset, String message) {
+		return new JUnitException("Corrupt binary event log at offset " + offset + ": " + message);
+	}
+
+	private void checkRemaining(int count) {
+		if (count > this.recordLength - this.position) {
+			throw corrupt(getOffset(), "record is too short");
+		}
+	}
+
+	private long readStreamVarLong() throws IOException {
+		long offset = this.streamOffset;
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = this.in.read();
+			if (b < 0) {
+				throw new EOFException();
+			}
+			this.streamOffset++;
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw corrupt(offset, "variable-length integer is too long");
+	}
+
+}
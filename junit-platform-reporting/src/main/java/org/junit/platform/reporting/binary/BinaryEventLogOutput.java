@@ -0,0 +1,249 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.binary;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.CLASSPATH_RESOURCE_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.CLASS_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.COMPOSITE_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.DIRECTORY_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.FILE_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.FIRST_INDEX;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.MAGIC;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.METHOD_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NEW_DEFINITION;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NO_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NO_THROWABLE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NULL_REFERENCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.PACKAGE_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.THROWABLE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.URI_SOURCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.VERSION;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.CompositeTestSource;
+import org.junit.platform.engine.support.descriptor.DirectorySource;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.descriptor.PackageSource;
+import org.junit.platform.engine.support.descriptor.UriSource;
+
+/**
+ * Writes records of the {@linkplain BinaryEventLogFormat binary event log
+ * format} to an {@link OutputStream}.
+ *
+ * <p>Not thread-safe.
+ *
+ * @since 1.13
+ */
+class BinaryEventLogOutput implements AutoCloseable {
+
+	private final OutputStream out;
+	private final RecordBuffer record = new RecordBuffer();
+	private final Map<String, Integer> internedStrings = new HashMap<>();
+
+	BinaryEventLogOutput(OutputStream out) throws IOException {
+		this.out = out;
+		this.record.writeInt(MAGIC);
+		this.record.writeVarLong(VERSION);
+		this.record.writeTo(out);
+		this.record.reset();
+	}
+
+	void startRecord(byte type) {
+		this.record.reset();
+		this.record.write(type);
+	}
+
+	void endRecord() throws IOException {
+		writeVarLong(this.out, this.record.size());
+		this.record.writeTo(this.out);
+	}
+
+	void writeByte(int value) {
+		this.record.write(value);
+	}
+
+	void writeVarLong(long value) {
+		this.record.writeVarLong(value);
+	}
+
+	void writeString(String value) {
+		if (value == null) {
+			this.record.writeVarLong(0);
+			return;
+		}
+		byte[] bytes = value.getBytes(UTF_8);
+		this.record.writeVarLong(bytes.length + 1L);
+		this.record.write(bytes, 0, bytes.length);
+	}
+
+	void writeInternedString(String value) {
+		if (value == null) {
+			this.record.writeVarLong(NULL_REFERENCE);
+			return;
+		}
+		Integer index = this.internedStrings.get(value);
+		if (index != null) {
+			this.record.writeVarLong(FIRST_INDEX + (long) index);
+			return;
+		}
+		this.internedStrings.put(value, this.internedStrings.size());
+		this.record.writeVarLong(NEW_DEFINITION);
+		writeString(value);
+	}
+
+	/**
+	 * Write the type and fields of the supplied test source.
+	 *
+	 * <p>Sources of types not supported by the format are written as their
+	 * URI, if they are a {@link UriSource}, and omitted otherwise.
+	 */
+	void writeTestSource(TestSource source) {
+		if (source instanceof ClassSource) {
+			ClassSource classSource = (ClassSource) source;
+			this.record.write(CLASS_SOURCE);
+			writeInternedString(classSource.getClassName());
+			writeFilePosition(classSource.getPosition());
+		}
+		else if (source instanceof MethodSource) {
+			MethodSource methodSource = (MethodSource) source;
+			this.record.write(METHOD_SOURCE);
+			writeInternedString(methodSource.getClassName());
+			writeString(methodSource.getMethodName());
+			writeString(methodSource.getMethodParameterTypes());
+		}
+		else if (source instanceof PackageSource) {
+			this.record.write(PACKAGE_SOURCE);
+			writeInternedString(((PackageSource) source).getPackageName());
+		}
+		else if (source instanceof ClasspathResourceSource) {
+			ClasspathResourceSource resourceSource = (ClasspathResourceSource) source;
+			this.record.write(CLASSPATH_RESOURCE_SOURCE);
+			writeString(resourceSource.getClasspathResourceName());
+			writeFilePosition(resourceSource.getPosition());
+		}
+		else if (source instanceof FileSource) {
+			FileSource fileSource = (FileSource) source;
+			this.record.write(FILE_SOURCE);
+			writeString(fileSource.getFile().getPath());
+			writeFilePosition(fileSource.getPosition());
+		}
+		else if (source instanceof DirectorySource) {
+			this.record.write(DIRECTORY_SOURCE);
+			writeString(((DirectorySource) source).getFile().getPath());
+		}
+		else if (source instanceof UriSource) {
+			this.record.write(URI_SOURCE);
+			writeString(((UriSource) source).getUri().toString());
+		}
+		else if (source instanceof CompositeTestSource) {
+			List<TestSource> sources = ((CompositeTestSource) source).getSources();
+			this.record.write(COMPOSITE_SOURCE);
+			this.record.writeVarLong(sources.size());
+			sources.forEach(this::writeTestSource);
+		}
+		else {
+			this.record.write(NO_SOURCE);
+		}
+	}
+
+	private void writeFilePosition(Optional<FilePosition> position) {
+		this.record.writeVarLong(position.map(it -> it.getLine() + 1L).orElse(0L));
+		if (position.isPresent()) {
+			this.record.writeVarLong(position.get().getColumn().map(column -> column + 1L).orElse(0L));
+		}
+	}
+
+	/**
+	 * Write the class name, message, stack trace, cause, and suppressed
+	 * throwables of the supplied throwable.
+	 */
+	void writeThrowable(Throwable throwable) {
+		writeThrowable(throwable, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	private void writeThrowable(Throwable throwable, Set<Throwable> visited) {
+		if (throwable == null || !visited.add(throwable)) {
+			this.record.write(NO_THROWABLE);
+			return;
+		}
+		this.record.write(THROWABLE);
+		writeInternedString(throwable.getClass().getName());
+		writeString(throwable.getMessage());
+		StackTraceElement[] stackTrace = throwable.getStackTrace();
+		this.record.writeVarLong(stackTrace.length);
+		for (StackTraceElement element : stackTrace) {
+			writeInternedString(element.getClassName());
+			writeInternedString(element.getMethodName());
+			writeInternedString(element.getFileName());
+			// Line numbers are negative for native methods and unknown lines
+			this.record.writeVarLong(Math.max(element.getLineNumber(), -2) + 2L);
+		}
+		writeThrowable(throwable.getCause(), visited);
+		Throwable[] suppressed = throwable.getSuppressed();
+		this.record.writeVarLong(suppressed.length);
+		for (Throwable suppressedThrowable : suppressed) {
+			writeThrowable(suppressedThrowable, visited);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.out.close();
+	}
+
+	private static void writeVarLong(OutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static class RecordBuffer extends ByteArrayOutputStream {
+
+		RecordBuffer() {
+			super(256);
+		}
+
+		void writeInt(int value) {
+			write(value >>> 24);
+			write(value >>> 16);
+			write(value >>> 8);
+			write(value);
+		}
+
+		void writeVarLong(long value) {
+			while ((value & ~0x7FL) != 0) {
+				write((int) ((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+			write((int) value);
+		}
+
+	}
+
+}
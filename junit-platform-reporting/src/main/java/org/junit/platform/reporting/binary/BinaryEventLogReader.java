@@ -0,0 +1,454 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.binary;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.APPENDED_SEGMENT;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.EXECUTION_FINISHED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.EXECUTION_SKIPPED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.EXECUTION_STARTED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.FILE_ENTRY_PUBLISHED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.FIRST_INDEX;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NEW_DEFINITION;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.NULL_REFERENCE;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.TEST_PLAN_EXECUTION_FINISHED;
+import static org.junit.platform.reporting.binary.BinaryEventLogFormat.TEST_PLAN_EXECUTION_STARTED;
+import static org.junit.platform.reporting.binary.BinaryEventLogInput.corrupt;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.OutputDirectoryProvider;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code BinaryEventLogReader} replays binary event logs written by a
+ * {@link BinaryEventLogGeneratingListener} into any
+ * {@link TestExecutionListener}, e.g. to generate reports later without
+ * executing the tests again.
+ *
+ * <p>The {@link TestPlan} passed to the listener contains the configuration
+ * parameters recorded in the log. Its {@link OutputDirectoryProvider}
+ * creates output directories below the directory supplied to
+ * {@link #replay(TestExecutionListener, Path)}.
+ *
+ * <p>Listeners that record the time of events should use the
+ * {@linkplain #getClock() clock} of this reader, e.g. by passing it to the
+ * constructor of
+ * {@link org.junit.platform.reporting.legacy.xml.LegacyXmlReportGeneratingListener
+ * LegacyXmlReportGeneratingListener}, in order to use the recorded times
+ * instead of the times at which the events are replayed. The timestamps of
+ * {@linkplain ReportEntry report entries} and {@linkplain FileEntry file
+ * entries} are not recorded.
+ *
+ * <p>Logs written by processes that terminated abnormally are replayed up to
+ * the last complete event. Throwables are replayed as
+ * {@link ReplayedThrowable ReplayedThrowables} that report the recorded class
+ * name, message, stack trace, cause, and suppressed throwables; the recorded
+ * classes are never loaded.
+ *
+ * @since 1.13
+ * @see BinaryEventLogGeneratingListener
+ */
+@API(status = EXPERIMENTAL, since = "1.13")
+public class BinaryEventLogReader {
+
+	private static final Pattern FORBIDDEN_CHARS = Pattern.compile("[^a-z0-9.,_\\-() ]", Pattern.CASE_INSENSITIVE);
+
+	private final Path logFile;
+	private final Clock clock = new ReplayClock(ZoneId.systemDefault());
+
+	private volatile Instant currentInstant = Instant.EPOCH;
+
+	/**
+	 * Create a new {@code BinaryEventLogReader} for the supplied file.
+	 *
+	 * @param logFile the file to read; never {@code null}
+	 */
+	public BinaryEventLogReader(Path logFile) {
+		this.logFile = Preconditions.notNull(logFile, "logFile must not be null");
+	}
+
+	/**
+	 * {@return a clock whose current instant is the time at which the event
+	 * that is currently being replayed was recorded}
+	 */
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Replay the events of the log file into the supplied listener using the
+	 * directory that contains the log file as output directory.
+	 *
+	 * @param listener the listener to notify; never {@code null}
+	 * @throws IOException if the log file cannot be read
+	 * @see #replay(TestExecutionListener, Path)
+	 */
+	public void replay(TestExecutionListener listener) throws IOException {
+		replay(listener, this.logFile.toAbsolutePath().getParent());
+	}
+
+	/**
+	 * Replay the events of the log file into the supplied listener.
+	 *
+	 * @param listener the listener to notify; never {@code null}
+	 * @param outputDirectory the root directory of the
+	 * {@link OutputDirectoryProvider} of the replayed {@link TestPlan}; never
+	 * {@code null}
+	 * @throws IOException if the log file cannot be read
+	 * @throws JUnitException if the log file is not a valid binary event log
+	 */
+	public void replay(TestExecutionListener listener, Path outputDirectory) throws IOException {
+		Preconditions.notNull(listener, "listener must not be null");
+		Preconditions.notNull(outputDirectory, "outputDirectory must not be null");
+		try (BinaryEventLogInput input = new BinaryEventLogInput(
+			new BufferedInputStream(Files.newInputStream(this.logFile)))) {
+			new Replay(input, listener, outputDirectory).run();
+		}
+	}
+
+	private class Replay {
+
+		private final BinaryEventLogInput input;
+		private final TestExecutionListener listener;
+		private final OutputDirectoryProvider outputDirectoryProvider;
+		private final List<ReplayedTestDescriptor> testDescriptors = new ArrayList<>();
+
+		private ReplayedTestPlan testPlan;
+		private long micros;
+
+		Replay(BinaryEventLogInput input, TestExecutionListener listener, Path outputDirectory) {
+			this.input = input;
+			this.listener = listener;
+			this.outputDirectoryProvider = new ReplayedOutputDirectoryProvider(outputDirectory);
+		}
+
+		void run() throws IOException {
+			for (int type = input.nextRecord(); type >= 0; type = input.nextRecord()) {
+				if (type == TEST_PLAN_EXECUTION_STARTED) {
+					testPlanExecutionStarted();
+					continue;
+				}
+				if (testPlan == null) {
+					throw corrupt(input.getRecordOffset(), "event recorded before test plan");
+				}
+				switch (type) {
+					case TEST_PLAN_EXECUTION_FINISHED:
+						advanceClock();
+						listener.testPlanExecutionFinished(testPlan);
+						testPlan = null;
+						break;
+					case DYNAMIC_TEST_REGISTERED:
+						advanceClock();
+						listener.dynamicTestRegistered(readTestIdentifier());
+						break;
+					case EXECUTION_SKIPPED:
+						advanceClock();
+						listener.executionSkipped(readTestIdentifier(), input.readString());
+						break;
+					case EXECUTION_STARTED:
+						advanceClock();
+						listener.executionStarted(readTestIdentifier());
+						break;
+					case EXECUTION_FINISHED:
+						advanceClock();
+						listener.executionFinished(readTestIdentifier(), readTestExecutionResult());
+						break;
+					case REPORTING_ENTRY_PUBLISHED:
+						advanceClock();
+						listener.reportingEntryPublished(readTestIdentifier(), readReportEntry());
+						break;
+					case FILE_ENTRY_PUBLISHED:
+						advanceClock();
+						listener.fileEntryPublished(readTestIdentifier(),
+							FileEntry.from(Paths.get(input.readString()), input.readInternedString()));
+						break;
+					default:
+						throw corrupt(input.getRecordOffset(), "unknown record type " + type);
+				}
+			}
+		}
+
+		private void testPlanExecutionStarted() throws IOException {
+			micros = input.readVarLong();
+			currentInstant = toInstant(micros);
+			boolean containsTests = input.readByte() != 0;
+			int configurationParameterCount = input.readVarInt();
+			Map<String, String> configurationParameters = new HashMap<>(configurationParameterCount * 2);
+			for (int i = 0; i < configurationParameterCount; i++) {
+				configurationParameters.put(input.readInternedString(), input.readString());
+			}
+			testPlan = new ReplayedTestPlan(containsTests,
+				new ReplayedConfigurationParameters(configurationParameters), outputDirectoryProvider);
+			testDescriptors.clear();
+			int testIdentifierCount = input.readVarInt();
+			for (int i = 0; i < testIdentifierCount; i++) {
+				readTestIdentifierDefinition();
+			}
+			listener.testPlanExecutionStarted(testPlan);
+		}
+
+		private void advanceClock() {
+			micros += input.readVarLong();
+			currentInstant = toInstant(micros);
+		}
+
+		private TestIdentifier readTestIdentifier() {
+			long offset = input.getOffset();
+			ReplayedTestDescriptor testDescriptor = readTestDescriptor();
+			if (testDescriptor == null) {
+				throw corrupt(offset, "missing test identifier");
+			}
+			return testDescriptor.testIdentifier;
+		}
+
+		private ReplayedTestDescriptor readTestDescriptor() {
+			long offset = input.getOffset();
+			int reference = input.readVarInt();
+			if (reference == NULL_REFERENCE) {
+				return null;
+			}
+			if (reference == NEW_DEFINITION) {
+				return readTestIdentifierDefinition();
+			}
+			int index = reference - FIRST_INDEX;
+			if (index >= testDescriptors.size()) {
+				throw corrupt(offset, "unknown test identifier reference " + reference);
+			}
+			return testDescriptors.get(index);
+		}
+
+		private ReplayedTestDescriptor readTestIdentifierDefinition() {
+			ReplayedTestDescriptor parent = readTestDescriptor();
+			UniqueId uniqueId;
+			long offset = input.getOffset();
+			if (input.readByte() == APPENDED_SEGMENT) {
+				if (parent == null) {
+					throw corrupt(offset, "unique ID segment without parent");
+				}
+				uniqueId = parent.getUniqueId().append(input.readInternedString(), input.readString());
+			}
+			else {
+				uniqueId = UniqueId.parse(input.readString());
+			}
+			String displayName = input.readString();
+			String legacyReportingName = input.readString();
+			TestDescriptor.Type type = readEnumConstant(TestDescriptor.Type.values(), "test descriptor type");
+			int tagCount = input.readVarInt();
+			Set<TestTag> tags = new LinkedHashSet<>(tagCount * 2);
+			for (int i = 0; i < tagCount; i++) {
+				tags.add(TestTag.create(input.readInternedString()));
+			}
+			TestSource source = input.readTestSource();
+
+			ReplayedTestDescriptor testDescriptor = new ReplayedTestDescriptor(uniqueId, displayName,
+				legacyReportingName == null ? displayName : legacyReportingName, type, tags, source, parent);
+			testDescriptors.add(testDescriptor);
+			testPlan.addInternal(testDescriptor.testIdentifier);
+			return testDescriptor;
+		}
+
+		private TestExecutionResult readTestExecutionResult() {
+			TestExecutionResult.Status status = readEnumConstant(TestExecutionResult.Status.values(),
+				"test execution status");
+			Throwable throwable = input.readThrowable();
+			switch (status) {
+				case SUCCESSFUL:
+					return TestExecutionResult.successful();
+				case ABORTED:
+					return TestExecutionResult.aborted(throwable);
+				case FAILED:
+					return TestExecutionResult.failed(throwable);
+				default:
+					throw new JUnitException("Unhandled status: " + status);
+			}
+		}
+
+		private <E extends Enum<E>> E readEnumConstant(E[] constants, String description) {
+			long offset = input.getOffset();
+			int ordinal = input.readByte();
+			if (ordinal >= constants.length) {
+				throw corrupt(offset, "unknown " + description + " " + ordinal);
+			}
+			return constants[ordinal];
+		}
+
+		private ReportEntry readReportEntry() {
+			int count = input.readVarInt();
+			Map<String, String> keyValuePairs = new LinkedHashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				keyValuePairs.put(input.readInternedString(), input.readString());
+			}
+			return ReportEntry.from(keyValuePairs);
+		}
+
+	}
+
+	private static Instant toInstant(long epochMicros) {
+		return Instant.ofEpochSecond(epochMicros / 1_000_000, (epochMicros % 1_000_000) * 1_000);
+	}
+
+	private class ReplayClock extends Clock {
+
+		private final ZoneId zone;
+
+		ReplayClock(ZoneId zone) {
+			this.zone = zone;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return this.zone;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return new ReplayClock(zone);
+		}
+
+		@Override
+		public Instant instant() {
+			return currentInstant;
+		}
+
+	}
+
+	private static class ReplayedTestDescriptor extends AbstractTestDescriptor {
+
+		private final String legacyReportingName;
+		private final Type type;
+		private final Set<TestTag> tags;
+		private final TestIdentifier testIdentifier;
+
+		ReplayedTestDescriptor(UniqueId uniqueId, String displayName, String legacyReportingName, Type type,
+				Set<TestTag> tags, TestSource source, TestDescriptor parent) {
+			super(uniqueId, displayName, source);
+			this.legacyReportingName = legacyReportingName;
+			this.type = type;
+			this.tags = tags;
+			setParent(parent);
+			this.testIdentifier = TestIdentifier.from(this);
+		}
+
+		@Override
+		public String getLegacyReportingName() {
+			return this.legacyReportingName;
+		}
+
+		@Override
+		public Type getType() {
+			return this.type;
+		}
+
+		@Override
+		public Set<TestTag> getTags() {
+			return this.tags;
+		}
+
+	}
+
+	private static class ReplayedTestPlan extends TestPlan {
+
+		ReplayedTestPlan(boolean containsTests, ConfigurationParameters configurationParameters,
+				OutputDirectoryProvider outputDirectoryProvider) {
+			super(containsTests, configurationParameters, outputDirectoryProvider);
+		}
+
+	}
+
+	private static class ReplayedConfigurationParameters implements ConfigurationParameters {
+
+		private final Map<String, String> configurationParameters;
+
+		ReplayedConfigurationParameters(Map<String, String> configurationParameters) {
+			this.configurationParameters = configurationParameters;
+		}
+
+		@Override
+		public Optional<String> get(String key) {
+			return Optional.ofNullable(this.configurationParameters.get(key));
+		}
+
+		@Override
+		public Optional<Boolean> getBoolean(String key) {
+			return get(key).map(Boolean::parseBoolean);
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public int size() {
+			return this.configurationParameters.size();
+		}
+
+		@Override
+		public Set<String> keySet() {
+			return this.configurationParameters.keySet();
+		}
+
+	}
+
+	private static class ReplayedOutputDirectoryProvider implements OutputDirectoryProvider {
+
+		private final Path rootDirectory;
+
+		ReplayedOutputDirectoryProvider(Path rootDirectory) {
+			this.rootDirectory = rootDirectory;
+		}
+
+		@Override
+		public Path getRootDirectory() {
+			return this.rootDirectory;
+		}
+
+		@Override
+		public Path createOutputDirectory(TestDescriptor testDescriptor) throws IOException {
+			Path directory = this.rootDirectory;
+			for (UniqueId.Segment segment : testDescriptor.getUniqueId().getSegments()) {
+				directory = directory.resolve(FORBIDDEN_CHARS.matcher(segment.getValue()).replaceAll("_"));
+			}
+			return Files.createDirectories(directory);
+		}
+
+	}
+
+}
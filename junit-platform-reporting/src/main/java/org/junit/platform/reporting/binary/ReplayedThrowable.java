@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+
+package org.junit.platform.reporting.binary;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code ReplayedThrowable} represents a throwable that was recorded in a
+ * binary event log and is replayed by a {@link BinaryEventLogReader}.
+ *
+ * <p>Since the class of the recorded throwable might not be available, it is
+ * never loaded. Instead, a {@code ReplayedThrowable} reports the recorded
+ * {@linkplain #getClassName() class name}, message, stack trace, cause, and
+ * suppressed throwables. Its {@link #toString()} representation and thus its
+ * printed stack trace match those of the recorded throwable.
+ *
+ * @since 1.13
+ * @see BinaryEventLogReader
+ */
+@API(status = EXPERIMENTAL, since = "1.13")
+public final class ReplayedThrowable extends Throwable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String className;
+
+	ReplayedThrowable(String className, String message) {
+		super(message);
+		this.className = className;
+	}
+
+	/**
+	 * {@return the fully qualified name of the class of the recorded throwable}
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+
+	/**
+	 * Does not fill in the stack trace since it is replaced by the recorded
+	 * one.
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		String message = getLocalizedMessage();
+		return message == null ? this.className : this.className + ": " + message;
+	}
+
+}
@@ -0,0 +1,7 @@
+/**
+ * Support for recording test execution events in a compact binary log and
+ * replaying them into any
+ * {@link org.junit.platform.launcher.TestExecutionListener TestExecutionListener}.
+ */
+
+package org.junit.platform.reporting.binary;
@@ -10,6 +10,7 @@
 
 package org.junit.platform.reporting.legacy.xml;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.io.IOException;
@@ -19,11 +20,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.stream.XMLStreamException;
 
 import org.apiguardian.api.API;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
@@ -38,6 +43,14 @@ import org.junit.platform.launcher.TestPlan;
  * de facto standard for JUnit 4 based test reports that was made popular by the
  * Ant build system.
  *
+ * <p>By default, the XML report for a root is written once the root has
+ * finished and all data required to write it is kept in memory until then.
+ * If {@value #STREAMING_ENABLED_PROPERTY_NAME} is set to {@code true}, a
+ * separate XML report is written for each container directly below a root,
+ * e.g. a test class, as soon as it has finished, and the data recorded for it
+ * is discarded afterwards. The report for the root then only contains the
+ * remaining tests.
+ *
  * @since 1.4
  * @see org.junit.platform.launcher.listeners.LoggingListener
  * @see org.junit.platform.launcher.listeners.SummaryGeneratingListener
@@ -45,11 +58,31 @@ import org.junit.platform.launcher.TestPlan;
 @API(status = STABLE, since = "1.7")
 public class LegacyXmlReportGeneratingListener implements TestExecutionListener {
 
+	/**
+	 * Property name used to enable writing a separate XML report for each
+	 * container directly below a root as soon as it has finished: {@value}
+	 *
+	 * <p>Doing so bounds the memory required by this listener to the data of
+	 * the containers that are currently being executed instead of the entire
+	 * {@link TestPlan}. Failures reported by a root after a container's report
+	 * has been written are only included in the report of the root.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 1.13
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public static final String STREAMING_ENABLED_PROPERTY_NAME = //
+		"junit.platform.reporting.legacy.xml.streaming.enabled";
+
 	private final Path reportsDir;
 	private final PrintWriter out;
 	private final Clock clock;
 
 	private XmlReportData reportData;
+	private boolean streaming;
+	private Set<UniqueId> writtenContainers;
+	private Set<String> reportFileNames;
 
 	public LegacyXmlReportGeneratingListener(Path reportsDir, PrintWriter out) {
 		this(reportsDir, out, Clock.systemDefaultZone());
@@ -60,7 +93,23 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 		this(Paths.get(reportsDir), out, clock);
 	}
 
-	private LegacyXmlReportGeneratingListener(Path reportsDir, PrintWriter out, Clock clock) {
+	/**
+	 * Create a new {@code LegacyXmlReportGeneratingListener} that uses the
+	 * supplied {@link Clock} to determine the start and end times of tests
+	 * and containers.
+	 *
+	 * <p>This is useful when the events passed to this listener are not
+	 * received in real time, e.g. when they are replayed from a
+	 * {@link org.junit.platform.reporting.binary.BinaryEventLogReader
+	 * BinaryEventLogReader}.
+	 *
+	 * @param reportsDir the directory to write reports to; never {@code null}
+	 * @param out the writer to print errors to; never {@code null}
+	 * @param clock the clock to use; never {@code null}
+	 * @since 1.13
+	 */
+	@API(status = EXPERIMENTAL, since = "1.13")
+	public LegacyXmlReportGeneratingListener(Path reportsDir, PrintWriter out, Clock clock) {
 		this.reportsDir = reportsDir;
 		this.out = out;
 		this.clock = clock;
@@ -69,6 +118,11 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
 		this.reportData = new XmlReportData(testPlan, clock);
+		this.streaming = testPlan.getConfigurationParameters() //
+				.getBoolean(STREAMING_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+		this.writtenContainers = ConcurrentHashMap.newKeySet();
+		this.reportFileNames = ConcurrentHashMap.newKeySet();
 		try {
 			Files.createDirectories(this.reportsDir);
 		}
@@ -80,12 +134,14 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
 		this.reportData = null;
+		this.writtenContainers = null;
+		this.reportFileNames = null;
 	}
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
 		this.reportData.markSkipped(testIdentifier, reason);
-		writeXmlReportInCaseOfRoot(testIdentifier);
+		writeXmlReportInCaseOfRootOrStreamedContainer(testIdentifier);
 	}
 
 	@Override
@@ -101,26 +157,75 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
 		this.reportData.markFinished(testIdentifier, result);
-		writeXmlReportInCaseOfRoot(testIdentifier);
+		writeXmlReportInCaseOfRootOrStreamedContainer(testIdentifier);
 	}
 
-	private void writeXmlReportInCaseOfRoot(TestIdentifier testIdentifier) {
+	private void writeXmlReportInCaseOfRootOrStreamedContainer(TestIdentifier testIdentifier) {
 		if (isRoot(testIdentifier)) {
-			String rootName = testIdentifier.getUniqueIdObject().getSegments().get(0).getValue();
-			writeXmlReportSafely(testIdentifier, rootName);
+			String rootName = getRootName(testIdentifier);
+			writeXmlReportSafely(testIdentifier, "TEST-" + rootName + ".xml");
+		}
+		else if (this.streaming && isStreamedContainer(testIdentifier)) {
+			TestPlan testPlan = this.reportData.getTestPlan();
+			String rootName = getRootName(testIdentifier);
+			String fileName = uniqueReportFileName(
+				"TEST-" + rootName + "-" + toFileName(testIdentifier.getLegacyReportingName()));
+			writeXmlReportSafely(testIdentifier, fileName);
+			this.writtenContainers.add(testIdentifier.getUniqueIdObject());
+			this.reportData.remove(testIdentifier);
+			testPlan.getDescendants(testIdentifier).forEach(this.reportData::remove);
 		}
 	}
 
-	private void writeXmlReportSafely(TestIdentifier testIdentifier, String rootName) {
-		Path xmlFile = this.reportsDir.resolve("TEST-" + rootName + ".xml");
+	private void writeXmlReportSafely(TestIdentifier testIdentifier, String fileName) {
+		Path xmlFile = this.reportsDir.resolve(fileName);
 		try (Writer fileWriter = Files.newBufferedWriter(xmlFile)) {
-			new XmlReportWriter(this.reportData).writeXmlReport(testIdentifier, fileWriter);
+			new XmlReportWriter(this.reportData).writeXmlReport(testIdentifier, this::isNotInWrittenContainer,
+				fileWriter);
 		}
 		catch (XMLStreamException | IOException e) {
 			printException("Could not write XML report: " + xmlFile, e);
 		}
 	}
 
+	private boolean isStreamedContainer(TestIdentifier testIdentifier) {
+		TestPlan testPlan = this.reportData.getTestPlan();
+		return testIdentifier.isContainer() //
+				&& testPlan.getParent(testIdentifier).filter(this::isRoot).isPresent() //
+				&& !testPlan.getChildren(testIdentifier).isEmpty();
+	}
+
+	private boolean isNotInWrittenContainer(TestIdentifier testIdentifier) {
+		if (this.writtenContainers.isEmpty()) {
+			return true;
+		}
+		TestPlan testPlan = this.reportData.getTestPlan();
+		Optional<TestIdentifier> current = Optional.of(testIdentifier);
+		while (current.isPresent()) {
+			if (this.writtenContainers.contains(current.get().getUniqueIdObject())) {
+				return false;
+			}
+			current = testPlan.getParent(current.get());
+		}
+		return true;
+	}
+
+	private String uniqueReportFileName(String baseName) {
+		String fileName = baseName + ".xml";
+		for (int i = 2; !this.reportFileNames.add(fileName); i++) {
+			fileName = baseName + "-" + i + ".xml";
+		}
+		return fileName;
+	}
+
+	private static String toFileName(String name) {
+		return name.replaceAll("[^A-Za-z0-9._$-]", "_");
+	}
+
+	private static String getRootName(TestIdentifier testIdentifier) {
+		return testIdentifier.getUniqueIdObject().getSegments().get(0).getValue();
+	}
+
 	private boolean isRoot(TestIdentifier testIdentifier) {
 		return !testIdentifier.getParentIdObject().isPresent();
 	}
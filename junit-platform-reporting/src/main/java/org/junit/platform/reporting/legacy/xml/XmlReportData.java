@@ -84,6 +84,14 @@ class XmlReportData {
 		entries.add(entry);
 	}
 
+	void remove(TestIdentifier testIdentifier) {
+		this.finishedTests.remove(testIdentifier);
+		this.skippedTests.remove(testIdentifier);
+		this.startInstants.remove(testIdentifier);
+		this.endInstants.remove(testIdentifier);
+		this.reportEntries.remove(testIdentifier);
+	}
+
 	boolean wasSkipped(TestIdentifier testIdentifier) {
 		return findSkippedAncestor(testIdentifier).isPresent();
 	}
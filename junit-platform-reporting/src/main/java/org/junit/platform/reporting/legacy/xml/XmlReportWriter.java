@@ -49,6 +49,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import javax.xml.stream.XMLOutputFactory;
@@ -59,6 +60,7 @@ import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.reporting.binary.ReplayedThrowable;
 import org.junit.platform.reporting.legacy.LegacyReportingUtils;
 import org.junit.platform.reporting.legacy.xml.XmlReportWriter.AggregatedTestResult.Type;
 
@@ -93,10 +95,15 @@ class XmlReportWriter {
 	}
 
 	void writeXmlReport(TestIdentifier rootDescriptor, Writer out) throws XMLStreamException {
+		writeXmlReport(rootDescriptor, testIdentifier -> true, out);
+	}
+
+	void writeXmlReport(TestIdentifier rootDescriptor, Predicate<? super TestIdentifier> filter, Writer out)
+			throws XMLStreamException {
 		TestPlan testPlan = this.reportData.getTestPlan();
 		Map<TestIdentifier, AggregatedTestResult> tests = testPlan.getDescendants(rootDescriptor) //
 				.stream() //
-				.filter(testIdentifier -> shouldInclude(testPlan, testIdentifier)) //
+				.filter(testIdentifier -> shouldInclude(testPlan, testIdentifier) && filter.test(testIdentifier)) //
 				.collect(toMap(identity(), this::toAggregatedResult)); //
 		writeXmlReport(rootDescriptor, tests, out);
 	}
@@ -276,10 +283,17 @@ class XmlReportWriter {
 			if (throwable.getMessage() != null) {
 				writeAttributeSafely("message", throwable.getMessage());
 			}
-			writeAttributeSafely("type", throwable.getClass().getName());
+			writeAttributeSafely("type", getTypeName(throwable));
 			writeCDataSafely(readStackTrace(throwable));
 		}
 
+		private String getTypeName(Throwable throwable) {
+			if (throwable instanceof ReplayedThrowable) {
+				return ((ReplayedThrowable) throwable).getClassName();
+			}
+			return throwable.getClass().getName();
+		}
+
 		private void collectReportEntries(TestIdentifier testIdentifier, List<String> systemOutElements,
 				List<String> systemErrElements) {
 			List<ReportEntry> entries = reportData.getReportEntries(testIdentifier);
@@ -14,8 +14,6 @@ import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.junit.platform.testkit.engine.Event.byTestDescriptor;
 
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.Preconditions;
@@ -53,8 +51,8 @@ public class EngineExecutionResults {
 		Preconditions.containsNoNullElements(events, "Event list must not contain null elements");
 
 		this.allEvents = new Events(events, "All");
-		this.testEvents = new Events(filterEvents(events, TestDescriptor::isTest), "Test");
-		this.containerEvents = new Events(filterEvents(events, TestDescriptor::isContainer), "Container");
+		this.testEvents = new Events(events, byTestDescriptor(TestDescriptor::isTest), "Test");
+		this.containerEvents = new Events(events, byTestDescriptor(TestDescriptor::isContainer), "Container");
 	}
 
 	/**
@@ -96,11 +94,4 @@ public class EngineExecutionResults {
 		return this.testEvents;
 	}
 
-	/**
-	 * Filter the supplied list of events using the supplied predicate.
-	 */
-	private static Stream<Event> filterEvents(List<Event> events, Predicate<? super TestDescriptor> predicate) {
-		return events.stream().filter(byTestDescriptor(predicate));
-	}
-
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Append-only log of {@linkplain Event events} that stores events in chunks
+ * of fixed size so that appending an event never copies previously recorded
+ * events.
+ *
+ * <p>Events may be appended concurrently. {@linkplain #snapshot() Snapshots}
+ * are immutable views of the events recorded so far that share the chunks
+ * with this log and can be read without locking.
+ *
+ * @since 1.13
+ * @see ExecutionRecorder
+ */
+class EventLog {
+
+	private static final int CHUNK_SHIFT = 10;
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	private volatile Event[][] chunks = new Event[4][];
+	private volatile int size;
+
+	synchronized void add(Event event) {
+		int index = this.size;
+		int chunkIndex = index >>> CHUNK_SHIFT;
+		Event[][] chunks = this.chunks;
+		if (chunkIndex == chunks.length) {
+			chunks = Arrays.copyOf(chunks, chunks.length * 2);
+		}
+		if (chunks[chunkIndex] == null) {
+			chunks[chunkIndex] = new Event[CHUNK_SIZE];
+		}
+		chunks[chunkIndex][index & CHUNK_MASK] = event;
+		this.chunks = chunks;
+		// Publishes the event to snapshots created after this point
+		this.size = index + 1;
+	}
+
+	/**
+	 * {@return an immutable view of the events recorded so far}
+	 */
+	List<Event> snapshot() {
+		// Read size first since chunks are always written before it
+		int size = this.size;
+		return new Snapshot(this.chunks, size);
+	}
+
+	private static class Snapshot extends AbstractList<Event> implements RandomAccess {
+
+		private final Event[][] chunks;
+		private final int size;
+
+		Snapshot(Event[][] chunks, int size) {
+			this.chunks = chunks;
+			this.size = size;
+		}
+
+		@Override
+		public Event get(int index) {
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+			}
+			return this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+		}
+
+		@Override
+		public int size() {
+			return this.size;
+		}
+
+	}
+
+}
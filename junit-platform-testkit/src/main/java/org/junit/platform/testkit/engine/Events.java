@@ -53,21 +53,36 @@ import org.opentest4j.AssertionFailedError;
 @API(status = MAINTAINED, since = "1.7")
 public final class Events {
 
-	private final List<Event> events;
+	private final List<Event> source;
+	private final Predicate<Event> filter;
 	private final String category;
 
-	Events(Stream<Event> events, String category) {
-		this(Preconditions.notNull(events, "Event stream must not be null").collect(toList()), category);
-	}
+	/**
+	 * The events of the source list that match the filter; collected lazily
+	 * so that filtered {@code Events} that are only streamed or counted do not
+	 * copy the source list.
+	 */
+	private volatile List<Event> events;
 
 	Events(List<Event> events, String category) {
 		Preconditions.notNull(events, "Event list must not be null");
 		Preconditions.containsNoNullElements(events, "Event list must not contain null elements");
 
+		this.source = events;
+		this.filter = null;
 		this.events = Collections.unmodifiableList(events);
 		this.category = category;
 	}
 
+	Events(List<Event> source, Predicate<Event> filter, String category) {
+		Preconditions.notNull(source, "Event list must not be null");
+		Preconditions.notNull(filter, "Filter predicate must not be null");
+
+		this.source = source;
+		this.filter = filter;
+		this.category = category;
+	}
+
 	String getCategory() {
 		return this.category;
 	}
@@ -81,7 +96,12 @@ public final class Events {
 	 * @see #stream()
 	 */
 	public List<Event> list() {
-		return this.events;
+		List<Event> events = this.events;
+		if (events == null) {
+			events = Collections.unmodifiableList(this.source.stream().filter(this.filter).collect(toList()));
+			this.events = events;
+		}
+		return events;
 	}
 
 	/**
@@ -91,7 +111,11 @@ public final class Events {
 	 * @see #list()
 	 */
 	public Stream<Event> stream() {
-		return this.events.stream();
+		List<Event> events = this.events;
+		if (events == null) {
+			return this.source.stream().filter(this.filter);
+		}
+		return events.stream();
 	}
 
 	/**
@@ -128,7 +152,7 @@ public final class Events {
 	 * never {@code null}
 	 */
 	public Executions executions() {
-		return new Executions(this.events, this.category);
+		return new Executions(list(), this.category);
 	}
 
 	// --- Statistics ----------------------------------------------------------
@@ -138,7 +162,11 @@ public final class Events {
 	 * object.
 	 */
 	public long count() {
-		return this.events.size();
+		List<Event> events = this.events;
+		if (events == null) {
+			return stream().count();
+		}
+		return events.size();
 	}
 
 	// --- Built-in Filters ----------------------------------------------------
@@ -149,7 +177,7 @@ public final class Events {
 	 * @return the filtered {@code Events}; never {@code null}
 	 */
 	public Events skipped() {
-		return new Events(eventsByType(EventType.SKIPPED), this.category + " Skipped");
+		return filtered(byType(EventType.SKIPPED), this.category + " Skipped");
 	}
 
 	/**
@@ -158,7 +186,7 @@ public final class Events {
 	 * @return the filtered {@code Events}; never {@code null}
 	 */
 	public Events started() {
-		return new Events(eventsByType(EventType.STARTED), this.category + " Started");
+		return filtered(byType(EventType.STARTED), this.category + " Started");
 	}
 
 	/**
@@ -167,7 +195,7 @@ public final class Events {
 	 * @return the filtered {@code Events}; never {@code null}
 	 */
 	public Events finished() {
-		return new Events(eventsByType(EventType.FINISHED), this.category + " Finished");
+		return filtered(byType(EventType.FINISHED), this.category + " Finished");
 	}
 
 	/**
@@ -176,7 +204,7 @@ public final class Events {
 	 * @return the filtered {@code Events}; never {@code null}
 	 */
 	public Events aborted() {
-		return new Events(finishedEventsByStatus(Status.ABORTED), this.category + " Aborted");
+		return filtered(finishedEventsByStatus(Status.ABORTED), this.category + " Aborted");
 	}
 
 	/**
@@ -185,7 +213,7 @@ public final class Events {
 	 * @return the filtered {@code Events}; never {@code null}
 	 */
 	public Events succeeded() {
-		return new Events(finishedEventsByStatus(Status.SUCCESSFUL), this.category + " Successful");
+		return filtered(finishedEventsByStatus(Status.SUCCESSFUL), this.category + " Successful");
 	}
 
 	/**
@@ -194,7 +222,7 @@ public final class Events {
 	 * @return the filtered {@code Events}; never {@code null}
 	 */
 	public Events failed() {
-		return new Events(finishedEventsByStatus(Status.FAILED), this.category + " Failed");
+		return filtered(finishedEventsByStatus(Status.FAILED), this.category + " Failed");
 	}
 
 	/**
@@ -204,7 +232,7 @@ public final class Events {
 	 * @return the filtered {@code Events}; never {@code null}
 	 */
 	public Events reportingEntryPublished() {
-		return new Events(eventsByType(EventType.REPORTING_ENTRY_PUBLISHED),
+		return filtered(byType(EventType.REPORTING_ENTRY_PUBLISHED),
 			this.category + " Reporting Entry Published");
 	}
 
@@ -217,7 +245,7 @@ public final class Events {
 	 */
 	@API(status = EXPERIMENTAL, since = "1.12")
 	public Events fileEntryPublished() {
-		return new Events(eventsByType(EventType.FILE_ENTRY_PUBLISHED), this.category + " File Entry Published");
+		return filtered(byType(EventType.FILE_ENTRY_PUBLISHED), this.category + " File Entry Published");
 	}
 
 	/**
@@ -227,7 +255,7 @@ public final class Events {
 	 * @return the filtered {@code Events}; never {@code null}
 	 */
 	public Events dynamicallyRegistered() {
-		return new Events(eventsByType(EventType.DYNAMIC_TEST_REGISTERED), this.category + " Dynamically Registered");
+		return filtered(byType(EventType.DYNAMIC_TEST_REGISTERED), this.category + " Dynamically Registered");
 	}
 
 	// --- Assertions ----------------------------------------------------------
@@ -277,7 +305,7 @@ public final class Events {
 	@SafeVarargs
 	public final void assertEventsMatchExactly(Condition<? super Event>... conditions) {
 		Preconditions.notNull(conditions, "conditions must not be null");
-		assertEventsMatchExactly(this.events, conditions);
+		assertEventsMatchExactly(list(), conditions);
 	}
 
 	/**
@@ -311,7 +339,7 @@ public final class Events {
 	public final void assertEventsMatchLoosely(Condition<? super Event>... conditions) {
 		Preconditions.notNull(conditions, "conditions must not be null");
 		Preconditions.containsNoNullElements(conditions, "conditions must not contain null elements");
-		assertEventsMatchLoosely(this.events, conditions);
+		assertEventsMatchLoosely(list(), conditions);
 	}
 
 	/**
@@ -346,7 +374,7 @@ public final class Events {
 	public final void assertEventsMatchLooselyInOrder(Condition<? super Event>... conditions) {
 		Preconditions.notNull(conditions, "conditions must not be null");
 		Preconditions.containsNoNullElements(conditions, "conditions must not contain null elements");
-		assertEventsMatchLooselyInOrder(this.events, conditions);
+		assertEventsMatchLooselyInOrder(list(), conditions);
 	}
 
 	/**
@@ -398,21 +426,21 @@ public final class Events {
 
 	private Events debug(PrintWriter printWriter) {
 		printWriter.println(this.category + " Events:");
-		this.events.forEach(event -> printWriter.printf("\t%s%n", event));
+		stream().forEach(event -> printWriter.printf("\t%s%n", event));
 		return this;
 	}
 
 	// --- Internals -----------------------------------------------------------
 
-	private Stream<Event> eventsByType(EventType type) {
-		Preconditions.notNull(type, "EventType must not be null");
-		return stream().filter(byType(type));
+	private Events filtered(Predicate<Event> predicate, String category) {
+		Predicate<Event> filter = this.filter == null ? predicate : this.filter.and(predicate);
+		return new Events(this.source, filter, category);
 	}
 
-	private Stream<Event> finishedEventsByStatus(Status status) {
+	private static Predicate<Event> finishedEventsByStatus(Status status) {
 		Preconditions.notNull(status, "Status must not be null");
-		return eventsByType(EventType.FINISHED)//
-				.filter(byPayload(TestExecutionResult.class, where(TestExecutionResult::getStatus, isEqual(status))));
+		return byType(EventType.FINISHED) //
+				.and(byPayload(TestExecutionResult.class, where(TestExecutionResult::getStatus, isEqual(status))));
 	}
 
 	@SafeVarargs
@@ -13,9 +13,6 @@ package org.junit.platform.testkit.engine;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 import org.apiguardian.api.API;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
@@ -37,7 +34,7 @@ import org.junit.platform.engine.reporting.ReportEntry;
 @API(status = MAINTAINED, since = "1.7")
 public class ExecutionRecorder implements EngineExecutionListener {
 
-	private final List<Event> events = new CopyOnWriteArrayList<>();
+	private final EventLog events = new EventLog();
 
 	public ExecutionRecorder() {
 	}
@@ -98,10 +95,13 @@ public class ExecutionRecorder implements EngineExecutionListener {
 	/**
 	 * Get the state of the engine's execution in the form of {@link EngineExecutionResults}.
 	 *
+	 * <p>The returned results do not include events recorded after this method
+	 * has been called.
+	 *
 	 * @return the {@code EngineExecutionResults} containing all current state information
 	 */
 	public EngineExecutionResults getExecutionResults() {
-		return new EngineExecutionResults(this.events);
+		return new EngineExecutionResults(this.events.snapshot());
 	}
 
 }
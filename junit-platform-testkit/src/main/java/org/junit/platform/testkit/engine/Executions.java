@@ -42,13 +42,20 @@ import org.junit.platform.engine.TestExecutionResult.Status;
 @API(status = MAINTAINED, since = "1.7")
 public final class Executions {
 
-	private final List<Execution> executions;
+	private final List<Execution> source;
+	private final Predicate<Execution> filter;
 	private final String category;
 
-	private Executions(Stream<Execution> executions, String category) {
-		Preconditions.notNull(executions, "Execution stream must not be null");
+	/**
+	 * The executions of the source list that match the filter; collected
+	 * lazily so that filtered {@code Executions} that are only streamed or
+	 * counted do not copy the source list.
+	 */
+	private volatile List<Execution> executions;
 
-		this.executions = Collections.unmodifiableList(executions.collect(toList()));
+	private Executions(List<Execution> source, Predicate<Execution> filter, String category) {
+		this.source = source;
+		this.filter = filter;
 		this.category = category;
 	}
 
@@ -56,7 +63,9 @@ public final class Executions {
 		Preconditions.notNull(events, "Event list must not be null");
 		Preconditions.containsNoNullElements(events, "Event list must not contain null elements");
 
-		this.executions = Collections.unmodifiableList(createExecutions(events));
+		this.source = createExecutions(events);
+		this.filter = null;
+		this.executions = Collections.unmodifiableList(this.source);
 		this.category = category;
 	}
 
@@ -69,7 +78,12 @@ public final class Executions {
 	 * @see #stream()
 	 */
 	public List<Execution> list() {
-		return this.executions;
+		List<Execution> executions = this.executions;
+		if (executions == null) {
+			executions = Collections.unmodifiableList(this.source.stream().filter(this.filter).collect(toList()));
+			this.executions = executions;
+		}
+		return executions;
 	}
 
 	/**
@@ -79,7 +93,11 @@ public final class Executions {
 	 * @see #list()
 	 */
 	public Stream<Execution> stream() {
-		return this.executions.stream();
+		List<Execution> executions = this.executions;
+		if (executions == null) {
+			return this.source.stream().filter(this.filter);
+		}
+		return executions.stream();
 	}
 
 	/**
@@ -117,7 +135,11 @@ public final class Executions {
 	 * {@code Executions} object.
 	 */
 	public long count() {
-		return this.executions.size();
+		List<Execution> executions = this.executions;
+		if (executions == null) {
+			return stream().count();
+		}
+		return executions.size();
 	}
 
 	// --- Built-in Filters ----------------------------------------------------
@@ -128,7 +150,7 @@ public final class Executions {
 	 * @return the filtered {@code Executions}; never {@code null}
 	 */
 	public Executions skipped() {
-		return new Executions(executionsByTerminationInfo(TerminationInfo::skipped), this.category + " Skipped");
+		return filtered(executionsByTerminationInfo(TerminationInfo::skipped), this.category + " Skipped");
 	}
 
 	/**
@@ -137,7 +159,7 @@ public final class Executions {
 	 * @return the filtered {@code Executions}; never {@code null}
 	 */
 	public Executions started() {
-		return new Executions(executionsByTerminationInfo(TerminationInfo::notSkipped), this.category + " Started");
+		return filtered(executionsByTerminationInfo(TerminationInfo::notSkipped), this.category + " Started");
 	}
 
 	/**
@@ -146,7 +168,7 @@ public final class Executions {
 	 * @return the filtered {@code Executions}; never {@code null}
 	 */
 	public Executions finished() {
-		return new Executions(finishedExecutions(), this.category + " Finished");
+		return filtered(finishedExecutions(), this.category + " Finished");
 	}
 
 	/**
@@ -155,7 +177,7 @@ public final class Executions {
 	 * @return the filtered {@code Executions}; never {@code null}
 	 */
 	public Executions aborted() {
-		return new Executions(finishedExecutionsByStatus(Status.ABORTED), this.category + " Aborted");
+		return filtered(finishedExecutionsByStatus(Status.ABORTED), this.category + " Aborted");
 	}
 
 	/**
@@ -164,7 +186,7 @@ public final class Executions {
 	 * @return the filtered {@code Executions}; never {@code null}
 	 */
 	public Executions succeeded() {
-		return new Executions(finishedExecutionsByStatus(Status.SUCCESSFUL), this.category + " Successful");
+		return filtered(finishedExecutionsByStatus(Status.SUCCESSFUL), this.category + " Successful");
 	}
 
 	/**
@@ -173,7 +195,7 @@ public final class Executions {
 	 * @return the filtered {@code Executions}; never {@code null}
 	 */
 	public Executions failed() {
-		return new Executions(finishedExecutionsByStatus(Status.FAILED), this.category + " Failed");
+		return filtered(finishedExecutionsByStatus(Status.FAILED), this.category + " Failed");
 	}
 
 	// --- Assertions ----------------------------------------------------------
@@ -227,24 +249,29 @@ public final class Executions {
 
 	private Executions debug(PrintWriter printWriter) {
 		printWriter.println(this.category + " Executions:");
-		this.executions.forEach(execution -> printWriter.printf("\t%s%n", execution));
+		stream().forEach(execution -> printWriter.printf("\t%s%n", execution));
 		return this;
 	}
 
 	// --- Internals -----------------------------------------------------------
 
-	private Stream<Execution> finishedExecutions() {
+	private Executions filtered(Predicate<Execution> predicate, String category) {
+		Predicate<Execution> filter = this.filter == null ? predicate : this.filter.and(predicate);
+		return new Executions(this.source, filter, category);
+	}
+
+	private static Predicate<Execution> finishedExecutions() {
 		return executionsByTerminationInfo(TerminationInfo::executed);
 	}
 
-	private Stream<Execution> finishedExecutionsByStatus(Status status) {
+	private static Predicate<Execution> finishedExecutionsByStatus(Status status) {
 		Preconditions.notNull(status, "Status must not be null");
-		return finishedExecutions()//
-				.filter(execution -> execution.getTerminationInfo().getExecutionResult().getStatus() == status);
+		return finishedExecutions() //
+				.and(execution -> execution.getTerminationInfo().getExecutionResult().getStatus() == status);
 	}
 
-	private Stream<Execution> executionsByTerminationInfo(Predicate<TerminationInfo> predicate) {
-		return filter(execution -> predicate.test(execution.getTerminationInfo()));
+	private static Predicate<Execution> executionsByTerminationInfo(Predicate<TerminationInfo> predicate) {
+		return execution -> predicate.test(execution.getTerminationInfo());
 	}
 
 	/**
@@ -26,6 +26,7 @@ import static org.junit.platform.testkit.engine.EventConditions.engine;
 import static org.junit.platform.testkit.engine.EventConditions.event;
 import static org.junit.platform.testkit.engine.EventConditions.finishedSuccessfully;
 import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.reportEntry;
 import static org.junit.platform.testkit.engine.EventConditions.skippedWithReason;
 import static org.junit.platform.testkit.engine.EventConditions.started;
 import static org.junit.platform.testkit.engine.EventConditions.test;
@@ -36,6 +37,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -47,6 +49,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.TestReporter;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
@@ -408,6 +411,33 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 				event(container("templateWithCloseableStream"), finishedSuccessfully())));
 	}
 
+	@Test
+	void templateWithProviderReportingOnlyUnsuccessfulInvocations() {
+		LauncherDiscoveryRequest request = request().selectors(
+			selectMethod(MyTestTemplateTestCase.class, "templateReportingOnlyUnsuccessfulInvocations",
+				"int, " + TestReporter.class.getName())).build();
+
+		EngineExecutionResults executionResults = executeTests(request);
+
+		executionResults.allEvents().assertEventsMatchExactly( //
+			wrappedInContainerEvents(MyTestTemplateTestCase.class, //
+				event(container("templateReportingOnlyUnsuccessfulInvocations"), started()), //
+				event(dynamicTestRegistered("test-template-invocation:#1")), //
+				event(test("test-template-invocation:#1"), started()), //
+				event(test("test-template-invocation:#1"), finishedSuccessfully()), //
+				event(dynamicTestRegistered("test-template-invocation:#2")), //
+				event(test("test-template-invocation:#2"), started()), //
+				event(test("test-template-invocation:#2"), reportEntry(Map.of("parameter", "2"))), //
+				event(test("test-template-invocation:#2"), finishedWithFailure(message("2"))), //
+				event(dynamicTestRegistered("test-template-invocation:#3")), //
+				event(test("test-template-invocation:#3"), started()), //
+				event(test("test-template-invocation:#3"), finishedSuccessfully()), //
+				event(container("templateReportingOnlyUnsuccessfulInvocations"),
+					reportEntry(Map.of("invocations.successful", "2", "invocations.skipped", "0",
+						"invocations.aborted", "0", "invocations.failed", "1"))), //
+				event(container("templateReportingOnlyUnsuccessfulInvocations"), finishedSuccessfully())));
+	}
+
 	private TestDescriptor findTestDescriptor(EngineExecutionResults executionResults, Condition<Event> condition) {
 		// @formatter:off
 		return executionResults.allEvents()
@@ -518,6 +548,15 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 		@TestTemplate
 		void templateWithCloseableStream() {
 		}
+
+		@ExtendWith(InvocationContextProviderReportingOnlyUnsuccessfulInvocations.class)
+		@TestTemplate
+		void templateReportingOnlyUnsuccessfulInvocations(int parameter, TestReporter reporter) {
+			reporter.publishEntry("parameter", String.valueOf(parameter));
+			if (parameter == 2) {
+				fail(String.valueOf(parameter));
+			}
+		}
 	}
 
 	@ExtendWith(StringParameterResolvingInvocationContextProvider.class)
@@ -847,6 +886,42 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	private static class InvocationContextProviderReportingOnlyUnsuccessfulInvocations
+			implements TestTemplateInvocationContextProvider {
+
+		@Override
+		public boolean supportsTestTemplate(ExtensionContext context) {
+			return true;
+		}
+
+		@Override
+		public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+			return Stream.of(1, 2, 3).map(parameter -> new TestTemplateInvocationContext() {
+				@Override
+				public List<Extension> getAdditionalExtensions() {
+					return singletonList(new ParameterResolver() {
+						@Override
+						public boolean supportsParameter(ParameterContext parameterContext,
+								ExtensionContext extensionContext) {
+							return parameterContext.getParameter().getType() == int.class;
+						}
+
+						@Override
+						public Object resolveParameter(ParameterContext parameterContext,
+								ExtensionContext extensionContext) {
+							return parameter;
+						}
+					});
+				}
+			});
+		}
+
+		@Override
+		public boolean summarizesTestTemplateInvocations(ExtensionContext context) {
+			return true;
+		}
+	}
+
 	private static TestTemplateInvocationContext emptyTestTemplateInvocationContext() {
 		return new TestTemplateInvocationContext() {
 		};
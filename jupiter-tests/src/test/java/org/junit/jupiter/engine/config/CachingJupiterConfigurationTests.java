@@ -90,6 +90,16 @@ class CachingJupiterConfigurationTests {
 		verify(delegate, only()).isParallelExecutionEnabled();
 	}
 
+	@Test
+	void cachesParallelExecutorType() {
+		when(delegate.getParallelExecutorType()).thenReturn(ParallelExecutorType.VIRTUAL_THREADS);
+
+		assertThat(cache.getParallelExecutorType()).isEqualTo(ParallelExecutorType.VIRTUAL_THREADS);
+		assertThat(cache.getParallelExecutorType()).isEqualTo(ParallelExecutorType.VIRTUAL_THREADS);
+
+		verify(delegate, only()).getParallelExecutorType();
+	}
+
 	@Test
 	void cachesDefaultDisplayNameGenerator() {
 		CustomDisplayNameGenerator customDisplayNameGenerator = new CustomDisplayNameGenerator();
@@ -18,6 +18,8 @@ import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_METHOD;
 import static org.junit.jupiter.api.io.CleanupMode.ALWAYS;
 import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -78,6 +80,37 @@ class DefaultJupiterConfigurationTests {
 		);
 	}
 
+	@Test
+	void getDefaultDynamicTestPrefetchWithNoConfigParamSet() {
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(mock(), dummyOutputDirectoryProvider());
+
+		assertThat(configuration.getDefaultDynamicTestPrefetch()).isZero();
+	}
+
+	@Test
+	void getDefaultDynamicTestPrefetchWithConfigParamSet() {
+		ConfigurationParameters parameters = mock();
+		String key = Constants.DEFAULT_DYNAMIC_TEST_PREFETCH_PROPERTY_NAME;
+		when(parameters.<Integer> get(eq(key), any())).thenReturn(Optional.of(8));
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(parameters,
+			dummyOutputDirectoryProvider());
+
+		assertThat(configuration.getDefaultDynamicTestPrefetch()).isEqualTo(8);
+	}
+
+	@Test
+	void getDefaultDynamicTestPrefetchRejectsNegativeValues() {
+		ConfigurationParameters parameters = mock();
+		String key = Constants.DEFAULT_DYNAMIC_TEST_PREFETCH_PROPERTY_NAME;
+		when(parameters.<Integer> get(eq(key), any())).thenReturn(Optional.of(-1));
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(parameters,
+			dummyOutputDirectoryProvider());
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			configuration::getDefaultDynamicTestPrefetch);
+		assertThat(exception).hasMessage("Configuration parameter '" + key + "' must not be negative: -1");
+	}
+
 	@Test
 	void shouldGetDefaultDisplayNameGeneratorWithConfigParamSet() {
 		ConfigurationParameters parameters = mock();
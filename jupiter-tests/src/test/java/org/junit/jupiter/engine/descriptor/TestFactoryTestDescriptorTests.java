@@ -11,6 +11,7 @@
 package org.junit.jupiter.engine.descriptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -31,6 +32,7 @@ import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
@@ -179,6 +181,69 @@ class TestFactoryTestDescriptorTests {
 
 	}
 
+	/**
+	 * @since 5.13
+	 */
+	@Nested
+	class Prefetch {
+
+		private final JupiterConfiguration jupiterConfiguration = mock();
+
+		@BeforeEach
+		void before() {
+			when(jupiterConfiguration.getDefaultDisplayNameGenerator()).thenReturn(new DisplayNameGenerator.Standard());
+		}
+
+		@Test
+		void usesPrefetchDeclaredOnAnnotation() throws Exception {
+			var descriptor = createDescriptor("prefetchedFactory");
+
+			assertThat(descriptor.getDynamicTestPrefetch()).isEqualTo(16);
+		}
+
+		@Test
+		void fallsBackToDefaultPrefetchFromConfiguration() throws Exception {
+			when(jupiterConfiguration.getDefaultDynamicTestPrefetch()).thenReturn(4);
+			var descriptor = createDescriptor("factory");
+
+			assertThat(descriptor.getDynamicTestPrefetch()).isEqualTo(4);
+		}
+
+		@Test
+		void rejectsNegativePrefetch() throws Exception {
+			var descriptor = createDescriptor("negativelyPrefetchedFactory");
+
+			assertThatThrownBy(descriptor::getDynamicTestPrefetch) //
+					.isInstanceOf(PreconditionViolationException.class) //
+					.hasMessageContaining("must not declare a negative prefetch: -1");
+		}
+
+		private TestFactoryTestDescriptor createDescriptor(String methodName) throws Exception {
+			Method testMethod = PrefetchTestCase.class.getDeclaredMethod(methodName);
+			return new TestFactoryTestDescriptor(UniqueId.forEngine("engine"), PrefetchTestCase.class, testMethod,
+				List::of, jupiterConfiguration);
+		}
+
+	}
+
+	private static class PrefetchTestCase {
+
+		@TestFactory
+		Stream<DynamicTest> factory() {
+			return Stream.empty();
+		}
+
+		@TestFactory(prefetch = 16)
+		Stream<DynamicTest> prefetchedFactory() {
+			return Stream.empty();
+		}
+
+		@TestFactory(prefetch = -1)
+		Stream<DynamicTest> negativelyPrefetchedFactory() {
+			return Stream.empty();
+		}
+	}
+
 	private static class CustomStreamTestCase {
 
 		private final Stream<?> mockStream;
@@ -200,6 +200,48 @@ class ExtensionRegistryTests {
 		assertEquals(2, countExtensions(grandChild, MyExtensionApi.class));
 	}
 
+	@Test
+	void extensionsRegisteredAfterCreatingChildAreNotSharedWithParentOrChild() {
+		MutableExtensionRegistry parent = registry;
+		parent.registerExtension(MyExtension.class);
+		MutableExtensionRegistry child = createRegistryFrom(parent, Stream.empty());
+		assertEquals(List.of(MyExtension.class), extensionTypes(child, MyExtensionApi.class));
+
+		parent.registerExtension(YourExtension.class);
+		child.registerExtension(MultipleExtension.class);
+
+		assertEquals(List.of(MyExtension.class, YourExtension.class), extensionTypes(parent, MyExtensionApi.class));
+		assertEquals(List.of(MyExtension.class, MultipleExtension.class), extensionTypes(child, MyExtensionApi.class));
+		assertExtensionNotRegistered(parent, AnotherExtensionApi.class);
+		assertExtensionRegistered(child, AnotherExtensionApi.class);
+	}
+
+	@Test
+	void lateInitExtensionsAreStreamedInRegistrationOrderOnceInitialized() throws Exception {
+		var source = ExtensionRegistryTests.class.getDeclaredField("registry");
+		registry.registerExtension(MyExtension.class);
+		assertEquals(List.of(MyExtension.class), extensionTypes(registry, MyExtensionApi.class));
+
+		registry.registerUninitializedExtension(ExtensionRegistryTests.class, source,
+			testInstance -> new YourExtension());
+		registry.registerExtension(MultipleExtension.class);
+		MutableExtensionRegistry child = createRegistryFrom(registry, Stream.empty());
+
+		assertEquals(List.of(MyExtension.class, MultipleExtension.class),
+			extensionTypes(registry, MyExtensionApi.class));
+
+		registry.initializeExtensions(ExtensionRegistryTests.class, this);
+
+		assertEquals(List.of(MyExtension.class, YourExtension.class, MultipleExtension.class),
+			extensionTypes(registry, MyExtensionApi.class));
+		assertEquals(List.of(MyExtension.class, MultipleExtension.class), extensionTypes(child, MyExtensionApi.class));
+
+		child.initializeExtensions(ExtensionRegistryTests.class, this);
+
+		assertEquals(List.of(MyExtension.class, YourExtension.class, MultipleExtension.class),
+			extensionTypes(child, MyExtensionApi.class));
+	}
+
 	@Test
 	void canStreamOverRegisteredExtension() {
 		registry.registerExtension(MyExtension.class);
@@ -214,6 +256,10 @@ class ExtensionRegistryTests {
 		assertTrue(hasRun.get());
 	}
 
+	private List<Class<?>> extensionTypes(ExtensionRegistry registry, Class<? extends Extension> extensionType) {
+		return registry.stream(extensionType).<Class<?>> map(Object::getClass).toList();
+	}
+
 	private long countExtensions(ExtensionRegistry registry, Class<? extends Extension> extensionType) {
 		return registry.stream(extensionType).count();
 	}
@@ -28,6 +28,9 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectIteration;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.DYNAMIC_TESTS_PRUNING_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
 import static org.junit.platform.testkit.engine.EventConditions.abortedWithReason;
 import static org.junit.platform.testkit.engine.EventConditions.container;
 import static org.junit.platform.testkit.engine.EventConditions.displayName;
@@ -35,6 +38,7 @@ import static org.junit.platform.testkit.engine.EventConditions.engine;
 import static org.junit.platform.testkit.engine.EventConditions.event;
 import static org.junit.platform.testkit.engine.EventConditions.finishedSuccessfully;
 import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.reportEntry;
 import static org.junit.platform.testkit.engine.EventConditions.started;
 import static org.junit.platform.testkit.engine.EventConditions.test;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
@@ -113,6 +117,11 @@ import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.ClassUtils;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
 import org.junit.platform.testkit.engine.EngineExecutionResults;
 import org.junit.platform.testkit.engine.EngineTestKit;
 import org.junit.platform.testkit.engine.Event;
@@ -476,6 +485,38 @@ class ParameterizedTestIntegrationTests {
 						"Configuration error: You must configure at least one arguments source for this @ParameterizedTest"))));
 	}
 
+	@Test
+	void summarizesInvocationsWhenConfigured() {
+		var result = execute(SummarizingTestCase.class, "testThatSummarizesInvocations", int.class,
+			TestReporter.class);
+		result.testEvents().assertStatistics(
+			stats -> stats.dynamicallyRegistered(4).started(4).succeeded(3).failed(1).reportingEntryPublished(1));
+		result.testEvents().assertThatEvents() //
+				.haveExactly(1, event(displayName("[3] argument=3"), reportEntry(Map.of("argument", "3")))) //
+				.haveExactly(1, event(displayName("[3] argument=3"), finishedWithFailure(message("3"))));
+		result.containerEvents().assertThatEvents() //
+				.haveExactly(1, event(container("testThatSummarizesInvocations"),
+					reportEntry(Map.of("invocations.successful", "3", "invocations.skipped", "0",
+						"invocations.aborted", "0", "invocations.failed", "1"))));
+	}
+
+	@Test
+	void removesSummarizedInvocationsFromTestPlanWhenDynamicTestPruningIsEnabled() {
+		var request = request() //
+				.selectors(selectMethod(SummarizingTestCase.class, "testThatSummarizesInvocations",
+					ClassUtils.nullSafeToString(int.class, TestReporter.class))) //
+				.configurationParameter(DYNAMIC_TESTS_PRUNING_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+		var listener = new TestPlanRecordingListener();
+
+		createLauncher(new JupiterTestEngine()).execute(request, listener);
+
+		assertThat(listener.finishedInvocations).hasSize(4);
+		assertThat(listener.invocationsRemainingInTestPlan).isEmpty();
+		assertThat(listener.summaries).containsExactly(Map.of("invocations.successful", "3",
+			"invocations.skipped", "0", "invocations.aborted", "0", "invocations.failed", "1"));
+	}
+
 	private EngineExecutionResults execute(DiscoverySelector... selectors) {
 		return EngineTestKit.engine(new JupiterTestEngine()).selectors(selectors).execute();
 	}
@@ -2448,6 +2489,48 @@ class ParameterizedTestIntegrationTests {
 		}
 	}
 
+	static class SummarizingTestCase {
+
+		@ParameterizedTest(summarizeInvocations = true)
+		@ValueSource(ints = { 1, 2, 3, 4 })
+		void testThatSummarizesInvocations(int argument, TestReporter reporter) {
+			reporter.publishEntry("argument", String.valueOf(argument));
+			if (argument == 3) {
+				fail(String.valueOf(argument));
+			}
+		}
+	}
+
+	private static class TestPlanRecordingListener implements TestExecutionListener {
+
+		private final List<TestIdentifier> finishedInvocations = new ArrayList<>();
+		private final List<TestIdentifier> invocationsRemainingInTestPlan = new ArrayList<>();
+		private final List<Map<String, String>> summaries = new ArrayList<>();
+		private TestPlan testPlan;
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			this.testPlan = testPlan;
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			if (testIdentifier.isTest()) {
+				finishedInvocations.add(testIdentifier);
+			}
+			else if ("test-template".equals(testIdentifier.getUniqueIdObject().getLastSegment().getType())) {
+				invocationsRemainingInTestPlan.addAll(testPlan.getChildren(testIdentifier));
+			}
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			if (testIdentifier.isContainer()) {
+				summaries.add(entry.getKeyValuePairs());
+			}
+		}
+	}
+
 	private static class TwoSingleStringArgumentsProvider implements ArgumentsProvider {
 
 		@Override
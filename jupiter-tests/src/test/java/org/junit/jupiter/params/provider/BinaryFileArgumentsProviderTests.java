@@ -0,0 +1,246 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType.BOOLEAN;
+import static org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType.BYTE;
+import static org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType.CHAR;
+import static org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType.DOUBLE;
+import static org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType.FLOAT;
+import static org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType.INT;
+import static org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType.LONG;
+import static org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType.SHORT;
+import static org.junit.jupiter.params.provider.BinaryFileSourceWriter.ColumnType.STRING;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * @since 5.13
+ */
+class BinaryFileArgumentsProviderTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void readsTypedValuesOfAllColumnTypes() throws Exception {
+		var file = tempDir.resolve("test.bin");
+		try (var writer = new BinaryFileSourceWriter(Files.newOutputStream(file), BOOLEAN, BYTE, SHORT, CHAR, INT,
+			LONG, FLOAT, DOUBLE, STRING)) {
+			writer.writeRow(true, (byte) 1, (short) 2, 'c', 3, 4L, 5.5f, 6.25, "äöü") //
+					.writeRow(false, (byte) -1, (short) -2, 'Z', -3, -4L, -5.5f, -6.25, null);
+		}
+
+		var arguments = provideArguments(binaryFileSource(file.toString()));
+
+		assertThat(arguments).containsExactly( //
+			array(true, (byte) 1, (short) 2, 'c', 3, 4L, 5.5f, 6.25, "äöü"),
+			array(false, (byte) -1, (short) -2, 'Z', -3, -4L, -5.5f, -6.25, null));
+	}
+
+	@Test
+	void skipsRows() throws Exception {
+		var file = writeFile(1, 2, 3);
+		var annotation = binaryFileSource(file.toString());
+		when(annotation.numRowsToSkip()).thenReturn(2);
+
+		assertThat(provideArguments(annotation)).containsExactly(array(3));
+	}
+
+	@Test
+	void readsFromMultipleFiles() throws Exception {
+		var file1 = writeFile(1, 2);
+		var file2 = writeFile(3);
+
+		var arguments = provideArguments(binaryFileSource(file1.toString(), file2.toString()));
+
+		assertThat(arguments).containsExactly(array(1), array(2), array(3));
+	}
+
+	@Test
+	void convertsCsvInput() throws Exception {
+		var out = new ByteArrayOutputStream();
+		var csv = """
+				id, name, amount
+				1, foo, 1.5
+				# comment
+				2, "bar, baz", 2.5
+				3, , 3
+				""";
+
+		var rows = BinaryFileSourceWriter.convertCsv(new StringReader(csv), 1, out, INT, STRING, DOUBLE);
+
+		assertThat(rows).isEqualTo(3);
+		var file = Files.write(tempDir.resolve("converted.bin"), out.toByteArray());
+		assertThat(provideArguments(binaryFileSource(file.toString()))).containsExactly( //
+			array(1, "foo", 1.5), array(2, "bar, baz", 2.5), array(3, null, 3.0));
+	}
+
+	@Test
+	void convertsCsvFile() throws Exception {
+		var csvFile = Files.writeString(tempDir.resolve("test.csv"), "true, x\nfalse, y\n");
+		var binaryFile = tempDir.resolve("test.bin");
+
+		var rows = BinaryFileSourceWriter.convertCsv(csvFile, 0, binaryFile, BOOLEAN, CHAR);
+
+		assertThat(rows).isEqualTo(2);
+		assertThat(provideArguments(binaryFileSource(binaryFile.toString()))).containsExactly( //
+			array(true, 'x'), array(false, 'y'));
+	}
+
+	@Test
+	void throwsExceptionForUnparsableCsvValue() {
+		var exception = assertThrows(JUnitException.class, () -> BinaryFileSourceWriter.convertCsv(
+			new StringReader("id\n1\n"), 0, new ByteArrayOutputStream(), INT));
+
+		assertThat(exception) //
+				.hasMessage("Failed to parse value [id] as INT in CSV record 1") //
+				.hasCauseInstanceOf(NumberFormatException.class);
+	}
+
+	@Test
+	void throwsExceptionForEmptyCsvValueInPrimitiveColumn() {
+		var exception = assertThrows(PreconditionViolationException.class, () -> BinaryFileSourceWriter.convertCsv(
+			new StringReader("1,\n"), 0, new ByteArrayOutputStream(), INT, LONG));
+
+		assertThat(exception).hasMessage("Value [null] is not supported for column of type LONG in CSV record 1");
+	}
+
+	@Test
+	void validatesArgumentsBeforeCreatingBinaryFile() throws Exception {
+		var csvFile = Files.writeString(tempDir.resolve("test.csv"), "1\n");
+		var binaryFile = tempDir.resolve("test.bin");
+
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> BinaryFileSourceWriter.convertCsv(csvFile, 0, binaryFile));
+
+		assertThat(exception).hasMessage("columnTypes must not be null or empty");
+		assertThat(binaryFile).doesNotExist();
+	}
+
+	@Test
+	void throwsExceptionForValueOfWrongType() throws Exception {
+		try (var writer = new BinaryFileSourceWriter(new ByteArrayOutputStream(), INT, BYTE)) {
+			var exception = assertThrows(PreconditionViolationException.class, () -> writer.writeRow(1, 2));
+
+			assertThat(exception).hasMessage("Value [2] is not supported for column of type BYTE");
+		}
+	}
+
+	@Test
+	void throwsExceptionForWrongNumberOfValues() throws Exception {
+		try (var writer = new BinaryFileSourceWriter(new ByteArrayOutputStream(), INT, BYTE)) {
+			var exception = assertThrows(PreconditionViolationException.class, () -> writer.writeRow(1));
+
+			assertThat(exception).hasMessage("The number of values (1) does not match the number of columns (2): [1]");
+		}
+	}
+
+	@Test
+	void throwsExceptionForFileWithoutBinaryFixtureHeader() throws Exception {
+		var file = Files.writeString(tempDir.resolve("test.csv"), "foo, bar\n");
+
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> provideArguments(binaryFileSource(file.toString())).toArray());
+
+		assertThat(exception).hasMessage("File [" + file + "] is not a binary fixture file");
+	}
+
+	@Test
+	void throwsExceptionForTruncatedRow() throws Exception {
+		var file = writeFile(1, 2);
+		var bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+		var exception = assertThrows(JUnitException.class,
+			() -> provideArguments(binaryFileSource(file.toString())).toArray());
+
+		assertThat(exception) //
+				.hasMessage("Failed to read row 2 of File [" + file + "]") //
+				.hasCauseInstanceOf(EOFException.class);
+	}
+
+	@Test
+	void throwsExceptionForMissingFile() {
+		var exception = assertThrows(JUnitException.class,
+			() -> provideArguments(binaryFileSource("does-not-exist.bin")).toArray());
+
+		assertThat(exception).hasMessageContaining("File [does-not-exist.bin] could not be read");
+	}
+
+	@Test
+	void throwsExceptionForMissingClasspathResource() {
+		var annotation = binaryFileSource();
+		when(annotation.resources()).thenReturn(new String[] { "/does-not-exist.bin" });
+
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> provideArguments(annotation).toArray());
+
+		assertThat(exception).hasMessage("Classpath resource [/does-not-exist.bin] does not exist");
+	}
+
+	@Test
+	void throwsExceptionIfResourcesAndFilesAreEmpty() {
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> provideArguments(binaryFileSource()).toArray());
+
+		assertThat(exception).hasMessage("Resources or files must not be empty");
+	}
+
+	private Path writeFile(int... values) throws Exception {
+		var file = Files.createTempFile(tempDir, "test", ".bin");
+		try (var writer = new BinaryFileSourceWriter(Files.newOutputStream(file), INT)) {
+			for (var value : values) {
+				writer.writeRow(value);
+			}
+		}
+		return file;
+	}
+
+	private static BinaryFileSource binaryFileSource(String... files) {
+		var annotation = mock(BinaryFileSource.class);
+		when(annotation.resources()).thenReturn(new String[0]);
+		when(annotation.files()).thenReturn(files);
+		return annotation;
+	}
+
+	private static Stream<Object[]> provideArguments(BinaryFileSource annotation) {
+		var provider = new BinaryFileArgumentsProvider();
+		provider.accept(annotation);
+		var context = mock(ExtensionContext.class);
+		when(context.getTestClass()).thenReturn(Optional.of(BinaryFileArgumentsProviderTests.class));
+		doCallRealMethod().when(context).getRequiredTestClass();
+		return provider.provideArguments(context).map(Arguments::get);
+	}
+
+	private static Object[] array(Object... elements) {
+		return elements;
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.jmh;
+
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for {@link NamespacedHierarchicalStore} simulating the
+ * stores of leaf extension contexts, e.g. of parameterized test invocations,
+ * that are created, used by extensions, and closed.
+ *
+ * @since 1.13
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class NamespacedHierarchicalStoreBenchmarks {
+
+	private static final String NAMESPACE = "namespace";
+
+	private static final NamespacedHierarchicalStore.CloseAction<String> CLOSE_ACTION = (namespace, key, value) -> {
+		if (value instanceof AutoCloseable) {
+			((AutoCloseable) value).close();
+		}
+	};
+
+	/**
+	 * Number of values stored in each leaf store.
+	 */
+	@Param({ "1", "4" })
+	private int values;
+
+	private NamespacedHierarchicalStore<String> parentStore;
+	private String[] keys;
+
+	@Setup
+	public void setUp() {
+		this.parentStore = new NamespacedHierarchicalStore<>(null, CLOSE_ACTION);
+		this.keys = new String[this.values];
+		for (int i = 0; i < this.values; i++) {
+			this.keys[i] = "key" + i;
+			this.parentStore.put(NAMESPACE, "parent-" + this.keys[i], i);
+		}
+	}
+
+	@Benchmark
+	public NamespacedHierarchicalStore<String> createAndCloseUnusedStore() {
+		NamespacedHierarchicalStore<String> store = this.parentStore.newChild();
+		store.close();
+		return store;
+	}
+
+	@Benchmark
+	public void getFromParentStore(Blackhole blackhole) {
+		NamespacedHierarchicalStore<String> store = this.parentStore.newChild();
+		for (String key : this.keys) {
+			blackhole.consume(store.get(NAMESPACE, "parent-" + key));
+		}
+		store.close();
+	}
+
+	@Benchmark
+	public NamespacedHierarchicalStore<String> putAndClose() {
+		NamespacedHierarchicalStore<String> store = this.parentStore.newChild();
+		for (String key : this.keys) {
+			store.put(NAMESPACE, key, key);
+		}
+		store.close();
+		return store;
+	}
+
+	@Benchmark
+	public NamespacedHierarchicalStore<String> getOrComputeIfAbsentAndClose() {
+		NamespacedHierarchicalStore<String> store = this.parentStore.newChild();
+		for (String key : this.keys) {
+			store.getOrComputeIfAbsent(NAMESPACE, key, k -> (AutoCloseable) () -> {
+			});
+		}
+		store.close();
+		return store;
+	}
+
+}
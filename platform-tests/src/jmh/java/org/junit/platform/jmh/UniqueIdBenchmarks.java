@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.jmh;
+
+import org.junit.platform.engine.UniqueId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for {@link UniqueId} with deeply nested segments like those
+ * of dynamic tests in nested test classes.
+ *
+ * @since 1.13
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class UniqueIdBenchmarks {
+
+	/**
+	 * More than the number of recently parsed unique IDs that are cached.
+	 */
+	private static final int NUMBER_OF_DISTINCT_IDS = 4096;
+
+	@Param({ "2", "8", "32" })
+	private int depth;
+
+	private UniqueId parent;
+	private UniqueId uniqueId;
+	private UniqueId equalUniqueId;
+	private String[] distinctIds;
+	private int index;
+
+	@Setup
+	public void setUp() {
+		var uniqueId = UniqueId.forEngine("junit-jupiter");
+		for (int i = 1; i < depth; i++) {
+			uniqueId = uniqueId.append(i == depth - 1 ? "dynamic-test" : "nested-class", "#" + i);
+		}
+		this.uniqueId = uniqueId;
+		this.parent = uniqueId.removeLastSegment();
+		this.equalUniqueId = UniqueId.parse(uniqueId.toString());
+		this.distinctIds = new String[NUMBER_OF_DISTINCT_IDS];
+		for (int i = 0; i < NUMBER_OF_DISTINCT_IDS; i++) {
+			this.distinctIds[i] = parent.append("dynamic-test", "#" + i).toString();
+		}
+	}
+
+	private String nextDistinctId() {
+		index = (index + 1) % NUMBER_OF_DISTINCT_IDS;
+		return distinctIds[index];
+	}
+
+	@Benchmark
+	public UniqueId parseDistinct() {
+		return UniqueId.parse(nextDistinctId());
+	}
+
+	@Benchmark
+	public UniqueId parseRepeated() {
+		return UniqueId.parse(distinctIds[0]);
+	}
+
+	@Benchmark
+	public UniqueId append() {
+		return parent.append("dynamic-test", "#1");
+	}
+
+	@Benchmark
+	public boolean hasPrefix() {
+		return uniqueId.hasPrefix(parent);
+	}
+
+	@Benchmark
+	public boolean equalsWithoutSharedPrefix() {
+		return uniqueId.equals(equalUniqueId);
+	}
+
+	@Benchmark
+	public String toStringCached() {
+		return uniqueId.toString();
+	}
+
+	@Benchmark
+	public String toStringOfAppended() {
+		return parent.append("dynamic-test", "#1").toString();
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ClasspathScanIndex}.
+ *
+ * @since 1.13
+ */
+class ClasspathScanIndexTests {
+
+	@TempDir
+	Path tempDir;
+
+	Path root;
+	Path indexFile;
+
+	final AtomicInteger scans = new AtomicInteger();
+
+	@BeforeEach
+	void createClasspathRoot() throws Exception {
+		root = Files.createDirectories(tempDir.resolve("root"));
+		indexFile = tempDir.resolve("index/classpath.idx");
+		Files.createDirectories(root.resolve("a/b"));
+		Files.createFile(root.resolve("a/b/C.class"));
+		makeOld(root.resolve("a/b"), 10);
+		makeOld(root.resolve("a"), 10);
+		makeOld(root, 10);
+	}
+
+	@Test
+	void reusesIndexedClassNamesOfUnchangedDirectoryAcrossInstances() {
+		var classNames = getClassNames(new ClasspathScanIndex(indexFile), true);
+		var indexedClassNames = getClassNames(new ClasspathScanIndex(indexFile), true);
+
+		assertThat(classNames).containsExactly("a.b.C");
+		assertThat(indexedClassNames).containsExactly("a.b.C");
+		assertThat(scans).hasValue(1);
+	}
+
+	@Test
+	void rescansDirectoryWhenNestedDirectoryWasModified() throws Exception {
+		getClassNames(new ClasspathScanIndex(indexFile), true);
+
+		makeOld(root.resolve("a/b"), 5);
+		getClassNames(new ClasspathScanIndex(indexFile), true);
+
+		assertThat(scans).hasValue(2);
+	}
+
+	@Test
+	void rescansDirectoryWhenIndexedDirectoryWasDeleted() throws Exception {
+		getClassNames(new ClasspathScanIndex(indexFile), true);
+
+		var lastModified = Files.getLastModifiedTime(root.resolve("a"));
+		Files.delete(root.resolve("a/b/C.class"));
+		Files.delete(root.resolve("a/b"));
+		Files.setLastModifiedTime(root.resolve("a"), lastModified);
+		getClassNames(new ClasspathScanIndex(indexFile), true);
+
+		assertThat(scans).hasValue(2);
+	}
+
+	@Test
+	void doesNotIndexRecentlyModifiedDirectories() throws Exception {
+		Files.setLastModifiedTime(root.resolve("a"), FileTime.from(Instant.now()));
+
+		getClassNames(new ClasspathScanIndex(indexFile), true);
+		getClassNames(new ClasspathScanIndex(indexFile), true);
+
+		assertThat(scans).hasValue(2);
+		assertThat(indexFile).doesNotExist();
+	}
+
+	@Test
+	void doesNotIndexIncompleteScans() {
+		getClassNames(new ClasspathScanIndex(indexFile), false);
+		getClassNames(new ClasspathScanIndex(indexFile), false);
+
+		assertThat(scans).hasValue(2);
+	}
+
+	@Test
+	void ignoresCorruptIndexFile() throws Exception {
+		Files.createDirectories(indexFile.getParent());
+		Files.write(indexFile, new byte[] { 0, 0, 0, 1, 42 });
+
+		var classNames = getClassNames(new ClasspathScanIndex(indexFile), true);
+
+		assertThat(classNames).containsExactly("a.b.C");
+		assertThat(scans).hasValue(1);
+	}
+
+	@Test
+	void disabledIndexAlwaysScans() {
+		getClassNames(ClasspathScanIndex.DISABLED, true);
+		getClassNames(ClasspathScanIndex.DISABLED, true);
+
+		assertThat(ClasspathScanIndex.DISABLED.isEnabled()).isFalse();
+		assertThat(scans).hasValue(2);
+	}
+
+	private List<String> getClassNames(ClasspathScanIndex index, boolean completed) {
+		var classNames = index.getClassNames(root.toUri(), "", (baseUri, basePackageName, consumer) -> {
+			scans.incrementAndGet();
+			consumer.accept("a.b.C");
+			return completed;
+		});
+		index.flush();
+		return classNames;
+	}
+
+	private static void makeOld(Path path, int minutes) throws IOException {
+		Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofMinutes(minutes))));
+	}
+
+}
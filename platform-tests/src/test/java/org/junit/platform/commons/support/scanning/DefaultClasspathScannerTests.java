@@ -32,6 +32,9 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
@@ -199,6 +202,31 @@ class DefaultClasspathScannerTests {
 		}
 	}
 
+	@Test
+	void scanForClassesInClasspathRootWithinJarFileUsingIndex(@TempDir Path tempDir) throws Exception {
+		var jarFile = tempDir.resolve("jartest.jar");
+		try (var inputStream = requireNonNull(getClass().getResourceAsStream("/jartest.jar"))) {
+			Files.copy(inputStream, jarFile);
+		}
+		Files.setLastModifiedTime(jarFile, FileTime.from(Instant.now().minus(Duration.ofMinutes(1))));
+		var indexFile = tempDir.resolve("classpath.idx");
+
+		try (var classLoader = new URLClassLoader(new URL[] { jarFile.toUri().toURL() }, null)) {
+			for (int i = 0; i < 2; i++) {
+				var classpathScanner = new DefaultClasspathScanner(() -> classLoader, ReflectionUtils::tryToLoadClass,
+					new ClasspathScanIndex(indexFile), false);
+
+				var classes = classpathScanner.scanForClassesInClasspathRoot(jarFile.toUri(), allClasses);
+
+				assertThat(classes).extracting(Class::getName) //
+						.containsExactlyInAnyOrder("org.junit.platform.jartest.notincluded.NotIncluded",
+							"org.junit.platform.jartest.included.recursive.RecursivelyIncluded",
+							"org.junit.platform.jartest.included.Included");
+				assertThat(indexFile).exists();
+			}
+		}
+	}
+
 	@Test
 	void scanForResourcesInClasspathRootWithinJarFile() throws Exception {
 		scanForResourcesInClasspathRootWithinJarFile("/jartest.jar");
@@ -301,6 +329,32 @@ class DefaultClasspathScannerTests {
 			uriOf("/org/junit/platform/commons/other-example.resource"));
 	}
 
+	@Test
+	void scanForClassesInPackageInParallelYieldsSameOrderAsSequentialScan() {
+		var parallelClasspathScanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::tryToLoadClass, ClasspathScanIndex.DISABLED, true);
+		var basePackageName = "org.junit.platform.commons";
+
+		var classes = parallelClasspathScanner.scanForClassesInPackage(basePackageName, allClasses);
+
+		assertThat(classes).hasSizeGreaterThanOrEqualTo(20) //
+				.containsExactlyElementsOf(classpathScanner.scanForClassesInPackage(basePackageName, allClasses));
+	}
+
+	@Test
+	void scanForResourcesInPackageInParallelYieldsSameOrderAsSequentialScan() {
+		var parallelClasspathScanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::tryToLoadClass, ClasspathScanIndex.DISABLED, true);
+		var basePackageName = "org.junit.platform.commons";
+
+		var resources = parallelClasspathScanner.scanForResourcesInPackage(basePackageName, allResources);
+
+		assertThat(resources).extracting(Resource::getUri) //
+				.contains(uriOf("/org/junit/platform/commons/example.resource")) //
+				.containsExactlyElementsOf(classpathScanner.scanForResourcesInPackage(basePackageName,
+					allResources).stream().map(Resource::getUri).toList());
+	}
+
 	@Test
 	// #2500
 	void scanForClassesInPackageWithinModulesSharingNamePrefix(@TempDir Path temp) throws Exception {
@@ -549,6 +603,18 @@ class DefaultClasspathScannerTests {
 		assertTrue(classes.contains(DefaultClasspathScannerTests.class));
 	}
 
+	@Test
+	void findAllClassesInClasspathRootInParallelYieldsSameOrderAsSequentialScan() throws Exception {
+		var parallelClasspathScanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::tryToLoadClass, ClasspathScanIndex.DISABLED, true);
+		var root = getTestClasspathRoot();
+
+		var classes = parallelClasspathScanner.scanForClassesInClasspathRoot(root, allClasses);
+
+		assertThat(classes).contains(DefaultClasspathScannerTests.class) //
+				.containsExactlyElementsOf(classpathScanner.scanForClassesInClasspathRoot(root, allClasses));
+	}
+
 	@Test
 	void findAllClassesInClasspathRootForNullRoot() {
 		assertThrows(PreconditionViolationException.class,
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link MarkerAnnotationFilter}.
+ *
+ * @since 1.13
+ */
+class MarkerAnnotationFilterTests {
+
+	private final MarkerAnnotationFilter filter = new MarkerAnnotationFilter(
+		Set.of(Testable.class.getName(), Nested.class.getName()), getClass().getClassLoader());
+
+	@Test
+	void rejectsClassesWithoutMarkerAnnotations() {
+		assertThat(filter.test(PlainClass.class.getName())).isFalse();
+		assertThat(filter.test(ClassWithFieldOfPlainType.class.getName())).isFalse();
+	}
+
+	@Test
+	void acceptsClassesWithDirectlyOrIndirectlyMetaAnnotatedMethods() {
+		assertThat(filter.test(ClassWithTestMethod.class.getName())).isTrue();
+		assertThat(filter.test(ClassWithComposedAnnotation.class.getName())).isTrue();
+	}
+
+	@Test
+	void acceptsClassesInheritingFromClassesOrInterfacesUsingMarkerAnnotations() {
+		assertThat(filter.test(SubclassOfClassWithTestMethod.class.getName())).isTrue();
+		assertThat(filter.test(ImplementationOfInterfaceWithTestMethod.class.getName())).isTrue();
+	}
+
+	@Test
+	void acceptsClassesWithNestedClassesUsingMarkerAnnotations() {
+		assertThat(filter.test(ClassWithNestedClass.class.getName())).isTrue();
+		assertThat(filter.test(ClassWithNestedClass.Inner.class.getName())).isTrue();
+	}
+
+	@Test
+	void acceptsClassesWithCyclicMetaAnnotations() {
+		assertThat(filter.test(ClassWithCyclicAnnotation.class.getName())).isTrue();
+	}
+
+	@Test
+	void acceptsClassesWhoseClassFilesCannotBeFound() {
+		assertThat(filter.test("org.example.DoesNotExist")).isTrue();
+	}
+
+	@Test
+	void onlyLoadsClassesUsingMarkerAnnotationsDuringScanning() {
+		var classpathScanner = new DefaultClasspathScanner(getClass()::getClassLoader,
+			ReflectionUtils::tryToLoadClass, ClasspathScanIndex.DISABLED, false);
+		var classFilter = ClassFilter.of(name -> name.startsWith(MarkerAnnotationFilterTests.class.getName() + "$"),
+			type -> true).withMarkerAnnotations(List.of(Testable.class, Nested.class));
+
+		var classes = classpathScanner.scanForClassesInPackage(getClass().getPackageName(), classFilter);
+
+		assertThat(classes) //
+				.contains(ClassWithTestMethod.class, SubclassOfClassWithTestMethod.class, ClassWithNestedClass.class) //
+				.doesNotContain(PlainClass.class, ClassWithFieldOfPlainType.class);
+	}
+
+	static class PlainClass {
+	}
+
+	static class ClassWithFieldOfPlainType {
+		PlainClass field;
+	}
+
+	static class ClassWithTestMethod {
+		@Test
+		void test() {
+		}
+	}
+
+	static class SubclassOfClassWithTestMethod extends ClassWithTestMethod {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Test
+	@interface ComposedTest {
+	}
+
+	static class ClassWithComposedAnnotation {
+		@ComposedTest
+		void test() {
+		}
+	}
+
+	interface InterfaceWithTestMethod {
+		@Test
+		default void test() {
+		}
+	}
+
+	static class ImplementationOfInterfaceWithTestMethod implements InterfaceWithTestMethod {
+	}
+
+	static class ClassWithNestedClass {
+		@Nested
+		class Inner {
+		}
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Cyclic2
+	@interface Cyclic1 {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Cyclic1
+	@interface Cyclic2 {
+	}
+
+	static class ClassWithCyclicAnnotation {
+		@Cyclic1
+		void test() {
+		}
+	}
+
+}
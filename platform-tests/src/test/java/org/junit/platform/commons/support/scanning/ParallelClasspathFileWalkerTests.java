@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.fixtures.TrackLogRecords;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ParallelClasspathFileWalker}.
+ *
+ * @since 1.13
+ */
+@TrackLogRecords
+class ParallelClasspathFileWalkerTests {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void returnsMatchingFilesInSameOrderAsSequentialWalk() throws Exception {
+		for (var i = 0; i < 10; i++) {
+			var directory = Files.createDirectories(root.resolve("a" + i).resolve("b" + i));
+			for (var j = 0; j < 10; j++) {
+				Files.createFile(directory.resolve("C" + j + ".class"));
+				Files.createFile(directory.getParent().resolve("D" + j + ".txt"));
+			}
+		}
+		Files.createFile(root.resolve("E.class"));
+		var filter = ClasspathFilters.classFiles();
+
+		var walker = new ParallelClasspathFileWalker(filter);
+		var files = walker.walk(root);
+
+		assertThat(files).hasSize(101).containsExactlyElementsOf(walkSequentially(filter));
+		assertThat(walker.hasErrors()).isFalse();
+	}
+
+	@Test
+	void returnsSingleMatchingFile() throws Exception {
+		var file = Files.createFile(root.resolve("C.class"));
+
+		var files = new ParallelClasspathFileWalker(ClasspathFilters.classFiles()).walk(file);
+
+		assertThat(files).containsExactly(file);
+	}
+
+	@Test
+	void reportsErrorsForMissingStartDirectory() {
+		var walker = new ParallelClasspathFileWalker(ClasspathFilters.classFiles());
+
+		var files = walker.walk(root.resolve("missing"));
+
+		assertThat(files).isEmpty();
+		assertThat(walker.hasErrors()).isTrue();
+	}
+
+	private List<Path> walkSequentially(Predicate<Path> filter) throws Exception {
+		var files = new ArrayList<Path>();
+		Files.walkFileTree(root, new ClasspathFileVisitor(root, filter, (baseDir, file) -> files.add(file)));
+		return files;
+	}
+
+}
@@ -37,6 +37,9 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -151,6 +154,76 @@ class AnnotationUtilsTests {
 		assertThat(findAnnotation(Optional.of(method), Annotation1.class)).isPresent();
 	}
 
+	@Test
+	void findAnnotationCachesResultsForMethods() throws Exception {
+		var method = ComposedAnnotationClass.class.getDeclaredMethod("method");
+		var annotation = findAnnotation(method, Annotation1.class);
+		var hits = AnnotationUtils.getAnnotationCacheHits();
+
+		assertThat(findAnnotation(ComposedAnnotationClass.class.getDeclaredMethod("method"), Annotation1.class)) //
+				.containsSame(annotation.orElseThrow());
+		assertThat(AnnotationUtils.getAnnotationCacheHits()).isGreaterThan(hits);
+	}
+
+	@Test
+	void findAnnotationCachesAbsentAnnotations() {
+		assertThat(findAnnotation(Annotation1Class.class, Annotation2.class)).isNotPresent();
+		var hits = AnnotationUtils.getAnnotationCacheHits();
+
+		assertThat(findAnnotation(Annotation1Class.class, Annotation2.class)).isNotPresent();
+		assertThat(AnnotationUtils.getAnnotationCacheHits()).isGreaterThan(hits);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findAnnotationDoesNotCacheResultsForAnnotationTypesOfChildClassLoaders() throws Exception {
+		var location = Annotation1.class.getProtectionDomain().getCodeSource().getLocation();
+		try (var classLoader = new URLClassLoader(new URL[] { location }, null)) {
+			var annotationType = (Class<? extends Annotation>) classLoader.loadClass(Annotation1.class.getName());
+			var hits = AnnotationUtils.getAnnotationCacheHits();
+			var misses = AnnotationUtils.getAnnotationCacheMisses();
+
+			assertThat(findAnnotation(Annotation1Class.class, annotationType)).isNotPresent();
+			assertThat(findAnnotation(Annotation1Class.class, annotationType)).isNotPresent();
+
+			assertThat(AnnotationUtils.getAnnotationCacheHits()).isEqualTo(hits);
+			assertThat(AnnotationUtils.getAnnotationCacheMisses()).isEqualTo(misses);
+		}
+	}
+
+	@Test
+	void findAnnotationDoesNotCacheResultsForOtherAnnotatedElements() {
+		var element = new AnnotatedElement() {
+
+			Annotation[] annotations = new Annotation[0];
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+				return (T) Arrays.stream(annotations) //
+						.filter(annotationClass::isInstance) //
+						.findFirst() //
+						.orElse(null);
+			}
+
+			@Override
+			public Annotation[] getAnnotations() {
+				return annotations;
+			}
+
+			@Override
+			public Annotation[] getDeclaredAnnotations() {
+				return annotations;
+			}
+		};
+		assertThat(findAnnotation(element, Annotation1.class)).isNotPresent();
+
+		var annotation = Annotation1Class.class.getAnnotation(Annotation1.class);
+		element.annotations = new Annotation[] { annotation };
+
+		assertThat(findAnnotation(element, Annotation1.class)).containsSame(annotation);
+	}
+
 	@Test
 	void findAnnotationDirectlyPresentOnEnclosingClass() throws Exception {
 		Class<?> clazz = Annotation1Class.InnerClass.class;
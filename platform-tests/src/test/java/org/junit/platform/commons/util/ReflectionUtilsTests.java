@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -1447,6 +1448,32 @@ class ReflectionUtilsTests {
 			assertThat(findMethods(DoubleInheritedInterfaceMethodTestCase.class, isStringsMethod)).hasSize(1);
 		}
 
+		@Test
+		void findMethodsReturnsSameMethodInstancesForRepeatedInvocations() {
+			var methods = findMethods(StaticMethodHidingChild.class, method -> true, TOP_DOWN);
+
+			var cachedMethods = findMethods(StaticMethodHidingChild.class, method -> true, TOP_DOWN);
+
+			assertThat(cachedMethods).hasSameSizeAs(methods);
+			for (int i = 0; i < methods.size(); i++) {
+				assertSame(methods.get(i), cachedMethods.get(i));
+			}
+		}
+
+		@Test
+		void findMethodsDoesNotCacheResultsOfLegacySearchSemantics() {
+			Class<?> child = StaticMethodHidingChild.class;
+			assertThat(findMethods(child, method -> true, BOTTOM_UP)).hasSize(9);
+			try {
+				ReflectionUtils.useLegacySearchSemantics = true;
+				assertThat(findMethods(child, method -> true, BOTTOM_UP)).hasSize(6);
+			}
+			finally {
+				ReflectionUtils.useLegacySearchSemantics = false;
+			}
+			assertThat(findMethods(child, method -> true, BOTTOM_UP)).hasSize(9);
+		}
+
 		@Test
 		void findMethodsInObject() {
 			var methods = findMethods(Object.class, method -> true);
@@ -1991,6 +2018,18 @@ class ReflectionUtilsTests {
 			assertThat(fields).containsExactly(nonStaticField);
 		}
 
+		@Test
+		void findFieldsReturnsSameFieldInstancesForRepeatedInvocations() {
+			var fields = findFields(ClassWithFields.class, field -> true, BOTTOM_UP);
+
+			var cachedFields = findFields(ClassWithFields.class, field -> true, BOTTOM_UP);
+
+			assertThat(cachedFields).hasSameSizeAs(fields);
+			for (int i = 0; i < fields.size(); i++) {
+				assertSame(fields.get(i), cachedFields.get(i));
+			}
+		}
+
 		@Test
 		void readFieldValuesPreconditions() {
 			List<Field> fields = new ArrayList<>();
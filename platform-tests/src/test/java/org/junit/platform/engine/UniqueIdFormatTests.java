@@ -51,6 +51,23 @@ class UniqueIdFormatTests {
 			assertEquals(format.format(uniqueId), uniqueId.toString());
 		}
 
+		@Test
+		void withFormattedParent() {
+			var classId = engineId.append("class", "org.junit.MyClass");
+			var formattedClassId = classId.toString();
+			var methodId = classId.append("method", "test[1]");
+
+			assertEquals(formattedClassId + "/[method:test%5B1%5D]", methodId.toString());
+			assertEquals(format.format(methodId), methodId.toString());
+		}
+
+		@Test
+		void withEncodedCharacters() {
+			var uniqueId = engineId.append("t:1", "a/b+c%d");
+			assertEquals("[engine:junit-jupiter]/[t%3A1:a%2Fb%2Bc%25d]", uniqueId.toString());
+			assertEquals(uniqueId, format.parse(uniqueId.toString()));
+		}
+
 	}
 
 	@Nested
@@ -136,6 +153,30 @@ class UniqueIdFormatTests {
 			assertEquals(getMethodUid(), parsedId.toString());
 		}
 
+		@Test
+		default void parseUidWithTrailingDelimiters() {
+			var delimiter = getMethodUid().charAt(getEngineUid().length());
+			var parsedId = getFormat().parse(getMethodUid() + delimiter + delimiter);
+			assertEquals(3, parsedId.getSegments().size());
+			assertEquals(getMethodUid(), parsedId.toString());
+		}
+
+		@Test
+		default void parseUidWithEmptySegment() {
+			var delimiter = getMethodUid().charAt(getEngineUid().length());
+			var uid = delimiter + getMethodUid();
+			Throwable throwable = assertThrows(JUnitException.class, () -> getFormat().parse(uid));
+			assertEquals("'' is not a well-formed UniqueId segment", throwable.getMessage());
+		}
+
+		@Test
+		default void parseSegmentWithoutValue() {
+			var segment = getEngineUid().substring(0, getEngineUid().indexOf("junit-jupiter"))
+					+ getEngineUid().charAt(getEngineUid().length() - 1);
+			Throwable throwable = assertThrows(JUnitException.class, () -> getFormat().parse(segment));
+			assertEquals("'" + segment + "' is not a well-formed UniqueId segment", throwable.getMessage());
+		}
+
 	}
 
 }
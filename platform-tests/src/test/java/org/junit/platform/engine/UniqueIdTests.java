@@ -17,6 +17,8 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.commons.util.SerializationUtils.deserialize;
+import static org.junit.platform.commons.util.SerializationUtils.serialize;
 
 import java.util.Optional;
 
@@ -291,6 +293,59 @@ class UniqueIdTests {
 
 	}
 
+	@Nested
+	class Sharing {
+
+		@Test
+		void appendedUniqueIdsShareTheirParent() {
+			var parent = UniqueId.forEngine(ENGINE_ID).append("class", "org.junit.MyClass");
+			var child1 = parent.append("method", "test1()");
+			var child2 = parent.append("method", "test2()");
+
+			assertSame(parent, child1.removeLastSegment());
+			assertSame(parent, child2.removeLastSegment());
+		}
+
+		@Test
+		void segmentTypesAreInterned() {
+			var uniqueId1 = UniqueId.forEngine(ENGINE_ID).append(new String("method"), "test()");
+			var uniqueId2 = UniqueId.parse("[engine:junit-jupiter]/[method:test()]");
+
+			assertSame(uniqueId1.getLastSegment().getType(), uniqueId2.getLastSegment().getType());
+		}
+
+		@Test
+		void uniqueIdsWithDifferentParentInstancesAreEqual() {
+			var id1 = UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2");
+			var id2 = UniqueId.parse(id1.toString());
+
+			assertEquals(id1, id2);
+			assertEquals(id1.hashCode(), id2.hashCode());
+			assertEquals(id1.getSegments().hashCode(), id1.hashCode());
+			assertTrue(id2.hasPrefix(id1.removeLastSegment()));
+		}
+
+		@Test
+		void recentlyParsedUniqueIdsAreReused() {
+			var uniqueId = "[engine:junit-jupiter]/[class:org.junit.MyClass]/[method:test()]";
+
+			assertSame(UniqueId.parse(uniqueId), UniqueId.parse(uniqueId));
+			assertSame(uniqueId, UniqueId.parse(uniqueId).toString());
+		}
+
+		@Test
+		void canBeSerializedAndDeserialized() throws Exception {
+			var original = UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2");
+
+			var deserialized = (UniqueId) deserialize(serialize(original));
+
+			assertEquals(original, deserialized);
+			assertEquals(original.getSegments(), deserialized.getSegments());
+			assertSame(original.getLastSegment().getType(), deserialized.getLastSegment().getType());
+		}
+
+	}
+
 	private void assertSegment(Segment segment, String expectedType, String expectedValue) {
 		assertEquals(expectedType, segment.getType(), "segment type");
 		assertEquals(expectedValue, segment.getValue(), "segment value");
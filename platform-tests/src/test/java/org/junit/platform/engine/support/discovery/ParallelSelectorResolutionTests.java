@@ -0,0 +1,153 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.discovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathResource;
+import static org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver.PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.support.discovery.SelectorResolver.Match.exact;
+import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.match;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.SelectorResolutionResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClasspathResourceSelector;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+
+/**
+ * @since 1.13
+ */
+class ParallelSelectorResolutionTests {
+
+	static final List<String> names = List.of("b/2/y", "a/1/x", "b/1", "unknown/1", "a/2", "b/2/x", "a/1/y", "c",
+		"a/1/x", "b", "d/1/z", "a");
+
+	@RepeatedTest(10)
+	void resultsInSameTestDescriptorsAndNotificationsAsSequentialResolution() {
+		var sequential = resolve(true, false);
+		var parallel = resolve(true, true);
+
+		assertThat(parallel.uniqueIds()).containsExactlyElementsOf(sequential.uniqueIds());
+		assertThat(parallel.notifications()).containsExactlyElementsOf(sequential.notifications());
+		assertThat(sequential.uniqueIds()).startsWith("[engine:engine]", "[engine:engine]/[segment:b]",
+			"[engine:engine]/[segment:b]/[segment:2]", "[engine:engine]/[segment:b]/[segment:2]/[segment:y]",
+			"[engine:engine]/[segment:b]/[segment:2]/[segment:x]");
+	}
+
+	@Test
+	void resolvesSequentiallyUnlessAllowedByEngine() {
+		var result = resolve(false, true);
+
+		assertThat(result.threads()).containsOnly(Thread.currentThread().getName());
+		assertThat(result.uniqueIds()).containsExactlyElementsOf(resolve(true, false).uniqueIds());
+	}
+
+	private static Result resolve(boolean allowParallelResolution, boolean enabled) {
+		var result = new Result(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+		var builder = EngineDiscoveryRequestResolver.builder() //
+				.addSelectorResolver(new HierarchicalResourceResolver(result.threads()));
+		if (allowParallelResolution) {
+			builder.allowParallelResolution();
+		}
+		var request = LauncherDiscoveryRequestBuilder.request() //
+				.selectors(names.stream().map(name -> selectClasspathResource(name)).toList()) //
+				.configurationParameter(PARALLEL_RESOLUTION_ENABLED_PROPERTY_NAME, String.valueOf(enabled)) //
+				.listeners(new LauncherDiscoveryListener() {
+					@Override
+					public void selectorProcessed(UniqueId engineId, DiscoverySelector selector,
+							SelectorResolutionResult selectorResult) {
+						result.notifications().add(selector + " " + selectorResult.getStatus());
+					}
+				}) //
+				.build();
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+
+		builder.build().resolve(request, engineDescriptor);
+
+		collectUniqueIds(engineDescriptor, result.uniqueIds());
+		return result;
+	}
+
+	private static void collectUniqueIds(TestDescriptor descriptor, List<String> uniqueIds) {
+		uniqueIds.add(descriptor.getUniqueId().toString());
+		descriptor.getChildren().forEach(child -> collectUniqueIds(child, uniqueIds));
+	}
+
+	record Result(List<String> uniqueIds, List<String> notifications, List<String> threads) {
+	}
+
+	/**
+	 * Resolves resource names like {@code a/b} into test descriptors named
+	 * {@code b} with a parent named {@code a}. Top-level descriptors are
+	 * expanded into a child named {@code 0}.
+	 */
+	private static class HierarchicalResourceResolver implements SelectorResolver {
+
+		private final List<String> threads;
+
+		HierarchicalResourceResolver(List<String> threads) {
+			this.threads = threads;
+		}
+
+		@Override
+		public Resolution resolve(ClasspathResourceSelector selector, Context context) {
+			synchronized (threads) {
+				threads.add(Thread.currentThread().getName());
+			}
+			sleepRandomly();
+			var name = selector.getClasspathResourceName();
+			if (name.startsWith("unknown")) {
+				return Resolution.unresolved();
+			}
+			var separatorIndex = name.lastIndexOf('/');
+			Optional<TestDescriptorStub> descriptor;
+			if (separatorIndex < 0) {
+				descriptor = context.addToParent(parent -> createTestDescriptor(parent, name));
+			}
+			else {
+				descriptor = context.addToParent(() -> selectClasspathResource(name.substring(0, separatorIndex)),
+					parent -> createTestDescriptor(parent, name.substring(separatorIndex + 1)));
+			}
+			return descriptor //
+					.map(testDescriptor -> match(separatorIndex < 0 //
+							? exact(testDescriptor, () -> Set.of(selectClasspathResource(name + "/0"))) //
+							: exact(testDescriptor))) //
+					.orElseGet(Resolution::unresolved);
+		}
+
+		private static Optional<TestDescriptorStub> createTestDescriptor(TestDescriptor parent, String segment) {
+			sleepRandomly();
+			return Optional.of(new TestDescriptorStub(parent.getUniqueId().append("segment", segment), segment));
+		}
+
+		private static void sleepRandomly() {
+			try {
+				Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+}
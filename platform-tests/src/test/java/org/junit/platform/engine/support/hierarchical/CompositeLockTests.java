@@ -10,11 +10,13 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -83,6 +85,40 @@ class CompositeLockTests {
 		verify(unavailableLock, never()).unlock();
 	}
 
+	@Test
+	void releasesAcquiredLocksInReverseOrderWhenTryAcquireFails() {
+		var resources = anyResources(3);
+		var firstLock = mock(Lock.class, "firstLock");
+		var secondLock = mock(Lock.class, "secondLock");
+		var unavailableLock = mock(Lock.class, "unavailableLock");
+		when(firstLock.tryLock()).thenReturn(true);
+		when(secondLock.tryLock()).thenReturn(true);
+		when(unavailableLock.tryLock()).thenReturn(false);
+
+		var unavailableResource = new CompositeLock(resources, List.of(firstLock, secondLock, unavailableLock)) //
+				.tryAcquire();
+
+		assertThat(unavailableResource).contains(resources.get(2));
+		var inOrder = inOrder(firstLock, secondLock);
+		inOrder.verify(secondLock).unlock();
+		inOrder.verify(firstLock).unlock();
+		verify(unavailableLock, never()).unlock();
+	}
+
+	@Test
+	void tryAcquireAcquiresAllLocksIfAvailable() {
+		var lock1 = mock(Lock.class);
+		var lock2 = mock(Lock.class);
+		when(lock1.tryLock()).thenReturn(true);
+		when(lock2.tryLock()).thenReturn(true);
+
+		var unavailableResource = new CompositeLock(anyResources(2), List.of(lock1, lock2)).tryAcquire();
+
+		assertThat(unavailableResource).isEmpty();
+		verify(lock1, never()).unlock();
+		verify(lock2, never()).unlock();
+	}
+
 	private Lock mockLock(String name, Executable lockAction) throws InterruptedException {
 		var lock = mock(Lock.class, name);
 		doAnswer(invocation -> {
@@ -238,6 +238,44 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 				.values().extracting(it -> it.completion.isCompletedExceptionally()).containsOnly(false);
 	}
 
+	@Test
+	void parksTasksWithUnavailableLocksUntilTheyAreReleased() throws Throwable {
+
+		var lock = lockManager.getLockForResource(new ExclusiveResource("a", LockMode.READ_WRITE));
+
+		var parked = new CountDownLatch(1);
+		var parkedTasks = new CopyOnWriteArrayList<TestTask>();
+		var taskEventListener = new TaskEventListener() {
+			@Override
+			public void deferred(TestTask testTask) {
+			}
+
+			@Override
+			public void parked(TestTask testTask) {
+				parkedTasks.add(testTask);
+				parked.countDown();
+			}
+		};
+
+		var blockedTask = taskFactory.create("blockedTask", lock);
+
+		var configuration = new DefaultParallelExecutionConfiguration(2, 2, 2, 2, 1, __ -> true);
+
+		withForkJoinPoolHierarchicalTestExecutorService(configuration, taskEventListener, service -> {
+
+			var blockingTask = taskFactory.create("blockingTask", lock, () -> {
+				service.new ExclusiveTask(blockedTask).fork();
+				await(parked, blockedTask.identifier + " to be parked");
+			});
+
+			service.submit(blockingTask).get();
+		});
+
+		assertThat(parkedTasks).containsExactly(blockedTask);
+		assertThat(taskFactory.tasks) //
+				.values().extracting(it -> it.completion.isDone()).containsOnly(true);
+	}
+
 	private Map<String, DummyTestTask> runWithAttemptedWorkStealing(TaskEventListener taskEventListener,
 			DummyTestTask taskToBeStolen, ResourceLock initialLock, Runnable waitAction) throws Throwable {
 
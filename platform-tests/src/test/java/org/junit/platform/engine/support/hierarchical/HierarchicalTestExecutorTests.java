@@ -29,15 +29,23 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.ThrowingConsumer;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
@@ -592,6 +600,175 @@ class HierarchicalTestExecutorTests {
 		assertTrue(interrupted.get(), "dynamic node was interrupted");
 	}
 
+	@Test
+	void limitsNumberOfUnfinishedDynamicTestsToPrefetch() throws Exception {
+
+		var leafUniqueId = UniqueId.root("leaf", "child leaf");
+		var child = spy(new MyLeaf(leafUniqueId));
+		root.addChild(child);
+
+		var submitted = new AtomicInteger();
+		var finished = new AtomicInteger();
+		var maxUnfinished = new AtomicInteger();
+		var dynamicLeaves = new ArrayList<MyLeaf>();
+		for (int i = 0; i < 10; i++) {
+			var dynamicLeaf = spy(new MyLeaf(leafUniqueId.append("dynamic", "#" + i)));
+			when(dynamicLeaf.execute(any(), any())).thenAnswer(invocation -> {
+				Thread.sleep(10);
+				finished.incrementAndGet();
+				return invocation.getArgument(0);
+			});
+			dynamicLeaves.add(dynamicLeaf);
+		}
+		when(child.getDynamicTestPrefetch()).thenReturn(2);
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			for (var dynamicLeaf : dynamicLeaves) {
+				executor.execute(dynamicLeaf);
+				maxUnfinished.accumulateAndGet(submitted.incrementAndGet() - finished.get(), Math::max);
+			}
+		}));
+
+		var parameters = ConfigurationParametersFactoryForTests.create(Map.of(//
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME, "fixed", //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4"));
+
+		try (var executorService = new ForkJoinPoolHierarchicalTestExecutorService(parameters)) {
+			createExecutor(executorService).execute().get();
+		}
+
+		verify(listener).executionFinished(child, successful());
+		assertThat(finished).hasValue(10);
+		assertThat(maxUnfinished.get()).isBetween(1, 2);
+	}
+
+	@Test
+	void registersFurtherDynamicTestsWhileEarlierDynamicTestIsStillRunning() throws Exception {
+
+		var leafUniqueId = UniqueId.root("leaf", "child leaf");
+		var child = spy(new MyLeaf(leafUniqueId));
+		root.addChild(child);
+
+		var lastDynamicTestStarted = new CountDownLatch(1);
+		var dynamicLeaves = new ArrayList<MyLeaf>();
+		for (int i = 0; i < 10; i++) {
+			var dynamicLeaf = spy(new MyLeaf(leafUniqueId.append("dynamic", "#" + i)));
+			dynamicLeaves.add(dynamicLeaf);
+		}
+		when(dynamicLeaves.get(0).execute(any(), any())).thenAnswer(invocation -> {
+			assertTrue(lastDynamicTestStarted.await(5, TimeUnit.SECONDS), "last dynamic test was not started");
+			return invocation.getArgument(0);
+		});
+		when(dynamicLeaves.get(9).execute(any(), any())).thenAnswer(invocation -> {
+			lastDynamicTestStarted.countDown();
+			return invocation.getArgument(0);
+		});
+		when(child.getDynamicTestPrefetch()).thenReturn(2);
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			for (var dynamicLeaf : dynamicLeaves) {
+				executor.execute(dynamicLeaf);
+			}
+		}));
+
+		var parameters = ConfigurationParametersFactoryForTests.create(Map.of(//
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME, "fixed", //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4"));
+
+		try (var executorService = new ForkJoinPoolHierarchicalTestExecutorService(parameters)) {
+			createExecutor(executorService).execute().get();
+		}
+
+		verify(listener).executionFinished(child, successful());
+		dynamicLeaves.forEach(dynamicLeaf -> verify(listener).executionFinished(dynamicLeaf, successful()));
+	}
+
+	@Test
+	void doesNotDeadlockWhenAsManyFactoriesAsWorkerThreadsWaitForPrefetchPermits() throws Exception {
+
+		var parallelism = 4;
+		var allFactoriesStarted = new CyclicBarrier(parallelism);
+		var factories = new ArrayList<MyLeaf>();
+		var dynamicLeaves = new ArrayList<MyLeaf>();
+		for (int i = 0; i < parallelism; i++) {
+			var factoryUniqueId = UniqueId.root("leaf", "factory " + i);
+			var factory = spy(new MyLeaf(factoryUniqueId));
+			var factoryDynamicLeaves = new ArrayList<MyLeaf>();
+			for (int j = 0; j < 5; j++) {
+				factoryDynamicLeaves.add(new MyLeaf(factoryUniqueId.append("dynamic", "#" + j)));
+			}
+			when(factory.getDynamicTestPrefetch()).thenReturn(1);
+			when(factory.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+				allFactoriesStarted.await(5, TimeUnit.SECONDS);
+				for (var dynamicLeaf : factoryDynamicLeaves) {
+					executor.execute(dynamicLeaf);
+				}
+			}));
+			root.addChild(factory);
+			factories.add(factory);
+			dynamicLeaves.addAll(factoryDynamicLeaves);
+		}
+
+		var parameters = ConfigurationParametersFactoryForTests.create(Map.of(//
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME, "fixed", //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME,
+			String.valueOf(parallelism)));
+
+		try (var executorService = new ForkJoinPoolHierarchicalTestExecutorService(parameters)) {
+			createExecutor(executorService).execute().get(10, TimeUnit.SECONDS);
+		}
+
+		factories.forEach(factory -> verify(listener).executionFinished(factory, successful()));
+		dynamicLeaves.forEach(dynamicLeaf -> verify(listener).executionFinished(dynamicLeaf, successful()));
+	}
+
+	@Test
+	void executesConcurrentChildrenInDescendingOrderOfHistoricalDurations(@TempDir Path tempDir) throws Exception {
+
+		var shortLeaf = new MyLeaf(UniqueId.root("leaf", "short"));
+		var longLeaf = new MyLeaf(UniqueId.root("leaf", "long"));
+		var unknownLeaf = new MyLeaf(UniqueId.root("leaf", "unknown"));
+		root.addChild(shortLeaf);
+		root.addChild(longLeaf);
+		root.addChild(unknownLeaf);
+
+		var durations = new Properties();
+		durations.setProperty(shortLeaf.getUniqueId().toString(), "10");
+		durations.setProperty(longLeaf.getUniqueId().toString(), "1000");
+		var durationsFile = tempDir.resolve("durations.properties");
+		try (var outputStream = Files.newOutputStream(durationsFile)) {
+			durations.store(outputStream, null);
+		}
+
+		var parameters = ConfigurationParametersFactoryForTests.create(
+			Map.of(HierarchicalTestEngine.DURATIONS_FILE_PROPERTY_NAME, durationsFile.toString()));
+		var request = ExecutionRequest.create(root, listener, parameters, dummyOutputDirectoryProvider());
+		new HierarchicalTestExecutor<>(request, rootContext, new SameThreadHierarchicalTestExecutorService(),
+			OpenTest4JAwareThrowableCollector::new).execute().get();
+
+		var inOrder = inOrder(listener);
+		inOrder.verify(listener).executionStarted(unknownLeaf);
+		inOrder.verify(listener).executionStarted(longLeaf);
+		inOrder.verify(listener).executionStarted(shortLeaf);
+	}
+
+	@Test
+	void ignoresMissingHistoricalDurationsFile(@TempDir Path tempDir) throws Exception {
+
+		var leaf1 = new MyLeaf(UniqueId.root("leaf", "1"));
+		var leaf2 = new MyLeaf(UniqueId.root("leaf", "2"));
+		root.addChild(leaf1);
+		root.addChild(leaf2);
+
+		var parameters = ConfigurationParametersFactoryForTests.create(Map.of(
+			HierarchicalTestEngine.DURATIONS_FILE_PROPERTY_NAME, tempDir.resolve("missing.properties").toString()));
+		var request = ExecutionRequest.create(root, listener, parameters, dummyOutputDirectoryProvider());
+		new HierarchicalTestExecutor<>(request, rootContext, new SameThreadHierarchicalTestExecutorService(),
+			OpenTest4JAwareThrowableCollector::new).execute().get();
+
+		var inOrder = inOrder(listener);
+		inOrder.verify(listener).executionStarted(leaf1);
+		inOrder.verify(listener).executionStarted(leaf2);
+	}
+
 	private Answer<Object> execute(TestDescriptor dynamicChild) {
 		return useDynamicTestExecutor(executor -> executor.execute(dynamicChild));
 	}
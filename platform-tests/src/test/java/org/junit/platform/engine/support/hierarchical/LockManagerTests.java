@@ -14,18 +14,24 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_KEY;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine.RESOURCE_LOCK_TYPE_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.ConfigurationParametersFactoryForTests.create;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.platform.engine.support.hierarchical.LockManager.LockType;
 
 /**
  * @since 1.3
@@ -129,6 +135,49 @@ class LockManagerTests {
 				.isSameAs(lockManager.getLockForResource(ExclusiveResource.GLOBAL_READ_WRITE));
 	}
 
+	@Test
+	void reusesSameResourceLockForEqualResources() {
+		var lock1 = lockManager.getLockForResources(
+			List.of(new ExclusiveResource("b", READ), new ExclusiveResource("a", READ_WRITE)));
+		var lock2 = lockManager.getLockForResources(
+			Set.of(new ExclusiveResource("a", READ_WRITE), new ExclusiveResource("b", READ)));
+		var lock3 = lockManager.getLockForResources(List.of(new ExclusiveResource("a", READ_WRITE),
+			new ExclusiveResource("b", READ), new ExclusiveResource("a", READ)));
+
+		assertThat(lock1).isInstanceOf(CompositeLock.class).isSameAs(lock2).isSameAs(lock3);
+		assertThat(lockManager.getLockForResource(new ExclusiveResource("a", READ))) //
+				.isSameAs(lockManager.getLockForResources(List.of(new ExclusiveResource("a", READ))));
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void usesUnderlyingLocksOfConfiguredType(LockType lockType) {
+		var lockManager = new LockManager(lockType);
+
+		var lock = lockManager.getLockForResources(
+			List.of(new ExclusiveResource("a", READ), new ExclusiveResource("b", READ_WRITE)));
+
+		var expectedLockClass = lockType == LockType.STAMPED ? StampedLock.class : ReentrantReadWriteLock.class;
+		assertThat(ResourceLockSupport.getLocks(lock)) //
+				.extracting(it -> it.getClass().getEnclosingClass()) //
+				.containsOnly(expectedLockClass);
+	}
+
+	@Test
+	void parsesLockType() {
+		assertThat(LockType.parse("reentrant")).isEqualTo(LockType.REENTRANT);
+		assertThat(LockType.parse(" Stamped ")).isEqualTo(LockType.STAMPED);
+	}
+
+	@Test
+	void readsLockTypeFromConfigurationParameterAndFallsBackToDefault() {
+		assertThat(LockType.from(create(Map.of()))).isEqualTo(LockType.REENTRANT);
+		assertThat(LockType.from(create(Map.of(RESOURCE_LOCK_TYPE_PROPERTY_NAME, "stamped")))) //
+				.isEqualTo(LockType.STAMPED);
+		assertThat(LockType.from(create(Map.of(RESOURCE_LOCK_TYPE_PROPERTY_NAME, "bogus")))) //
+				.isEqualTo(LockType.REENTRANT);
+	}
+
 	private Lock getSingleLock(String key, LockMode lockMode) {
 		return getLocks(Set.of(new ExclusiveResource(key, lockMode)), SingleLock.class).getFirst();
 	}
@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.api.condition.JRE.JAVA_21;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
 import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
 import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ_WRITE;
@@ -24,6 +25,7 @@ import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_MAX_POOL_
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTOR_PROPERTY_NAME;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_KEY;
 import static org.junit.platform.testkit.engine.EventConditions.container;
@@ -60,6 +62,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -279,6 +282,37 @@ class ParallelExecutionIntegrationTests {
 		assertThat(isolatedClassStart).isAfterOrEqualTo(parallelClassFinish);
 	}
 
+	@Test
+	@EnabledForJreRange(min = JAVA_21)
+	void executesTestsInVirtualThreadsIfEnabledViaConfigurationParameter() {
+		var configParams = Map.of( //
+			DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent", //
+			PARALLEL_EXECUTOR_PROPERTY_NAME, "virtual_threads" //
+		);
+		var events = executeWithFixedParallelism(1, configParams, SuccessfulParallelTestCase.class,
+			SuccessfulWithMethodLockTestCase.class) //
+				.allEvents() //
+				.assertStatistics(it -> it.failed(0));
+
+		assertThat(events.filter(event(test(), finishedSuccessfully())::matches)).hasSize(6);
+		assertThat(ThreadReporter.getThreadNames(events.list())) //
+				.hasSizeGreaterThanOrEqualTo(3) //
+				.allMatch(name -> name.startsWith("junit-virtual-worker-"));
+	}
+
+	@Test
+	@EnabledForJreRange(min = JAVA_21)
+	void canRunTestsIsolatedFromEachOtherInVirtualThreads() {
+		var configParams = Map.of( //
+			DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent", //
+			PARALLEL_EXECUTOR_PROPERTY_NAME, "virtual_threads" //
+		);
+		executeWithFixedParallelism(1, configParams, IndependentClasses.A.class, IndependentClasses.B.class,
+			IndependentClasses.C.class) //
+				.allEvents() //
+				.assertStatistics(it -> it.failed(0));
+	}
+
 	@ParameterizedTest
 	@ValueSource(classes = { IsolatedMethodFirstTestCase.class, IsolatedMethodLastTestCase.class,
 			IsolatedNestedMethodFirstTestCase.class, IsolatedNestedMethodLastTestCase.class })
@@ -10,9 +10,12 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.junit.jupiter.api.Test;
@@ -43,6 +46,23 @@ class SingleLockTests {
 		assertFalse(lock.isLocked());
 	}
 
+	@Test
+	void tryAcquire() throws Exception {
+		var lock = new ReentrantLock();
+		var resource = anyResource();
+		var singleLock = new SingleLock(resource, lock);
+
+		assertTrue(singleLock.tryAcquire().isEmpty());
+		assertTrue(lock.isLocked());
+
+		var otherThreadResult = new AtomicReference<Optional<ExclusiveResource>>();
+		var thread = new Thread(() -> otherThreadResult.set(singleLock.tryAcquire()));
+		thread.start();
+		thread.join();
+
+		assertEquals(Optional.of(resource), otherThreadResult.get());
+	}
+
 	private static ExclusiveResource anyResource() {
 		return new ExclusiveResource("key", LockMode.READ);
 	}
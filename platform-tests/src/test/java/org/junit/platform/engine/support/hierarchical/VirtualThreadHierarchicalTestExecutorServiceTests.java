@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.condition.JRE.JAVA_21;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+/**
+ * @since 1.13
+ */
+@Timeout(10)
+@EnabledForJreRange(min = JAVA_21)
+class VirtualThreadHierarchicalTestExecutorServiceTests {
+
+	LockManager lockManager = new LockManager();
+
+	@Test
+	void isSupported() {
+		assertThat(VirtualThreadHierarchicalTestExecutorService.isSupported()).isTrue();
+	}
+
+	@Test
+	void executesConcurrentTasksInVirtualThreads() {
+		var numberOfTasks = 1_000;
+		var allTasksStarted = new CountDownLatch(numberOfTasks);
+		var threadNames = new CopyOnWriteArrayList<String>();
+
+		var tasks = IntStream.range(0, numberOfTasks) //
+				.mapToObj(i -> new DummyTestTask(CONCURRENT, NopLock.INSTANCE, () -> {
+					threadNames.add(Thread.currentThread().getName());
+					allTasksStarted.countDown();
+					allTasksStarted.await();
+				})) //
+				.toList();
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService()) {
+			service.invokeAll(tasks);
+		}
+
+		assertThat(threadNames).hasSize(numberOfTasks).doesNotHaveDuplicates() //
+				.allMatch(name -> name.startsWith("junit-virtual-worker-"));
+	}
+
+	@Test
+	void executesSameThreadTasksInCallingThread() {
+		var threadNames = new CopyOnWriteArrayList<String>();
+		Executable action = () -> threadNames.add(Thread.currentThread().getName());
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService()) {
+			service.submit(new DummyTestTask(SAME_THREAD, NopLock.INSTANCE, action));
+			service.invokeAll(List.of(new DummyTestTask(SAME_THREAD, NopLock.INSTANCE, action),
+				new DummyTestTask(SAME_THREAD, NopLock.INSTANCE, action)));
+		}
+
+		assertThat(threadNames).containsOnly(Thread.currentThread().getName());
+	}
+
+	@Test
+	void acquiresResourceLocksOfConcurrentTasks() {
+		var lock = lockManager.getLockForResource(new ExclusiveResource("a", LockMode.READ_WRITE));
+		var concurrentExecutions = new AtomicInteger();
+		var maxConcurrentExecutions = new AtomicInteger();
+
+		var tasks = new ArrayList<TestTask>();
+		for (int i = 0; i < 50; i++) {
+			tasks.add(new DummyTestTask(CONCURRENT, lock, () -> {
+				maxConcurrentExecutions.accumulateAndGet(concurrentExecutions.incrementAndGet(), Math::max);
+				Thread.sleep(1);
+				concurrentExecutions.decrementAndGet();
+			}));
+		}
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService()) {
+			service.invokeAll(tasks);
+		}
+
+		assertThat(maxConcurrentExecutions).hasValue(1);
+	}
+
+	@Test
+	void executesIsolatedTasksAfterAllOtherTasks() {
+		var isolatedLock = lockManager.getLockForResource(GLOBAL_READ_WRITE);
+		var executionOrder = new CopyOnWriteArrayList<String>();
+
+		var tasks = List.of( //
+			new DummyTestTask(CONCURRENT, isolatedLock, () -> executionOrder.add("isolated")), //
+			new DummyTestTask(CONCURRENT, NopLock.INSTANCE, () -> {
+				Thread.sleep(50);
+				executionOrder.add("concurrent");
+			}), //
+			new DummyTestTask(SAME_THREAD, NopLock.INSTANCE, () -> executionOrder.add("sameThread")));
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService()) {
+			service.invokeAll(tasks);
+		}
+
+		assertThat(executionOrder).endsWith("isolated").containsExactlyInAnyOrder("isolated", "concurrent",
+			"sameThread");
+	}
+
+	@Test
+	void rethrowsExceptionsOfConcurrentTasks() {
+		var task = new DummyTestTask(CONCURRENT, NopLock.INSTANCE, () -> {
+			throw new IllegalStateException("boom");
+		});
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService()) {
+			var exception = assertThrows(RuntimeException.class,
+				() -> service.invokeAll(List.of(task, new DummyTestTask(CONCURRENT, NopLock.INSTANCE, () -> {
+				}))));
+			assertThat(exception).hasRootCauseInstanceOf(IllegalStateException.class);
+		}
+	}
+
+	static final class DummyTestTask implements TestTask {
+
+		private final ExecutionMode executionMode;
+		private final ResourceLock resourceLock;
+		private final Executable action;
+
+		DummyTestTask(ExecutionMode executionMode, ResourceLock resourceLock, Executable action) {
+			this.executionMode = executionMode;
+			this.resourceLock = resourceLock;
+			this.action = action;
+		}
+
+		@Override
+		public ExecutionMode getExecutionMode() {
+			return executionMode;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return resourceLock;
+		}
+
+		@Override
+		public void execute() {
+			try {
+				action.execute();
+			}
+			catch (Throwable t) {
+				throw new RuntimeException(t);
+			}
+		}
+	}
+
+}
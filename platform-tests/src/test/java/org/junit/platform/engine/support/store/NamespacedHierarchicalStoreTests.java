@@ -113,6 +113,14 @@ public class NamespacedHierarchicalStoreTests {
 			assertNull(store.get(namespace, key));
 		}
 
+		@Test
+		void removeWithUnknownKeyReturnsNull() {
+			parentStore.put(namespace, key, value);
+
+			assertNull(store.remove(namespace, key));
+			assertEquals(value, store.get(namespace, key));
+		}
+
 		@Test
 		void keysCanBeRemoved() {
 			store.put(namespace, key, value);
@@ -395,6 +403,17 @@ public class NamespacedHierarchicalStoreTests {
 			verifyNoMoreInteractions(closeAction);
 		}
 
+		@Test
+		void doesNotCallCloseActionWhenClosingStoreWithoutValues() {
+			parentStore.put(namespace, key, value);
+			assertEquals(value, store.get(namespace, key));
+
+			store.close();
+			assertClosed();
+
+			verifyNoInteractions(closeAction);
+		}
+
 		@Test
 		void doesNotCallCloseActionForRemovedValues() {
 			store.put(namespace, key, value);
@@ -117,4 +117,23 @@ class TestPlanTests {
 		inOrder.verify(visitor).postVisitContainer(TestIdentifier.from(engineDescriptor2));
 	}
 
+	@Test
+	void removesIdentifiersAddedAfterCreation() {
+		var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "bar"), "Bar");
+		engineDescriptor.addChild(container);
+		var testPlan = TestPlan.from(Set.of(engineDescriptor), configParams, dummyOutputDirectoryProvider());
+		var containerIdentifier = testPlan.getTestIdentifier(container.getUniqueId());
+		var dynamicTest = TestIdentifier.from(
+			new TestDescriptorStub(container.getUniqueId().append("dynamic-test", "#1"), "dynamic"));
+		testPlan.addInternal(dynamicTest);
+
+		assertThat(testPlan.getChildren(containerIdentifier)).containsExactly(dynamicTest);
+
+		testPlan.removeInternal(dynamicTest);
+
+		assertThat(testPlan.getChildren(containerIdentifier)).isEmpty();
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isTest)).isZero();
+		assertThat(testPlan.getRoots()).containsExactly(TestIdentifier.from(engineDescriptor));
+	}
+
 }
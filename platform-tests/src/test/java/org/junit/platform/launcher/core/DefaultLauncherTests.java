@@ -10,7 +10,9 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -19,6 +21,7 @@ import static org.junit.platform.engine.TestExecutionResult.successful;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.DYNAMIC_TESTS_PRUNING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.DEFAULT_DISCOVERY_LISTENER_CONFIGURATION_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
@@ -31,6 +34,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -62,6 +68,7 @@ import org.junit.platform.launcher.PostDiscoveryFilterStub;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.AsynchronousTestExecutionListener;
 import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
 import org.mockito.ArgumentCaptor;
 
@@ -557,6 +564,76 @@ class DefaultLauncherTests {
 		inOrder.verify(listener).testPlanExecutionFinished(same(testPlan));
 	}
 
+	@Test
+	void ignoresDynamicTestPruningWhenListenersAreNotifiedAsynchronously(
+			@TrackLogRecords LogRecordListener logRecordListener) {
+		var engineId = UniqueId.forEngine("engine");
+		var containerId = engineId.append("container", "container");
+		var dynamicTestId = containerId.append("test", "test");
+		var engineFinished = new CountDownLatch(1);
+
+		var engine = new TestEngineSpy(engineId.getLastSegment().getValue()) {
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				super.discover(discoveryRequest, uniqueId);
+				var engineDescriptor = new TestDescriptorStub(uniqueId, uniqueId.toString());
+				engineDescriptor.addChild(new TestDescriptorStub(containerId, "container"));
+				return engineDescriptor;
+			}
+
+			@Override
+			public void execute(ExecutionRequest request) {
+				super.execute(request);
+				var listener = request.getEngineExecutionListener();
+
+				listener.executionStarted(request.getRootTestDescriptor());
+				var container = getOnlyElement(request.getRootTestDescriptor().getChildren());
+				listener.executionStarted(container);
+
+				var dynamicTest = new TestDescriptorStub(dynamicTestId, "test");
+				dynamicTest.setParent(container);
+				listener.dynamicTestRegistered(dynamicTest);
+				listener.executionStarted(dynamicTest);
+				listener.executionFinished(dynamicTest, successful());
+
+				listener.executionFinished(container, successful());
+				listener.executionFinished(request.getRootTestDescriptor(), successful());
+				engineFinished.countDown();
+			}
+		};
+
+		var parents = new ConcurrentHashMap<UniqueId, UniqueId>();
+		var delegate = new TestExecutionListener() {
+
+			private TestPlan testPlan;
+
+			@Override
+			public void testPlanExecutionStarted(TestPlan testPlan) {
+				this.testPlan = testPlan;
+				// Only process events once the engine has reported all of them
+				assertDoesNotThrow(() -> engineFinished.await(10, SECONDS));
+			}
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				testPlan.getParent(testIdentifier).ifPresent(
+					parent -> parents.put(testIdentifier.getUniqueIdObject(), parent.getUniqueIdObject()));
+			}
+		};
+
+		var launcher = createLauncher(engine);
+		launcher.execute(request().configurationParameter(DYNAMIC_TESTS_PRUNING_ENABLED_PROPERTY_NAME, "true").build(),
+			new AsynchronousTestExecutionListener(delegate));
+
+		assertThat(parents).containsExactlyInAnyOrderEntriesOf(
+			Map.of(dynamicTestId, containerId, containerId, engineId));
+		assertThat(logRecordListener.stream(EngineExecutionOrchestrator.class, Level.WARNING) //
+				.map(LogRecord::getMessage)) //
+						.containsExactly("Ignoring '" + DYNAMIC_TESTS_PRUNING_ENABLED_PROPERTY_NAME
+								+ "' since it is not supported in combination with asynchronously notified listeners.");
+	}
+
 	@Test
 	void launcherCanExecuteTestPlanExactlyOnce() {
 		var engine = mock(TestEngine.class);
@@ -11,17 +11,24 @@
 package org.junit.platform.launcher.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.engine.TestExecutionResult.successful;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
 import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.DemoMethodTestDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 
@@ -51,6 +58,59 @@ class ExecutionListenerAdapterTests {
 		assertThat(testExecutionListener.testIdentifier).isEqualTo(testIdentifier);
 	}
 
+	@Test
+	void prunesFinishedDynamicTestsWhenEnabled() {
+		var testDescriptor = getSampleMethodTestDescriptor();
+		var testPlan = createTestPlan(testDescriptor);
+		var dynamicContainer = new TestDescriptorStub(testDescriptor.getUniqueId().append("dynamic-container", "#1"),
+			"container");
+		var dynamicTest = new TestDescriptorStub(dynamicContainer.getUniqueId().append("dynamic-test", "#1"),
+			"test");
+		dynamicContainer.setParent(testDescriptor);
+		dynamicContainer.addChild(dynamicTest);
+		var testExecutionListener = new ParentRecordingTestExecutionListener(testPlan);
+		var executionListenerAdapter = new ExecutionListenerAdapter(testPlan, testExecutionListener, true);
+
+		executionListenerAdapter.dynamicTestRegistered(dynamicContainer);
+		executionListenerAdapter.executionStarted(dynamicContainer);
+		executionListenerAdapter.dynamicTestRegistered(dynamicTest);
+		executionListenerAdapter.executionStarted(dynamicTest);
+		executionListenerAdapter.executionFinished(dynamicTest, successful());
+
+		assertThat(testExecutionListener.parentsOfFinishedIdentifiers).containsExactly(
+			testPlan.getTestIdentifier(dynamicContainer.getUniqueId()));
+		assertThatThrownBy(() -> testPlan.getTestIdentifier(dynamicTest.getUniqueId())) //
+				.isInstanceOf(PreconditionViolationException.class);
+
+		executionListenerAdapter.executionFinished(dynamicContainer, successful());
+
+		assertThat(testPlan.getChildren(testDescriptor.getUniqueId())).isEmpty();
+		assertThat(testPlan.countTestIdentifiers(__ -> true)).isEqualTo(1);
+		assertThat(testPlan.getTestIdentifier(testDescriptor.getUniqueId())).isNotNull();
+	}
+
+	@Test
+	void retainsFinishedDynamicTestsByDefault() {
+		var testDescriptor = getSampleMethodTestDescriptor();
+		var testPlan = createTestPlan(testDescriptor);
+		var dynamicTest = new TestDescriptorStub(testDescriptor.getUniqueId().append("dynamic-test", "#1"), "test");
+		dynamicTest.setParent(testDescriptor);
+		var executionListenerAdapter = new ExecutionListenerAdapter(testPlan, new MockTestExecutionListener());
+
+		executionListenerAdapter.dynamicTestRegistered(dynamicTest);
+		executionListenerAdapter.executionStarted(dynamicTest);
+		executionListenerAdapter.executionFinished(dynamicTest, successful());
+
+		assertThat(testPlan.getChildren(testDescriptor.getUniqueId())) //
+				.containsExactly(testPlan.getTestIdentifier(dynamicTest.getUniqueId()));
+	}
+
+	private static InternalTestPlan createTestPlan(TestDescriptor testDescriptor) {
+		var discoveryResult = new LauncherDiscoveryResult(Map.of(mock(), testDescriptor), mock(),
+			dummyOutputDirectoryProvider());
+		return InternalTestPlan.from(discoveryResult);
+	}
+
 	private TestDescriptor getSampleMethodTestDescriptor() {
 		var localMethodNamedNothing = ReflectionUtils.findMethod(this.getClass(), "nothing", new Class<?>[0]).get();
 		return new DemoMethodTestDescriptor(UniqueId.root("method", "unique_id"), this.getClass(),
@@ -74,4 +134,20 @@ class ExecutionListenerAdapterTests {
 
 	}
 
+	static class ParentRecordingTestExecutionListener implements TestExecutionListener {
+
+		private final InternalTestPlan testPlan;
+		final List<TestIdentifier> parentsOfFinishedIdentifiers = new ArrayList<>();
+
+		ParentRecordingTestExecutionListener(InternalTestPlan testPlan) {
+			this.testPlan = testPlan;
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			testPlan.getParent(testIdentifier).ifPresent(parentsOfFinishedIdentifiers::add);
+		}
+
+	}
+
 }
@@ -15,6 +15,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_BACKPRESSURE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_BUFFER_SIZE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.ENABLE_LAUNCHER_INTERCEPTORS;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
@@ -24,12 +27,15 @@ import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.fixtures.TrackLogRecords;
 import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.logging.LogRecordListener;
 import org.junit.platform.engine.EngineDiscoveryRequest;
@@ -114,6 +120,64 @@ class LauncherFactoryTests {
 		});
 	}
 
+	@Test
+	void testExecutionListenersMatchingAsyncPatternAreNotifiedOnDedicatedThread() {
+		withTestServices(() -> {
+			withSystemProperty(ASYNC_LISTENERS_PATTERN_PROPERTY_NAME, "*.NoopTestExecutionListener",
+				LauncherFactoryTests::assertNoopTestExecutionListenerIsNotifiedOnDedicatedThread);
+		});
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "0", "-1", "many" })
+	void invalidAsyncListenersBufferSizeFallsBackToDefault(String bufferSize,
+			@TrackLogRecords LogRecordListener listener) {
+		withTestServices(() -> {
+			withSystemProperty(ASYNC_LISTENERS_PATTERN_PROPERTY_NAME, "*.NoopTestExecutionListener", () -> {
+				withSystemProperty(ASYNC_LISTENERS_BUFFER_SIZE_PROPERTY_NAME, bufferSize,
+					LauncherFactoryTests::assertNoopTestExecutionListenerIsNotifiedOnDedicatedThread);
+			});
+		});
+
+		assertThat(listener.stream(LauncherFactory.class, Level.WARNING).map(LogRecord::getMessage)) //
+				.containsExactly("Invalid buffer size '" + bufferSize + "' set via the '"
+						+ ASYNC_LISTENERS_BUFFER_SIZE_PROPERTY_NAME + "' configuration parameter: "
+						+ "must be an integer greater than zero. Falling back to the default value 1024.");
+	}
+
+	@Test
+	void invalidAsyncListenersBackpressureFallsBackToDefault(@TrackLogRecords LogRecordListener listener) {
+		withTestServices(() -> {
+			withSystemProperty(ASYNC_LISTENERS_PATTERN_PROPERTY_NAME, "*.NoopTestExecutionListener", () -> {
+				withSystemProperty(ASYNC_LISTENERS_BACKPRESSURE_PROPERTY_NAME, "drop",
+					LauncherFactoryTests::assertNoopTestExecutionListenerIsNotifiedOnDedicatedThread);
+			});
+		});
+
+		assertThat(listener.stream(LauncherFactory.class, Level.WARNING).map(LogRecord::getMessage)) //
+				.containsExactly("Invalid backpressure 'drop' set via the '"
+						+ ASYNC_LISTENERS_BACKPRESSURE_PROPERTY_NAME
+						+ "' configuration parameter. Falling back to the BLOCK default value.");
+	}
+
+	private static void assertNoopTestExecutionListenerIsNotifiedOnDedicatedThread() {
+		var config = LauncherConfig.builder() //
+				.addTestEngines(new TestEngineSpy()) //
+				.enableTestEngineAutoRegistration(false) //
+				.build();
+		var launcher = LauncherFactory.create(config);
+
+		NoopTestExecutionListener.called = false;
+		NoopTestExecutionListener.thread = null;
+
+		launcher.execute(request().build());
+
+		assertTrue(NoopTestExecutionListener.called);
+		assertThat(NoopTestExecutionListener.thread).isNotSameAs(Thread.currentThread());
+		assertThat(NoopTestExecutionListener.thread.getName()) //
+				.isEqualTo("junit-async-listener-" + NoopTestExecutionListener.class.getName());
+	}
+
 	@Test
 	void create() {
 		var discoveryRequest = createLauncherDiscoveryRequestForBothStandardEngineExampleClasses();
@@ -49,6 +49,7 @@ import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.StreamInterceptor.CaptureMode;
 import org.mockito.ArgumentCaptor;
 
 /**
@@ -93,6 +94,34 @@ class StreamInterceptingTestExecutionListenerIntegrationTests {
 		assertThat(reportEntry.getKeyValuePairs()).containsExactly(entry(reportKey, "12345"));
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("systemStreams")
+	@ExtendWith(HiddenSystemOutAndErr.class)
+	void interceptsEndOfStreamInPerThreadMode(String configParam, Supplier<PrintStream> printStreamSupplier,
+			String reportKey) {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		TestDescriptor test = engine.addTest("test", () -> {
+			printStreamSupplier.get().print("123");
+			printStreamSupplier.get().print("4567890");
+		});
+		var listener = mock(TestExecutionListener.class);
+
+		var launcher = createLauncher(engine);
+		var discoveryRequest = request()//
+				.selectors(selectUniqueId(test.getUniqueId()))//
+				.configurationParameter(configParam, String.valueOf(true))//
+				.configurationParameter(LauncherConstants.CAPTURE_MAX_BUFFER_PROPERTY_NAME, String.valueOf(5))//
+				.configurationParameter(LauncherConstants.CAPTURE_MODE_PROPERTY_NAME, "per_thread")//
+				.build();
+		launcher.execute(discoveryRequest, listener);
+
+		var reportEntryArgumentCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		verify(listener).reportingEntryPublished(any(), reportEntryArgumentCaptor.capture());
+		var reportEntry = reportEntryArgumentCaptor.getValue();
+
+		assertThat(reportEntry.getKeyValuePairs()).containsExactly(entry(reportKey, "67890"));
+	}
+
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("systemStreams")
 	@ExtendWith(HiddenSystemOutAndErr.class)
@@ -101,8 +130,8 @@ class StreamInterceptingTestExecutionListenerIntegrationTests {
 		var engine = new DemoHierarchicalTestEngine("engine");
 		TestDescriptor test = engine.addTest("test", () -> printStreamSupplier.get().print("1234567890"));
 
-		assertThat(StreamInterceptor.registerStdout(1)).isPresent();
-		assertThat(StreamInterceptor.registerStderr(1)).isPresent();
+		assertThat(StreamInterceptor.registerStdout(1, CaptureMode.SHARED)).isPresent();
+		assertThat(StreamInterceptor.registerStderr(1, CaptureMode.SHARED)).isPresent();
 
 		var launcher = createLauncher(engine);
 		var discoveryRequest = request()//
@@ -10,18 +10,22 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.charset.Charset;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.core.StreamInterceptor.CaptureMode;
 
 /**
  * @since 1.3
@@ -118,4 +122,92 @@ class StreamInterceptorTests {
 
 		assertEquals("from non-test thread", streamInterceptor.consume().trim());
 	}
+
+	@Test
+	void interceptsWriteOperationsToStreamPerThreadInPerThreadMode() {
+		streamInterceptor = registerInPerThreadMode(2);
+		// @formatter:off
+		IntStream.range(0, 1000)
+				.parallel()
+				.mapToObj(String::valueOf)
+				.peek(i -> streamInterceptor.capture())
+				.peek(i -> targetStream.print(i))
+				.forEach(i -> assertEquals(i.substring(Math.max(0, i.length() - 2)), streamInterceptor.consume()));
+		// @formatter:on
+	}
+
+	@Test
+	void forwardsOperationsToOriginalStreamInPerThreadMode() {
+		streamInterceptor = registerInPerThreadMode(3);
+
+		streamInterceptor.capture();
+		targetStream.write('a');
+		targetStream.print("b");
+		targetStream.printf("%s", "c");
+		targetStream.print('d');
+		assertEquals("bcd", streamInterceptor.consume());
+		assertEquals("abcd", originalOut.toString());
+	}
+
+	@Test
+	void retainsEndOfOutputInPerThreadMode() {
+		streamInterceptor = registerInPerThreadMode(10);
+
+		streamInterceptor.capture();
+		for (int i = 0; i < 100; i++) {
+			streamInterceptor.print(i % 10);
+		}
+		assertEquals("0123456789", streamInterceptor.consume());
+
+		streamInterceptor.capture();
+		streamInterceptor.print("abcdefghijklmnopqrstuvwxyz");
+		assertEquals("qrstuvwxyz", streamInterceptor.consume());
+	}
+
+	@Test
+	void doesNotRetainPartialCharactersInPerThreadMode() {
+		assumeTrue(UTF_8.equals(Charset.defaultCharset()));
+		streamInterceptor = registerInPerThreadMode(7);
+
+		streamInterceptor.capture();
+		streamInterceptor.print("\u00e4\u00e4\u00e4\u00e4\u00e4\u00e4");
+
+		assertEquals("\u00e4\u00e4\u00e4", streamInterceptor.consume());
+	}
+
+	@Test
+	void handlesNestedCapturesInPerThreadMode() {
+		streamInterceptor = registerInPerThreadMode(100);
+
+		streamInterceptor.capture();
+		streamInterceptor.print("before outer - ");
+		streamInterceptor.capture();
+		streamInterceptor.print("inner");
+		var inner = streamInterceptor.consume();
+		streamInterceptor.print("after outer");
+		var outer = streamInterceptor.consume();
+
+		assertAll(//
+			() -> assertEquals("before outer - after outer", outer), //
+			() -> assertEquals("inner", inner) //
+		);
+	}
+
+	@Test
+	void ignoresOutputFromNonTestThreadsInPerThreadMode() throws Exception {
+		streamInterceptor = registerInPerThreadMode(100);
+
+		streamInterceptor.capture();
+		var thread = new Thread(() -> targetStream.println("from non-test thread"));
+		thread.start();
+		thread.join();
+
+		assertEquals("", streamInterceptor.consume());
+		assertEquals("from non-test thread", originalOut.toString().trim());
+	}
+
+	private StreamInterceptor registerInPerThreadMode(int maxNumberOfBytesPerThread) {
+		return StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream,
+			maxNumberOfBytesPerThread, CaptureMode.PER_THREAD).orElseThrow(RuntimeException::new);
+	}
 }
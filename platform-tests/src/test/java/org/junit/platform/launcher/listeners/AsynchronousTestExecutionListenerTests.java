@@ -0,0 +1,255 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
+
+import java.lang.Thread.State;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.ConfigurationParametersFactoryForTests;
+import org.junit.platform.launcher.listeners.AsynchronousTestExecutionListener.Backpressure;
+
+/**
+ * @since 1.13
+ */
+class AsynchronousTestExecutionListenerTests {
+
+	private final EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+
+	private final TestPlan testPlan = TestPlan.from(Set.of(engineDescriptor),
+		ConfigurationParametersFactoryForTests.create(Map.of()), dummyOutputDirectoryProvider());
+
+	@Test
+	void deliversAllEventsInOrderOnDedicatedThreadBeforeTestPlanExecutionFinishes() {
+		var delegate = new RecordingListener();
+		var listener = new AsynchronousTestExecutionListener(delegate, 2, Backpressure.BLOCK);
+		var testIdentifiers = List.of(createTestIdentifier("a"), createTestIdentifier("b"), createTestIdentifier("c"));
+
+		listener.testPlanExecutionStarted(testPlan);
+		testIdentifiers.forEach(testIdentifier -> {
+			listener.executionStarted(testIdentifier);
+			listener.executionFinished(testIdentifier, successful());
+		});
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(delegate.events).containsExactly("testPlanExecutionStarted", "executionStarted(a)",
+			"executionFinished(a)", "executionStarted(b)", "executionFinished(b)", "executionStarted(c)",
+			"executionFinished(c)", "testPlanExecutionFinished");
+		assertThat(delegate.threads).hasSize(8).doesNotContain(Thread.currentThread()).containsOnly(
+			delegate.threads.get(0));
+	}
+
+	@Test
+	void blocksCallingThreadWhenBufferIsFull() throws Exception {
+		var delegate = new BlockingListener();
+		var listener = new AsynchronousTestExecutionListener(delegate, 1, Backpressure.BLOCK);
+
+		listener.testPlanExecutionStarted(testPlan);
+		delegate.awaitBlocked();
+		listener.executionStarted(createTestIdentifier("a"));
+		var testIdentifier = createTestIdentifier("b");
+		var caller = new Thread(() -> listener.executionStarted(testIdentifier));
+		caller.start();
+
+		awaitWaitingOrTerminated(caller);
+		assertThat(caller.isAlive()).isTrue();
+
+		delegate.unblock();
+		caller.join(TimeUnit.SECONDS.toMillis(5));
+		assertThat(caller.isAlive()).isFalse();
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(delegate.events).containsExactly("testPlanExecutionStarted", "executionStarted(a)",
+			"executionStarted(b)", "testPlanExecutionFinished");
+		assertThat(listener.getDiscardedEventCount()).isZero();
+	}
+
+	@Test
+	void discardsEventsWhenBufferIsFullUsingDiscardBackpressure() throws Exception {
+		var delegate = new BlockingListener();
+		var listener = new AsynchronousTestExecutionListener(delegate, 2, Backpressure.DISCARD);
+
+		listener.testPlanExecutionStarted(testPlan);
+		delegate.awaitBlocked();
+		for (var name : List.of("a", "b", "c", "d", "e")) {
+			listener.executionStarted(createTestIdentifier(name));
+		}
+		delegate.unblock();
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(delegate.events).containsExactly("testPlanExecutionStarted", "executionStarted(a)",
+			"executionStarted(b)", "testPlanExecutionFinished");
+		assertThat(listener.getDiscardedEventCount()).isEqualTo(3);
+	}
+
+	@Test
+	void continuesDeliveringEventsWhenDelegateThrowsException() {
+		var delegate = new RecordingListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				super.executionStarted(testIdentifier);
+				throw new IllegalStateException("boom");
+			}
+		};
+		var listener = new AsynchronousTestExecutionListener(delegate);
+		var testIdentifier = createTestIdentifier("a");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(testIdentifier);
+		listener.executionFinished(testIdentifier, successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(delegate.events).containsExactly("testPlanExecutionStarted", "executionStarted(a)",
+			"executionFinished(a)", "testPlanExecutionFinished");
+	}
+
+	@Test
+	void stopsDeliveryAndRethrowsUnrecoverableExceptionThrownByDelegate() {
+		var error = new OutOfMemoryError("boom");
+		var delegate = new RecordingListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				super.executionStarted(testIdentifier);
+				throw error;
+			}
+		};
+		var listener = new AsynchronousTestExecutionListener(delegate, 1, Backpressure.BLOCK);
+
+		listener.testPlanExecutionStarted(testPlan);
+		for (var name : List.of("a", "b", "c", "d", "e")) {
+			listener.executionStarted(createTestIdentifier(name));
+		}
+
+		assertThatThrownBy(() -> listener.testPlanExecutionFinished(testPlan)).isSameAs(error);
+		assertThat(delegate.events).containsExactly("testPlanExecutionStarted", "executionStarted(a)");
+	}
+
+	@Test
+	void notifiesDelegateDirectlyOutsideOfTestPlanExecution() {
+		var delegate = new RecordingListener();
+		var listener = new AsynchronousTestExecutionListener(delegate);
+
+		listener.executionStarted(createTestIdentifier("a"));
+
+		assertThat(delegate.events).containsExactly("executionStarted(a)");
+		assertThat(delegate.threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	void preconditions() {
+		var delegate = new RecordingListener();
+
+		assertThatThrownBy(() -> new AsynchronousTestExecutionListener(null)) //
+				.isInstanceOf(PreconditionViolationException.class);
+		assertThatThrownBy(() -> new AsynchronousTestExecutionListener(delegate, 0, Backpressure.BLOCK)) //
+				.isInstanceOf(PreconditionViolationException.class);
+		assertThatThrownBy(() -> new AsynchronousTestExecutionListener(delegate, 1, null)) //
+				.isInstanceOf(PreconditionViolationException.class);
+	}
+
+	/**
+	 * Wait until the supplied thread waits, e.g. for room in the buffer, or
+	 * has terminated.
+	 */
+	private static void awaitWaitingOrTerminated(Thread thread) {
+		var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!EnumSet.of(State.WAITING, State.TIMED_WAITING, State.TERMINATED).contains(thread.getState())) {
+			assertThat(System.nanoTime() - deadline).isNegative();
+			Thread.yield();
+		}
+	}
+
+	private TestIdentifier createTestIdentifier(String name) {
+		return TestIdentifier.from(
+			new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", name), name));
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final List<String> events = new CopyOnWriteArrayList<>();
+		final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			record("testPlanExecutionStarted");
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			record("testPlanExecutionFinished");
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			record("executionStarted(" + testIdentifier.getDisplayName() + ")");
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			record("executionFinished(" + testIdentifier.getDisplayName() + ")");
+		}
+
+		private void record(String event) {
+			events.add(event);
+			threads.add(Thread.currentThread());
+		}
+	}
+
+	/**
+	 * Blocks the delivery thread in {@code testPlanExecutionStarted} until
+	 * {@link #unblock()} is called.
+	 */
+	private static class BlockingListener extends RecordingListener {
+
+		private final CountDownLatch blocked = new CountDownLatch(1);
+		private final CountDownLatch unblocked = new CountDownLatch(1);
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			super.testPlanExecutionStarted(testPlan);
+			blocked.countDown();
+			try {
+				unblocked.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		void awaitBlocked() throws InterruptedException {
+			assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+
+		void unblock() {
+			unblocked.countDown();
+		}
+	}
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
+import static org.junit.platform.launcher.listeners.DurationHistogramListener.OUTPUT_FILE_PROPERTY_NAME;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.fakes.TestEngineSpy;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.ConfigurationParametersFactoryForTests;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * @since 1.13
+ */
+class DurationHistogramListenerTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void writesHistogramsPerEngineAndClass() throws Exception {
+		var outputFile = tempDir.resolve("nested/histograms.txt");
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		var classDescriptor = new ContainerDescriptor(engineDescriptor.getUniqueId().append("class", "FooTests"),
+			ClassSource.from("com.example.FooTests"));
+		engineDescriptor.addChild(classDescriptor);
+		var nestedDescriptor = new ContainerDescriptor(classDescriptor.getUniqueId().append("nested", "Inner"), null);
+		classDescriptor.addChild(nestedDescriptor);
+		var testDescriptor = new TestDescriptorStub(nestedDescriptor.getUniqueId().append("test", "test"), "test");
+		nestedDescriptor.addChild(testDescriptor);
+		var testPlan = createTestPlan(engineDescriptor, Map.of(OUTPUT_FILE_PROPERTY_NAME, outputFile.toString()));
+
+		var listener = new DurationHistogramListener();
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(TestIdentifier.from(engineDescriptor));
+		listener.executionStarted(TestIdentifier.from(classDescriptor));
+		listener.executionStarted(TestIdentifier.from(nestedDescriptor));
+		for (int i = 0; i < 3; i++) {
+			listener.executionStarted(TestIdentifier.from(testDescriptor));
+			Thread.sleep(10);
+			listener.executionFinished(TestIdentifier.from(testDescriptor), successful());
+		}
+		listener.executionFinished(TestIdentifier.from(nestedDescriptor), successful());
+		listener.executionFinished(TestIdentifier.from(classDescriptor), successful());
+		listener.executionFinished(TestIdentifier.from(engineDescriptor), successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		var lines = Files.readAllLines(outputFile);
+		assertThat(lines).hasSize(4);
+		assertThat(lines.get(0).split("\\s+")) //
+				.containsSubsequence("count", "mean", "p50", "p90", "p99", "max", "histogram");
+		assertThat(lines.get(1)).matches("\\s+3( +[0-9.]+){5}  engine engine: tests");
+		assertThat(lines.get(2)).matches("\\s+1( +[0-9.]+){5}  engine engine: classes");
+		assertThat(lines.get(3)).matches("\\s+3( +[0-9.]+){5}  class com.example.FooTests: tests");
+		assertThat(Double.parseDouble(lines.get(3).trim().split("\\s+")[2])).isGreaterThanOrEqualTo(10);
+	}
+
+	@Test
+	void doesNotWriteFileWhenNothingWasExecuted() {
+		var outputFile = tempDir.resolve("histograms.txt");
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		var testPlan = createTestPlan(engineDescriptor, Map.of(OUTPUT_FILE_PROPERTY_NAME, outputFile.toString()));
+
+		var listener = new DurationHistogramListener();
+		listener.testPlanExecutionStarted(testPlan);
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(outputFile).doesNotExist();
+	}
+
+	@Test
+	void writesHistogramsOfEachLauncherSessionOnceItIsClosed() throws Exception {
+		var outputFile = tempDir.resolve("histograms.txt");
+		var listener = new DurationHistogramListener();
+		var config = LauncherConfig.builder() //
+				.enableTestEngineAutoRegistration(false) //
+				.enableLauncherSessionListenerAutoRegistration(false) //
+				.enableTestExecutionListenerAutoRegistration(false) //
+				.addTestEngines(new TestEngineSpy() {
+					@Override
+					public void execute(ExecutionRequest request) {
+						super.execute(request);
+						var engineDescriptor = request.getRootTestDescriptor();
+						var testDescriptor = getOnlyElement(engineDescriptor.getChildren());
+						var engineExecutionListener = request.getEngineExecutionListener();
+						engineExecutionListener.executionStarted(engineDescriptor);
+						engineExecutionListener.executionStarted(testDescriptor);
+						engineExecutionListener.executionFinished(testDescriptor, successful());
+						engineExecutionListener.executionFinished(engineDescriptor, successful());
+					}
+				}) //
+				.addLauncherSessionListeners(listener) //
+				.build();
+		var discoveryRequest = request() //
+				.configurationParameter(OUTPUT_FILE_PROPERTY_NAME, outputFile.toString()) //
+				.build();
+
+		try (var session = LauncherFactory.openSession(config)) {
+			session.getLauncher().execute(discoveryRequest);
+			session.getLauncher().execute(discoveryRequest);
+
+			assertThat(outputFile).doesNotExist();
+		}
+
+		var lines = Files.readAllLines(outputFile);
+		assertThat(lines).hasSize(2);
+		assertThat(lines.get(1)).matches("\\s+2( +[0-9.]+){5}  engine TestEngineSpy: tests");
+
+		try (var session = LauncherFactory.openSession(config)) {
+			session.getLauncher().execute(discoveryRequest);
+		}
+
+		lines = Files.readAllLines(outputFile);
+		assertThat(lines).hasSize(2);
+		assertThat(lines.get(1)).matches("\\s+1( +[0-9.]+){5}  engine TestEngineSpy: tests");
+	}
+
+	@Test
+	void reportsPercentilesWithBoundedRelativeError() {
+		var histogram = new DurationHistogram();
+		IntStream.rangeClosed(1, 1000).forEach(i -> histogram.record(i * 1_000_000L));
+
+		assertThat(histogram.getCount()).isEqualTo(1000);
+		assertThat(histogram.getMax()).isEqualTo(1_000_000_000L);
+		assertThat(histogram.getMean()).isEqualTo(500_500_000.0);
+		assertThat(histogram.getValueAtPercentile(50)).isBetween(500_000_000L, 531_250_000L);
+		assertThat(histogram.getValueAtPercentile(99)).isBetween(990_000_000L, 1_000_000_000L);
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(1_000_000_000L);
+	}
+
+	@Test
+	void countsSmallValuesExactly() {
+		var histogram = new DurationHistogram();
+		IntStream.range(0, 16).forEach(histogram::record);
+
+		assertThat(histogram.getValueAtPercentile(0)).isZero();
+		assertThat(histogram.getValueAtPercentile(50)).isEqualTo(7);
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(15);
+	}
+
+	@Test
+	void recordsValuesConcurrently() throws Exception {
+		var histogram = new DurationHistogram();
+		var executor = Executors.newFixedThreadPool(4);
+		for (int thread = 0; thread < 4; thread++) {
+			executor.execute(() -> IntStream.range(0, 10_000).forEach(histogram::record));
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, SECONDS)).isTrue();
+
+		assertThat(histogram.getCount()).isEqualTo(40_000);
+		assertThat(histogram.getMax()).isEqualTo(9_999);
+	}
+
+	private static TestPlan createTestPlan(EngineDescriptor engineDescriptor, Map<String, String> configParams) {
+		return TestPlan.from(Set.of(engineDescriptor), ConfigurationParametersFactoryForTests.create(configParams),
+			dummyOutputDirectoryProvider());
+	}
+
+	private static class ContainerDescriptor extends AbstractTestDescriptor {
+
+		ContainerDescriptor(UniqueId uniqueId, TestSource source) {
+			super(uniqueId, uniqueId.getLastSegment().getValue(), source);
+		}
+
+		@Override
+		public Type getType() {
+			return Type.CONTAINER;
+		}
+	}
+
+}
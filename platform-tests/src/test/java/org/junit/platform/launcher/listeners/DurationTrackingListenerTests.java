@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
+import static org.junit.platform.launcher.listeners.DurationTrackingListener.LISTENER_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.listeners.DurationTrackingListener.OUTPUT_FILE_PROPERTY_NAME;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.ConfigurationParametersFactoryForTests;
+
+/**
+ * @since 1.13
+ */
+class DurationTrackingListenerTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void writesDurationsOfExecutedTestsAndContainers() throws Exception {
+		var outputFile = tempDir.resolve("nested/durations.properties");
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		var testDescriptor = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", "test"), "test");
+		engineDescriptor.addChild(testDescriptor);
+		var testPlan = createTestPlan(engineDescriptor, Map.of( //
+			LISTENER_ENABLED_PROPERTY_NAME, "true", //
+			OUTPUT_FILE_PROPERTY_NAME, outputFile.toString()));
+
+		var listener = new DurationTrackingListener();
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(TestIdentifier.from(engineDescriptor));
+		listener.executionStarted(TestIdentifier.from(testDescriptor));
+		Thread.sleep(10);
+		listener.executionFinished(TestIdentifier.from(testDescriptor), successful());
+		listener.executionFinished(TestIdentifier.from(engineDescriptor), successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		var durations = readProperties(outputFile);
+		assertThat(durations.stringPropertyNames()) //
+				.containsExactlyInAnyOrder(engineDescriptor.getUniqueId().toString(),
+					testDescriptor.getUniqueId().toString());
+		assertThat(Long.parseLong(durations.getProperty(testDescriptor.getUniqueId().toString()))) //
+				.isGreaterThanOrEqualTo(10);
+	}
+
+	@Test
+	void retainsPreviouslyRecordedDurationsOfTestsThatWereNotExecuted() throws Exception {
+		var outputFile = tempDir.resolve("durations.properties");
+		var previousDurations = new Properties();
+		previousDurations.setProperty("[engine:engine]", "1000");
+		previousDurations.setProperty("[engine:engine]/[test:other]", "42");
+		try (var outputStream = Files.newOutputStream(outputFile)) {
+			previousDurations.store(outputStream, null);
+		}
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		var testPlan = createTestPlan(engineDescriptor, Map.of( //
+			LISTENER_ENABLED_PROPERTY_NAME, "true", //
+			OUTPUT_FILE_PROPERTY_NAME, outputFile.toString()));
+
+		var listener = new DurationTrackingListener();
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(TestIdentifier.from(engineDescriptor));
+		listener.executionFinished(TestIdentifier.from(engineDescriptor), successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		var durations = readProperties(outputFile);
+		assertThat(durations.getProperty("[engine:engine]/[test:other]")).isEqualTo("42");
+		assertThat(Long.parseLong(durations.getProperty("[engine:engine]"))).isLessThan(1000);
+	}
+
+	@Test
+	void doesNotWriteFileWhenDisabled() {
+		var outputFile = tempDir.resolve("durations.properties");
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		var testPlan = createTestPlan(engineDescriptor, Map.of(OUTPUT_FILE_PROPERTY_NAME, outputFile.toString()));
+
+		var listener = new DurationTrackingListener();
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(TestIdentifier.from(engineDescriptor));
+		listener.executionFinished(TestIdentifier.from(engineDescriptor), successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(outputFile).doesNotExist();
+	}
+
+	private static TestPlan createTestPlan(EngineDescriptor engineDescriptor, Map<String, String> configParams) {
+		return TestPlan.from(Set.of(engineDescriptor), ConfigurationParametersFactoryForTests.create(configParams),
+			dummyOutputDirectoryProvider());
+	}
+
+	private static Properties readProperties(Path file) throws IOException {
+		var properties = new Properties();
+		try (var inputStream = Files.newInputStream(file)) {
+			properties.load(inputStream);
+		}
+		return properties;
+	}
+
+}
@@ -18,9 +18,11 @@ import org.junit.platform.launcher.TestPlan;
  */
 public class NoopTestExecutionListener implements TestExecutionListener {
 	public static boolean called;
+	public static Thread thread;
 
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
 		called = true;
+		thread = Thread.currentThread();
 	}
 }
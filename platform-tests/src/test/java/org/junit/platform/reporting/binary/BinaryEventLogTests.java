@@ -0,0 +1,462 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.binary;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.engine.TestExecutionResult.aborted;
+import static org.junit.platform.engine.TestExecutionResult.failed;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.CompositeTestSource;
+import org.junit.platform.engine.support.descriptor.DirectorySource;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.descriptor.PackageSource;
+import org.junit.platform.engine.support.descriptor.UriSource;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.ConfigurationParametersFactoryForTests;
+import org.junit.platform.reporting.legacy.xml.LegacyXmlReportGeneratingListener;
+
+/**
+ * Tests for {@link BinaryEventLogGeneratingListener} and
+ * {@link BinaryEventLogReader}.
+ *
+ * @since 1.13
+ */
+class BinaryEventLogTests {
+
+	@TempDir
+	Path tempDirectory;
+
+	@Test
+	void replaysRecordedEvents() throws Exception {
+		var logFile = tempDirectory.resolve("events.bin");
+		var testPlan = createTestPlan();
+		var engine = testPlan.getTestIdentifier(UniqueId.forEngine("engine"));
+		var container = testPlan.getTestIdentifier(UniqueId.forEngine("engine").append("class", "FooTests"));
+		var test = testPlan.getTestIdentifier(container.getUniqueIdObject().append("method", "test()"));
+		var skippedTest = testPlan.getTestIdentifier(UniqueId.root("other", "skipped"));
+
+		var listener = new BinaryEventLogGeneratingListener(logFile);
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(engine);
+		listener.executionStarted(container);
+		listener.executionStarted(test);
+		listener.reportingEntryPublished(test, ReportEntry.from("foo", "bar"));
+		listener.executionFinished(test, failed(new AssertionError("boom")));
+		listener.executionSkipped(skippedTest, "disabled");
+		var dynamicTest = TestIdentifier.from(
+			new TestDescriptorStub(container.getUniqueIdObject().append("dynamic-test", "#1"), "dynamic"));
+		testPlan.addInternal(dynamicTest);
+		listener.dynamicTestRegistered(dynamicTest);
+		listener.executionStarted(dynamicTest);
+		listener.executionFinished(dynamicTest, aborted(null));
+		listener.executionFinished(container, successful());
+		listener.executionFinished(engine, successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		var recordingListener = new RecordingListener();
+		new BinaryEventLogReader(logFile).replay(recordingListener, tempDirectory);
+
+		assertThat(recordingListener.events).containsExactly( //
+			"testPlanExecutionStarted", //
+			"executionStarted [engine:engine]", //
+			"executionStarted [engine:engine]/[class:FooTests]", //
+			"executionStarted [engine:engine]/[class:FooTests]/[method:test()]", //
+			"reportingEntryPublished [engine:engine]/[class:FooTests]/[method:test()] {foo=bar}", //
+			"executionFinished [engine:engine]/[class:FooTests]/[method:test()] FAILED boom", //
+			"executionSkipped [other:skipped] disabled", //
+			"dynamicTestRegistered [engine:engine]/[class:FooTests]/[dynamic-test:#1]", //
+			"executionStarted [engine:engine]/[class:FooTests]/[dynamic-test:#1]", //
+			"executionFinished [engine:engine]/[class:FooTests]/[dynamic-test:#1] ABORTED null", //
+			"executionFinished [engine:engine]/[class:FooTests] SUCCESSFUL null", //
+			"executionFinished [engine:engine] SUCCESSFUL null", //
+			"testPlanExecutionFinished");
+
+		var replayedTestPlan = recordingListener.testPlan;
+		assertThat(replayedTestPlan.getConfigurationParameters().get("foo")).contains("bar");
+		assertThat(replayedTestPlan.getOutputDirectoryProvider().getRootDirectory()).isEqualTo(tempDirectory);
+		assertThat(replayedTestPlan.getRoots()).extracting(TestIdentifier::getUniqueIdObject) //
+				.containsExactlyInAnyOrder(UniqueId.forEngine("engine"), UniqueId.root("other", "skipped"));
+
+		var replayedContainer = replayedTestPlan.getTestIdentifier(container.getUniqueIdObject());
+		assertThat(replayedContainer.getDisplayName()).isEqualTo("FooTests");
+		assertThat(replayedContainer.getSource()).contains(ClassSource.from("FooTests"));
+		assertThat(replayedContainer.getTags()).containsExactly(TestTag.create("fast"));
+
+		var replayedTest = replayedTestPlan.getTestIdentifier(test.getUniqueIdObject());
+		assertThat(replayedTest.getSource()).contains(MethodSource.from("FooTests", "test"));
+		assertThat(replayedTest.getParentIdObject()).contains(container.getUniqueIdObject());
+		assertThat(replayedTestPlan.getChildren(replayedContainer)) //
+				.extracting(TestIdentifier::getDisplayName) //
+				.containsExactly("test()", "dynamic");
+	}
+
+	@Test
+	void replaysRecordedTimesViaClock() throws Exception {
+		var logFile = tempDirectory.resolve("events.bin");
+		var testPlan = createTestPlan();
+		var engine = testPlan.getTestIdentifier(UniqueId.forEngine("engine"));
+
+		var before = Instant.now();
+		var listener = new BinaryEventLogGeneratingListener(logFile);
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(engine);
+		Thread.sleep(20);
+		listener.executionFinished(engine, successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		var reader = new BinaryEventLogReader(logFile);
+		List<Instant> instants = new ArrayList<>();
+		reader.replay(new TestExecutionListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				instants.add(reader.getClock().instant());
+			}
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				instants.add(reader.getClock().instant());
+			}
+		});
+
+		assertThat(instants).hasSize(2);
+		assertThat(instants.get(0)).isBetween(before.minusMillis(1), before.plusSeconds(10));
+		assertThat(instants.get(1)).isAfterOrEqualTo(instants.get(0).plusMillis(20));
+	}
+
+	@Test
+	void replaysThrowablesWithoutLoadingRecordedClasses() throws Exception {
+		var logFile = tempDirectory.resolve("events.bin");
+		var testPlan = createTestPlan();
+		var engine = testPlan.getTestIdentifier(UniqueId.forEngine("engine"));
+		var throwable = new IllegalStateException("boom", new IllegalArgumentException("cause"));
+		throwable.addSuppressed(new UnsupportedOperationException());
+
+		var listener = new BinaryEventLogGeneratingListener(logFile);
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(engine);
+		listener.executionFinished(engine, failed(throwable));
+		listener.testPlanExecutionFinished(testPlan);
+
+		List<Throwable> throwables = new ArrayList<>();
+		new BinaryEventLogReader(logFile).replay(new TestExecutionListener() {
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				testExecutionResult.getThrowable().ifPresent(throwables::add);
+			}
+		});
+
+		assertThat(throwables).singleElement().isInstanceOf(ReplayedThrowable.class);
+		var replayed = (ReplayedThrowable) throwables.get(0);
+		assertThat(replayed.getClassName()).isEqualTo(IllegalStateException.class.getName());
+		assertThat(replayed).hasMessage("boom").hasToString(throwable.toString());
+		assertThat(replayed.getStackTrace()).containsExactly(throwable.getStackTrace());
+		assertThat(replayed.getCause()).hasToString(throwable.getCause().toString());
+		assertThat(replayed.getSuppressed()).singleElement() //
+				.hasToString(UnsupportedOperationException.class.getName());
+	}
+
+	@Test
+	void replaysTestSourcesOfAllSupportedTypes() throws Exception {
+		var logFile = tempDirectory.resolve("events.bin");
+		var sources = List.of(ClassSource.from("FooTests", FilePosition.from(42, 23)),
+			MethodSource.from("FooTests", "test", "int, java.lang.String"), PackageSource.from("foo"),
+			ClasspathResourceSource.from("foo/bar.txt", FilePosition.from(1)),
+			FileSource.from(tempDirectory.resolve("foo.txt").toFile()),
+			DirectorySource.from(tempDirectory.toFile()), UriSource.from(URI.create("https://example.org")),
+			CompositeTestSource.from(List.of(PackageSource.from("foo"), PackageSource.from("bar"))));
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		for (int i = 0; i < sources.size(); i++) {
+			var uniqueId = engineDescriptor.getUniqueId().append("test", "#" + i);
+			engineDescriptor.addChild(new DemoTestDescriptor(uniqueId, "#" + i, sources.get(i)));
+		}
+		var testPlan = TestPlan.from(Set.of(engineDescriptor), ConfigurationParametersFactoryForTests.create(Map.of()),
+			dummyOutputDirectoryProvider());
+
+		var listener = new BinaryEventLogGeneratingListener(logFile);
+		listener.testPlanExecutionStarted(testPlan);
+		testPlan.getChildren(UniqueId.forEngine("engine")).forEach(listener::executionStarted);
+		listener.testPlanExecutionFinished(testPlan);
+
+		List<TestSource> replayedSources = new ArrayList<>();
+		new BinaryEventLogReader(logFile).replay(new TestExecutionListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				replayedSources.add(testIdentifier.getSource().orElse(null));
+			}
+		});
+
+		assertThat(replayedSources).containsExactlyInAnyOrderElementsOf(sources);
+	}
+
+	@Test
+	void replaysIntoLegacyXmlReportGeneratingListener() throws Exception {
+		var logFile = tempDirectory.resolve("events.bin");
+		var testPlan = createTestPlan();
+		var engine = testPlan.getTestIdentifier(UniqueId.forEngine("engine"));
+		var test = testPlan.getTestIdentifier(UniqueId.forEngine("engine").append("class", "FooTests").append(
+			"method", "test()"));
+
+		var listener = new BinaryEventLogGeneratingListener(logFile);
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(engine);
+		listener.executionStarted(test);
+		listener.executionFinished(test, failed(new AssertionError("boom")));
+		listener.executionFinished(engine, successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		var reportsDir = tempDirectory.resolve("reports");
+		var reader = new BinaryEventLogReader(logFile);
+		reader.replay(new LegacyXmlReportGeneratingListener(reportsDir, new PrintWriter(new StringWriter()),
+			reader.getClock()));
+
+		assertThat(Files.readString(reportsDir.resolve("TEST-engine.xml"))) //
+				.contains("<testcase name=\"test()\"", "<failure message=\"boom\" type=\"java.lang.AssertionError\"");
+	}
+
+	@Test
+	void replaysCompleteEventsOfTruncatedLog() throws Exception {
+		var logFile = tempDirectory.resolve("events.bin");
+		var testPlan = createTestPlan();
+		var engine = testPlan.getTestIdentifier(UniqueId.forEngine("engine"));
+
+		var listener = new BinaryEventLogGeneratingListener(logFile);
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(engine);
+		listener.executionFinished(engine, successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		var bytes = Files.readAllBytes(logFile);
+		Files.write(logFile, Arrays.copyOf(bytes, bytes.length - 2));
+
+		var recordingListener = new RecordingListener();
+		new BinaryEventLogReader(logFile).replay(recordingListener);
+
+		assertThat(recordingListener.events).containsExactly("testPlanExecutionStarted",
+			"executionStarted [engine:engine]", "executionFinished [engine:engine] SUCCESSFUL null");
+	}
+
+	@Test
+	void rejectsFilesThatAreNotBinaryEventLogs() throws Exception {
+		var logFile = Files.writeString(tempDirectory.resolve("events.bin"), "<xml/>");
+
+		assertThatThrownBy(() -> new BinaryEventLogReader(logFile).replay(new RecordingListener())) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessageStartingWith("Not a binary event log");
+	}
+
+	@Test
+	void rejectsRecordsOfUnknownTypes() throws Exception {
+		var logFile = writeLog(testPlanExecutionStartedRecord(), new byte[] { 99 });
+
+		assertThatThrownBy(() -> new BinaryEventLogReader(logFile).replay(new RecordingListener())) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessage("Corrupt binary event log at offset 12: unknown record type 99");
+	}
+
+	@Test
+	void rejectsUnknownTestDescriptorTypes() throws Exception {
+		var logFile = writeLog(testPlanExecutionStartedRecord(),
+			testIdentifierRecord(BinaryEventLogFormat.EXECUTION_STARTED, 42));
+
+		assertThatThrownBy(() -> new BinaryEventLogReader(logFile).replay(new RecordingListener())) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessage("Corrupt binary event log at offset 31: unknown test descriptor type 42");
+	}
+
+	@Test
+	void rejectsUnknownTestExecutionStatuses() throws Exception {
+		var logFile = writeLog(testPlanExecutionStartedRecord(),
+			testIdentifierRecord(BinaryEventLogFormat.EXECUTION_FINISHED, TestDescriptor.Type.TEST.ordinal(), 0,
+				BinaryEventLogFormat.NO_SOURCE, 42));
+
+		assertThatThrownBy(() -> new BinaryEventLogReader(logFile).replay(new RecordingListener())) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessage("Corrupt binary event log at offset 34: unknown test execution status 42");
+	}
+
+	@Test
+	void writesDefinitionOfEachTestIdentifierOnlyOnce() throws Exception {
+		var emptyLogFile = writeLogWithRepeatedEvents(tempDirectory.resolve("empty.bin"), 0);
+		var logFile = writeLogWithRepeatedEvents(tempDirectory.resolve("events.bin"), 100);
+
+		assertThat(Files.size(logFile) - Files.size(emptyLogFile)).isLessThan(200 * 8);
+	}
+
+	private static TestPlan createTestPlan() {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		var container = new DemoTestDescriptor(engineDescriptor.getUniqueId().append("class", "FooTests"), "FooTests",
+			ClassSource.from("FooTests"));
+		engineDescriptor.addChild(container);
+		container.addChild(new DemoTestDescriptor(container.getUniqueId().append("method", "test()"), "test()",
+			MethodSource.from("FooTests", "test")));
+		var otherRoot = new TestDescriptorStub(UniqueId.root("other", "skipped"), "skipped");
+		return TestPlan.from(Set.of(engineDescriptor, otherRoot),
+			ConfigurationParametersFactoryForTests.create(Map.of("foo", "bar")), dummyOutputDirectoryProvider());
+	}
+
+	private static Path writeLogWithRepeatedEvents(Path logFile, int repetitions) {
+		var testPlan = createTestPlan();
+		var engine = testPlan.getTestIdentifier(UniqueId.forEngine("engine"));
+
+		var listener = new BinaryEventLogGeneratingListener(logFile);
+		listener.testPlanExecutionStarted(testPlan);
+		for (int i = 0; i < repetitions; i++) {
+			listener.executionStarted(engine);
+			listener.executionFinished(engine, successful());
+		}
+		listener.testPlanExecutionFinished(testPlan);
+		return logFile;
+	}
+
+	/**
+	 * Write a log that consists of the header and the supplied records, each
+	 * of which must be shorter than 128 bytes. The first record thus starts
+	 * at offset 6.
+	 */
+	private Path writeLog(byte[]... records) throws Exception {
+		var out = new ByteArrayOutputStream();
+		out.write(new byte[] { 'J', 'U', 'L', 'G', BinaryEventLogFormat.VERSION });
+		for (var record : records) {
+			out.write(record.length);
+			out.write(record);
+		}
+		return Files.write(tempDirectory.resolve("events.bin"), out.toByteArray());
+	}
+
+	/**
+	 * Create a record without tests, configuration parameters, and test
+	 * identifiers that is 5 bytes long.
+	 */
+	private static byte[] testPlanExecutionStartedRecord() {
+		return new byte[] { BinaryEventLogFormat.TEST_PLAN_EXECUTION_STARTED, 0, 0, 0, 0 };
+	}
+
+	/**
+	 * Create a record of the supplied type that starts to define a test
+	 * identifier for {@code [engine:x]} without parent and continues with the
+	 * supplied bytes, the first of which is located at offset 19 of the
+	 * record and denotes the type of the test identifier.
+	 */
+	private static byte[] testIdentifierRecord(byte recordType, int... bytes) {
+		var uniqueId = "[engine:x]".getBytes(UTF_8);
+		var out = new ByteArrayOutputStream();
+		out.write(recordType);
+		out.write(0); // elapsed microseconds
+		out.write(BinaryEventLogFormat.NEW_DEFINITION);
+		out.write(BinaryEventLogFormat.NULL_REFERENCE); // parent
+		out.write(BinaryEventLogFormat.FULL_UNIQUE_ID);
+		out.write(uniqueId.length + 1);
+		out.writeBytes(uniqueId);
+		out.write(2); // display name
+		out.write('x');
+		out.write(0); // legacy reporting name
+		for (var b : bytes) {
+			out.write(b);
+		}
+		return out.toByteArray();
+	}
+
+	private static class DemoTestDescriptor extends AbstractTestDescriptor {
+
+		DemoTestDescriptor(UniqueId uniqueId, String displayName, TestSource source) {
+			super(uniqueId, displayName, source);
+		}
+
+		@Override
+		public Type getType() {
+			return getChildren().isEmpty() ? Type.TEST : Type.CONTAINER;
+		}
+
+		@Override
+		public Set<TestTag> getTags() {
+			return Set.of(TestTag.create("fast"));
+		}
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final List<String> events = new ArrayList<>();
+		TestPlan testPlan;
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			this.testPlan = testPlan;
+			events.add("testPlanExecutionStarted");
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			events.add("testPlanExecutionFinished");
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			events.add("dynamicTestRegistered " + testIdentifier.getUniqueId());
+		}
+
+		@Override
+		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			events.add("executionSkipped " + testIdentifier.getUniqueId() + " " + reason);
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			events.add("executionStarted " + testIdentifier.getUniqueId());
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			events.add("executionFinished " + testIdentifier.getUniqueId() + " " + testExecutionResult.getStatus() + " "
+					+ testExecutionResult.getThrowable().map(Throwable::getMessage).orElse(null));
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			events.add("reportingEntryPublished " + testIdentifier.getUniqueId() + " " + entry.getKeyValuePairs());
+		}
+	}
+
+}
@@ -37,6 +37,7 @@ import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -423,17 +424,96 @@ class LegacyXmlReportGeneratingListenerTests {
 					"Report Entry #2 (timestamp: " + Year.now(), "- bar: baz\n", "- qux: foo\n");
 	}
 
+	@Test
+	void writesSeparateFileForEachTopLevelContainerWhenStreamingIsEnabled() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("topLevelTest", () -> {
+		});
+		var firstContainer = engine.addContainer("first", "com.example.First Tests", null);
+		firstContainer.addChild(new DemoHierarchicalTestDescriptor(firstContainer.getUniqueId().append("test", "a"),
+			"a", (c, t) -> {
+			}));
+		var secondContainer = engine.addContainer("second", "com.example.SecondTests", null);
+		secondContainer.addChild(new DemoHierarchicalTestDescriptor(secondContainer.getUniqueId().append("test", "b"),
+			"b", (c, t) -> fail("expected to fail")));
+		secondContainer.addChild(new DemoHierarchicalTestDescriptor(secondContainer.getUniqueId().append("test", "c"),
+			"c", (c, t) -> {
+			}));
+
+		executeTests(engine, Map.of(LegacyXmlReportGeneratingListener.STREAMING_ENABLED_PROPERTY_NAME, "true"));
+
+		var firstTestsuite = readValidXmlFile(tempDirectory.resolve("TEST-dummy-com.example.First_Tests.xml"));
+		assertThat(firstTestsuite.attr("name")).isEqualTo("com.example.First Tests");
+		assertThat(firstTestsuite.attr("tests", int.class)).isEqualTo(1);
+		assertThat(firstTestsuite.child("testcase").attr("name")).isEqualTo("a");
+
+		var secondTestsuite = readValidXmlFile(tempDirectory.resolve("TEST-dummy-com.example.SecondTests.xml"));
+		assertThat(secondTestsuite.attr("tests", int.class)).isEqualTo(2);
+		assertThat(secondTestsuite.attr("failures", int.class)).isEqualTo(1);
+		assertThat(secondTestsuite.find("testcase").attrs("name")).containsExactlyInAnyOrder("b", "c");
+
+		var rootTestsuite = readValidXmlFile(tempDirectory.resolve("TEST-dummy.xml"));
+		assertThat(rootTestsuite.attr("tests", int.class)).isEqualTo(1);
+		assertThat(rootTestsuite.attr("failures", int.class)).isEqualTo(0);
+		assertThat(rootTestsuite.child("testcase").attr("name")).isEqualTo("topLevelTest");
+	}
+
+	@Test
+	void writesUniqueFileNamesForTopLevelContainersWithSameNameWhenStreamingIsEnabled() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		for (var uniqueName : List.of("first", "second")) {
+			var container = engine.addContainer(uniqueName, "Tests", null);
+			container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "test"),
+				uniqueName, (c, t) -> {
+				}));
+		}
+
+		executeTests(engine, Map.of(LegacyXmlReportGeneratingListener.STREAMING_ENABLED_PROPERTY_NAME, "true"));
+
+		var firstTestsuite = readValidXmlFile(tempDirectory.resolve("TEST-dummy-Tests.xml"));
+		var secondTestsuite = readValidXmlFile(tempDirectory.resolve("TEST-dummy-Tests-2.xml"));
+		assertThat(List.of(firstTestsuite.child("testcase").attr("name"),
+			secondTestsuite.child("testcase").attr("name"))).containsExactlyInAnyOrder("first", "second");
+		assertThat(readValidXmlFile(tempDirectory.resolve("TEST-dummy.xml")).attr("tests", int.class)).isZero();
+	}
+
+	@Test
+	void writesSingleFileForEachRootByDefault() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		var container = engine.addContainer("container", "Tests", null);
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "test"), "test",
+			(c, t) -> {
+			}));
+
+		executeTests(engine);
+
+		try (var files = Files.list(tempDirectory)) {
+			assertThat(files.map(file -> file.getFileName().toString())).containsExactly("TEST-dummy.xml");
+		}
+		var testsuite = readValidXmlFile(tempDirectory.resolve("TEST-dummy.xml"));
+		assertThat(testsuite.attr("tests", int.class)).isEqualTo(1);
+	}
+
 	private void executeTests(TestEngine engine) {
 		executeTests(engine, Clock.systemDefaultZone());
 	}
 
 	private void executeTests(TestEngine engine, Clock clock) {
+		executeTests(engine, clock, Map.of());
+	}
+
+	private void executeTests(TestEngine engine, Map<String, String> configurationParameters) {
+		executeTests(engine, Clock.systemDefaultZone(), configurationParameters);
+	}
+
+	private void executeTests(TestEngine engine, Clock clock, Map<String, String> configurationParameters) {
 		var out = new PrintWriter(new StringWriter());
 		var reportListener = new LegacyXmlReportGeneratingListener(tempDirectory.toString(), out, clock);
 		var launcher = createLauncher(engine);
 		launcher.registerTestExecutionListeners(reportListener);
 		launcher.execute(request().configurationParameter(LauncherConstants.STACKTRACE_PRUNING_ENABLED_PROPERTY_NAME,
-			"false").selectors(selectUniqueId(UniqueId.forEngine(engine.getId()))).build());
+			"false").configurationParameters(configurationParameters).selectors(
+				selectUniqueId(UniqueId.forEngine(engine.getId()))).build());
 	}
 
 	private Match readValidXmlFile(Path xmlFile) throws Exception {
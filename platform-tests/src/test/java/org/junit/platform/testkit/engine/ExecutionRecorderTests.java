@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.commons.test.ConcurrencyTestingUtils.executeConcurrently;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
+
+/**
+ * @since 1.13
+ */
+class ExecutionRecorderTests {
+
+	private final EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+
+	private final ExecutionRecorder recorder = new ExecutionRecorder();
+
+	@Test
+	void recordsEventsInOrderAcrossChunks() {
+		var testDescriptors = IntStream.range(0, 3000).mapToObj(this::createTestDescriptor).toList();
+
+		recorder.executionStarted(engineDescriptor);
+		testDescriptors.forEach(testDescriptor -> {
+			recorder.executionStarted(testDescriptor);
+			recorder.executionFinished(testDescriptor, successful());
+		});
+		recorder.executionFinished(engineDescriptor, successful());
+
+		var results = recorder.getExecutionResults();
+
+		assertThat(results.allEvents().count()).isEqualTo(6002);
+		assertThat(results.allEvents().list().get(1).getTestDescriptor()).isSameAs(testDescriptors.get(0));
+		assertThat(results.allEvents().list().get(6000).getTestDescriptor()).isSameAs(testDescriptors.get(2999));
+		assertThat(results.testEvents().started().map(Event::getTestDescriptor)) //
+				.containsExactlyElementsOf(testDescriptors);
+		assertThat(results.testEvents().executions().succeeded().count()).isEqualTo(3000);
+		assertThat(results.containerEvents().list()).hasSize(2);
+	}
+
+	@Test
+	void executionResultsDoNotIncludeEventsRecordedAfterwards() {
+		recorder.executionStarted(engineDescriptor);
+		var results = recorder.getExecutionResults();
+
+		recorder.executionFinished(engineDescriptor, successful());
+
+		assertThat(results.allEvents().count()).isEqualTo(1);
+		assertThat(results.allEvents().finished().list()).isEmpty();
+		assertThat(recorder.getExecutionResults().allEvents().finished().count()).isEqualTo(1);
+	}
+
+	@Test
+	void recordsEventsConcurrently() throws Exception {
+		var counter = new AtomicInteger();
+		executeConcurrently(8, () -> {
+			for (int i = 0; i < 1000; i++) {
+				var testDescriptor = createTestDescriptor(counter.getAndIncrement());
+				recorder.executionStarted(testDescriptor);
+				recorder.executionFinished(testDescriptor, successful());
+			}
+		});
+
+		var results = recorder.getExecutionResults();
+
+		assertThat(results.allEvents().count()).isEqualTo(16_000);
+		assertThat(results.testEvents().executions().succeeded().count()).isEqualTo(8000);
+		assertThat(results.allEvents().started().map(Event::getTestDescriptor).distinct().count()).isEqualTo(8000);
+		assertThat(results.allEvents().list()).doesNotContainNull();
+	}
+
+	private TestDescriptor createTestDescriptor(int index) {
+		return new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", String.valueOf(index)),
+			"test" + index);
+	}
+
+}